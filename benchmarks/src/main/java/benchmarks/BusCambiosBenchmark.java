@@ -0,0 +1,51 @@
+package benchmarks;
+
+import infrastructure.eventos.BusCambios;
+import interfaces.repository.OyenteCambios.TipoCambio;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de publicar un cambio en el BusCambios, con consumidores que
+ * procesan en lotes en sus propios hilos.
+ *
+ * Con varios hilos de JMH (--hilos en EjecutarBenchmarks) se mide la
+ * contención entre productores sobre la secuencia reclamada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusCambiosBenchmark {
+
+    @Param({"0", "1", "2"})
+    public int consumidores;
+
+    @Param({"1024", "65536"})
+    public int capacidad;
+
+    private BusCambios bus;
+    private final Object entidad = new Object();
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        bus = new BusCambios(capacidad);
+        for (int i = 0; i < consumidores; i++) {
+            bus.suscribir("benchmark-" + i, (cambio, finDeLote) -> Blackhole.consumeCPU(1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        bus.close();
+    }
+
+    @Benchmark
+    public long publicar() {
+        return bus.publicar("comics", TipoCambio.MODIFICACION, entidad);
+    }
+}
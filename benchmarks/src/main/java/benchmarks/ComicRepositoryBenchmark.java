@@ -0,0 +1,127 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
+import infrastructure.repository.ComicRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operaciones de IComicRepository sobre un comics.csv de 10 mil, 1 millón y 10 millones de filas.
+ *
+ * Las escrituras reescriben el CSV completo, igual que en la aplicación. Como
+ * el repositorio no es thread-safe, con varios hilos (-t) las escrituras se
+ * serializan sobre el repositorio y las lecturas corren en paralelo.
+ * Con 10 millones de filas se necesita un heap de varios GB (-jvmArgs -Xmx12g).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+public class ComicRepositoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Catalogo {
+        @Param({"10000", "1000000", "10000000"})
+        public int filas;
+
+        private ComicRepository repositorio;
+        private Identificador[] identificadores;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            Path archivo = DatosBenchmark.directorioTemporal().resolve("comics.csv");
+            identificadores = DatosBenchmark.escribirComics(archivo, filas);
+            repositorio = new ComicRepository(archivo.toString(), ForkJoinPool.commonPool());
+        }
+
+        private Identificador identificadorAlAzar() {
+            return identificadores[ThreadLocalRandom.current().nextInt(identificadores.length)];
+        }
+    }
+
+    /**
+     * Cómic que todavía no está en el repositorio; se retira después de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class ComicNuevo {
+        private Comic comic;
+
+        @Setup(Level.Invocation)
+        public void preparar() {
+            comic = new Comic("Comic nuevo " + System.nanoTime(), "Descripción", Divisa.pesos(1500));
+        }
+
+        @TearDown(Level.Invocation)
+        public void retirar(Catalogo catalogo) {
+            synchronized (catalogo.repositorio) {
+                if (catalogo.repositorio.buscarPorId(comic.getId()).isPresent()) {
+                    catalogo.repositorio.eliminar(comic.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Cómic agregado al repositorio antes de cada invocación, para medir su eliminación.
+     */
+    @State(Scope.Thread)
+    public static class ComicGuardado {
+        private Comic comic;
+
+        @Setup(Level.Invocation)
+        public void preparar(Catalogo catalogo) {
+            comic = new Comic("Comic a eliminar " + System.nanoTime(), "Descripción", Divisa.pesos(1500));
+            synchronized (catalogo.repositorio) {
+                catalogo.repositorio.guardar(comic);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Comic> buscarPorId(Catalogo catalogo) {
+        return catalogo.repositorio.buscarPorId(catalogo.identificadorAlAzar());
+    }
+
+    @Benchmark
+    public List<Comic> buscarTodos(Catalogo catalogo) {
+        return catalogo.repositorio.buscarTodos();
+    }
+
+    @Benchmark
+    public List<Comic> buscarPorNombre(Catalogo catalogo) {
+        int indice = ThreadLocalRandom.current().nextInt(catalogo.filas);
+        return catalogo.repositorio.buscarPorNombre(DatosBenchmark.nombreComic(indice));
+    }
+
+    @Benchmark
+    public void guardar(Catalogo catalogo, ComicNuevo nuevo) {
+        synchronized (catalogo.repositorio) {
+            catalogo.repositorio.guardar(nuevo.comic);
+        }
+    }
+
+    @Benchmark
+    public void actualizar(Catalogo catalogo) {
+        synchronized (catalogo.repositorio) {
+            Comic comic = catalogo.repositorio.buscarPorId(catalogo.identificadorAlAzar()).orElseThrow();
+            comic.setPrecio(Divisa.pesos(1000 + ThreadLocalRandom.current().nextInt(20000)));
+            catalogo.repositorio.actualizar(comic);
+        }
+    }
+
+    @Benchmark
+    public void eliminar(Catalogo catalogo, ComicGuardado guardado) {
+        synchronized (catalogo.repositorio) {
+            catalogo.repositorio.eliminar(guardado.comic.getId());
+        }
+    }
+}
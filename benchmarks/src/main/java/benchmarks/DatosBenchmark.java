@@ -0,0 +1,139 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Datos sintéticos para los benchmarks.
+ *
+ * Los archivos CSV se escriben en el mismo formato que guardan ComicRepository
+ * y UsuarioRepository, en un directorio temporal que se elimina al terminar la JVM.
+ * Todo se genera con semilla fija para que las corridas sean comparables.
+ */
+final class DatosBenchmark {
+    static final long SEMILLA = 42;
+
+    private DatosBenchmark() {
+    }
+
+    static Path directorioTemporal() {
+        try {
+            Path directorio = Files.createTempDirectory("comics-benchmark");
+            directorio.toFile().deleteOnExit();
+            return directorio;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escribe un comics.csv con la cantidad de filas pedida.
+     *
+     * @return identificadores de los cómics escritos, en orden
+     */
+    static Identificador[] escribirComics(Path archivo, int filas) {
+        Identificador[] identificadores = new Identificador[filas];
+        SplittableRandom aleatorio = new SplittableRandom(SEMILLA);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            writer.write("\"id\",\"nombre\",\"descripcion\",\"precio\"\n");
+            for (int i = 0; i < filas; i++) {
+                identificadores[i] = Identificador.de(aleatorio.nextLong(), aleatorio.nextLong());
+                writer.write('"' + identificadores[i].toString() + "\",\"" + nombreComic(i)
+                        + "\",\"Descripción del cómic " + i + "\",\"" + (1000 + aleatorio.nextInt(20000)) + "\"\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        archivo.toFile().deleteOnExit();
+        return identificadores;
+    }
+
+    /**
+     * Escribe un usuarios.csv con ids consecutivos desde 1.
+     */
+    static void escribirUsuarios(Path archivo, int filas) {
+        try (BufferedWriter writer = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            writer.write("\"id\",\"nombre\",\"apellido\",\"email\"\n");
+            for (int i = 1; i <= filas; i++) {
+                writer.write("\"" + i + "\",\"Nombre" + i + "\",\"Apellido" + i + "\",\"" + email(i) + "\"\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        archivo.toFile().deleteOnExit();
+    }
+
+    static String nombreComic(int i) {
+        return "Comic " + i;
+    }
+
+    static String email(int i) {
+        return "usuario" + i + "@comics.cl";
+    }
+
+    static Comic[] comics(int cantidad) {
+        Comic[] comics = new Comic[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            comics[i] = new Comic(nombreComic(i), "Descripción del cómic " + i, Divisa.pesos(1000 + i % 20000));
+        }
+        return comics;
+    }
+
+    /**
+     * Usuarios con ids consecutivos desde 1, sin pasar por un repositorio.
+     */
+    static Usuario[] usuarios(int cantidad) {
+        Usuario[] usuarios = new Usuario[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            usuarios[i] = new Usuario("Nombre" + (i + 1), "Apellido" + (i + 1), email(i + 1));
+            usuarios[i].setId(i + 1);
+        }
+        return usuarios;
+    }
+
+    /**
+     * Reservas históricas repartidas al azar entre usuarios y cómics.
+     * Las que no quedan activas se marcan expiradas, como las deja
+     * ProcesarReservasExpiradas.
+     *
+     * @param proporcionActivas fracción de reservas que quedan activas (0 a 1)
+     */
+    static Reserva[] reservas(int cantidad, Usuario[] usuarios, Comic[] comics, double proporcionActivas) {
+        SplittableRandom aleatorio = new SplittableRandom(SEMILLA);
+        Reserva[] reservas = new Reserva[cantidad];
+
+        for (int i = 0; i < cantidad; i++) {
+            Reserva reserva = new Reserva(usuarios[aleatorio.nextInt(usuarios.length)], comics[aleatorio.nextInt(comics.length)]);
+            // vencimientos repartidos en una semana para que el TreeSet no degenere
+            // (desde su propia fecha de reserva: armar millones de reservas tarda más de un segundo)
+            reserva.establecerFechaExpiracion(reserva.getFechaReserva().plusSeconds(1 + aleatorio.nextInt(7 * 24 * 3600)));
+            if (aleatorio.nextDouble() >= proporcionActivas) {
+                reserva.setReservaInactiva();
+            }
+            reservas[i] = reserva;
+        }
+        return reservas;
+    }
+
+    static Venta[] ventas(int cantidad, Usuario[] usuarios, Comic[] comics) {
+        SplittableRandom aleatorio = new SplittableRandom(SEMILLA + 1);
+        Venta[] ventas = new Venta[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            ventas[i] = new Venta(usuarios[aleatorio.nextInt(usuarios.length)], comics[aleatorio.nextInt(comics.length)]);
+        }
+        return ventas;
+    }
+}
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribución de Zipf sobre los rangos 0..n-1: el rango k se elige con
+ * probabilidad proporcional a 1 / (k + 1)^s. Con s = 1 unos pocos cómics
+ * concentran la mayor parte de las visitas, como en un catálogo real.
+ *
+ * La función de distribución acumulada se precalcula, así cada muestra es
+ * una búsqueda binaria y se puede usar desde varios hilos a la vez.
+ */
+final class DistribucionZipf {
+    private final double[] acumulada;
+
+    /**
+     * @param n cantidad de rangos
+     * @param exponente sesgo de la distribución (0 = uniforme)
+     */
+    DistribucionZipf(int n, double exponente) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("La cantidad de rangos debe ser mayor a 0");
+        }
+        if (exponente < 0) {
+            throw new IllegalArgumentException("El exponente no puede ser negativo");
+        }
+
+        acumulada = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / Math.pow(k + 1, exponente);
+            acumulada[k] = total;
+        }
+        for (int k = 0; k < n; k++) {
+            acumulada[k] /= total;
+        }
+    }
+
+    int muestra(RandomGenerator aleatorio) {
+        int posicion = Arrays.binarySearch(acumulada, aleatorio.nextDouble());
+        // binarySearch retorna -(punto de inserción) - 1 si no encuentra el valor exacto
+        int rango = posicion >= 0 ? posicion : -posicion - 1;
+        return Math.min(rango, acumulada.length - 1);
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import domain.valueobjects.Divisa;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aritmética, comparaciones y formato de Divisa.
+ *
+ * Los operandos se toman de un arreglo precalculado para que el JIT no
+ * pueda plegar las operaciones en constantes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DivisaBenchmark {
+    private static final int OPERANDOS = 1024;
+
+    @State(Scope.Thread)
+    public static class Operandos {
+        private final double[] montos = new double[OPERANDOS];
+        private final Divisa[] divisas = new Divisa[OPERANDOS];
+        private int siguiente;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            SplittableRandom aleatorio = new SplittableRandom(DatosBenchmark.SEMILLA);
+            for (int i = 0; i < OPERANDOS; i++) {
+                // montos positivos con centavos, nunca cero (para dividir)
+                montos[i] = 1 + aleatorio.nextInt(5_000_000) / 100.0;
+                divisas[i] = Divisa.pesos(montos[i]);
+            }
+        }
+
+        private Divisa siguiente() {
+            siguiente = (siguiente + 1) & (OPERANDOS - 1);
+            return divisas[siguiente];
+        }
+
+        private double siguienteMonto() {
+            siguiente = (siguiente + 1) & (OPERANDOS - 1);
+            return montos[siguiente];
+        }
+    }
+
+    @Benchmark
+    public Divisa crear(Operandos operandos) {
+        return Divisa.pesos(operandos.siguienteMonto());
+    }
+
+    @Benchmark
+    public Divisa sumar(Operandos operandos) {
+        return operandos.siguiente().sumar(operandos.siguiente());
+    }
+
+    @Benchmark
+    public Divisa restar(Operandos operandos) {
+        return operandos.siguiente().restar(operandos.siguiente());
+    }
+
+    @Benchmark
+    public Divisa multiplicar(Operandos operandos) {
+        return operandos.siguiente().multiplicar(operandos.siguiente());
+    }
+
+    @Benchmark
+    public Divisa dividir(Operandos operandos) {
+        return operandos.siguiente().dividir(operandos.siguiente());
+    }
+
+    @Benchmark
+    public boolean comparar(Operandos operandos) {
+        return operandos.siguiente().esMayorQue(operandos.siguiente());
+    }
+
+    @Benchmark
+    public String formatear(Operandos operandos) {
+        return operandos.siguiente().toString();
+    }
+}
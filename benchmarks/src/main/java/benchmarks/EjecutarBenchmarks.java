@@ -0,0 +1,96 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Punto de entrada de benchmarks.jar.
+ *
+ * Ejecuta los benchmarks seleccionados una vez por cada cantidad de hilos y
+ * deja los resultados en JSON (un archivo por cantidad de hilos) para poder
+ * comparar corridas. Acepta todas las opciones de JMH más:
+ *
+ *   --hilos 1,2,4,8      cantidades de hilos (por defecto 1 y los procesadores disponibles)
+ *   --resultados <dir>   directorio de los JSON (por defecto resultados-benchmarks)
+ *
+ * Ejemplo: java -jar benchmarks.jar Inventario --hilos 1,4 -p filas=10000,1000000
+ */
+public final class EjecutarBenchmarks {
+    private static final String OPCION_HILOS = "--hilos";
+    private static final String OPCION_RESULTADOS = "--resultados";
+
+    private EjecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        List<String> argumentosJmh = new ArrayList<>();
+        TreeSet<Integer> hilos = new TreeSet<>(List.of(1, Runtime.getRuntime().availableProcessors()));
+        Path resultados = Path.of("resultados-benchmarks");
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(OPCION_HILOS) && i + 1 < args.length) {
+                hilos = leerHilos(args[++i]);
+            } else if (args[i].equals(OPCION_RESULTADOS) && i + 1 < args.length) {
+                resultados = Path.of(args[++i]);
+            } else {
+                argumentosJmh.add(args[i]);
+            }
+        }
+
+        CommandLineOptions opciones;
+        try {
+            opciones = new CommandLineOptions(argumentosJmh.toArray(new String[0]));
+        } catch (CommandLineOptionException e) {
+            System.err.println("Opciones inválidas: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (opciones.shouldHelp()) {
+            opciones.showHelp();
+            return;
+        }
+        if (opciones.shouldList()) {
+            new Runner(opciones).list();
+            return;
+        }
+
+        Files.createDirectories(resultados);
+        for (int cantidad : hilos) {
+            Path archivo = resultados.resolve("jmh-" + cantidad + "-hilos.json");
+            Options conHilos = new OptionsBuilder()
+                    .parent(opciones)
+                    .threads(cantidad)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(archivo.toString())
+                    .build();
+
+            System.out.println("# Ejecutando con " + cantidad + " hilo(s), resultados en " + archivo);
+            new Runner(conHilos).run();
+        }
+    }
+
+    private static TreeSet<Integer> leerHilos(String texto) {
+        TreeSet<Integer> hilos = new TreeSet<>();
+        for (String parte : texto.split(",")) {
+            int cantidad = Integer.parseInt(parte.trim());
+            if (cantidad <= 0) {
+                throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0: " + parte);
+            }
+            hilos.add(cantidad);
+        }
+        return hilos;
+    }
+}
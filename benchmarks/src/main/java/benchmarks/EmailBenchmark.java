@@ -0,0 +1,108 @@
+package benchmarks;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import domain.entities.Usuario;
+import domain.valueobjects.Email;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validación y normalización de Email durante la importación masiva de
+ * usuarios y la carga inicial de usuarios.csv.
+ *
+ * Los benchmarks "expresion" reproducen la implementación anterior
+ * (trim + toLowerCase + Pattern) como referencia.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailBenchmark {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
+    );
+
+    @Param({"10000"})
+    public int cantidad;
+
+    private String[] emails;
+    private String[][] filas;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        emails = new String[cantidad];
+        filas = new String[cantidad][];
+        StringBuilder contenido = new StringBuilder("\"id\",\"nombre\",\"apellido\",\"email\"\n");
+
+        for (int i = 0; i < cantidad; i++) {
+            // la mitad llega ya normalizada (como en usuarios.csv), el resto con mayúsculas y espacios
+            String email = "usuario." + i + "@dominio" + (i % 50) + ".cl";
+            if (aleatorio.nextBoolean()) {
+                email = "  Usuario." + i + "@Dominio" + (i % 50) + ".CL ";
+            }
+            emails[i] = email;
+            filas[i] = new String[]{String.valueOf(i), "Nombre" + i, "Apellido" + i, email};
+            contenido.append('"').append(i).append("\",\"Nombre").append(i)
+                    .append("\",\"Apellido").append(i).append("\",\"").append(email.trim()).append("\"\n");
+        }
+        csv = contenido.toString();
+    }
+
+    @Benchmark
+    public void validarManual(Blackhole bh) {
+        for (String email : emails) {
+            bh.consume(new Email(email));
+        }
+    }
+
+    @Benchmark
+    public void validarExpresion(Blackhole bh) {
+        for (String email : emails) {
+            bh.consume(validarConExpresion(email));
+        }
+    }
+
+    @Benchmark
+    public void importacionMasiva(Blackhole bh) {
+        for (String[] fila : filas) {
+            bh.consume(new Usuario(fila[1], fila[2], fila[3]));
+        }
+    }
+
+    @Benchmark
+    public void cargaInicial(Blackhole bh) throws IOException, CsvValidationException {
+        // mismo recorrido que el constructor de UsuarioRepository, sobre un CSV en memoria
+        try (CSVReader reader = new CSVReader(new StringReader(csv))) {
+            String[] nextLine;
+            boolean isHeader = true;
+            while ((nextLine = reader.readNext()) != null) {
+                if (isHeader) {
+                    isHeader = false;
+                    continue;
+                }
+                Usuario usuario = new Usuario(nextLine[1], nextLine[2], nextLine[3]);
+                usuario.setId(Integer.parseInt(nextLine[0]));
+                bh.consume(usuario);
+            }
+        }
+    }
+
+    private static String validarConExpresion(String email) {
+        String normalizado = email.trim().toLowerCase();
+        if (!EMAIL_PATTERN.matcher(normalizado).matches()) {
+            throw new IllegalArgumentException("Formato de email inválido: " + email);
+        }
+        return normalizado;
+    }
+}
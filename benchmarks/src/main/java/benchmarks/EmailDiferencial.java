@@ -0,0 +1,171 @@
+package benchmarks;
+
+import domain.valueobjects.Email;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Comparación diferencial de Email contra la implementación anterior
+ * (trim + toLowerCase + Pattern), la misma referencia que EmailBenchmark.
+ *
+ * Genera entradas al azar y mutaciones de emails válidos (espacios y
+ * caracteres de control en los extremos, mayúsculas, '@' y '.' repetidos,
+ * dominios cortos y caracteres no ASCII como el signo Kelvin o la 'İ'
+ * turca) y verifica que ambas den el mismo email normalizado o el mismo
+ * mensaje de error. Se ejecuta con el locale por defecto y con el turco,
+ * donde toLowerCase trata distinto la 'I'. Termina con código 1 si
+ * encuentra alguna diferencia.
+ *
+ * Uso:
+ *   java -cp benchmarks/target/benchmarks.jar benchmarks.EmailDiferencial \
+ *       --casos 3000000 --semilla 7
+ */
+public final class EmailDiferencial {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
+    );
+
+    // caracteres de los que se arman las entradas; incluye los bordes de
+    // cada clase de la expresión y caracteres no ASCII que toLowerCase
+    // convierte (o no) en ASCII
+    private static final String ALFABETO = "aAzZkK09._%+-@@..  \t\n\u0000\u001f\u007f!#$&*/=?^`{|}~,;:\"'()[]<>\\"
+            + "\u212a\u0130\u0131\u00c4\u00e4\u00e9\u00a0\u2007\u00df\u017f";
+
+    private static final String[] VALIDOS = {
+        "usuario@dominio.cl", "Usuario.Apellido@Dominio.COM", "a@b.co", "x_y%z+w-v@sub.dominio-1.org",
+        "1@2.ab", "nombre..doble@dominio..cl", ".empieza@punto.cl", "termina.@guion-.cl"
+    };
+
+    private EmailDiferencial() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Opción inválida: " + args[i]);
+            }
+            opciones.put(args[i].substring(2), args[i + 1]);
+        }
+        int casos = Integer.parseInt(opciones.getOrDefault("casos", "3000000"));
+        long semilla = Long.parseLong(opciones.getOrDefault("semilla", "7"));
+
+        Locale original = Locale.getDefault();
+        long diferencias = 0;
+        try {
+            for (Locale locale : new Locale[]{original, Locale.forLanguageTag("tr-TR")}) {
+                Locale.setDefault(locale);
+                diferencias += comparar(casos, new SplittableRandom(semilla), locale);
+            }
+        } finally {
+            Locale.setDefault(original);
+        }
+
+        if (diferencias > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static long comparar(int casos, SplittableRandom aleatorio, Locale locale) {
+        long diferencias = 0;
+        long validos = 0;
+        for (int i = 0; i < casos; i++) {
+            String entrada = aleatorio.nextBoolean() ? alAzar(aleatorio) : mutar(aleatorio);
+            String esperado = conExpresion(entrada);
+            String obtenido = manual(entrada);
+            if (!Objects.equals(esperado, obtenido)) {
+                if (diferencias < 20) {
+                    System.out.printf("Diferencia [%s]: expresión=%s manual=%s%n",
+                            escapar(entrada), escapar(esperado), escapar(obtenido));
+                }
+                diferencias++;
+            } else if (!esperado.startsWith("error: ")) {
+                validos++;
+            }
+        }
+        System.out.printf("Locale %s: %,d casos (%,d válidos), %,d diferencias%n",
+                locale.toLanguageTag(), casos, validos, diferencias);
+        return diferencias;
+    }
+
+    private static String alAzar(SplittableRandom aleatorio) {
+        int largo = aleatorio.nextInt(16);
+        StringBuilder entrada = new StringBuilder(largo);
+        for (int i = 0; i < largo; i++) {
+            entrada.append(ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length())));
+        }
+        return entrada.toString();
+    }
+
+    /**
+     * Un email válido (o casi) con hasta tres caracteres insertados,
+     * borrados o reemplazados, y a veces con espacios en los extremos
+     */
+    private static String mutar(SplittableRandom aleatorio) {
+        StringBuilder entrada = new StringBuilder(VALIDOS[aleatorio.nextInt(VALIDOS.length)]);
+        int cambios = aleatorio.nextInt(4);
+        for (int i = 0; i < cambios; i++) {
+            char c = ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length()));
+            int posicion = aleatorio.nextInt(entrada.length() + 1);
+            switch (aleatorio.nextInt(3)) {
+                case 0 -> entrada.insert(posicion, c);
+                case 1 -> {
+                    if (posicion < entrada.length()) {
+                        entrada.deleteCharAt(posicion);
+                    }
+                }
+                default -> {
+                    if (posicion < entrada.length()) {
+                        entrada.setCharAt(posicion, c);
+                    }
+                }
+            }
+        }
+        if (aleatorio.nextInt(4) == 0) {
+            entrada.insert(0, ' ').append('\t');
+        }
+        return entrada.toString();
+    }
+
+    private static String manual(String entrada) {
+        try {
+            return new Email(entrada).getValue();
+        } catch (RuntimeException e) {
+            return "error: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Implementación anterior, con los mismos mensajes de error
+     */
+    private static String conExpresion(String entrada) {
+        if (entrada.trim().isEmpty()) {
+            return "error: El email no puede ser nulo o vacío";
+        }
+        String normalizado = entrada.trim().toLowerCase();
+        if (!EMAIL_PATTERN.matcher(normalizado).matches()) {
+            return "error: Formato de email inválido: " + entrada;
+        }
+        return normalizado;
+    }
+
+    private static String escapar(String texto) {
+        if (texto == null) {
+            return "null";
+        }
+        StringBuilder escapado = new StringBuilder();
+        for (char c : texto.toCharArray()) {
+            if (c < 0x20 || c >= 0x7f) {
+                escapado.append(String.format("\\u%04x", (int) c));
+            } else {
+                escapado.append(c);
+            }
+        }
+        return escapado.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.services.ReservaService;
+import domain.services.VentaService;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.VentaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flujos de reserva y compra de ReservaService y VentaService sobre un
+ * historial de 10 mil, 1 millón y 10 millones de reservas.
+ *
+ * El catálogo tiene CATALOGO cómics en un comics.csv real, por lo que cada
+ * compra incluye la reescritura del CSV al retirar el cómic vendido; la compra
+ * de un carrito de CARRITO cómics lo reescribe una sola vez. Después
+ * de cada invocación se deshace el flujo (se elimina la reserva o venta y se
+ * repone el cómic) para que el tamaño del historial no cambie. Los servicios
+ * no son thread-safe: con varios hilos los flujos se serializan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+public class FlujoReservaVentaBenchmark {
+    private static final int CATALOGO = 10_000;
+    private static final int CARRITO = 10;
+    // los clientes del benchmark no se confunden con los usuarios del historial
+    private static final int PRIMER_ID_CLIENTE = 1_000_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Tienda {
+        @Param({"10000", "1000000", "10000000"})
+        public int reservas;
+
+        private ComicRepository comicRepository;
+        private ReservaRepository reservaRepository;
+        private VentaRepository ventaRepository;
+        private ReservaService reservaService;
+        private VentaService ventaService;
+
+        private Comic[] comics;
+        private final AtomicInteger siguienteComic = new AtomicInteger();
+        private final AtomicInteger siguienteCliente = new AtomicInteger(PRIMER_ID_CLIENTE);
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            Path archivo = DatosBenchmark.directorioTemporal().resolve("comics.csv");
+            DatosBenchmark.escribirComics(archivo, CATALOGO);
+            comicRepository = new ComicRepository(archivo.toString(), ForkJoinPool.commonPool());
+            comics = comicRepository.buscarTodos().toArray(new Comic[0]);
+
+            // historial sin reservas activas: todos los cómics quedan disponibles
+            reservaRepository = new ReservaRepository();
+            Usuario[] usuarios = DatosBenchmark.usuarios(Math.max(reservas / 10, 1));
+            for (Reserva reserva : DatosBenchmark.reservas(reservas, usuarios, comics, 0)) {
+                reservaRepository.guardar(reserva);
+            }
+
+            ventaRepository = new VentaRepository();
+            reservaService = new ReservaService(reservaRepository);
+            ventaService = new VentaService(ventaRepository, reservaRepository, comicRepository);
+        }
+
+        /**
+         * Reparte los cómics en orden circular, así dos hilos no toman el mismo cómic a la vez
+         */
+        private Comic comicLibre() {
+            return comics[Math.floorMod(siguienteComic.getAndIncrement(), comics.length)];
+        }
+    }
+
+    /**
+     * Usuario propio de cada hilo y lo que dejó la última invocación, para deshacerlo.
+     */
+    @State(Scope.Thread)
+    public static class Cliente {
+        private Usuario usuario;
+        private Comic comic;
+        private Reserva reserva;
+        private Venta venta;
+        private final List<Comic> carrito = new ArrayList<>(CARRITO);
+        private List<Venta> ventasCarrito;
+
+        @Setup(Level.Trial)
+        public void registrar(Tienda tienda) {
+            int id = tienda.siguienteCliente.getAndIncrement();
+            usuario = new Usuario("Cliente", "Benchmark", "cliente" + id + "@comics.cl");
+            usuario.setId(id);
+        }
+
+        @Setup(Level.Invocation)
+        public void elegirComic(Tienda tienda) {
+            comic = tienda.comicLibre();
+            reserva = null;
+            venta = null;
+            carrito.clear();
+            for (int i = 0; i < CARRITO; i++) {
+                carrito.add(tienda.comicLibre());
+            }
+            ventasCarrito = null;
+        }
+
+        @TearDown(Level.Invocation)
+        public void deshacer(Tienda tienda) {
+            synchronized (tienda) {
+                if (reserva != null) {
+                    tienda.reservaRepository.eliminar(reserva.getId());
+                }
+                if (venta != null) {
+                    tienda.ventaRepository.eliminar(venta.getId());
+                    tienda.comicRepository.guardar(comic);
+                }
+                if (ventasCarrito != null) {
+                    ventasCarrito.forEach(vendida -> tienda.ventaRepository.eliminar(vendida.getId()));
+                    tienda.comicRepository.guardarTodos(carrito);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Reserva reservar(Tienda tienda, Cliente cliente) {
+        synchronized (tienda) {
+            cliente.reserva = tienda.reservaService.crearReserva(cliente.usuario, cliente.comic);
+            return cliente.reserva;
+        }
+    }
+
+    @Benchmark
+    public Venta comprarSinReserva(Tienda tienda, Cliente cliente) {
+        synchronized (tienda) {
+            cliente.venta = tienda.ventaService.procesarVenta(cliente.usuario, cliente.comic);
+            return cliente.venta;
+        }
+    }
+
+    /**
+     * Compra de CARRITO cómics en una transacción; el tiempo informado es por cómic
+     */
+    @Benchmark
+    @OperationsPerInvocation(CARRITO)
+    public List<Venta> comprarCarrito(Tienda tienda, Cliente cliente) {
+        synchronized (tienda) {
+            cliente.ventasCarrito = tienda.ventaService.procesarCompra(cliente.usuario, cliente.carrito);
+            return cliente.ventasCarrito;
+        }
+    }
+
+    @Benchmark
+    public Venta reservarYComprar(Tienda tienda, Cliente cliente) {
+        synchronized (tienda) {
+            cliente.reserva = tienda.reservaService.crearReserva(cliente.usuario, cliente.comic);
+            cliente.venta = tienda.ventaService.procesarVenta(cliente.usuario, cliente.comic);
+            return cliente.venta;
+        }
+    }
+}
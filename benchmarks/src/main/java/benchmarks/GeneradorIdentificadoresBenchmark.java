@@ -0,0 +1,72 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.generadores.TipoGeneradorIdentificadores;
+import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
+import infrastructure.colecciones.MapaIdentificadores;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendimiento de inserción con cada generador de identificadores cuando
+ * varios hilos crean entidades a la vez.
+ *
+ * Cada operación crea una Venta (lo que genera su identificador) y la inserta
+ * en un índice propio del hilo, para que la única contención posible sea la
+ * del generador. La cantidad de hilos se ajusta con -t (por defecto todos los
+ * procesadores disponibles), por ejemplo: -t 1, -t 4, -t 16.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class GeneradorIdentificadoresBenchmark {
+    private static final int MAXIMO_POR_HILO = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Configuracion {
+        @Param({"aleatorio", "uuidv7", "monotonico"})
+        public String generador;
+
+        private Usuario usuario;
+        private Comic comic;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            Identificador.configurarGenerador(TipoGeneradorIdentificadores.desdeNombre(generador).crear());
+            usuario = new Usuario("Carga", "Benchmark", "carga@benchmark.cl");
+            comic = new Comic("Comic benchmark", "Descripción benchmark", Divisa.pesos(1000));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class IndiceHilo {
+        private MapaIdentificadores<Venta> ventas;
+
+        @Setup(Level.Iteration)
+        public void preparar() {
+            ventas = new MapaIdentificadores<>(MAXIMO_POR_HILO);
+        }
+    }
+
+    @Benchmark
+    public Venta insertarVenta(Configuracion configuracion, IndiceHilo indice) {
+        Venta venta = new Venta(configuracion.usuario, configuracion.comic);
+        if (indice.ventas.size() >= MAXIMO_POR_HILO) {
+            indice.ventas.clear();
+        }
+        indice.ventas.put(venta.getId(), venta);
+        return venta;
+    }
+
+    @Benchmark
+    public Identificador generarIdentificador() {
+        return Identificador.nuevo();
+    }
+}
@@ -0,0 +1,105 @@
+package benchmarks;
+
+import domain.valueobjects.Identificador;
+import infrastructure.colecciones.MapaIdentificadores;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara los identificadores de 128 bits con MapaIdentificadores contra
+ * los identificadores String (UUID.toString) en un HashMap, que era la
+ * representación anterior de los repositorios.
+ *
+ * Las búsquedas miden latencia; los benchmarks de construcción, ejecutados
+ * con -prof gc, entregan en gc.alloc.rate.norm los bytes por índice construido.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentificadorBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int cantidad;
+
+    private Identificador[] identificadores;
+    private String[] textos;
+    private Identificador[] consultasIdentificador;
+    private String[] consultasTexto;
+
+    private MapaIdentificadores<Object> mapaIdentificadores;
+    private Map<String, Object> mapaTexto;
+
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        identificadores = new Identificador[cantidad];
+        textos = new String[cantidad];
+        mapaIdentificadores = new MapaIdentificadores<>();
+        mapaTexto = new HashMap<>();
+
+        for (int i = 0; i < cantidad; i++) {
+            Identificador id = Identificador.aleatorio();
+            identificadores[i] = id;
+            textos[i] = id.toString();
+            mapaIdentificadores.put(id, id);
+            mapaTexto.put(textos[i], id);
+        }
+
+        // las consultas usan copias de las claves para no favorecer la comparación por referencia
+        SplittableRandom aleatorio = new SplittableRandom(42);
+        consultasIdentificador = new Identificador[4096];
+        consultasTexto = new String[4096];
+        for (int i = 0; i < consultasIdentificador.length; i++) {
+            int indice = aleatorio.nextInt(cantidad);
+            Identificador original = identificadores[indice];
+            consultasIdentificador[i] = Identificador.de(original.getMasSignificativo(), original.getMenosSignificativo());
+            consultasTexto[i] = new String(textos[indice].toCharArray());
+        }
+    }
+
+    @Benchmark
+    public Object buscarIdentificador() {
+        siguiente = (siguiente + 1) & (consultasIdentificador.length - 1);
+        return mapaIdentificadores.get(consultasIdentificador[siguiente]);
+    }
+
+    @Benchmark
+    public Object buscarTexto() {
+        siguiente = (siguiente + 1) & (consultasTexto.length - 1);
+        return mapaTexto.get(consultasTexto[siguiente]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void construirIndiceIdentificador(Blackhole bh) {
+        MapaIdentificadores<Object> mapa = new MapaIdentificadores<>();
+        for (int i = 0; i < cantidad; i++) {
+            Identificador id = Identificador.aleatorio();
+            mapa.put(id, id);
+        }
+        bh.consume(mapa);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void construirIndiceTexto(Blackhole bh) {
+        Map<String, Object> mapa = new HashMap<>();
+        for (int i = 0; i < cantidad; i++) {
+            String id = UUID.randomUUID().toString();
+            mapa.put(id, id);
+        }
+        bh.consume(mapa);
+    }
+}
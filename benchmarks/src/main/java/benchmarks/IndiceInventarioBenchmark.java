@@ -0,0 +1,92 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.IndiceInventario;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.VentaRepository;
+import interfaces.repository.OyenteCambios.TipoCambio;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas y mantenimiento de IndiceInventario con 1 y 10 millones de cómics.
+ *
+ * Hay la mitad de ventas y la mitad de reservas que cómics, todas sobre la
+ * primera mitad del catálogo, y el 5% de las reservas está activa, como en
+ * InventarioReportesBenchmark. Para comparar con el recorrido de los
+ * repositorios, ver obtenerComicsSinActividad, obtenerComicsReservados y
+ * obtenerEstadisticasInventario en ese benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dcomics.lentas=false", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class IndiceInventarioBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int comics;
+
+    private IndiceInventario indice;
+    private Venta[] ventasNuevas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ComicRepository comicRepository = new ComicRepository(
+                DatosBenchmark.directorioTemporal().resolve("comics.csv").toString(), ForkJoinPool.commonPool());
+        comicRepository.guardarTodos(Arrays.asList(DatosBenchmark.comics(comics)));
+        Comic[] catalogo = comicRepository.buscarTodos().toArray(new Comic[0]);
+
+        Comic[] conActividad = Arrays.copyOf(catalogo, catalogo.length / 2);
+        Usuario[] usuarios = DatosBenchmark.usuarios(Math.max(comics / 10, 1));
+
+        ReservaRepository reservaRepository = new ReservaRepository();
+        reservaRepository.guardarTodas(Arrays.asList(DatosBenchmark.reservas(comics / 2, usuarios, conActividad, 0.05)));
+
+        VentaRepository ventaRepository = new VentaRepository();
+        ventaRepository.guardarTodas(Arrays.asList(DatosBenchmark.ventas(comics / 2, usuarios, conActividad)));
+        ventasNuevas = DatosBenchmark.ventas(1 << 16, usuarios, catalogo);
+
+        indice = new IndiceInventario(comicRepository, ventaRepository, reservaRepository);
+    }
+
+    @Benchmark
+    public List<Comic> comicsSinActividad() {
+        return indice.comicsSinActividad();
+    }
+
+    @Benchmark
+    public int contarSinActividad() {
+        return indice.contarSinActividad();
+    }
+
+    @Benchmark
+    public List<Comic> comicsReservados() {
+        return indice.comicsReservados();
+    }
+
+    @Benchmark
+    public int contarDisponibles() {
+        return indice.contarDisponibles();
+    }
+
+    /**
+     * Alta y baja de una venta que no estaba en el índice, sobre cualquier
+     * cómic del catálogo
+     */
+    @Benchmark
+    public void altaYBajaDeVenta() {
+        Venta venta = ventasNuevas[ThreadLocalRandom.current().nextInt(ventasNuevas.length)];
+        indice.cambioVenta(TipoCambio.ALTA, venta);
+        indice.cambioVenta(TipoCambio.BAJA, venta);
+    }
+}
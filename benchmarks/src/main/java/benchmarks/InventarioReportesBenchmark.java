@@ -0,0 +1,102 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.services.InventarioService;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.VentaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reportes de InventarioService con 10 mil, 1 millón y 10 millones de reservas
+ * y otras tantas ventas.
+ *
+ * El catálogo tiene un cómic por cada diez filas y solo la primera mitad del
+ * catálogo tiene actividad, de modo que el reporte de cómics sin actividad no
+ * queda vacío. El 5% de las reservas está activa. Los reportes solo leen, por
+ * lo que corren en paralelo cuando se usan varios hilos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+@State(Scope.Benchmark)
+public class InventarioReportesBenchmark {
+    private static final int LIMITE_REPORTE = 10;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int filas;
+
+    private InventarioService inventarioService;
+    private Comic[] comics;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Path archivo = DatosBenchmark.directorioTemporal().resolve("comics.csv");
+        DatosBenchmark.escribirComics(archivo, Math.max(filas / 10, 2));
+        ComicRepository comicRepository = new ComicRepository(archivo.toString(), ForkJoinPool.commonPool());
+        comics = comicRepository.buscarTodos().toArray(new Comic[0]);
+
+        Comic[] conActividad = Arrays.copyOf(comics, comics.length / 2);
+        Usuario[] usuarios = DatosBenchmark.usuarios(Math.max(filas / 10, 1));
+
+        ReservaRepository reservaRepository = new ReservaRepository();
+        for (Reserva reserva : DatosBenchmark.reservas(filas, usuarios, conActividad, 0.05)) {
+            reservaRepository.guardar(reserva);
+        }
+
+        VentaRepository ventaRepository = new VentaRepository();
+        for (Venta venta : DatosBenchmark.ventas(filas, usuarios, conActividad)) {
+            ventaRepository.guardar(venta);
+        }
+
+        inventarioService = new InventarioService(comicRepository, reservaRepository, ventaRepository);
+    }
+
+    @Benchmark
+    public List<Comic> obtenerComicsDisponibles() {
+        return inventarioService.obtenerComicsDisponibles();
+    }
+
+    @Benchmark
+    public List<Comic> obtenerComicsReservados() {
+        return inventarioService.obtenerComicsReservados();
+    }
+
+    @Benchmark
+    public Map<Comic, Long> obtenerComicsMasVendidos() {
+        return inventarioService.obtenerComicsMasVendidos(LIMITE_REPORTE);
+    }
+
+    @Benchmark
+    public Map<Comic, Long> obtenerComicsMasReservados() {
+        return inventarioService.obtenerComicsMasReservados(LIMITE_REPORTE);
+    }
+
+    @Benchmark
+    public Map<String, Long> obtenerEstadisticasInventario() {
+        return inventarioService.obtenerEstadisticasInventario();
+    }
+
+    @Benchmark
+    public List<Comic> obtenerComicsSinActividad() {
+        return inventarioService.obtenerComicsSinActividad();
+    }
+
+    @Benchmark
+    public boolean verificarDisponibilidad() {
+        return inventarioService.verificarDisponibilidad(comics[ThreadLocalRandom.current().nextInt(comics.length)]);
+    }
+}
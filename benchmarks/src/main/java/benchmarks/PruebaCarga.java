@@ -0,0 +1,440 @@
+package benchmarks;
+
+import application.metricas.HistogramaLatencia;
+import application.usecases.AgregarLibroCasoUso;
+import application.usecases.BuscarComicsCasoUso;
+import application.usecases.CancelarReservaCasoUso;
+import application.usecases.ComprarLibroCasoUso;
+import application.usecases.ConsultarDisponibilidadComicCasoUso;
+import application.usecases.ReservarLibroCasoUso;
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.services.ComicService;
+import domain.services.InventarioService;
+import domain.services.ReservaService;
+import domain.services.VentaService;
+import infrastructure.asincrono.ComicServiceAsincrono;
+import infrastructure.asincrono.ComicServiceSincrono;
+import infrastructure.asincrono.HiloPersistencia;
+import infrastructure.asincrono.InventarioServiceAsincrono;
+import infrastructure.asincrono.InventarioServiceSincrono;
+import infrastructure.asincrono.ReservaServiceAsincrono;
+import infrastructure.asincrono.ReservaServiceSincrono;
+import infrastructure.asincrono.VentaServiceAsincrono;
+import infrastructure.asincrono.VentaServiceSincrono;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.ComicRepositoryParticionado;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.ReservaRepositoryParticionado;
+import infrastructure.repository.UsuarioRepository;
+import infrastructure.repository.VentaRepository;
+import infrastructure.repository.VentaRepositoryParticionado;
+import interfaces.domain.IComicService;
+import interfaces.domain.IInventarioService;
+import interfaces.domain.IReservaService;
+import interfaces.domain.IVentaService;
+import interfaces.repository.IComicRepository;
+import interfaces.repository.IReservaRepository;
+import interfaces.repository.IVentaRepository;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Prueba de carga en lazo cerrado sobre los casos de uso.
+ *
+ * Cada cliente es un hilo virtual que ejecuta operaciones una tras otra (sin
+ * pausa, salvo que se indique --pausa) con esta mezcla:
+ *
+ *   50% búsqueda por nombre, 15% consulta de disponibilidad, 20% reserva,
+ *   5% compra directa y 10% resolución de una reserva pendiente del cliente:
+ *   se convierte en compra (--conversion, por defecto 60%) o se cancela si
+ *   todavía está dentro del límite de cancelación; si no, se abandona.
+ *
+ * La popularidad de los cómics sigue una distribución de Zipf (--zipf) y los
+ * usuarios se eligen al azar de un padrón (--usuarios). Cada cómic vendido se
+ * repone con uno nuevo del mismo nombre para que el catálogo no se agote.
+ *
+ * Los repositorios y servicios no son thread-safe, por lo que las llamadas a
+ * los casos de uso se serializan con un único candado; la latencia informada
+ * incluye la espera por ese candado, que es lo que percibiría cada cliente.
+ *
+ * Con --particiones N (mayor a 1) cómics, reservas y ventas se dividen en N
+ * particiones por cómic (ComicRepositoryParticionado y afines). Entonces las
+ * reservas, compras y cancelaciones solo se serializan con las demás
+ * operaciones sobre la misma partición, y las búsquedas no toman candado
+ * porque cada partición ya es atendida por un único hilo. El límite de
+ * reservas por usuario se lee de todas las particiones y la reserva se guarda
+ * en una sola; ReservaService lo respeta tomando el candado del usuario.
+ *
+ * Con --asincrono true los servicios pasan por su versión asincrónica, que
+ * ejecuta las escrituras en un único hilo de persistencia y las consultas en
+ * su grupo de consultas; los clientes no toman ningún candado y la latencia
+ * de las escrituras incluye la espera en su cola.
+ * Los datos se generan en un directorio temporal, nunca en los CSV reales.
+ *
+ * Uso:
+ *   java -cp benchmarks/target/benchmarks.jar benchmarks.PruebaCarga \
+ *       --clientes 64 --duracion 30 --calentamiento 5 --comics 10000 --usuarios 1000
+ */
+public final class PruebaCarga {
+    // mismo límite que ReservaService.HORAS_LIMITE_CANCELACION
+    private static final Duration LIMITE_CANCELACION = Duration.ofHours(1);
+    private static final int MAXIMO_PENDIENTES_POR_CLIENTE = 3;
+
+    private static final double PROPORCION_BUSQUEDA = 0.50;
+    private static final double PROPORCION_DISPONIBILIDAD = 0.15;
+    private static final double PROPORCION_RESERVA = 0.20;
+    private static final double PROPORCION_COMPRA_DIRECTA = 0.05;
+
+    // lo que decide hacer un cliente en cada vuelta
+    private enum Accion {
+        BUSCAR, CONSULTAR_DISPONIBILIDAD, RESERVAR, COMPRAR_DIRECTO, RESOLVER_PENDIENTE
+    }
+
+    // casos de uso medidos
+    private enum Operacion {
+        BUSCAR, CONSULTAR_DISPONIBILIDAD, RESERVAR, COMPRAR, CANCELAR, REPONER
+    }
+
+    private final Map<String, String> opciones;
+    private final ReentrantLock candadoSistema = new ReentrantLock();
+    // un candado por partición cuando los repositorios están particionados, si no null
+    private ReentrantLock[] candadosParticion;
+    private ComicRepositoryParticionado comicsParticionados;
+    // hilo de los servicios asincrónicos, o null si los clientes usan los candados
+    private HiloPersistencia hiloPersistencia;
+
+    private BuscarComicsCasoUso buscarComics;
+    private ConsultarDisponibilidadComicCasoUso consultarDisponibilidad;
+    private ReservarLibroCasoUso reservarLibro;
+    private ComprarLibroCasoUso comprarLibro;
+    private CancelarReservaCasoUso cancelarReserva;
+    private AgregarLibroCasoUso agregarLibro;
+
+    private Usuario[] usuarios;
+    // cómic vigente para cada rango de popularidad (cambia cuando se vende y se repone)
+    private AtomicReferenceArray<Comic> catalogo;
+    private DistribucionZipf popularidad;
+
+    private volatile Estadisticas estadisticas = new Estadisticas();
+    private volatile boolean detenido;
+
+    private PruebaCarga(Map<String, String> opciones) {
+        this.opciones = opciones;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> opciones = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Opción inválida: " + args[i]);
+            }
+            opciones.put(args[i].substring(2), args[i + 1]);
+        }
+        new PruebaCarga(opciones).ejecutar();
+    }
+
+    private int opcionEntera(String nombre, int porDefecto) {
+        return Integer.parseInt(opciones.getOrDefault(nombre, String.valueOf(porDefecto)));
+    }
+
+    private double opcionDecimal(String nombre, double porDefecto) {
+        return Double.parseDouble(opciones.getOrDefault(nombre, String.valueOf(porDefecto)));
+    }
+
+    private void ejecutar() throws InterruptedException {
+        int clientes = opcionEntera("clientes", 64);
+        int duracion = opcionEntera("duracion", 30);
+        int calentamiento = opcionEntera("calentamiento", 5);
+        int pausaMilis = opcionEntera("pausa", 0);
+        double conversion = opcionDecimal("conversion", 0.6);
+        long semilla = Long.parseLong(opciones.getOrDefault("semilla", String.valueOf(DatosBenchmark.SEMILLA)));
+
+        int particiones = opcionEntera("particiones", 1);
+        boolean asincrono = Boolean.parseBoolean(opciones.getOrDefault("asincrono", "false"));
+
+        preparar(opcionEntera("comics", 10_000), opcionEntera("usuarios", 1_000), opcionDecimal("zipf", 1.0),
+                particiones, asincrono);
+
+        System.out.printf("Clientes: %d | Duración: %d s (+%d s de calentamiento) | Cómics: %d | Usuarios: %d"
+                        + " | Particiones: %d | Asincrónico: %s%n",
+                clientes, duracion, calentamiento, catalogo.length(), usuarios.length, particiones,
+                asincrono ? "sí" : "no");
+
+        SplittableRandom semillas = new SplittableRandom(semilla);
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                SplittableRandom aleatorio = semillas.split();
+                ejecutor.submit(() -> ejecutarCliente(aleatorio, conversion, pausaMilis));
+            }
+
+            Thread.sleep(calentamiento * 1000L);
+            estadisticas = new Estadisticas();
+            long inicio = System.nanoTime();
+
+            Thread.sleep(duracion * 1000L);
+            Estadisticas medidas = estadisticas;
+            long transcurrido = System.nanoTime() - inicio;
+
+            detenido = true;
+            imprimir(medidas, transcurrido);
+        }
+    }
+
+    private void preparar(int cantidadComics, int cantidadUsuarios, double exponenteZipf, int particiones,
+                          boolean asincrono) {
+        Path directorio = DatosBenchmark.directorioTemporal();
+        Path archivoComics = directorio.resolve("comics.csv");
+        Path archivoUsuarios = directorio.resolve("usuarios.csv");
+        DatosBenchmark.escribirComics(archivoComics, cantidadComics);
+        DatosBenchmark.escribirUsuarios(archivoUsuarios, cantidadUsuarios);
+
+        UsuarioRepository usuarioRepository = new UsuarioRepository(archivoUsuarios.toString(), ForkJoinPool.commonPool());
+        IComicRepository comicRepository;
+        IReservaRepository reservaRepository;
+        IVentaRepository ventaRepository;
+        if (particiones > 1) {
+            ComicRepositoryParticionado.prepararArchivos(archivoComics.toString(), particiones, ForkJoinPool.commonPool());
+            comicsParticionados = new ComicRepositoryParticionado(particiones, particion -> new ComicRepository(
+                    ComicRepositoryParticionado.archivoParticion(archivoComics.toString(), particion, particiones),
+                    ForkJoinPool.commonPool()));
+            comicRepository = comicsParticionados;
+            reservaRepository = new ReservaRepositoryParticionado(particiones, particion -> new ReservaRepository());
+            ventaRepository = new VentaRepositoryParticionado(particiones, particion -> new VentaRepository());
+            candadosParticion = new ReentrantLock[particiones];
+            for (int i = 0; i < particiones; i++) {
+                candadosParticion[i] = new ReentrantLock();
+            }
+        } else {
+            comicRepository = new ComicRepository(archivoComics.toString(), ForkJoinPool.commonPool());
+            reservaRepository = new ReservaRepository();
+            ventaRepository = new VentaRepository();
+        }
+
+        IComicService comicService = new ComicService(comicRepository, reservaRepository, ventaRepository);
+        IReservaService reservaService = new ReservaService(reservaRepository);
+        IVentaService ventaService = new VentaService(ventaRepository, reservaRepository, comicRepository);
+        IInventarioService inventarioService = new InventarioService(comicRepository, reservaRepository, ventaRepository);
+        if (asincrono) {
+            hiloPersistencia = new HiloPersistencia("persistencia");
+            comicService = new ComicServiceSincrono(new ComicServiceAsincrono(comicService, hiloPersistencia));
+            reservaService = new ReservaServiceSincrono(new ReservaServiceAsincrono(reservaService, hiloPersistencia));
+            ventaService = new VentaServiceSincrono(new VentaServiceAsincrono(ventaService, hiloPersistencia));
+            inventarioService = new InventarioServiceSincrono(
+                    new InventarioServiceAsincrono(inventarioService, hiloPersistencia));
+        }
+
+        buscarComics = new BuscarComicsCasoUso(comicService);
+        consultarDisponibilidad = new ConsultarDisponibilidadComicCasoUso(inventarioService);
+        reservarLibro = new ReservarLibroCasoUso(reservaService);
+        comprarLibro = new ComprarLibroCasoUso(ventaService);
+        cancelarReserva = new CancelarReservaCasoUso(reservaService);
+        agregarLibro = new AgregarLibroCasoUso(comicService);
+
+        usuarios = usuarioRepository.buscarTodos().toArray(new Usuario[0]);
+
+        // el orden de popularidad no coincide con el orden del archivo
+        Comic[] comics = comicRepository.buscarTodos().toArray(new Comic[0]);
+        Random mezcla = new Random(DatosBenchmark.SEMILLA);
+        for (int i = comics.length - 1; i > 0; i--) {
+            int j = mezcla.nextInt(i + 1);
+            Comic temporal = comics[i];
+            comics[i] = comics[j];
+            comics[j] = temporal;
+        }
+        catalogo = new AtomicReferenceArray<>(comics);
+        popularidad = new DistribucionZipf(comics.length, exponenteZipf);
+    }
+
+    private void ejecutarCliente(SplittableRandom aleatorio, double conversion, int pausaMilis) {
+        Deque<Pendiente> pendientes = new ArrayDeque<>();
+
+        while (!detenido) {
+            int rango = popularidad.muestra(aleatorio);
+            Comic comic = catalogo.get(rango);
+            Usuario usuario = usuarios[aleatorio.nextInt(usuarios.length)];
+
+            switch (elegir(aleatorio.nextDouble(), !pendientes.isEmpty())) {
+                case BUSCAR -> medir(Operacion.BUSCAR, null, () -> buscarComics.ejecutar(comic.getNombre()));
+                case CONSULTAR_DISPONIBILIDAD ->
+                        medir(Operacion.CONSULTAR_DISPONIBILIDAD, null, () -> consultarDisponibilidad.ejecutar(comic));
+                case RESERVAR -> {
+                    Reserva reserva = medir(Operacion.RESERVAR, comic, () -> reservarLibro.ejecutar(usuario, comic));
+                    if (reserva != null) {
+                        if (pendientes.size() == MAXIMO_PENDIENTES_POR_CLIENTE) {
+                            // la más antigua se abandona y quedará activa hasta expirar
+                            pendientes.removeFirst();
+                        }
+                        pendientes.addLast(new Pendiente(reserva, rango));
+                    }
+                }
+                case COMPRAR_DIRECTO -> comprar(usuario, rango, comic);
+                case RESOLVER_PENDIENTE -> resolverPendiente(pendientes.removeFirst(), aleatorio, conversion);
+            }
+
+            if (pausaMilis > 0) {
+                try {
+                    Thread.sleep(pausaMilis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Elige la siguiente acción según la mezcla; si toca resolver una reserva
+     * pendiente y el cliente no tiene ninguna, busca en su lugar.
+     */
+    private static Accion elegir(double eleccion, boolean hayPendientes) {
+        double limite = PROPORCION_BUSQUEDA;
+        if (eleccion < limite) {
+            return Accion.BUSCAR;
+        }
+        limite += PROPORCION_DISPONIBILIDAD;
+        if (eleccion < limite) {
+            return Accion.CONSULTAR_DISPONIBILIDAD;
+        }
+        limite += PROPORCION_RESERVA;
+        if (eleccion < limite) {
+            return Accion.RESERVAR;
+        }
+        limite += PROPORCION_COMPRA_DIRECTA;
+        if (eleccion < limite) {
+            return Accion.COMPRAR_DIRECTO;
+        }
+        return hayPendientes ? Accion.RESOLVER_PENDIENTE : Accion.BUSCAR;
+    }
+
+    private void resolverPendiente(Pendiente pendiente, SplittableRandom aleatorio, double conversion) {
+        Reserva reserva = pendiente.reserva();
+        if (aleatorio.nextDouble() < conversion) {
+            comprar(reserva.getUsuario(), pendiente.rango(), reserva.getComic());
+        } else if (LocalDateTime.now().isBefore(reserva.getFechaReserva().plus(LIMITE_CANCELACION))) {
+            medir(Operacion.CANCELAR, reserva.getComic(), () -> {
+                cancelarReserva.ejecutar(reserva);
+                return reserva;
+            });
+        }
+    }
+
+    private void comprar(Usuario usuario, int rango, Comic comic) {
+        Venta venta = medir(Operacion.COMPRAR, comic, () -> comprarLibro.ejecutar(usuario, comic));
+        if (venta != null) {
+            Comic repuesto = medir(Operacion.REPONER, null,
+                    () -> agregarLibro.ejecutar(comic.getNombre(), comic.getDescription(), comic.getPrecio()));
+            // si otro cliente ya repuso este rango se deja su cómic
+            if (repuesto != null) {
+                catalogo.compareAndSet(rango, comic, repuesto);
+            }
+        }
+    }
+
+    /**
+     * Reserva de un cliente que todavía no se compra ni se cancela
+     */
+    private record Pendiente(Reserva reserva, int rango) {
+    }
+
+    /**
+     * Ejecuta una operación bajo su candado y registra su latencia.
+     *
+     * @param comic cómic que la operación modifica, o null si solo consulta
+     * @return el resultado, o null si la operación lanzó una excepción
+     */
+    private <T> T medir(Operacion operacion, Comic comic, Supplier<T> accion) {
+        Estadisticas actuales = estadisticas;
+        long inicio = System.nanoTime();
+        ReentrantLock candado = candado(comic);
+        if (candado != null) {
+            candado.lock();
+        }
+        try {
+            return accion.get();
+        } catch (RuntimeException e) {
+            actuales.registrarError(operacion, e);
+            return null;
+        } finally {
+            if (candado != null) {
+                candado.unlock();
+            }
+            actuales.histogramas.get(operacion).registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Sin particiones todo pasa por el candado del sistema; con particiones solo
+     * las operaciones que modifican un cómic toman el candado de su partición.
+     * Con servicios asincrónicos las escrituras ya las serializa el hilo de persistencia
+     */
+    private ReentrantLock candado(Comic comic) {
+        if (hiloPersistencia != null) {
+            return null;
+        }
+        if (candadosParticion == null) {
+            return candadoSistema;
+        }
+        return comic == null ? null : candadosParticion[comicsParticionados.particion(comic.getId())];
+    }
+
+    private static void imprimir(Estadisticas medidas, long transcurridoNanos) {
+        double segundos = transcurridoNanos / 1e9;
+        long total = 0;
+
+        System.out.println();
+        System.out.printf("%-26s %10s %10s %9s %10s %10s %10s %10s%n",
+                "Operación", "ops", "ops/s", "errores", "p50 µs", "p99 µs", "p99.9 µs", "máx µs");
+        for (Operacion operacion : Operacion.values()) {
+            HistogramaLatencia.Instantanea instantanea = medidas.histogramas.get(operacion).instantanea();
+            long errores = medidas.errores.get(operacion).values().stream().mapToLong(LongAdder::sum).sum();
+            total += instantanea.getCantidad();
+            System.out.printf("%-26s %,10d %,10.0f %,9d %,10.1f %,10.1f %,10.1f %,10.1f%n",
+                    operacion, instantanea.getCantidad(), instantanea.getCantidad() / segundos, errores,
+                    instantanea.percentil(50) / 1e3, instantanea.percentil(99) / 1e3,
+                    instantanea.percentil(99.9) / 1e3, instantanea.getMaximo() / 1e3);
+        }
+        System.out.printf("%nTotal: %,d operaciones en %.1f s (%,.0f ops/s)%n", total, segundos, total / segundos);
+
+        System.out.println("\nErrores por tipo:");
+        for (Operacion operacion : Operacion.values()) {
+            new TreeMap<>(medidas.errores.get(operacion)).forEach((tipo, cantidad) ->
+                    System.out.printf("   %-26s %-40s %,d%n", operacion, tipo, cantidad.sum()));
+        }
+    }
+
+    private static final class Estadisticas {
+        private final Map<Operacion, HistogramaLatencia> histogramas = new HashMap<>();
+        private final Map<Operacion, Map<String, LongAdder>> errores = new HashMap<>();
+
+        private Estadisticas() {
+            for (Operacion operacion : Operacion.values()) {
+                histogramas.put(operacion, new HistogramaLatencia());
+                errores.put(operacion, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void registrarError(Operacion operacion, RuntimeException e) {
+            errores.get(operacion).computeIfAbsent(e.getClass().getSimpleName(), tipo -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.services.InventarioService;
+import infrastructure.reportes.MotorReportesParalelo;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.VentaRepository;
+import interfaces.repository.IVersionesRepositorios;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalabilidad de los reportes de InventarioService con MotorReportesParalelo
+ * según la cantidad de hilos de su pool, con 1 y 10 millones de reservas y
+ * otras tantas ventas.
+ *
+ * Los datos son los de InventarioReportesBenchmark. Se mide con un solo hilo
+ * de JMH; lo que cambia es cuántos hilos del pool de reportes reparten cada
+ * recorrido, hasta la cantidad de procesadores:
+ *
+ *   java -jar benchmarks.jar ReportesParalelos --hilos 1 -p hilos=1,2,4,8
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dcomics.lentas=false", "-Xmx8g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class ReportesParalelosBenchmark {
+    private static final int LIMITE_REPORTE = 10;
+
+    @Param({"1000000", "10000000"})
+    public int filas;
+
+    @Param({"1", "2", "4", "8"})
+    public int hilos;
+
+    private MotorReportesParalelo motorReportes;
+    private InventarioService inventarioService;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ComicRepository comicRepository = new ComicRepository(
+                DatosBenchmark.directorioTemporal().resolve("comics.csv").toString(), ForkJoinPool.commonPool());
+        comicRepository.guardarTodos(Arrays.asList(DatosBenchmark.comics(Math.max(filas / 10, 2))));
+        Comic[] comics = comicRepository.buscarTodos().toArray(new Comic[0]);
+
+        Comic[] conActividad = Arrays.copyOf(comics, comics.length / 2);
+        Usuario[] usuarios = DatosBenchmark.usuarios(Math.max(filas / 10, 1));
+
+        ReservaRepository reservaRepository = new ReservaRepository();
+        reservaRepository.guardarTodas(Arrays.asList(DatosBenchmark.reservas(filas, usuarios, conActividad, 0.05)));
+
+        VentaRepository ventaRepository = new VentaRepository();
+        ventaRepository.guardarTodas(Arrays.asList(DatosBenchmark.ventas(filas, usuarios, conActividad)));
+
+        motorReportes = new MotorReportesParalelo(hilos);
+        inventarioService = new InventarioService(comicRepository, reservaRepository, ventaRepository,
+                IVersionesRepositorios.sinVersiones(), motorReportes);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        motorReportes.close();
+    }
+
+    @Benchmark
+    public Map<Comic, Long> obtenerComicsMasVendidos() {
+        return inventarioService.obtenerComicsMasVendidos(LIMITE_REPORTE);
+    }
+
+    @Benchmark
+    public Map<Comic, Long> obtenerComicsMasReservados() {
+        return inventarioService.obtenerComicsMasReservados(LIMITE_REPORTE);
+    }
+
+    @Benchmark
+    public List<Comic> obtenerComicsSinActividad() {
+        return inventarioService.obtenerComicsSinActividad();
+    }
+}
@@ -0,0 +1,59 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import infrastructure.repository.ReservaRepositoryEventos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconstrucción de la proyección de ReservaRepositoryEventos con 1 a 8
+ * particiones por cómic, desde una instantánea tomada a mitad del registro.
+ *
+ * Hay un usuario y un cómic por cada diez reservas y el 5% de las reservas
+ * queda activa; las demás tienen un segundo evento de expiración.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+@State(Scope.Benchmark)
+public class ReservaEventosBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int reservas;
+
+    @Param({"1", "2", "4", "8"})
+    public int particiones;
+
+    private ReservaRepositoryEventos repositorio;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Usuario[] usuarios = DatosBenchmark.usuarios(Math.max(reservas / 10, 1));
+        Comic[] comics = DatosBenchmark.comics(Math.max(reservas / 10, 1));
+
+        // sin instantáneas automáticas: se toma una sola a mitad de la carga
+        repositorio = new ReservaRepositoryEventos(Integer.MAX_VALUE);
+        Reserva[] historicas = DatosBenchmark.reservas(reservas, usuarios, comics, 0.05);
+        for (int i = 0; i < historicas.length; i++) {
+            repositorio.guardar(historicas[i]);
+            if (historicas[i].getEstadoReserva() == EstadoReserva.EXPIRADA) {
+                repositorio.registrarExpiracion(historicas[i]);
+            }
+            if (i == historicas.length / 2) {
+                repositorio.tomarInstantanea();
+            }
+        }
+    }
+
+    @Benchmark
+    public ReservaRepositoryEventos reconstruir() {
+        repositorio.reconstruirProyeccion(particiones);
+        return repositorio;
+    }
+}
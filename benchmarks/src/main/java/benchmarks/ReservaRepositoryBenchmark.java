@@ -0,0 +1,173 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import infrastructure.repository.ReservaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operaciones de IReservaRepository con 10 mil, 1 millón y 10 millones de reservas.
+ *
+ * Hay un usuario y un cómic por cada diez reservas y el 5% de las reservas
+ * está activa. Las escrituras se miden en lotes de LOTE reservas para que la
+ * preparación por invocación no pese en el resultado, que se informa por reserva.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+public class ReservaRepositoryBenchmark {
+    private static final int LOTE = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Reservas {
+        @Param({"10000", "1000000", "10000000"})
+        public int filas;
+
+        private ReservaRepository repositorio;
+        private Usuario[] usuarios;
+        private Comic[] comics;
+        private Reserva[] reservas;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            usuarios = DatosBenchmark.usuarios(Math.max(filas / 10, 1));
+            comics = DatosBenchmark.comics(Math.max(filas / 10, 1));
+            reservas = DatosBenchmark.reservas(filas, usuarios, comics, 0.05);
+
+            repositorio = new ReservaRepository();
+            for (Reserva reserva : reservas) {
+                repositorio.guardar(reserva);
+            }
+        }
+
+        private Reserva reservaAlAzar() {
+            return reservas[ThreadLocalRandom.current().nextInt(reservas.length)];
+        }
+
+        private Reserva[] lote() {
+            Reserva[] lote = new Reserva[LOTE];
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            LocalDateTime vencimiento = LocalDateTime.now().plusDays(2);
+            for (int i = 0; i < LOTE; i++) {
+                lote[i] = new Reserva(usuarios[aleatorio.nextInt(usuarios.length)], comics[aleatorio.nextInt(comics.length)]);
+                lote[i].establecerFechaExpiracion(vencimiento.plusNanos(aleatorio.nextInt(1_000_000_000)));
+            }
+            return lote;
+        }
+    }
+
+    /**
+     * Lote de reservas nuevas; se eliminan después de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class LoteNuevo {
+        private Reserva[] lote;
+
+        @Setup(Level.Invocation)
+        public void preparar(Reservas reservas) {
+            lote = reservas.lote();
+        }
+
+        @TearDown(Level.Invocation)
+        public void retirar(Reservas reservas) {
+            synchronized (reservas.repositorio) {
+                for (Reserva reserva : lote) {
+                    if (reservas.repositorio.buscarPorId(reserva.getId()).isPresent()) {
+                        reservas.repositorio.eliminar(reserva.getId());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lote de reservas guardadas antes de cada invocación, para medir su eliminación.
+     */
+    @State(Scope.Thread)
+    public static class LoteGuardado {
+        private Reserva[] lote;
+
+        @Setup(Level.Invocation)
+        public void preparar(Reservas reservas) {
+            lote = reservas.lote();
+            synchronized (reservas.repositorio) {
+                for (Reserva reserva : lote) {
+                    reservas.repositorio.guardar(reserva);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Reserva> buscarPorId(Reservas reservas) {
+        return reservas.repositorio.buscarPorId(reservas.reservaAlAzar().getId());
+    }
+
+    @Benchmark
+    public List<Reserva> buscarTodas(Reservas reservas) {
+        return reservas.repositorio.buscarTodas();
+    }
+
+    @Benchmark
+    public List<Reserva> buscarPorUsuario(Reservas reservas) {
+        return reservas.repositorio.buscarPorUsuario(reservas.reservaAlAzar().getUsuario());
+    }
+
+    @Benchmark
+    public List<Reserva> buscarPorComic(Reservas reservas) {
+        return reservas.repositorio.buscarPorComic(reservas.reservaAlAzar().getComic());
+    }
+
+    @Benchmark
+    public List<Reserva> buscarPorEstado(Reservas reservas) {
+        return reservas.repositorio.buscarPorEstado(EstadoReserva.ACTIVO);
+    }
+
+    @Benchmark
+    public List<Reserva> buscarReservasExpiradas(Reservas reservas) {
+        return reservas.repositorio.buscarReservasExpiradas();
+    }
+
+    @Benchmark
+    public List<Reserva> buscarPorFecha(Reservas reservas) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return reservas.repositorio.buscarPorFecha(ahora.minusHours(1), ahora);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void guardar(Reservas reservas, LoteNuevo nuevo) {
+        synchronized (reservas.repositorio) {
+            for (Reserva reserva : nuevo.lote) {
+                reservas.repositorio.guardar(reserva);
+            }
+        }
+    }
+
+    @Benchmark
+    public void actualizar(Reservas reservas) {
+        synchronized (reservas.repositorio) {
+            reservas.repositorio.actualizar(reservas.reservaAlAzar());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void eliminar(Reservas reservas, LoteGuardado guardado) {
+        synchronized (reservas.repositorio) {
+            for (Reserva reserva : guardado.lote) {
+                reservas.repositorio.eliminar(reserva.getId());
+            }
+        }
+    }
+}
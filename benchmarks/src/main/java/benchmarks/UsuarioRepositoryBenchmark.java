@@ -0,0 +1,120 @@
+package benchmarks;
+
+import domain.entities.Usuario;
+import infrastructure.repository.UsuarioRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operaciones de IUsuarioRepository sobre un usuarios.csv de 10 mil, 1 millón y 10 millones de filas.
+ *
+ * Igual que en ComicRepositoryBenchmark, las escrituras reescriben el CSV y
+ * se serializan cuando se ejecuta con varios hilos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+public class UsuarioRepositoryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Usuarios {
+        @Param({"10000", "1000000", "10000000"})
+        public int filas;
+
+        private UsuarioRepository repositorio;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            Path archivo = DatosBenchmark.directorioTemporal().resolve("usuarios.csv");
+            DatosBenchmark.escribirUsuarios(archivo, filas);
+            repositorio = new UsuarioRepository(archivo.toString(), ForkJoinPool.commonPool());
+        }
+
+        private int idAlAzar() {
+            return 1 + ThreadLocalRandom.current().nextInt(filas);
+        }
+    }
+
+    /**
+     * Usuario que todavía no está registrado; se elimina después de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class UsuarioNuevo {
+        private Usuario usuario;
+
+        @Setup(Level.Invocation)
+        public void preparar() {
+            usuario = new Usuario("Nuevo", "Usuario", "nuevo" + System.nanoTime() + "@comics.cl");
+        }
+
+        @TearDown(Level.Invocation)
+        public void retirar(Usuarios usuarios) {
+            synchronized (usuarios.repositorio) {
+                if (usuarios.repositorio.buscarPorId(usuario.getId()).isPresent()) {
+                    usuarios.repositorio.eliminar(usuario.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Usuario registrado antes de cada invocación, para medir su eliminación.
+     */
+    @State(Scope.Thread)
+    public static class UsuarioRegistrado {
+        private Usuario usuario;
+
+        @Setup(Level.Invocation)
+        public void preparar(Usuarios usuarios) {
+            usuario = new Usuario("Registrado", "Usuario", "registrado" + System.nanoTime() + "@comics.cl");
+            synchronized (usuarios.repositorio) {
+                usuarios.repositorio.guardar(usuario);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Usuario> buscarPorId(Usuarios usuarios) {
+        return usuarios.repositorio.buscarPorId(usuarios.idAlAzar());
+    }
+
+    @Benchmark
+    public Optional<Usuario> buscarPorEmail(Usuarios usuarios) {
+        return usuarios.repositorio.buscarPorEmail(DatosBenchmark.email(usuarios.idAlAzar()));
+    }
+
+    @Benchmark
+    public List<Usuario> buscarTodos(Usuarios usuarios) {
+        return usuarios.repositorio.buscarTodos();
+    }
+
+    @Benchmark
+    public void guardar(Usuarios usuarios, UsuarioNuevo nuevo) {
+        synchronized (usuarios.repositorio) {
+            usuarios.repositorio.guardar(nuevo.usuario);
+        }
+    }
+
+    @Benchmark
+    public void actualizar(Usuarios usuarios) {
+        synchronized (usuarios.repositorio) {
+            Usuario usuario = usuarios.repositorio.buscarPorId(usuarios.idAlAzar()).orElseThrow();
+            usuarios.repositorio.actualizar(usuario);
+        }
+    }
+
+    @Benchmark
+    public void eliminar(Usuarios usuarios, UsuarioRegistrado registrado) {
+        synchronized (usuarios.repositorio) {
+            usuarios.repositorio.eliminar(registrado.usuario.getId());
+        }
+    }
+}
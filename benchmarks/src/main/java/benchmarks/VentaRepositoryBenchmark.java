@@ -0,0 +1,160 @@
+package benchmarks;
+
+import domain.entities.Comic;
+import domain.entities.Venta;
+import domain.entities.Usuario;
+import infrastructure.repository.VentaRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operaciones de IVentaRepository con 10 mil, 1 millón y 10 millones de ventas.
+ *
+ * Hay un usuario y un cómic por cada diez ventas. Las escrituras se miden en
+ * lotes de LOTE ventas para que la preparación por invocación no pese en el
+ * resultado, que se informa por venta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dcomics.lentas=false")
+public class VentaRepositoryBenchmark {
+    private static final int LOTE = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Ventas {
+        @Param({"10000", "1000000", "10000000"})
+        public int filas;
+
+        private VentaRepository repositorio;
+        private Usuario[] usuarios;
+        private Comic[] comics;
+        private Venta[] ventas;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            usuarios = DatosBenchmark.usuarios(Math.max(filas / 10, 1));
+            comics = DatosBenchmark.comics(Math.max(filas / 10, 1));
+            ventas = DatosBenchmark.ventas(filas, usuarios, comics);
+
+            repositorio = new VentaRepository();
+            for (Venta venta : ventas) {
+                repositorio.guardar(venta);
+            }
+        }
+
+        private Venta ventaAlAzar() {
+            return ventas[ThreadLocalRandom.current().nextInt(ventas.length)];
+        }
+
+        private Venta[] lote() {
+            Venta[] lote = new Venta[LOTE];
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            for (int i = 0; i < LOTE; i++) {
+                lote[i] = new Venta(usuarios[aleatorio.nextInt(usuarios.length)], comics[aleatorio.nextInt(comics.length)]);
+            }
+            return lote;
+        }
+    }
+
+    /**
+     * Lote de ventas nuevas; se eliminan después de cada invocación.
+     */
+    @State(Scope.Thread)
+    public static class LoteNuevo {
+        private Venta[] lote;
+
+        @Setup(Level.Invocation)
+        public void preparar(Ventas ventas) {
+            lote = ventas.lote();
+        }
+
+        @TearDown(Level.Invocation)
+        public void retirar(Ventas ventas) {
+            synchronized (ventas.repositorio) {
+                for (Venta venta : lote) {
+                    if (ventas.repositorio.buscarPorId(venta.getId()).isPresent()) {
+                        ventas.repositorio.eliminar(venta.getId());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lote de ventas guardadas antes de cada invocación, para medir su eliminación.
+     */
+    @State(Scope.Thread)
+    public static class LoteGuardado {
+        private Venta[] lote;
+
+        @Setup(Level.Invocation)
+        public void preparar(Ventas ventas) {
+            lote = ventas.lote();
+            synchronized (ventas.repositorio) {
+                for (Venta venta : lote) {
+                    ventas.repositorio.guardar(venta);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Venta> buscarPorId(Ventas ventas) {
+        return ventas.repositorio.buscarPorId(ventas.ventaAlAzar().getId());
+    }
+
+    @Benchmark
+    public List<Venta> buscarTodas(Ventas ventas) {
+        return ventas.repositorio.buscarTodas();
+    }
+
+    @Benchmark
+    public List<Venta> buscarPorUsuario(Ventas ventas) {
+        return ventas.repositorio.buscarPorUsuario(ventas.ventaAlAzar().getUsuario());
+    }
+
+    @Benchmark
+    public List<Venta> buscarPorComic(Ventas ventas) {
+        return ventas.repositorio.buscarPorComic(ventas.ventaAlAzar().getComic());
+    }
+
+    @Benchmark
+    public List<Venta> buscarPorFecha(Ventas ventas) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return ventas.repositorio.buscarPorFecha(ahora.minusHours(1), ahora);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void guardar(Ventas ventas, LoteNuevo nuevo) {
+        synchronized (ventas.repositorio) {
+            for (Venta venta : nuevo.lote) {
+                ventas.repositorio.guardar(venta);
+            }
+        }
+    }
+
+    @Benchmark
+    public void actualizar(Ventas ventas) {
+        synchronized (ventas.repositorio) {
+            ventas.repositorio.actualizar(ventas.ventaAlAzar());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void eliminar(Ventas ventas, LoteGuardado guardado) {
+        synchronized (ventas.repositorio) {
+            for (Venta venta : guardado.lote) {
+                ventas.repositorio.eliminar(venta.getId());
+            }
+        }
+    }
+}
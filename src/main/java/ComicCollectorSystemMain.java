@@ -1,10 +1,24 @@
 import application.usecases.*;
+import domain.generadores.TipoGeneradorIdentificadores;
 import domain.services.*;
+import domain.valueobjects.Identificador;
+import infrastructure.asincrono.*;
+import infrastructure.cache.*;
+import infrastructure.cluster.*;
+import infrastructure.eventos.BusCambios;
+import infrastructure.reportes.MotorReportesParalelo;
 import infrastructure.repository.*;
+import infrastructure.versiones.VersionesRepositorios;
 import interfaces.domain.*;
 import interfaces.repository.*;
 import presentation.controller.ComicCollectorMainController;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
 /**
  * Clase principal ejecutable del Comic Collector System.
  * 
@@ -36,19 +50,157 @@ public class ComicCollectorSystemMain {
      * Configura todas las dependencias e inicia la aplicación.
      * Sigue el patrón Composition Root para centralizar la configuración.
      */
-    private void iniciarAplicacion() {
+    private void iniciarAplicacion() throws IOException {
         
         // ═══════════════════════════════════════════════════════════════
         //                   CAPA DE INFRAESTRUCTURA
         // ═══════════════════════════════════════════════════════════════
         
+        // Generador de identificadores de cómics, reservas y ventas
+        // (-Dcomics.generadorIds=aleatorio|uuidv7|monotonico)
+        String generadorIds = System.getProperty("comics.generadorIds", "uuidv7");
+        Identificador.configurarGenerador(TipoGeneradorIdentificadores.desdeNombre(generadorIds).crear());
+        
         System.out.println("📊 Inicializando repositorios...");
         
-        // Repositorios (implementaciones concretas)
-        IUsuarioRepository usuarioRepository = new UsuarioRepository();
-        IComicRepository comicRepository = new ComicRepository();
-        IReservaRepository reservaRepository = new ReservaRepository();
-        IVentaRepository ventaRepository = new VentaRepository();
+        // Repositorios (implementaciones concretas), cargados en paralelo
+        // Modo cluster: varios procesos de esta máquina se reparten los cómics, cada uno
+        // con sus archivos en nodo-<puerto> (-Dcomics.cluster.puerto=P para activarlo,
+        // -Dcomics.cluster.semillas=127.0.0.1:P1,... para unirse a un cluster existente)
+        Integer puertoCluster = Integer.getInteger("comics.cluster.puerto");
+        List<Nodo> semillas = Nodo.lista(System.getProperty("comics.cluster.semillas", ""));
+        // Réplica de solo lectura: recibe los cambios de un primario y atiende búsquedas y
+        // reportes (-Dcomics.replica.primario=127.0.0.1:P; en el primario, -Dcomics.replicacion.puerto=P).
+        // Sus archivos van en replica-<pid> y sus repositorios locales parten vacíos
+        String primarioReplica = System.getProperty("comics.replica.primario");
+        String directorioDatos = primarioReplica != null ? SeguidorReplicacion.prepararDirectorio()
+            : puertoCluster != null ? NodoCluster.prepararDirectorio(puertoCluster, semillas.isEmpty()) : "";
+        
+        CargadorRepositorios cargador = new CargadorRepositorios();
+        CompletableFuture<UsuarioRepository> usuarios = cargador.cargar("usuarios",
+            pool -> new UsuarioRepository(directorioDatos + "usuarios.csv", pool), r -> r.buscarTodos().size());
+        // Descripciones de cómics en el heap o en un archivo mapeado en memoria
+        // (-Dcomics.descripciones=memoria|disco)
+        boolean descripcionesEnDisco = "disco".equalsIgnoreCase(System.getProperty("comics.descripciones", "memoria"));
+        // los archivos de descripciones abiertos, para cerrarlos al salir
+        List<AlmacenDescripcionesMapeado> almacenesDescripciones = new CopyOnWriteArrayList<>();
+        Function<String, IAlmacenDescripciones> abrirDescripciones = archivo -> {
+            AlmacenDescripcionesMapeado almacen = new AlmacenDescripcionesMapeado(archivo);
+            almacenesDescripciones.add(almacen);
+            return almacen;
+        };
+        // Reservas como registro de eventos, con una instantánea cada N eventos
+        // (-Dcomics.reservas.instantaneas=N)
+        int intervaloInstantaneas = Integer.getInteger("comics.reservas.instantaneas", 1000);
+        // Cómics, reservas y ventas divididos en N particiones por cómic, cada una
+        // con su propio hilo (-Dcomics.particiones=N, 1 para no particionar)
+        int cantidadParticiones = Integer.getInteger("comics.particiones", 1);
+        CompletableFuture<IComicRepository> comics;
+        CompletableFuture<IReservaRepository> reservas;
+        CompletableFuture<IVentaRepository> ventas;
+        if (puertoCluster != null || primarioReplica != null) {
+            // las reservas y ventas de cada cómic se transfieren entre nodos junto con él
+            comics = cargador.cargar("comics",
+                pool -> new ComicRepository(directorioDatos + "comics.csv", pool), r -> r.buscarTodos().size());
+            reservas = cargador.cargar("reservas", pool -> new ReservaRepository(), r -> r.buscarTodas().size());
+            ventas = cargador.cargar("ventas", pool -> new VentaRepository(), r -> r.buscarTodas().size());
+        } else if (cantidadParticiones > 1) {
+            comics = cargador.cargar("comics", pool -> {
+                ComicRepositoryParticionado.prepararArchivos("comics.csv", cantidadParticiones, pool);
+                return new ComicRepositoryParticionado(cantidadParticiones, particion -> new ComicRepository(
+                    ComicRepositoryParticionado.archivoParticion("comics.csv", particion, cantidadParticiones), pool,
+                    descripcionesEnDisco
+                        ? abrirDescripciones.apply("comics.particion-" + particion + "-de-" + cantidadParticiones + ".desc")
+                        : null));
+            }, r -> r.buscarTodos().size());
+            reservas = cargador.cargar("reservas", pool -> new ReservaRepositoryParticionado(cantidadParticiones,
+                particion -> new ReservaRepositoryEventos(intervaloInstantaneas)), r -> r.buscarTodas().size());
+            ventas = cargador.cargar("ventas", pool -> new VentaRepositoryParticionado(cantidadParticiones,
+                particion -> new VentaRepository()), r -> r.buscarTodas().size());
+        } else {
+            comics = cargador.cargar("comics", pool -> {
+                // el catálogo de una ejecución particionada anterior vuelve al archivo completo
+                ComicRepositoryParticionado.juntarArchivos("comics.csv", pool);
+                return new ComicRepository("comics.csv", pool,
+                    descripcionesEnDisco ? abrirDescripciones.apply("comics.desc") : null);
+            }, r -> r.buscarTodos().size());
+            reservas = cargador.cargar("reservas",
+                pool -> new ReservaRepositoryEventos(intervaloInstantaneas), r -> r.buscarTodas().size());
+            ventas = cargador.cargar("ventas",
+                pool -> new VentaRepository(), r -> r.buscarTodas().size());
+        }
+        
+        for (CargadorRepositorios.EstadisticaCarga estadistica : cargador.esperar()) {
+            System.out.println("   " + estadistica);
+        }
+        
+        IUsuarioRepository usuariosBase = usuarios.join();
+        IComicRepository comicsBase = comics.join();
+        IReservaRepository reservasBase = reservas.join();
+        IVentaRepository ventasBase = ventas.join();
+        NodoCluster nodoCluster = null;
+        if (puertoCluster != null) {
+            nodoCluster = new NodoCluster(new Nodo("127.0.0.1", puertoCluster), semillas,
+                usuarios.join(), comicsBase, reservasBase, ventasBase);
+            nodoCluster.iniciar();
+            System.out.println("🌐 Nodo " + nodoCluster.getPropio() + " en el cluster " + nodoCluster.getAnillo());
+            usuariosBase = new UsuarioRepositoryCluster(nodoCluster);
+            comicsBase = new ComicRepositoryCluster(nodoCluster);
+            reservasBase = new ReservaRepositoryCluster(nodoCluster);
+            ventasBase = new VentaRepositoryCluster(nodoCluster);
+        }
+        SeguidorReplicacion seguidorReplicacion = null;
+        if (primarioReplica != null) {
+            // (-Dcomics.replica.esperaMaxima=ms que puede esperar una lectura a que la réplica se ponga al día;
+            // -Dcomics.replica.lecturas=actualizadas para que cada lectura vea lo ya escrito en el primario)
+            seguidorReplicacion = new SeguidorReplicacion(Nodo.desdeTexto(primarioReplica), directorioDatos,
+                Long.getLong("comics.replica.esperaMaxima", 5_000),
+                "actualizadas".equalsIgnoreCase(System.getProperty("comics.replica.lecturas", "eventuales")));
+            seguidorReplicacion.iniciar();
+            System.out.println("📡 Réplica de solo lectura de " + seguidorReplicacion.getPrimario());
+            usuariosBase = new UsuarioRepositoryReplica(seguidorReplicacion);
+            comicsBase = new ComicRepositoryReplica(seguidorReplicacion);
+            reservasBase = new ReservaRepositoryReplica(seguidorReplicacion);
+            ventasBase = new VentaRepositoryReplica(seguidorReplicacion);
+        }
+        
+        // Los repositorios avisan sus cambios: las caches de consultas se invalidan
+        // y cada cambio se publica con su secuencia en el bus de cambios
+        UsuarioRepositoryObservable usuarioRepository = new UsuarioRepositoryObservable(usuariosBase);
+        ComicRepositoryObservable comicRepository = new ComicRepositoryObservable(comicsBase);
+        ReservaRepositoryObservable reservaRepository = new ReservaRepositoryObservable(reservasBase);
+        VentaRepositoryObservable ventaRepository = new VentaRepositoryObservable(ventasBase);
+        
+        // (-Dcomics.bus.capacidad=ranuras, potencia de dos)
+        BusCambios busCambios = new BusCambios(Integer.getInteger("comics.bus.capacidad", 1 << 16));
+        usuarioRepository.agregarOyente((tipo, usuario) -> busCambios.publicar("usuarios", tipo, usuario));
+        comicRepository.agregarOyente((tipo, comic) -> busCambios.publicar("comics", tipo, comic));
+        reservaRepository.agregarOyente((tipo, reserva) -> busCambios.publicar("reservas", tipo, reserva));
+        ventaRepository.agregarOyente((tipo, venta) -> busCambios.publicar("ventas", tipo, venta));
+        
+        // Índice del inventario con mapas de bits, mantenido con cada cambio de cómics,
+        // ventas y reservas (-Dcomics.indice=false para que los reportes y las consultas de disponibles
+        // recorran los repositorios). En modo cluster o réplica no se usa: no vería los cambios de otros procesos
+        IndiceInventario indiceInventario = null;
+        if (puertoCluster == null && primarioReplica == null && Boolean.parseBoolean(System.getProperty("comics.indice", "true"))) {
+            indiceInventario = new IndiceInventario(comicRepository, ventaRepository, reservaRepository);
+            comicRepository.agregarOyente(indiceInventario::cambioComic);
+            ventaRepository.agregarOyente(indiceInventario::cambioVenta);
+            reservaRepository.agregarOyente(indiceInventario::cambioReserva);
+        }
+        
+        // Primario de la replicación: envía cada cambio del bus a las réplicas conectadas
+        // (-Dcomics.replicacion.pendientesMaximos=N cambios sin enviar antes de soltar una réplica lenta)
+        Integer puertoReplicacion = Integer.getInteger("comics.replicacion.puerto");
+        PrimarioReplicacion primarioReplicacion = null;
+        if (puertoReplicacion != null && primarioReplica == null) {
+            primarioReplicacion = new PrimarioReplicacion(new Nodo("127.0.0.1", puertoReplicacion),
+                Integer.getInteger("comics.replicacion.pendientesMaximos", 1_000_000), busCambios::ultimaSecuencia);
+            primarioReplicacion.cargarEstadoInicial(usuariosBase, comicsBase, reservasBase, ventasBase);
+            busCambios.suscribir("replicacion", primarioReplicacion);
+            primarioReplicacion.iniciar();
+            System.out.println("📡 Primario de replicación en " + primarioReplicacion.getDireccion());
+        }
         
         // ═══════════════════════════════════════════════════════════════
         //                      CAPA DE DOMINIO
@@ -66,21 +218,58 @@ public class ComicCollectorSystemMain {
         IComicService comicService = new ComicService(
             comicRepository, 
             reservaRepository, 
-            ventaRepository
+            ventaRepository,
+            indiceInventario
         );
         
         IReservaService reservaService = new ReservaService(
             reservaRepository
         );
         
-        IVentaService ventaService = new VentaService(ventaRepository, reservaRepository, comicRepository);
+        // Versión global de los repositorios en memoria: cada compra se confirma como
+        // una sola versión y los reportes de inventario leen una versión fija
+        // (en modo cluster o réplica las lecturas remotas no quedan cubiertas)
+        IVersionesRepositorios versiones = VersionesRepositorios.global();
+        
+        IVentaService ventaService = new VentaService(ventaRepository, reservaRepository, comicRepository, versiones);
+        
+        // Los recorridos de los reportes sobre todas las ventas y reservas se reparten
+        // en un pool propio (-Dcomics.reportes.hilos=N, por defecto uno por procesador)
+        MotorReportesParalelo motorReportes = new MotorReportesParalelo(
+            Integer.getInteger("comics.reportes.hilos", Runtime.getRuntime().availableProcessors()));
         
         IInventarioService inventarioService = new InventarioService(
             comicRepository, 
             reservaRepository, 
-            ventaRepository
+            ventaRepository,
+            versiones,
+            motorReportes,
+            indiceInventario
         );
         
+        // Servicios asincrónicos: sus escrituras pasan por un único hilo de persistencia,
+        // que completa los futuros, y sus consultas por un grupo de hilos aparte;
+        // los casos de uso usan su versión sincrónica
+        // (-Dcomics.servicios.asincronos=true)
+        HiloPersistencia hiloPersistencia = null;
+        if (Boolean.getBoolean("comics.servicios.asincronos")) {
+            hiloPersistencia = new HiloPersistencia("persistencia");
+            usuarioService = new UsuarioServiceSincrono(new UsuarioServiceAsincrono(usuarioService, hiloPersistencia));
+            comicService = new ComicServiceSincrono(new ComicServiceAsincrono(comicService, hiloPersistencia));
+            reservaService = new ReservaServiceSincrono(new ReservaServiceAsincrono(reservaService, hiloPersistencia));
+            ventaService = new VentaServiceSincrono(new VentaServiceAsincrono(ventaService, hiloPersistencia));
+            inventarioService = new InventarioServiceSincrono(new InventarioServiceAsincrono(inventarioService, hiloPersistencia));
+        }
+        
+        // Caches de búsqueda de cómics y de disponibilidad
+        // (-Dcomics.cache=false para deshabilitarlas, -Dcomics.cache.capacidad=cómics por cache).
+        // En modo cluster o réplica no se usan: los cambios hechos desde otros procesos no las invalidarían
+        if (puertoCluster == null && primarioReplica == null && Boolean.parseBoolean(System.getProperty("comics.cache", "true"))) {
+            long capacidadCache = Long.getLong("comics.cache.capacidad", 100_000);
+            comicService = new ComicServiceConCache(comicService, comicRepository, capacidadCache);
+            inventarioService = new InventarioServiceConCache(inventarioService, reservaRepository, capacidadCache);
+        }
+        
         // ═══════════════════════════════════════════════════════════════
         //                    CAPA DE APLICACIÓN
         // ═══════════════════════════════════════════════════════════════
@@ -92,6 +281,7 @@ public class ComicCollectorSystemMain {
         BuscarUsuariosCasoUso buscarUsuariosCasoUso = new BuscarUsuariosCasoUso(usuarioService);
         ActualizarUsuarioCasoUso actualizarUsuarioCasoUso = new ActualizarUsuarioCasoUso(usuarioService);
         EliminarUsuarioCasoUso eliminarUsuarioCasoUso = new EliminarUsuarioCasoUso(usuarioService);
+        ListarUsuariosCasoUso listarUsuariosCasoUso = new ListarUsuariosCasoUso(usuarioService);
         
         // Casos de uso de Cómics
         AgregarLibroCasoUso agregarLibroCasoUso = new AgregarLibroCasoUso(comicService);
@@ -100,15 +290,19 @@ public class ComicCollectorSystemMain {
         EliminarLibroCasoUso eliminarLibroCasoUso = new EliminarLibroCasoUso(comicService);
         ConsultarCatalogoCasoUso consultarCatalogoCasoUso = new ConsultarCatalogoCasoUso(comicService);
         ConsultarDisponibilidadComicCasoUso consultarDisponibilidadComicCasoUso = new ConsultarDisponibilidadComicCasoUso(inventarioService);
+        ConsultarDescripcionComicCasoUso consultarDescripcionComicCasoUso = new ConsultarDescripcionComicCasoUso(comicService);
         
         // Casos de uso de Reservas
         ReservarLibroCasoUso reservarLibroCasoUso = new ReservarLibroCasoUso(reservaService);
+        ReservarLibrosEnLoteCasoUso reservarLibrosEnLoteCasoUso = new ReservarLibrosEnLoteCasoUso(reservaService);
         CancelarReservaCasoUso cancelarReservaCasoUso = new CancelarReservaCasoUso(reservaService);
         ConsultarReservasUsuarioCasoUso consultarReservasUsuarioCasoUso = new ConsultarReservasUsuarioCasoUso(reservaService);
+        ConsultarHistorialReservasCasoUso consultarHistorialReservasCasoUso = new ConsultarHistorialReservasCasoUso(reservaService);
         ProcesarReservasExpiradasCasoUso procesarReservasExpiradasCasoUso = new ProcesarReservasExpiradasCasoUso(reservaService);
         
         // Casos de uso de Ventas
         ComprarLibroCasoUso comprarLibroCasoUso = new ComprarLibroCasoUso(ventaService);
+        ComprarCarritoCasoUso comprarCarritoCasoUso = new ComprarCarritoCasoUso(ventaService);
         
         // Casos de uso de Inventario y Reportes
         GenerarReporteInventarioCasoUso generarReporteInventarioCasoUso = new GenerarReporteInventarioCasoUso(inventarioService);
@@ -130,6 +324,7 @@ public class ComicCollectorSystemMain {
             buscarUsuariosCasoUso,
             actualizarUsuarioCasoUso,
             eliminarUsuarioCasoUso,
+            listarUsuariosCasoUso,
             // Cómics
             agregarLibroCasoUso,
             buscarComicsCasoUso,
@@ -137,12 +332,16 @@ public class ComicCollectorSystemMain {
             eliminarLibroCasoUso,
             consultarCatalogoCasoUso,
             consultarDisponibilidadComicCasoUso,
+            consultarDescripcionComicCasoUso,
             // Reservas
             reservarLibroCasoUso,
+            reservarLibrosEnLoteCasoUso,
             cancelarReservaCasoUso,
             consultarReservasUsuarioCasoUso,
+            consultarHistorialReservasCasoUso,
             // Ventas
             comprarLibroCasoUso,
+            comprarCarritoCasoUso,
             // Inventario y Reportes
             generarReporteInventarioCasoUso,
             generarReporteComicsPopularesCasoUso,
@@ -150,7 +349,9 @@ public class ComicCollectorSystemMain {
             consultarComicsReservadosCasoUso,
             consultarComicsSinActividadCasoUso,
             // Sistema
-            procesarReservasExpiradasCasoUso
+            procesarReservasExpiradasCasoUso,
+            RegistroCaches::estadisticas,
+            RegistroReplicacion::estadisticas
         );
         
         // ═══════════════════════════════════════════════════════════════
@@ -161,6 +362,21 @@ public class ComicCollectorSystemMain {
         
         // Iniciar la aplicación
         mainController.iniciar();
+        if (hiloPersistencia != null) {
+            hiloPersistencia.close();
+        }
+        busCambios.close();
+        motorReportes.close();
+        if (nodoCluster != null) {
+            nodoCluster.close();
+        }
+        if (primarioReplicacion != null) {
+            primarioReplicacion.close();
+        }
+        if (seguidorReplicacion != null) {
+            seguidorReplicacion.close();
+        }
+        almacenesDescripciones.forEach(AlmacenDescripcionesMapeado::close);
         
         // Mensaje de cierre
         System.out.println("\n👋 Comic Collector System finalizado correctamente.");
@@ -0,0 +1,149 @@
+package application.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias sin bloqueos, al estilo de HdrHistogram.
+ *
+ * Los valores (en nanosegundos) se agrupan en casillas log-lineales: cada
+ * potencia de dos se divide en 128 casillas, así el error relativo de un
+ * percentil es menor a 1% en todo el rango sin importar la magnitud. Registrar
+ * un valor es un incremento atómico sobre un arreglo fijo, por lo que varios
+ * hilos pueden registrar a la vez sin reservar memoria.
+ */
+public class HistogramaLatencia {
+    // bits de precisión dentro de cada potencia de dos
+    private static final int BITS_PRECISION = 7;
+    private static final int CASILLAS_POR_OCTAVA = 1 << BITS_PRECISION;
+    private static final long MASCARA_LINEAL = (CASILLAS_POR_OCTAVA << 1) - 1;
+    private static final int CANTIDAD_CASILLAS = indice(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray casillas = new AtomicLongArray(CANTIDAD_CASILLAS);
+    private final LongAdder suma = new LongAdder();
+    private final AtomicLong maximo = new AtomicLong();
+
+    /**
+     * Registra una medición.
+     *
+     * @param nanos duración en nanosegundos; los valores negativos se registran como 0
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        casillas.incrementAndGet(indice(valor));
+        suma.add(valor);
+
+        long actual = maximo.get();
+        while (valor > actual && !maximo.compareAndSet(actual, valor)) {
+            actual = maximo.get();
+        }
+    }
+
+    /**
+     * Copia el estado actual. Si otros hilos registran mientras se copia,
+     * la instantánea puede incluir parte de esas mediciones.
+     */
+    public Instantanea instantanea() {
+        long[] copia = new long[CANTIDAD_CASILLAS];
+        long total = 0;
+        for (int i = 0; i < CANTIDAD_CASILLAS; i++) {
+            copia[i] = casillas.get(i);
+            total += copia[i];
+        }
+        return new Instantanea(copia, total, suma.sum(), maximo.get());
+    }
+
+    /**
+     * Los valores menores a 2 * CASILLAS_POR_OCTAVA tienen una casilla cada uno;
+     * sobre eso cada potencia de dos ocupa CASILLAS_POR_OCTAVA casillas.
+     */
+    private static int indice(long valor) {
+        int exponente = 63 - Long.numberOfLeadingZeros(valor | MASCARA_LINEAL);
+        int desplazamiento = exponente - BITS_PRECISION;
+        return (desplazamiento << BITS_PRECISION) + (int) (valor >>> desplazamiento);
+    }
+
+    /**
+     * Mayor valor que cae en la casilla dada
+     */
+    private static long valorMaximoCasilla(int indice) {
+        if (indice < 2 * CASILLAS_POR_OCTAVA) {
+            return indice;
+        }
+        int desplazamiento = (indice >>> BITS_PRECISION) - 1;
+        long inferior = (long) ((indice & (CASILLAS_POR_OCTAVA - 1)) + CASILLAS_POR_OCTAVA) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+
+    /**
+     * Copia inmutable de un histograma en un momento dado.
+     */
+    public static final class Instantanea {
+        private final long[] casillas;
+        private final long cantidad;
+        private final long suma;
+        private final long maximo;
+
+        private Instantanea(long[] casillas, long cantidad, long suma, long maximo) {
+            this.casillas = casillas;
+            this.cantidad = cantidad;
+            this.suma = suma;
+            this.maximo = maximo;
+        }
+
+        public long getCantidad() {
+            return cantidad;
+        }
+
+        public long getMaximo() {
+            return maximo;
+        }
+
+        public double getMedia() {
+            return cantidad == 0 ? 0 : (double) suma / cantidad;
+        }
+
+        /**
+         * Valor bajo el cual cae el porcentaje dado de las mediciones.
+         *
+         * @param percentil entre 0 y 100, por ejemplo 99.9
+         * @return el valor en nanosegundos, con error relativo menor a 1%
+         */
+        public long percentil(double percentil) {
+            if (percentil < 0 || percentil > 100) {
+                throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+            }
+            if (cantidad == 0) {
+                return 0;
+            }
+
+            long objetivo = Math.max(1, (long) Math.ceil(percentil / 100.0 * cantidad));
+            long acumulado = 0;
+            for (int i = 0; i < casillas.length; i++) {
+                acumulado += casillas[i];
+                if (acumulado >= objetivo) {
+                    return Math.min(valorMaximoCasilla(i), maximo);
+                }
+            }
+            return maximo;
+        }
+
+        /**
+         * Mediciones registradas entre otra instantánea anterior y esta,
+         * por ejemplo para descartar el calentamiento.
+         */
+        public Instantanea desde(Instantanea anterior) {
+            long[] diferencia = new long[casillas.length];
+            long maximoIntervalo = 0;
+            for (int i = 0; i < casillas.length; i++) {
+                diferencia[i] = casillas[i] - anterior.casillas[i];
+                if (diferencia[i] > 0) {
+                    // el máximo exacto del intervalo no se conoce; se acota por su casilla
+                    maximoIntervalo = Math.min(valorMaximoCasilla(i), maximo);
+                }
+            }
+            return new Instantanea(diferencia, cantidad - anterior.cantidad, suma - anterior.suma, maximoIntervalo);
+        }
+    }
+}
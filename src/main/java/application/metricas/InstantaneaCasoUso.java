@@ -0,0 +1,23 @@
+package application.metricas;
+
+import java.util.Map;
+
+/**
+ * Métricas de un caso de uso en un momento dado.
+ *
+ * @param casoUso nombre del caso de uso
+ * @param latencias latencias de todas las ejecuciones, exitosas o no, en nanosegundos
+ * @param errores cantidad de ejecuciones fallidas por tipo de excepción
+ */
+public record InstantaneaCasoUso(String casoUso,
+                                 HistogramaLatencia.Instantanea latencias,
+                                 Map<String, Long> errores) {
+
+    public long llamadas() {
+        return latencias.getCantidad();
+    }
+
+    public long totalErrores() {
+        return errores.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
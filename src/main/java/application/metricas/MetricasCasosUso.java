@@ -0,0 +1,93 @@
+package application.metricas;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registro de las métricas de todos los casos de uso del proceso.
+ *
+ * Cada caso de uso obtiene su medidor una sola vez (en un campo estático) y
+ * mide con él cada llamada a ejecutar, así el registro no participa en el
+ * camino de cada ejecución.
+ */
+public final class MetricasCasosUso {
+    private static final Map<String, MedidorCasoUso> MEDIDORES = new ConcurrentSkipListMap<>();
+    private static final long INICIO_NANOS = System.nanoTime();
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] NOMBRES_PERCENTILES = {"p50", "p90", "p99", "p999"};
+
+    private MetricasCasosUso() {
+    }
+
+    /**
+     * Medidor del caso de uso dado; se crea la primera vez que se pide.
+     */
+    public static MedidorCasoUso medidor(Class<?> casoUso) {
+        return MEDIDORES.computeIfAbsent(casoUso.getSimpleName(), MedidorCasoUso::new);
+    }
+
+    /**
+     * Métricas actuales de cada caso de uso, ordenadas por nombre
+     */
+    public static List<InstantaneaCasoUso> instantaneas() {
+        List<InstantaneaCasoUso> instantaneas = new ArrayList<>();
+        for (MedidorCasoUso medidor : MEDIDORES.values()) {
+            instantaneas.add(medidor.instantanea());
+        }
+        return instantaneas;
+    }
+
+    /**
+     * Segundos transcurridos desde que se registró el primer caso de uso
+     */
+    public static double segundosActivo() {
+        return (System.nanoTime() - INICIO_NANOS) / 1e9;
+    }
+
+    /**
+     * Escribe las métricas actuales en formato JSON.
+     *
+     * @param archivo archivo de destino; se reemplaza si existe
+     */
+    public static void exportarJson(Path archivo) throws IOException {
+        Files.writeString(archivo, aJson(instantaneas()), StandardCharsets.UTF_8);
+    }
+
+    private static String aJson(List<InstantaneaCasoUso> instantaneas) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"generado\": \"").append(Instant.now()).append("\",\n");
+        json.append("  \"segundosActivo\": ").append(String.format(Locale.ROOT, "%.3f", segundosActivo())).append(",\n");
+        json.append("  \"casosUso\": [");
+
+        for (int i = 0; i < instantaneas.size(); i++) {
+            InstantaneaCasoUso instantanea = instantaneas.get(i);
+            HistogramaLatencia.Instantanea latencias = instantanea.latencias();
+
+            json.append(i == 0 ? "\n" : ",\n");
+            json.append("    {\"casoUso\": \"").append(instantanea.casoUso()).append('"');
+            json.append(", \"llamadas\": ").append(instantanea.llamadas());
+            json.append(", \"errores\": {");
+            boolean primero = true;
+            for (Map.Entry<String, Long> error : instantanea.errores().entrySet()) {
+                json.append(primero ? "" : ", ").append('"').append(error.getKey()).append("\": ").append(error.getValue());
+                primero = false;
+            }
+            json.append("}, \"latenciaNanos\": {\"media\": ").append(Math.round(latencias.getMedia()));
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                json.append(", \"").append(NOMBRES_PERCENTILES[p]).append("\": ").append(latencias.percentil(PERCENTILES[p]));
+            }
+            json.append(", \"max\": ").append(latencias.getMaximo()).append("}}");
+        }
+
+        json.append(instantaneas.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import domain.valueobjects.Divisa;
 import exceptions.ComicNoEncontradoException;
@@ -15,6 +17,8 @@ import interfaces.domain.IComicService;
  */
 public class ActualizarComicCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ActualizarComicCasoUso.class);
+    
     private final IComicService comicService;
     
     /**
@@ -38,6 +42,6 @@ public class ActualizarComicCasoUso {
      * @throws ComicNoEncontradoException si el cómic no existe
      */
     public Comic ejecutar(Comic comic) {
-        return comicService.actualizarComic(comic);
+        return MEDIDOR.medir(() -> comicService.actualizarComic(comic));
     }
 }
\ No newline at end of file
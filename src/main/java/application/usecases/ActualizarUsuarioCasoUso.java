@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Usuario;
 import exceptions.UsuarioNoEncontradoException;
 import exceptions.EmailYaExisteException;
@@ -15,6 +17,8 @@ import interfaces.domain.IUsuarioService;
  */
 public class ActualizarUsuarioCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ActualizarUsuarioCasoUso.class);
+    
     private final IUsuarioService usuarioService;
     
     /**
@@ -39,6 +43,6 @@ public class ActualizarUsuarioCasoUso {
      * @throws EmailYaExisteException si el email ya está en uso
      */
     public Usuario ejecutar(Usuario usuario) {
-        return usuarioService.actualizarUsuario(usuario);
+        return MEDIDOR.medir(() -> usuarioService.actualizarUsuario(usuario));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import domain.valueobjects.Divisa;
 import exceptions.NombreComicYaExisteException;
@@ -15,6 +17,8 @@ import interfaces.domain.IComicService;
  */
 public class AgregarLibroCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(AgregarLibroCasoUso.class);
+    
     private final IComicService comicService;
     
     /**
@@ -41,6 +45,6 @@ public class AgregarLibroCasoUso {
      */
     public Comic ejecutar(String nombre, String descripcion, Divisa precio) {
         // Delegar toda la lógica de negocio al servicio de dominio
-        return comicService.agregarComic(nombre, descripcion, precio);
+        return MEDIDOR.medir(() -> comicService.agregarComic(nombre, descripcion, precio));
     }
 }
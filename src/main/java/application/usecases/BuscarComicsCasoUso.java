@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IComicService;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 public class BuscarComicsCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(BuscarComicsCasoUso.class);
+    
     private final IComicService comicService;
     
     /**
@@ -36,6 +40,6 @@ public class BuscarComicsCasoUso {
      * @throws IllegalArgumentException si el criterio es nulo o vacío
      */
     public List<Comic> ejecutar(String criterio) {
-        return comicService.buscarComics(criterio);
+        return MEDIDOR.medir(() -> comicService.buscarComics(criterio));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Usuario;
 import interfaces.domain.IUsuarioService;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 public class BuscarUsuariosCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(BuscarUsuariosCasoUso.class);
+    
     private final IUsuarioService usuarioService;
     
     /**
@@ -36,6 +40,6 @@ public class BuscarUsuariosCasoUso {
      * @throws IllegalArgumentException si el criterio es nulo o vacío
      */
     public List<Usuario> ejecutar(String criterio) {
-        return usuarioService.buscarUsuarios(criterio);
+        return MEDIDOR.medir(() -> usuarioService.buscarUsuarios(criterio));
     }
 }
\ No newline at end of file
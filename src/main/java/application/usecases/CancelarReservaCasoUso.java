@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Reserva;
 import exceptions.ReservaNoCancelableException;
 import interfaces.domain.IReservaService;
@@ -14,6 +16,8 @@ import interfaces.domain.IReservaService;
  */
 public class CancelarReservaCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(CancelarReservaCasoUso.class);
+    
     private final IReservaService reservaService;
     
     /**
@@ -36,7 +40,7 @@ public class CancelarReservaCasoUso {
      * @throws ReservaNoCancelableException si la reserva no se puede cancelar
      */
     public void ejecutar(Reserva reserva) {
-        reservaService.cancelarReserva(reserva);
+        MEDIDOR.medir(() -> reservaService.cancelarReserva(reserva));
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package application.usecases;
+
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import exceptions.ComicNoDisponibleParaVentaException;
+import exceptions.VentaNoProcesableException;
+import interfaces.domain.IVentaService;
+
+import java.util.List;
+
+/**
+ * Caso de uso para comprar un carrito de cómics en una sola transacción.
+ * 
+ * PRINCIPIOS DE CLEAN ARCHITECTURE:
+ * - Orquesta la operación de compra delegando la lógica de negocio al servicio de dominio
+ * - Actúa como punto de entrada desde la capa de presentación
+ * - Mantiene la separación entre casos de uso y lógica de dominio
+ */
+public class ComprarCarritoCasoUso {
+    
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ComprarCarritoCasoUso.class);
+    
+    private final IVentaService ventaService;
+    
+    /**
+     * Constructor que recibe las dependencias necesarias.
+     * 
+     * @param ventaService Servicio de dominio para gestión de ventas
+     */
+    public ComprarCarritoCasoUso(IVentaService ventaService) {
+        if (ventaService == null) {
+            throw new IllegalArgumentException("El servicio de venta no puede ser nulo");
+        }
+        this.ventaService = ventaService;
+    }
+    
+    /**
+     * Ejecuta el caso de uso de comprar un carrito: se venden todos los cómics o ninguno.
+     * 
+     * @param usuario El usuario que realiza la compra
+     * @param comics Los cómics del carrito
+     * @return Las ventas procesadas, una por cómic
+     * @throws IllegalArgumentException si los parámetros son nulos, el carrito está vacío o repite un cómic
+     * @throws ComicNoDisponibleParaVentaException si algún cómic no está disponible
+     * @throws VentaNoProcesableException si ocurre un error al procesar la compra
+     */
+    public List<Venta> ejecutar(Usuario usuario, List<Comic> comics) {
+        // Delegar toda la lógica de negocio al servicio de dominio
+        return MEDIDOR.medir(() -> ventaService.procesarCompra(usuario, comics));
+    }
+}
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Venta;
 import domain.entities.Usuario;
 import domain.entities.Comic;
@@ -17,6 +19,8 @@ import interfaces.domain.IVentaService;
  */
 public class ComprarLibroCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ComprarLibroCasoUso.class);
+    
     private final IVentaService ventaService;
     
     /**
@@ -43,7 +47,7 @@ public class ComprarLibroCasoUso {
      */
     public Venta ejecutar(Usuario usuario, Comic comic) {
         // Delegar toda la lógica de negocio al servicio de dominio
-        return ventaService.procesarVenta(usuario, comic);
+        return MEDIDOR.medir(() -> ventaService.procesarVenta(usuario, comic));
     }
     
     /**
@@ -1,8 +1,13 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
 import interfaces.domain.IComicService;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Caso de uso para consultar el catálogo completo de cómics.
@@ -14,6 +19,8 @@ import java.util.List;
  */
 public class ConsultarCatalogoCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarCatalogoCasoUso.class);
+    
     private final IComicService comicService;
     
     /**
@@ -34,6 +41,30 @@ public class ConsultarCatalogoCasoUso {
      * @return Lista de todos los cómics disponibles
      */
     public List<Comic> ejecutar() {
-        return comicService.obtenerComicsDisponibles();
+        return MEDIDOR.medir(() -> comicService.obtenerComicsDisponibles());
+    }
+
+    /**
+     * Ejecuta el caso de uso para obtener una página del catálogo.
+     *
+     * @param orden Orden del listado
+     * @param cursor Cursor de la página anterior, null para la primera
+     * @param tamano Cantidad máxima de cómics de la página
+     * @return La página de cómics disponibles
+     */
+    public Pagina<Comic> ejecutarPagina(OrdenComics orden, String cursor, int tamano) {
+        return MEDIDOR.medir(() -> comicService.obtenerPaginaDisponibles(orden, cursor, tamano));
+    }
+
+    /**
+     * Recorre todo el catálogo disponible pidiendo una página a la vez, a
+     * medida que se consume el stream.
+     *
+     * @param orden Orden del listado
+     * @param tamanoPagina Cantidad de cómics que se piden por página
+     * @return Stream perezoso con los cómics disponibles
+     */
+    public Stream<Comic> recorrer(OrdenComics orden, int tamanoPagina) {
+        return Pagina.recorrer(cursor -> ejecutarPagina(orden, cursor, tamanoPagina));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IInventarioService;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 public class ConsultarComicsReservadosCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarComicsReservadosCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -34,6 +38,6 @@ public class ConsultarComicsReservadosCasoUso {
      * @return Lista de cómics que tienen reservas activas
      */
     public List<Comic> ejecutar() {
-        return inventarioService.obtenerComicsReservados();
+        return MEDIDOR.medir(() -> inventarioService.obtenerComicsReservados());
     }
 }
\ No newline at end of file
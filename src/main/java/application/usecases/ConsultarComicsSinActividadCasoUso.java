@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IInventarioService;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 public class ConsultarComicsSinActividadCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarComicsSinActividadCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -34,6 +38,6 @@ public class ConsultarComicsSinActividadCasoUso {
      * @return Lista de cómics que no tienen ventas ni reservas
      */
     public List<Comic> ejecutar() {
-        return inventarioService.obtenerComicsSinActividad();
+        return MEDIDOR.medir(() -> inventarioService.obtenerComicsSinActividad());
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package application.usecases;
+
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
+import domain.entities.Comic;
+import interfaces.domain.IComicService;
+
+/**
+ * Caso de uso para consultar la descripción de un cómic.
+ * 
+ * PRINCIPIOS DE CLEAN ARCHITECTURE:
+ * - Responsabilidad única: solo obtiene la descripción
+ * - Delega la lógica de negocio al servicio de dominio
+ * - Actúa como punto de entrada desde la capa de presentación
+ */
+public class ConsultarDescripcionComicCasoUso {
+    
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarDescripcionComicCasoUso.class);
+    
+    private final IComicService comicService;
+    
+    /**
+     * Constructor que recibe las dependencias necesarias.
+     * 
+     * @param comicService Servicio de dominio para gestión de comics
+     */
+    public ConsultarDescripcionComicCasoUso(IComicService comicService) {
+        if (comicService == null) {
+            throw new IllegalArgumentException("El servicio de cómic no puede ser nulo");
+        }
+        this.comicService = comicService;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para obtener la descripción de un cómic.
+     * 
+     * @param comic El cómic
+     * @return La descripción del cómic
+     * @throws IllegalArgumentException si el cómic es nulo
+     */
+    public String ejecutar(Comic comic) {
+        return MEDIDOR.medir(() -> comicService.obtenerDescripcion(comic));
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IInventarioService;
 
@@ -13,6 +15,8 @@ import interfaces.domain.IInventarioService;
  */
 public class ConsultarDisponibilidadComicCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarDisponibilidadComicCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -35,6 +39,6 @@ public class ConsultarDisponibilidadComicCasoUso {
      * @throws IllegalArgumentException si el cómic es nulo
      */
     public boolean ejecutar(Comic comic) {
-        return inventarioService.verificarDisponibilidad(comic);
+        return MEDIDOR.medir(() -> inventarioService.verificarDisponibilidad(comic));
     }
 }
\ No newline at end of file
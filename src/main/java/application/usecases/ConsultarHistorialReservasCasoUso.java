@@ -0,0 +1,45 @@
+package application.usecases;
+
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
+import domain.entities.Comic;
+import domain.eventos.EventoReserva;
+import interfaces.domain.IReservaService;
+import java.util.List;
+
+/**
+ * Caso de uso para consultar el historial de reservas de un cómic.
+ * 
+ * PRINCIPIOS DE CLEAN ARCHITECTURE:
+ * - Responsabilidad única: solo maneja la consulta del historial de reservas
+ * - Delega la lógica de negocio al servicio de dominio
+ * - Actúa como punto de entrada desde la capa de presentación
+ */
+public class ConsultarHistorialReservasCasoUso {
+    
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarHistorialReservasCasoUso.class);
+    
+    private final IReservaService reservaService;
+    
+    /**
+     * Constructor que recibe las dependencias necesarias.
+     * 
+     * @param reservaService Servicio de dominio para gestión de reservas
+     */
+    public ConsultarHistorialReservasCasoUso(IReservaService reservaService) {
+        if (reservaService == null) {
+            throw new IllegalArgumentException("El servicio de reserva no puede ser nulo");
+        }
+        this.reservaService = reservaService;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para obtener el historial de reservas de un cómic.
+     * 
+     * @param comic El cómic del cual consultar el historial
+     * @return Eventos de las reservas del cómic, en el orden en que ocurrieron
+     */
+    public List<EventoReserva> ejecutar(Comic comic) {
+        return MEDIDOR.medir(() -> reservaService.obtenerHistorialComic(comic));
+    }
+}
\ No newline at end of file
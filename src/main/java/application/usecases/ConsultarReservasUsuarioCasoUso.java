@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Reserva;
 import domain.entities.Usuario;
 import interfaces.domain.IReservaService;
@@ -15,6 +17,8 @@ import java.util.List;
  */
 public class ConsultarReservasUsuarioCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ConsultarReservasUsuarioCasoUso.class);
+    
     private final IReservaService reservaService;
     
     /**
@@ -37,6 +41,6 @@ public class ConsultarReservasUsuarioCasoUso {
      * @throws IllegalArgumentException si el usuario es nulo
      */
     public List<Reserva> ejecutar(Usuario usuario) {
-        return reservaService.obtenerReservasActivasDelUsuario(usuario);
+        return MEDIDOR.medir(() -> reservaService.obtenerReservasActivasDelUsuario(usuario));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import exceptions.ComicNoEliminableException;
 import exceptions.ComicNoEncontradoException;
@@ -15,6 +17,8 @@ import interfaces.domain.IComicService;
  */
 public class EliminarLibroCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(EliminarLibroCasoUso.class);
+    
     private final IComicService comicService;
     
     /**
@@ -39,7 +43,7 @@ public class EliminarLibroCasoUso {
      */
     public void ejecutar(Comic comic) {
         // Delegar toda la lógica de negocio al servicio de dominio
-        comicService.eliminarComic(comic);
+        MEDIDOR.medir(() -> comicService.eliminarComic(comic));
     }
     
     /**
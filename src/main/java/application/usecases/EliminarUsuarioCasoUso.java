@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Usuario;
 import exceptions.UsuarioNoEliminableException;
 import interfaces.domain.IUsuarioService;
@@ -14,6 +16,8 @@ import interfaces.domain.IUsuarioService;
  */
 public class EliminarUsuarioCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(EliminarUsuarioCasoUso.class);
+    
     private final IUsuarioService usuarioService;
     
     /**
@@ -36,6 +40,6 @@ public class EliminarUsuarioCasoUso {
      * @throws UsuarioNoEliminableException si el usuario no puede ser eliminado
      */
     public void ejecutar(Usuario usuario) {
-        usuarioService.eliminarUsuario(usuario);
+        MEDIDOR.medir(() -> usuarioService.eliminarUsuario(usuario));
     }
 }
\ No newline at end of file
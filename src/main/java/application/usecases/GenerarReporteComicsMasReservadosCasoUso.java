@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IInventarioService;
 import java.util.Map;
@@ -14,6 +16,8 @@ import java.util.Map;
  */
 public class GenerarReporteComicsMasReservadosCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(GenerarReporteComicsMasReservadosCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -36,6 +40,6 @@ public class GenerarReporteComicsMasReservadosCasoUso {
      * @throws IllegalArgumentException si el límite es menor a 1
      */
     public Map<Comic, Long> ejecutar(int limite) {
-        return inventarioService.obtenerComicsMasReservados(limite);
+        return MEDIDOR.medir(() -> inventarioService.obtenerComicsMasReservados(limite));
     }
 }
\ No newline at end of file
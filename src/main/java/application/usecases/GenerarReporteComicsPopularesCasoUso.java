@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Comic;
 import interfaces.domain.IInventarioService;
 import java.util.Map;
@@ -14,6 +16,8 @@ import java.util.Map;
  */
 public class GenerarReporteComicsPopularesCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(GenerarReporteComicsPopularesCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -36,6 +40,6 @@ public class GenerarReporteComicsPopularesCasoUso {
      * @throws IllegalArgumentException si el límite es menor a 1
      */
     public Map<Comic, Long> ejecutar(int limite) {
-        return inventarioService.obtenerComicsMasVendidos(limite);
+        return MEDIDOR.medir(() -> inventarioService.obtenerComicsMasVendidos(limite));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import interfaces.domain.IInventarioService;
 import java.util.Map;
 
@@ -13,6 +15,8 @@ import java.util.Map;
  */
 public class GenerarReporteInventarioCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(GenerarReporteInventarioCasoUso.class);
+    
     private final IInventarioService inventarioService;
     
     /**
@@ -33,6 +37,6 @@ public class GenerarReporteInventarioCasoUso {
      * @return Mapa con estadísticas del inventario (total comics, disponibles, reservados, etc.)
      */
     public Map<String, Long> ejecutar() {
-        return inventarioService.obtenerEstadisticasInventario();
+        return MEDIDOR.medir(() -> inventarioService.obtenerEstadisticasInventario());
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package application.usecases;
+
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.domain.IUsuarioService;
+
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso para listar los usuarios registrados página a página.
+ * 
+ * PRINCIPIOS DE CLEAN ARCHITECTURE:
+ * - Responsabilidad única: solo lista usuarios
+ * - Delega la lógica de negocio al servicio de dominio
+ * - Actúa como punto de entrada desde la capa de presentación
+ */
+public class ListarUsuariosCasoUso {
+    
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ListarUsuariosCasoUso.class);
+    
+    private final IUsuarioService usuarioService;
+    
+    /**
+     * Constructor que recibe las dependencias necesarias.
+     * 
+     * @param usuarioService Servicio de dominio para gestión de usuarios
+     */
+    public ListarUsuariosCasoUso(IUsuarioService usuarioService) {
+        if (usuarioService == null) {
+            throw new IllegalArgumentException("El servicio de usuario no puede ser nulo");
+        }
+        this.usuarioService = usuarioService;
+    }
+    
+    /**
+     * Ejecuta el caso de uso para obtener una página de usuarios.
+     * 
+     * @param orden Orden del listado
+     * @param cursor Cursor de la página anterior, null para la primera
+     * @param tamano Cantidad máxima de usuarios de la página
+     * @return La página de usuarios
+     */
+    public Pagina<Usuario> ejecutar(OrdenUsuarios orden, String cursor, int tamano) {
+        return MEDIDOR.medir(() -> usuarioService.obtenerPaginaUsuarios(orden, cursor, tamano));
+    }
+    
+    /**
+     * Recorre todos los usuarios pidiendo una página a la vez, a medida que
+     * se consume el stream.
+     * 
+     * @param orden Orden del listado
+     * @param tamanoPagina Cantidad de usuarios que se piden por página
+     * @return Stream perezoso con los usuarios
+     */
+    public Stream<Usuario> recorrer(OrdenUsuarios orden, int tamanoPagina) {
+        return Pagina.recorrer(cursor -> ejecutar(orden, cursor, tamanoPagina));
+    }
+}
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Reserva;
 import interfaces.domain.IReservaService;
 import java.util.List;
@@ -14,6 +16,8 @@ import java.util.List;
  */
 public class ProcesarReservasExpiradasCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ProcesarReservasExpiradasCasoUso.class);
+    
     private final IReservaService reservaService;
     
     /**
@@ -34,6 +38,6 @@ public class ProcesarReservasExpiradasCasoUso {
      * @return Lista de reservas que fueron procesadas como expiradas
      */
     public List<Reserva> ejecutar() {
-        return reservaService.procesarReservasExpiradas();
+        return MEDIDOR.medir(() -> reservaService.procesarReservasExpiradas());
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Usuario;
 import exceptions.EmailYaExisteException;
 import interfaces.domain.IUsuarioService;
@@ -14,6 +16,8 @@ import interfaces.domain.IUsuarioService;
  */
 public class RegistrarUsuarioCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(RegistrarUsuarioCasoUso.class);
+    
     private final IUsuarioService usuarioService;
     
     /**
@@ -40,6 +44,6 @@ public class RegistrarUsuarioCasoUso {
      */
     public Usuario ejecutar(String nombre, String apellido, String email) {
         // Delegar toda la lógica de negocio al servicio de dominio
-        return usuarioService.registrarUsuario(nombre, apellido, email);
+        return MEDIDOR.medir(() -> usuarioService.registrarUsuario(nombre, apellido, email));
     }
 }
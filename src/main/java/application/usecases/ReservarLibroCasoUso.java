@@ -1,5 +1,7 @@
 package application.usecases;
 
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
 import domain.entities.Reserva;
 import domain.entities.Usuario;
 import domain.entities.Comic;
@@ -17,6 +19,8 @@ import interfaces.domain.IReservaService;
  */
 public class ReservarLibroCasoUso {
     
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ReservarLibroCasoUso.class);
+    
     private final IReservaService reservaService;
     
     /**
@@ -43,7 +47,7 @@ public class ReservarLibroCasoUso {
      */
     public Reserva ejecutar(Usuario usuario, Comic comic) {
         // Delegar toda la lógica de negocio al servicio de dominio
-        return reservaService.crearReserva(usuario, comic);
+        return MEDIDOR.medir(() -> reservaService.crearReserva(usuario, comic));
     }
     
     /**
@@ -0,0 +1,49 @@
+package application.usecases;
+
+import application.metricas.MedidorCasoUso;
+import application.metricas.MetricasCasosUso;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
+import interfaces.domain.IReservaService;
+
+import java.util.List;
+
+/**
+ * Caso de uso para reservar muchos cómics para muchos usuarios en una sola llamada,
+ * por ejemplo en una preventa o al promover una lista de espera.
+ * 
+ * PRINCIPIOS DE CLEAN ARCHITECTURE:
+ * - Orquesta la operación de reserva en lote delegando la lógica de negocio al servicio de dominio
+ * - Actúa como punto de entrada desde la capa de presentación
+ * - Mantiene la separación entre casos de uso y lógica de dominio
+ */
+public class ReservarLibrosEnLoteCasoUso {
+    
+    private static final MedidorCasoUso MEDIDOR = MetricasCasosUso.medidor(ReservarLibrosEnLoteCasoUso.class);
+    
+    private final IReservaService reservaService;
+    
+    /**
+     * Constructor que recibe las dependencias necesarias.
+     * 
+     * @param reservaService Servicio de dominio para gestión de reservas
+     */
+    public ReservarLibrosEnLoteCasoUso(IReservaService reservaService) {
+        if (reservaService == null) {
+            throw new IllegalArgumentException("El servicio de reserva no puede ser nulo");
+        }
+        this.reservaService = reservaService;
+    }
+    
+    /**
+     * Ejecuta el caso de uso de reservar cómics en lote.
+     * 
+     * @param solicitudes Pares usuario-cómic a reservar
+     * @return Un resultado por solicitud, en el mismo orden: la reserva creada o el motivo del rechazo
+     * @throws IllegalArgumentException si la lista de solicitudes es nula
+     */
+    public List<ResultadoReserva> ejecutar(List<SolicitudReserva> solicitudes) {
+        // Delegar toda la lógica de negocio al servicio de dominio
+        return MEDIDOR.medir(() -> reservaService.crearReservas(solicitudes));
+    }
+}
@@ -1,23 +1,52 @@
 package domain.entities;
 
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 import exceptions.ComicInvalidoException;
 import interfaces.domain.IComic;
 
-import java.util.UUID;
+import java.util.function.LongFunction;
 
 public class Comic implements IComic {
-    private String id;
+    private Identificador id;
     private String nombre;
-    private String descripcion;
     private Divisa precio;
 
+    // el texto de la descripción o, si el repositorio la guardó fuera del heap,
+    // su referencia y cómo leerla; se reemplaza entera para que quien la lea
+    // sin candado vea siempre un estado completo
+    private volatile Descripcion descripcion;
+
+    private record Descripcion(String texto, long referencia, LongFunction<String> lector) {
+        static Descripcion enMemoria(String texto) {
+            return new Descripcion(texto, 0, null);
+        }
+
+        String leer(LongFunction<String> otroLector) {
+            if (texto != null) {
+                return texto;
+            }
+            return (otroLector != null ? otroLector : lector).apply(referencia);
+        }
+    }
+
     public Comic(String nombre, String descripcion, Divisa precio) {
         // genera un uuid para el comic a agregar
-        this.id = UUID.randomUUID().toString();
+        this(Identificador.nuevo(), nombre, descripcion, precio);
+    }
+
+    /**
+     * Reconstruye un cómic con un identificador ya existente,
+     * por ejemplo al cargarlo desde persistencia
+     */
+    public Comic(Identificador id, String nombre, String descripcion, Divisa precio) {
+        if (id == null) {
+            throw new ComicInvalidoException("El identificador del cómic no puede ser nulo");
+        }
+        this.id = id;
 
         this.nombre = validarNombre(nombre);
-        this.descripcion = validarDescripcion(descripcion);
+        this.descripcion = Descripcion.enMemoria(validarDescripcion(descripcion));
         this.precio = validarPrecio(precio);
     }
     
@@ -43,13 +72,19 @@ public class Comic implements IComic {
     }
 
     @Override
-    public String getId() { return this.id; }
+    public Identificador getId() { return this.id; }
 
     @Override
     public String getNombre() { return this.nombre; }
 
+    /**
+     * Descripción del cómic; si el repositorio la guardó fuera del heap se
+     * lee desde allí
+     */
     @Override
-    public String getDescription() { return this.descripcion; }
+    public String getDescription() {
+        return this.descripcion.leer(null);
+    }
 
     @Override
     public Divisa getPrecio() { return this.precio; }
@@ -60,8 +95,41 @@ public class Comic implements IComic {
     }
 
     @Override
-    public void setDescription(String description) {
-        this.descripcion = validarDescripcion(description);
+    public synchronized void setDescription(String description) {
+        this.descripcion = Descripcion.enMemoria(validarDescripcion(description));
+    }
+
+    /**
+     * Texto de la descripción si está en memoria, o null si el repositorio
+     * ya la guardó fuera del heap
+     */
+    public String getDescripcionEnMemoria() {
+        return this.descripcion.texto();
+    }
+
+    /**
+     * Descripción del cómic leída con el lector dado si está fuera del heap,
+     * para recorridos que leen muchas de una vez
+     *
+     * @param lector lector del almacén, o null para usar el del cómic
+     */
+    public String leerDescripcion(LongFunction<String> lector) {
+        return this.descripcion.leer(lector);
+    }
+
+    /**
+     * Deja de retener la descripción porque el repositorio ya la guardó fuera
+     * del heap. No hace nada si mientras tanto se le puso otra descripción:
+     * esa queda en memoria hasta que el repositorio la guarde.
+     *
+     * @param guardada texto que guardó el repositorio
+     * @param referencia referencia de la descripción guardada
+     * @param lector función que lee la descripción a partir de la referencia
+     */
+    public synchronized void liberarDescripcion(String guardada, long referencia, LongFunction<String> lector) {
+        if (this.descripcion.texto() == guardada) {
+            this.descripcion = new Descripcion(null, referencia, lector);
+        }
     }
 
     @Override
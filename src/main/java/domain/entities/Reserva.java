@@ -1,16 +1,16 @@
 package domain.entities;
 
 import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
 import exceptions.ReservaInvalidaException;
 import exceptions.ReservaYaActivaException;
 import exceptions.ReservaYaExpiradaException;
 import interfaces.domain.IReserva;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 public class Reserva implements IReserva, Comparable<Reserva> {
-    private String id;
+    private Identificador id;
     private Usuario usuario;
     private Comic comic;
     private LocalDateTime fechaReserva;
@@ -25,7 +25,7 @@ public class Reserva implements IReserva, Comparable<Reserva> {
             throw new ReservaInvalidaException("El cómic no puede ser nulo");
         }
         
-        this.id = UUID.randomUUID().toString();
+        this.id = Identificador.nuevo();
         this.usuario = usuario;
         this.comic = comic;
         
@@ -34,6 +34,30 @@ public class Reserva implements IReserva, Comparable<Reserva> {
         this.estado = EstadoReserva.ACTIVO;
     }
 
+    private Reserva(Identificador id, Usuario usuario, Comic comic,
+                    LocalDateTime fechaReserva, LocalDateTime fechaExpiracion, EstadoReserva estado) {
+        this.id = id;
+        this.usuario = usuario;
+        this.comic = comic;
+        this.fechaReserva = fechaReserva;
+        this.fechaExpiracion = fechaExpiracion;
+        this.estado = estado;
+    }
+
+    /**
+     * Reconstruye una reserva existente con sus datos originales, sin aplicar
+     * las reglas de creación. Se usa al reconstruir las reservas desde su
+     * registro de eventos.
+     */
+    public static Reserva reconstruir(Identificador id, Usuario usuario, Comic comic,
+                                      LocalDateTime fechaReserva, LocalDateTime fechaExpiracion,
+                                      EstadoReserva estado) {
+        if (id == null || usuario == null || comic == null || fechaReserva == null || estado == null) {
+            throw new ReservaInvalidaException("Faltan datos para reconstruir la reserva");
+        }
+        return new Reserva(id, usuario, comic, fechaReserva, fechaExpiracion, estado);
+    }
+
     @Override
     public LocalDateTime getFechaReserva() { return fechaReserva; }
 
@@ -41,7 +65,7 @@ public class Reserva implements IReserva, Comparable<Reserva> {
     public LocalDateTime getFechaExpiracionReserva() { return fechaExpiracion; }
 
     @Override
-    public String getId() { return id; }
+    public Identificador getId() { return id; }
 
     @Override
     public Comic getComic() { return comic; }
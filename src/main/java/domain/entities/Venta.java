@@ -1,18 +1,18 @@
 package domain.entities;
 
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 import exceptions.VentaInvalidaException;
 import interfaces.domain.IVenta;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 public class Venta implements IVenta, Comparable<Venta> {
     // Establece precio de IVA
     private static final double IVA = 0.19;
 
-    private String id;
+    private Identificador id;
     private Usuario usuario;
     private Comic comic;
     private LocalDateTime fechaVenta;
@@ -27,14 +27,32 @@ public class Venta implements IVenta, Comparable<Venta> {
             throw new VentaInvalidaException("El cómic no puede ser nulo");
         }
         
-        this.id = UUID.randomUUID().toString();
+        this.id = Identificador.nuevo();
         this.usuario = usuario;
         this.comic = comic;
         this.fechaVenta = LocalDateTime.now();
     }
 
+    private Venta(Identificador id, Usuario usuario, Comic comic, LocalDateTime fechaVenta) {
+        this.id = id;
+        this.usuario = usuario;
+        this.comic = comic;
+        this.fechaVenta = fechaVenta;
+    }
+
+    /**
+     * Reconstruye una venta existente con sus datos originales, por ejemplo al
+     * recibirla desde otro nodo del cluster.
+     */
+    public static Venta reconstruir(Identificador id, Usuario usuario, Comic comic, LocalDateTime fechaVenta) {
+        if (id == null || usuario == null || comic == null || fechaVenta == null) {
+            throw new VentaInvalidaException("Faltan datos para reconstruir la venta");
+        }
+        return new Venta(id, usuario, comic, fechaVenta);
+    }
+
     @Override
-    public String getId() { return id; }
+    public Identificador getId() { return id; }
 
     @Override
     public Usuario getUsuario() { return usuario; }
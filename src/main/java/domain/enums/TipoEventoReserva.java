@@ -0,0 +1,9 @@
+package domain.enums;
+
+public enum TipoEventoReserva {
+    CREADA,
+    CANCELADA,
+    EXPIRADA,
+    CONVERTIDA_EN_VENTA,
+    ELIMINADA
+}
@@ -0,0 +1,42 @@
+package domain.eventos;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.enums.TipoEventoReserva;
+import domain.valueobjects.Identificador;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hecho ocurrido en el ciclo de vida de una reserva.
+ *
+ * Los eventos no se modifican nunca: el estado de una reserva es el resultado
+ * de aplicar en orden todos sus eventos. Cada evento lleva los datos de la
+ * reserva necesarios para reconstruirla sin consultar otros repositorios.
+ *
+ * @param secuencia posición del evento en el registro, desde 0
+ * @param tipo qué ocurrió
+ * @param reservaId reserva afectada
+ * @param usuario usuario de la reserva
+ * @param comic cómic reservado
+ * @param fechaReserva fecha en que se creó la reserva
+ * @param fechaExpiracion fecha de expiración de la reserva
+ * @param instante momento en que ocurrió el evento
+ */
+public record EventoReserva(long secuencia,
+                            TipoEventoReserva tipo,
+                            Identificador reservaId,
+                            Usuario usuario,
+                            Comic comic,
+                            LocalDateTime fechaReserva,
+                            LocalDateTime fechaExpiracion,
+                            LocalDateTime instante) {
+
+    /**
+     * Estado en que queda la reserva después de este evento
+     */
+    public EstadoReserva estadoResultante() {
+        return tipo == TipoEventoReserva.CREADA ? EstadoReserva.ACTIVO : EstadoReserva.EXPIRADA;
+    }
+}
@@ -0,0 +1,19 @@
+package domain.generadores;
+
+import domain.valueobjects.Identificador;
+import interfaces.domain.IGeneradorIdentificadores;
+
+/**
+ * Genera UUID versión 4 usando UUID.randomUUID().
+ *
+ * Es el comportamiento original del sistema: los bits provienen de SecureRandom,
+ * que es compartido entre hilos y puede bloquear o generar contención con
+ * muchas inserciones concurrentes.
+ */
+public class GeneradorIdentificadoresAleatorio implements IGeneradorIdentificadores {
+
+    @Override
+    public Identificador generar() {
+        return Identificador.aleatorio();
+    }
+}
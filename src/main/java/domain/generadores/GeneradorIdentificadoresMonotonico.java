@@ -0,0 +1,38 @@
+package domain.generadores;
+
+import domain.valueobjects.Identificador;
+import interfaces.domain.IGeneradorIdentificadores;
+
+import java.security.SecureRandom;
+
+/**
+ * Generador monotónico por hilo: cada hilo obtiene una sola vez un prefijo
+ * aleatorio de 64 bits desde SecureRandom y luego solo incrementa un contador
+ * local para los 64 bits bajos.
+ *
+ * Es el generador más barato (sin reloj ni números aleatorios por llamada);
+ * los identificadores de un hilo son consecutivos pero no están ordenados
+ * por tiempo entre hilos distintos.
+ */
+public class GeneradorIdentificadoresMonotonico implements IGeneradorIdentificadores {
+    private static final SecureRandom SEMILLA = new SecureRandom();
+
+    private static final ThreadLocal<EstadoHilo> ESTADO = ThreadLocal.withInitial(EstadoHilo::new);
+
+    @Override
+    public Identificador generar() {
+        EstadoHilo estado = ESTADO.get();
+        return Identificador.de(estado.prefijo, estado.contador++);
+    }
+
+    private static final class EstadoHilo {
+        private final long prefijo;
+        private long contador;
+
+        private EstadoHilo() {
+            synchronized (SEMILLA) {
+                this.prefijo = SEMILLA.nextLong();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package domain.generadores;
+
+import domain.valueobjects.Identificador;
+import interfaces.domain.IGeneradorIdentificadores;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Genera UUID versión 7 (RFC 9562): los 48 bits más altos son el instante en
+ * milisegundos, por lo que los identificadores quedan ordenados por tiempo de
+ * creación y las ventas y reservas de un mismo periodo quedan agrupadas.
+ *
+ * Cada hilo mantiene su propio estado y usa ThreadLocalRandom, así que no hay
+ * contención entre hilos. Dentro de un mismo milisegundo los 12 bits de
+ * rand_a se usan como contador para que los identificadores de un hilo sean
+ * estrictamente crecientes.
+ */
+public class GeneradorIdentificadoresUuidV7 implements IGeneradorIdentificadores {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANTE = 0x8000000000000000L;
+    private static final long MAXIMO_CONTADOR = 0xFFFL;
+
+    private static final ThreadLocal<EstadoHilo> ESTADO = ThreadLocal.withInitial(EstadoHilo::new);
+
+    @Override
+    public Identificador generar() {
+        EstadoHilo estado = ESTADO.get();
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        long ahora = System.currentTimeMillis();
+        if (ahora > estado.ultimoMilisegundo) {
+            estado.ultimoMilisegundo = ahora;
+            // se parte desde un valor aleatorio en la mitad inferior para dejar espacio al contador
+            estado.contador = aleatorio.nextLong(MAXIMO_CONTADOR >> 1);
+        } else if (++estado.contador > MAXIMO_CONTADOR) {
+            // contador agotado o reloj hacia atrás: se avanza el milisegundo lógico
+            estado.ultimoMilisegundo++;
+            estado.contador = 0;
+        }
+
+        long alto = (estado.ultimoMilisegundo << 16) | VERSION | estado.contador;
+        long bajo = VARIANTE | (aleatorio.nextLong() >>> 2);
+
+        return Identificador.de(alto, bajo);
+    }
+
+    private static final class EstadoHilo {
+        private long ultimoMilisegundo = -1;
+        private long contador;
+    }
+}
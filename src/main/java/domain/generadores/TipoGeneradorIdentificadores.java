@@ -0,0 +1,40 @@
+package domain.generadores;
+
+import interfaces.domain.IGeneradorIdentificadores;
+
+import java.util.Locale;
+
+/**
+ * Generadores de identificadores disponibles, seleccionables por configuración.
+ */
+public enum TipoGeneradorIdentificadores {
+    ALEATORIO,
+    UUID_V7,
+    MONOTONICO;
+
+    public IGeneradorIdentificadores crear() {
+        return switch (this) {
+            case ALEATORIO -> new GeneradorIdentificadoresAleatorio();
+            case UUID_V7 -> new GeneradorIdentificadoresUuidV7();
+            case MONOTONICO -> new GeneradorIdentificadoresMonotonico();
+        };
+    }
+
+    /**
+     * Obtiene el tipo a partir de su nombre (sin distinguir mayúsculas, acepta "uuidv7")
+     *
+     * @param nombre nombre del generador
+     * @return tipo de generador
+     * @throws IllegalArgumentException si el nombre no corresponde a ningún generador
+     */
+    public static TipoGeneradorIdentificadores desdeNombre(String nombre) {
+        if (nombre == null || nombre.trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre del generador no puede ser nulo o vacío");
+        }
+        String normalizado = nombre.trim().toUpperCase(Locale.ROOT).replace("-", "_");
+        if (normalizado.equals("UUIDV7")) {
+            return UUID_V7;
+        }
+        return valueOf(normalizado);
+    }
+}
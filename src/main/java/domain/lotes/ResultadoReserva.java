@@ -0,0 +1,26 @@
+package domain.lotes;
+
+import domain.entities.Reserva;
+
+/**
+ * Resultado de una solicitud dentro de una reserva en lote: la reserva creada
+ * o la excepción de negocio que habría lanzado crearReserva para ese par.
+ *
+ * @param solicitud solicitud a la que responde
+ * @param reserva reserva creada, null si falló
+ * @param error motivo del rechazo, null si se reservó
+ */
+public record ResultadoReserva(SolicitudReserva solicitud, Reserva reserva, RuntimeException error) {
+
+    public static ResultadoReserva exitosa(SolicitudReserva solicitud, Reserva reserva) {
+        return new ResultadoReserva(solicitud, reserva, null);
+    }
+
+    public static ResultadoReserva rechazada(SolicitudReserva solicitud, RuntimeException error) {
+        return new ResultadoReserva(solicitud, null, error);
+    }
+
+    public boolean esExitosa() {
+        return reserva != null;
+    }
+}
@@ -0,0 +1,13 @@
+package domain.lotes;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+
+/**
+ * Un par usuario-cómic dentro de una reserva en lote.
+ *
+ * @param usuario usuario que reserva
+ * @param comic cómic a reservar
+ */
+public record SolicitudReserva(Usuario usuario, Comic comic) {
+}
@@ -0,0 +1,31 @@
+package domain.paginacion;
+
+import domain.entities.Comic;
+
+import java.util.Locale;
+
+/**
+ * Órdenes en que se puede paginar el catálogo.
+ *
+ * Cada orden da a cada cómic una clave de texto única, que desempata con el
+ * identificador, y las páginas se recorren en el orden de esas claves. La
+ * clave del último cómic de una página es el cursor de la siguiente.
+ */
+public enum OrdenComics {
+    /** Por nombre, sin distinguir mayúsculas */
+    NOMBRE {
+        @Override
+        public String clave(Comic comic) {
+            return comic.getNombre().toLowerCase(Locale.ROOT) + '\u0000' + comic.getId();
+        }
+    },
+    /** Por identificador; con identificadores UUIDv7 es el orden de alta */
+    ID {
+        @Override
+        public String clave(Comic comic) {
+            return comic.getId().toString();
+        }
+    };
+
+    public abstract String clave(Comic comic);
+}
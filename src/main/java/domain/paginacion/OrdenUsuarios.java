@@ -0,0 +1,35 @@
+package domain.paginacion;
+
+import domain.entities.Usuario;
+
+import java.util.Locale;
+
+/**
+ * Órdenes en que se puede paginar el listado de usuarios.
+ *
+ * Igual que en OrdenComics, la clave de cada usuario es única y la del último
+ * usuario de una página es el cursor de la siguiente.
+ */
+public enum OrdenUsuarios {
+    /** Por identificador, que es el orden de registro */
+    ID {
+        @Override
+        public String clave(Usuario usuario) {
+            return idOrdenable(usuario);
+        }
+    },
+    /** Por nombre completo, sin distinguir mayúsculas */
+    NOMBRE {
+        @Override
+        public String clave(Usuario usuario) {
+            return usuario.getNombreCompleto().toLowerCase(Locale.ROOT) + '\u0000' + idOrdenable(usuario);
+        }
+    };
+
+    public abstract String clave(Usuario usuario);
+
+    // los identificadores son positivos: con ancho fijo se ordenan igual como texto
+    private static String idOrdenable(Usuario usuario) {
+        return String.format("%010d", usuario.getId());
+    }
+}
@@ -0,0 +1,139 @@
+package domain.paginacion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Una página de un listado recorrido por cursor.
+ *
+ * El cursor es la clave de orden del último elemento entregado: la página
+ * siguiente empieza en el primer elemento con una clave mayor, así que altas
+ * y bajas entre dos páginas no hacen que se repitan ni se salten elementos
+ * que ya existían. Las claves las define el orden elegido (OrdenComics,
+ * OrdenUsuarios) y para quien pagina son opacas.
+ *
+ * @param elementos elementos de la página, en orden
+ * @param siguiente cursor de la página siguiente, null si esta es la última
+ * @param <T> tipo de los elementos
+ */
+public record Pagina<T>(List<T> elementos, String siguiente) {
+
+    public Pagina {
+        elementos = List.copyOf(elementos);
+    }
+
+    public static <T> Pagina<T> vacia() {
+        return new Pagina<>(List.of(), null);
+    }
+
+    public boolean haySiguiente() {
+        return siguiente != null;
+    }
+
+    /**
+     * Página de un índice ordenado por clave: recorre solo los elementos
+     * entregados, sin copiar el resto.
+     *
+     * @param entradas entradas del índice posteriores al cursor, en orden de clave
+     */
+    public static <T> Pagina<T> de(Iterator<? extends Map.Entry<String, T>> entradas, int tamano) {
+        validarTamano(tamano);
+        List<T> elementos = new ArrayList<>(Math.min(tamano, 64));
+        String ultima = null;
+        while (elementos.size() < tamano && entradas.hasNext()) {
+            Map.Entry<String, T> entrada = entradas.next();
+            elementos.add(entrada.getValue());
+            ultima = entrada.getKey();
+        }
+        return new Pagina<>(elementos, entradas.hasNext() ? ultima : null);
+    }
+
+    /**
+     * Página de una lista sin índice: filtra y ordena toda la lista. Es el
+     * camino para repositorios que no mantienen un índice por orden.
+     */
+    public static <T> Pagina<T> deLista(List<T> todos, Function<T, String> clave, String cursor, int tamano) {
+        validarTamano(tamano);
+        List<T> posteriores = todos.stream()
+                .filter(elemento -> cursor == null || clave.apply(elemento).compareTo(cursor) > 0)
+                .sorted(Comparator.comparing(clave))
+                .limit(tamano + 1L)
+                .toList();
+        return recortar(posteriores, clave, tamano, false);
+    }
+
+    /**
+     * Junta las páginas que devolvió cada partición para el mismo cursor y
+     * tamaño en una sola página del mismo tamaño. Cuesta O(particiones × tamaño)
+     * sin importar el total de elementos.
+     */
+    public static <T> Pagina<T> juntar(List<Pagina<T>> paginas, Function<T, String> clave, int tamano) {
+        validarTamano(tamano);
+        List<T> juntos = new ArrayList<>();
+        boolean quedanEnAlguna = false;
+        for (Pagina<T> pagina : paginas) {
+            juntos.addAll(pagina.elementos());
+            quedanEnAlguna |= pagina.haySiguiente();
+        }
+        juntos.sort(Comparator.comparing(clave));
+        return recortar(juntos, clave, tamano, quedanEnAlguna);
+    }
+
+    private static <T> Pagina<T> recortar(List<T> ordenados, Function<T, String> clave, int tamano,
+                                          boolean quedanOtros) {
+        if (ordenados.size() <= tamano) {
+            String siguiente = quedanOtros && !ordenados.isEmpty()
+                    ? clave.apply(ordenados.get(ordenados.size() - 1)) : null;
+            return new Pagina<>(ordenados, siguiente);
+        }
+        List<T> elementos = ordenados.subList(0, tamano);
+        return new Pagina<>(elementos, clave.apply(elementos.get(tamano - 1)));
+    }
+
+    /**
+     * Recorre un listado completo página a página: cada página se pide recién
+     * cuando se consumió la anterior, así el recorrido ocupa memoria O(tamaño de página).
+     *
+     * @param pagina obtiene la página que sigue al cursor (null para la primera)
+     */
+    public static <T> Stream<T> recorrer(Function<String, Pagina<T>> pagina) {
+        Iterator<T> iterador = new Iterator<>() {
+            private Pagina<T> actual = pagina.apply(null);
+            private Iterator<T> elementos = actual.elementos().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!elementos.hasNext() && actual.haySiguiente()) {
+                    actual = pagina.apply(actual.siguiente());
+                    elementos = actual.elementos().iterator();
+                }
+                return elementos.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementos.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterador,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static void validarTamano(int tamano) {
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+    }
+}
@@ -4,17 +4,25 @@ import domain.entities.Comic;
 import domain.entities.Reserva;
 import domain.entities.Venta;
 import domain.enums.EstadoReserva;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 import exceptions.ComicNoEliminableException;
 import exceptions.ComicNoEncontradoException;
 import exceptions.NombreComicYaExisteException;
 import interfaces.domain.IComicService;
 import interfaces.repository.IComicRepository;
+import interfaces.repository.IIndiceInventario;
 import interfaces.repository.IReservaRepository;
 import interfaces.repository.IVentaRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class ComicService implements IComicService {
@@ -22,6 +30,7 @@ public class ComicService implements IComicService {
     private final IComicRepository comicRepository;
     private final IReservaRepository reservaRepository;
     private final IVentaRepository ventaRepository;
+    private final IIndiceInventario indiceInventario;
     
     /**
      * Constructor que recibe las dependencias necesarias (Dependency Injection).
@@ -33,6 +42,23 @@ public class ComicService implements IComicService {
     public ComicService(IComicRepository comicRepository,
                        IReservaRepository reservaRepository,
                        IVentaRepository ventaRepository) {
+        this(comicRepository, reservaRepository, ventaRepository, null);
+    }
+    
+    /**
+     * Constructor con un índice del inventario que sabe qué cómics tienen
+     * reservas activas, para no recorrer las reservas en cada consulta de
+     * disponibles.
+     * 
+     * @param comicRepository Repositorio de comics
+     * @param reservaRepository Repositorio de reservas
+     * @param ventaRepository Repositorio de ventas
+     * @param indiceInventario Índice del inventario, o null para recorrer los repositorios
+     */
+    public ComicService(IComicRepository comicRepository,
+                       IReservaRepository reservaRepository,
+                       IVentaRepository ventaRepository,
+                       IIndiceInventario indiceInventario) {
         if (comicRepository == null) {
             throw new IllegalArgumentException("El repositorio de comics no puede ser nulo");
         }
@@ -46,6 +72,7 @@ public class ComicService implements IComicService {
         this.comicRepository = comicRepository;
         this.reservaRepository = reservaRepository;
         this.ventaRepository = ventaRepository;
+        this.indiceInventario = indiceInventario;
     }
     
     @Override
@@ -158,14 +185,16 @@ public class ComicService implements IComicService {
             return comicRepository.buscarTodos();
         }
         
-        String criterioBusqueda = criterio.trim().toLowerCase();
-        
-        return comicRepository.buscarTodos().stream()
-                .filter(comic -> 
-                    comic.getNombre().toLowerCase().contains(criterioBusqueda) ||
-                    comic.getDescription().toLowerCase().contains(criterioBusqueda)
-                )
-                .collect(Collectors.toList());
+        // el repositorio recorre las descripciones de una vez, aunque estén fuera del heap
+        return comicRepository.buscarPorTexto(criterio);
+    }
+    
+    @Override
+    public String obtenerDescripcion(Comic comic) {
+        if (comic == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        return comicRepository.leerDescripcion(comic);
     }
     
     @Override
@@ -180,11 +209,15 @@ public class ComicService implements IComicService {
     
     @Override
     public List<Comic> obtenerComicsDisponibles() {
+        if (indiceInventario != null) {
+            return indiceInventario.comicsDisponibles();
+        }
+        
         List<Comic> todosLosComics = comicRepository.buscarTodos();
         List<Reserva> reservasActivas = reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO);
         
         // Obtener IDs de comics con reservas activas
-        List<String> comicsReservados = reservasActivas.stream()
+        List<Identificador> comicsReservados = reservasActivas.stream()
                 .map(reserva -> reserva.getComic().getId())
                 .toList();
         
@@ -193,4 +226,48 @@ public class ComicService implements IComicService {
                 .filter(comic -> !comicsReservados.contains(comic.getId()))
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Pagina<Comic> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        Predicate<Comic> reservado;
+        if (indiceInventario != null) {
+            reservado = indiceInventario::estaReservado;
+        } else {
+            Set<Identificador> reservados = new HashSet<>();
+            for (Reserva reserva : reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO)) {
+                reservados.add(reserva.getComic().getId());
+            }
+            reservado = comic -> reservados.contains(comic.getId());
+        }
+
+        // Se piden páginas del repositorio hasta completar la página con comics
+        // no reservados; el cursor final es la clave del último comic entregado
+        List<Comic> disponibles = new ArrayList<>(tamano);
+        String siguiente = cursor;
+        boolean quedan = true;
+        while (disponibles.size() < tamano && quedan) {
+            Pagina<Comic> pagina = comicRepository.buscarPagina(orden, siguiente, tamano);
+            quedan = pagina.haySiguiente();
+            siguiente = pagina.siguiente();
+            for (int i = 0; i < pagina.elementos().size(); i++) {
+                Comic comic = pagina.elementos().get(i);
+                if (reservado.test(comic)) {
+                    continue;
+                }
+                disponibles.add(comic);
+                if (disponibles.size() == tamano) {
+                    quedan = quedan || i < pagina.elementos().size() - 1;
+                    siguiente = orden.clave(comic);
+                    break;
+                }
+            }
+        }
+        return new Pagina<>(disponibles, quedan ? siguiente : null);
+    }
 }
\ No newline at end of file
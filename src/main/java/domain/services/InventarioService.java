@@ -4,10 +4,14 @@ import domain.entities.Comic;
 import domain.entities.Reserva;
 import domain.entities.Venta;
 import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
 import interfaces.domain.IInventarioService;
+import interfaces.domain.IMotorReportes;
 import interfaces.repository.IComicRepository;
+import interfaces.repository.IIndiceInventario;
 import interfaces.repository.IReservaRepository;
 import interfaces.repository.IVentaRepository;
+import interfaces.repository.IVersionesRepositorios;
 
 import java.util.*;
 import java.util.function.Function;
@@ -19,6 +23,9 @@ public class InventarioService implements IInventarioService {
     private final IComicRepository comicRepository;
     private final IReservaRepository reservaRepository;
     private final IVentaRepository ventaRepository;
+    private final IVersionesRepositorios versiones;
+    private final IMotorReportes motorReportes;
+    private final IIndiceInventario indiceInventario;
     
     /**
      * Constructor que recibe las dependencias necesarias (Dependency Injection).
@@ -30,6 +37,62 @@ public class InventarioService implements IInventarioService {
     public InventarioService(IComicRepository comicRepository,
                             IReservaRepository reservaRepository,
                             IVentaRepository ventaRepository) {
+        this(comicRepository, reservaRepository, ventaRepository, IVersionesRepositorios.sinVersiones(),
+                IMotorReportes.secuencial());
+    }
+    
+    /**
+     * Constructor con versiones de los repositorios: los reportes que cruzan
+     * cómics, reservas y ventas leen todos una misma versión.
+     * 
+     * @param comicRepository Repositorio de comics
+     * @param reservaRepository Repositorio de reservas
+     * @param ventaRepository Repositorio de ventas
+     * @param versiones Versiones de los repositorios
+     */
+    public InventarioService(IComicRepository comicRepository,
+                            IReservaRepository reservaRepository,
+                            IVentaRepository ventaRepository,
+                            IVersionesRepositorios versiones) {
+        this(comicRepository, reservaRepository, ventaRepository, versiones, IMotorReportes.secuencial());
+    }
+    
+    /**
+     * Constructor con versiones de los repositorios y un motor para recorrer
+     * las ventas y reservas de los reportes, que puede repartirlas entre varios hilos.
+     * 
+     * @param comicRepository Repositorio de comics
+     * @param reservaRepository Repositorio de reservas
+     * @param ventaRepository Repositorio de ventas
+     * @param versiones Versiones de los repositorios
+     * @param motorReportes Motor de los recorridos de los reportes
+     */
+    public InventarioService(IComicRepository comicRepository,
+                            IReservaRepository reservaRepository,
+                            IVentaRepository ventaRepository,
+                            IVersionesRepositorios versiones,
+                            IMotorReportes motorReportes) {
+        this(comicRepository, reservaRepository, ventaRepository, versiones, motorReportes, null);
+    }
+    
+    /**
+     * Constructor con un índice del inventario que se mantiene con cada
+     * escritura: los reportes y consultas de disponibilidad que puede
+     * responder no recorren cómics, ventas ni reservas.
+     * 
+     * @param comicRepository Repositorio de comics
+     * @param reservaRepository Repositorio de reservas
+     * @param ventaRepository Repositorio de ventas
+     * @param versiones Versiones de los repositorios
+     * @param motorReportes Motor de los recorridos de los reportes
+     * @param indiceInventario Índice del inventario, o null para recorrer los repositorios
+     */
+    public InventarioService(IComicRepository comicRepository,
+                            IReservaRepository reservaRepository,
+                            IVentaRepository ventaRepository,
+                            IVersionesRepositorios versiones,
+                            IMotorReportes motorReportes,
+                            IIndiceInventario indiceInventario) {
         if (comicRepository == null) {
             throw new IllegalArgumentException("El repositorio de comics no puede ser nulo");
         }
@@ -39,19 +102,35 @@ public class InventarioService implements IInventarioService {
         if (ventaRepository == null) {
             throw new IllegalArgumentException("El repositorio de ventas no puede ser nulo");
         }
+        if (versiones == null) {
+            throw new IllegalArgumentException("Las versiones de los repositorios no pueden ser nulas");
+        }
+        if (motorReportes == null) {
+            throw new IllegalArgumentException("El motor de reportes no puede ser nulo");
+        }
         
         this.comicRepository = comicRepository;
         this.reservaRepository = reservaRepository;
         this.ventaRepository = ventaRepository;
+        this.versiones = versiones;
+        this.motorReportes = motorReportes;
+        this.indiceInventario = indiceInventario;
     }
     
     @Override
     public List<Comic> obtenerComicsDisponibles() {
+        if (indiceInventario != null) {
+            return versiones.leerVersionFija(indiceInventario::comicsDisponibles);
+        }
+        return versiones.leerVersionFija(this::buscarComicsDisponibles);
+    }
+    
+    private List<Comic> buscarComicsDisponibles() {
         List<Comic> todosLosComics = comicRepository.buscarTodos();
         List<Reserva> reservasActivas = reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO);
         
         // Obtener IDs de comics con reservas activas
-        Set<String> comicsReservados = reservasActivas.stream()
+        Set<Identificador> comicsReservados = reservasActivas.stream()
                 .map(reserva -> reserva.getComic().getId())
                 .collect(Collectors.toSet());
         
@@ -63,6 +142,10 @@ public class InventarioService implements IInventarioService {
     
     @Override
     public List<Comic> obtenerComicsReservados() {
+        if (indiceInventario != null) {
+            return indiceInventario.comicsReservados();
+        }
+        
         List<Reserva> reservasActivas = reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO);
         
         return reservasActivas.stream()
@@ -79,15 +162,9 @@ public class InventarioService implements IInventarioService {
         
         List<Venta> todasLasVentas = ventaRepository.buscarTodas();
         
-        Map<Comic, Long> resultado = new LinkedHashMap<>();
-        todasLasVentas.stream()
-                .collect(Collectors.groupingBy(Venta::getComic, Collectors.counting()))
-                .entrySet().stream()
-                .sorted(Map.Entry.<Comic, Long>comparingByValue().reversed())
-                .limit(limite)
-                .forEach(entry -> resultado.put(entry.getKey(), entry.getValue()));
-        
-        return resultado;
+        return motorReportes.agregar(todasLasVentas, ConteoPorComic::new,
+                (conteo, venta) -> conteo.contar(venta.getComic()), ConteoPorComic::sumar)
+                .masFrecuentes(limite);
     }
     
     @Override
@@ -98,19 +175,19 @@ public class InventarioService implements IInventarioService {
         
         List<Reserva> todasLasReservas = reservaRepository.buscarTodas();
         
-        Map<Comic, Long> resultado = new LinkedHashMap<>();
-        todasLasReservas.stream()
-                .collect(Collectors.groupingBy(Reserva::getComic, Collectors.counting()))
-                .entrySet().stream()
-                .sorted(Map.Entry.<Comic, Long>comparingByValue().reversed())
-                .limit(limite)
-                .forEach(entry -> resultado.put(entry.getKey(), entry.getValue()));
-        
-        return resultado;
+        return motorReportes.agregar(todasLasReservas, ConteoPorComic::new,
+                (conteo, reserva) -> conteo.contar(reserva.getComic()), ConteoPorComic::sumar)
+                .masFrecuentes(limite);
     }
     
     @Override
     public Map<String, Long> obtenerEstadisticasInventario() {
+        // todas las cifras salen de la misma versión de los repositorios, así
+        // una compra que llega a mitad del reporte no las deja descuadradas
+        return versiones.leerVersionFija(this::calcularEstadisticasInventario);
+    }
+    
+    private Map<String, Long> calcularEstadisticasInventario() {
         Map<String, Long> estadisticas = new HashMap<>();
         
         // Total de comics
@@ -118,11 +195,15 @@ public class InventarioService implements IInventarioService {
         estadisticas.put("Total Comics", totalComics);
         
         // Comics disponibles
-        long comicsDisponibles = obtenerComicsDisponibles().size();
+        long comicsDisponibles = indiceInventario != null
+                ? indiceInventario.contarDisponibles()
+                : obtenerComicsDisponibles().size();
         estadisticas.put("Comics Disponibles", comicsDisponibles);
         
         // Comics reservados
-        long comicsReservados = obtenerComicsReservados().size();
+        long comicsReservados = indiceInventario != null
+                ? indiceInventario.contarReservados()
+                : obtenerComicsReservados().size();
         estadisticas.put("Comics Reservados", comicsReservados);
         
         // Total de ventas
@@ -130,11 +211,15 @@ public class InventarioService implements IInventarioService {
         estadisticas.put("Total Ventas", totalVentas);
         
         // Total de reservas activas
-        long reservasActivas = reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO).size();
+        long reservasActivas = indiceInventario != null
+                ? indiceInventario.contarReservasActivas()
+                : reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO).size();
         estadisticas.put("Reservas Activas", reservasActivas);
         
         // Comics sin actividad
-        long comicsSinActividad = obtenerComicsSinActividad().size();
+        long comicsSinActividad = indiceInventario != null
+                ? indiceInventario.contarSinActividad()
+                : obtenerComicsSinActividad().size();
         estadisticas.put("Comics Sin Actividad", comicsSinActividad);
         
         return estadisticas;
@@ -145,6 +230,9 @@ public class InventarioService implements IInventarioService {
         if (comic == null) {
             return false;
         }
+        if (indiceInventario != null) {
+            return !indiceInventario.estaReservado(comic);
+        }
         
         List<Reserva> reservasDelComic = reservaRepository.buscarPorComic(comic);
         
@@ -154,24 +242,54 @@ public class InventarioService implements IInventarioService {
     
     @Override
     public List<Comic> obtenerComicsSinActividad() {
+        if (indiceInventario != null) {
+            return versiones.leerVersionFija(indiceInventario::comicsSinActividad);
+        }
+        return versiones.leerVersionFija(this::buscarComicsSinActividad);
+    }
+    
+    private List<Comic> buscarComicsSinActividad() {
         List<Comic> todosLosComics = comicRepository.buscarTodos();
         List<Venta> todasLasVentas = ventaRepository.buscarTodas();
         List<Reserva> todasLasReservas = reservaRepository.buscarTodas();
         
         // IDs de comics con ventas
-        Set<String> comicsConVentas = todasLasVentas.stream()
-                .map(venta -> venta.getComic().getId())
-                .collect(Collectors.toSet());
+        Set<Identificador> comicsConVentas = motorReportes.agregar(todasLasVentas, HashSet::new,
+                (ids, venta) -> ids.add(venta.getComic().getId()), Set::addAll);
         
         // IDs de comics con reservas
-        Set<String> comicsConReservas = todasLasReservas.stream()
-                .map(reserva -> reserva.getComic().getId())
-                .collect(Collectors.toSet());
+        Set<Identificador> comicsConReservas = motorReportes.agregar(todasLasReservas, HashSet::new,
+                (ids, reserva) -> ids.add(reserva.getComic().getId()), Set::addAll);
         
-        // Filtrar comics sin actividad
-        return todosLosComics.stream()
-                .filter(comic -> !comicsConVentas.contains(comic.getId()) && 
-                                !comicsConReservas.contains(comic.getId()))
-                .collect(Collectors.toList());
+        // Filtrar comics sin actividad, conservando el orden del catálogo
+        return motorReportes.filtrar(todosLosComics,
+                comic -> !comicsConVentas.contains(comic.getId()) && 
+                        !comicsConReservas.contains(comic.getId()));
+    }
+    
+    /**
+     * Cantidad de apariciones de cada cómic en un recorrido; el motor de
+     * reportes llena uno por hilo y después los suma.
+     */
+    private static final class ConteoPorComic {
+        private final Map<Comic, long[]> cantidades = new HashMap<>();
+        
+        void contar(Comic comic) {
+            cantidades.computeIfAbsent(comic, c -> new long[1])[0]++;
+        }
+        
+        void sumar(ConteoPorComic otro) {
+            otro.cantidades.forEach((comic, cantidad) ->
+                    cantidades.computeIfAbsent(comic, c -> new long[1])[0] += cantidad[0]);
+        }
+        
+        Map<Comic, Long> masFrecuentes(int limite) {
+            Map<Comic, Long> resultado = new LinkedHashMap<>();
+            cantidades.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<Comic, long[]> entry) -> entry.getValue()[0]).reversed())
+                    .limit(limite)
+                    .forEach(entry -> resultado.put(entry.getKey(), entry.getValue()[0]));
+            return resultado;
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,10 @@ import domain.entities.Reserva;
 import domain.entities.Usuario;
 import domain.entities.Comic;
 import domain.enums.EstadoReserva;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
+import domain.valueobjects.Identificador;
 import exceptions.ComicNoDisponibleException;
 import exceptions.LimiteReservasExcedidoException;
 import exceptions.ReservaNoCancelableException;
@@ -11,7 +15,14 @@ import interfaces.domain.IReservaService;
 import interfaces.repository.IReservaRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 
@@ -25,9 +36,17 @@ public class ReservaService implements IReservaService {
     private static final int HORAS_LIMITE_CANCELACION = 1;
     // Tiempo de duración de una reserva
     private static final int DIAS_MAXIMO_RESERVA = 2;
+    // Candados repartidos por id de usuario para comprobar el límite y guardar juntos
+    private static final int CANDADOS_USUARIO = 256;
     
     private final IReservaRepository reservaRepository;
     
+    // El límite se comprueba sobre todas las reservas del usuario, que con
+    // repositorios particionados viven en particiones distintas a la que recibe
+    // la nueva; sin este candado dos reservas simultáneas del mismo usuario
+    // podrían pasar la comprobación y superarlo
+    private final ReentrantLock[] candadosUsuario = new ReentrantLock[CANDADOS_USUARIO];
+    
     /**
      * Constructor que recibe las dependencias necesarias (Dependency Injection).
      * 
@@ -38,6 +57,9 @@ public class ReservaService implements IReservaService {
             throw new IllegalArgumentException("El repositorio de reservas no puede ser nulo");
         }
         this.reservaRepository = reservaRepository;
+        for (int i = 0; i < CANDADOS_USUARIO; i++) {
+            candadosUsuario[i] = new ReentrantLock();
+        }
     }
     
     @Override
@@ -74,6 +96,19 @@ public class ReservaService implements IReservaService {
             throw new IllegalArgumentException("El cómic no puede ser nulo");
         }
         
+        ReentrantLock candado = candadosUsuario[indiceCandado(usuario)];
+        candado.lock();
+        try {
+            return reservar(usuario, comic);
+        } finally {
+            candado.unlock();
+        }
+    }
+    
+    /**
+     * Reglas de crearReserva; se ejecuta con el candado del usuario tomado
+     */
+    private Reserva reservar(Usuario usuario, Comic comic) {
         // Aplicar reglas de negocio
         if (!estaDisponibleParaReserva(comic)) {
             throw new ComicNoDisponibleException(
@@ -111,6 +146,103 @@ public class ReservaService implements IReservaService {
         return nuevaReserva;
     }
     
+    @Override
+    public List<ResultadoReserva> crearReservas(List<SolicitudReserva> solicitudes) {
+        if (solicitudes == null) {
+            throw new IllegalArgumentException("Las solicitudes no pueden ser nulas");
+        }
+        
+        // Los candados de todos los usuarios del lote, siempre en el mismo orden
+        // para no bloquearse con otro lote
+        Map<Integer, ReentrantLock> candados = new TreeMap<>();
+        for (SolicitudReserva solicitud : solicitudes) {
+            if (solicitud != null && solicitud.usuario() != null) {
+                int indice = indiceCandado(solicitud.usuario());
+                candados.put(indice, candadosUsuario[indice]);
+            }
+        }
+        candados.values().forEach(ReentrantLock::lock);
+        try {
+            return reservarLote(solicitudes);
+        } finally {
+            candados.values().forEach(ReentrantLock::unlock);
+        }
+    }
+    
+    /**
+     * Reglas de crearReservas; se ejecuta con los candados de sus usuarios tomados
+     */
+    private List<ResultadoReserva> reservarLote(List<SolicitudReserva> solicitudes) {
+        // Una sola pasada por las reservas activas en lugar de buscar por cómic
+        // y por usuario en cada solicitud
+        Set<Identificador> comicsReservados = new HashSet<>();
+        Map<Integer, Integer> activasPorUsuario = new HashMap<>();
+        for (Reserva activa : reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO)) {
+            comicsReservados.add(activa.getComic().getId());
+            activasPorUsuario.merge(activa.getUsuario().getId(), 1, Integer::sum);
+        }
+        
+        List<ResultadoReserva> resultados = new ArrayList<>(solicitudes.size());
+        List<Reserva> nuevasReservas = new ArrayList<>();
+        for (SolicitudReserva solicitud : solicitudes) {
+            try {
+                Reserva reserva = reservarEnLote(solicitud, comicsReservados, activasPorUsuario);
+                nuevasReservas.add(reserva);
+                resultados.add(ResultadoReserva.exitosa(solicitud, reserva));
+            } catch (IllegalArgumentException | ComicNoDisponibleException | LimiteReservasExcedidoException e) {
+                resultados.add(ResultadoReserva.rechazada(solicitud, e));
+            }
+        }
+        
+        reservaRepository.guardarTodas(nuevasReservas);
+        
+        return resultados;
+    }
+    
+    private static int indiceCandado(Usuario usuario) {
+        return Math.floorMod(usuario.getId(), CANDADOS_USUARIO);
+    }
+    
+    /**
+     * Aplica a una solicitud del lote las reglas de crearReserva sobre el estado
+     * ya leído, y lo actualiza si la reserva se crea.
+     */
+    private Reserva reservarEnLote(SolicitudReserva solicitud, Set<Identificador> comicsReservados,
+                                   Map<Integer, Integer> activasPorUsuario) {
+        if (solicitud == null || solicitud.usuario() == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        if (solicitud.comic() == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        
+        Usuario usuario = solicitud.usuario();
+        Comic comic = solicitud.comic();
+        
+        // Un cómic con una reserva activa no está disponible, tampoco para el
+        // usuario que ya lo tiene reservado
+        if (comicsReservados.contains(comic.getId())) {
+            throw new ComicNoDisponibleException(
+                String.format("El cómic '%s' no está disponible para reserva", comic.getNombre())
+            );
+        }
+        
+        int reservasActivas = activasPorUsuario.getOrDefault(usuario.getId(), 0);
+        if (reservasActivas >= LIMITE_RESERVAS_POR_USUARIO) {
+            throw new LimiteReservasExcedidoException(
+                String.format("El usuario ha excedido el límite de %d reservas simultáneas", 
+                LIMITE_RESERVAS_POR_USUARIO)
+            );
+        }
+        
+        Reserva nuevaReserva = new Reserva(usuario, comic);
+        nuevaReserva.establecerFechaExpiracion(LocalDateTime.now().plusDays(DIAS_MAXIMO_RESERVA));
+        
+        comicsReservados.add(comic.getId());
+        activasPorUsuario.put(usuario.getId(), reservasActivas + 1);
+        return nuevaReserva;
+    }
+    
     @Override
     public List<Reserva> procesarReservasExpiradas() {
         List<Reserva> reservasExpiradas = reservaRepository.buscarReservasExpiradas();
@@ -119,7 +251,7 @@ public class ReservaService implements IReservaService {
         for (Reserva reserva : reservasExpiradas) {
             if (reserva.getEstadoReserva() == EstadoReserva.ACTIVO) {
                 reserva.setReservaInactiva();
-                reservaRepository.actualizar(reserva);
+                reservaRepository.registrarExpiracion(reserva);
             }
         }
         
@@ -174,6 +306,15 @@ public class ReservaService implements IReservaService {
         
         // Cancelar la reserva
         reserva.setReservaInactiva();
-        reservaRepository.actualizar(reserva);
+        reservaRepository.registrarCancelacion(reserva);
+    }
+    
+    @Override
+    public List<EventoReserva> obtenerHistorialComic(Comic comic) {
+        if (comic == null) {
+            return List.of();
+        }
+        
+        return reservaRepository.historialPorComic(comic);
     }
 }
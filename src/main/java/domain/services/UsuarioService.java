@@ -4,6 +4,8 @@ import domain.entities.Usuario;
 import domain.entities.Reserva;
 import domain.entities.Venta;
 import domain.enums.EstadoReserva;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
 import exceptions.EmailYaExisteException;
 import exceptions.UsuarioNoEliminableException;
 import exceptions.UsuarioNoEncontradoException;
@@ -182,4 +184,12 @@ public class UsuarioService implements IUsuarioService {
                 )
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Pagina<Usuario> obtenerPaginaUsuarios(OrdenUsuarios orden, String cursor, int tamano) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+        return usuarioRepository.buscarPagina(orden, cursor, tamano);
+    }
 }
\ No newline at end of file
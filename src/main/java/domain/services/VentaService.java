@@ -5,15 +5,22 @@ import domain.entities.Usuario;
 import domain.entities.Comic;
 import domain.entities.Reserva;
 import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
 import exceptions.VentaNoProcesableException;
 import exceptions.ComicNoDisponibleParaVentaException;
 import interfaces.domain.IVentaService;
 import interfaces.repository.IComicRepository;
 import interfaces.repository.IVentaRepository;
 import interfaces.repository.IReservaRepository;
+import interfaces.repository.IVersionesRepositorios;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 public class VentaService implements IVentaService {
@@ -21,6 +28,7 @@ public class VentaService implements IVentaService {
     private final IVentaRepository ventaRepository;
     private final IReservaRepository reservaRepository;
     private final IComicRepository comicRepository;
+    private final IVersionesRepositorios versiones;
     
     /**
      * Constructor que recibe las dependencias necesarias (Dependency Injection).
@@ -32,6 +40,24 @@ public class VentaService implements IVentaService {
             IVentaRepository ventaRepository,
             IReservaRepository reservaRepository,
             IComicRepository comicRepository
+    ) {
+        this(ventaRepository, reservaRepository, comicRepository, IVersionesRepositorios.sinVersiones());
+    }
+    
+    /**
+     * Constructor con versiones de los repositorios: la venta, la reserva
+     * convertida y la baja del cómic de cada compra quedan en una misma versión.
+     * 
+     * @param ventaRepository Repositorio de ventas
+     * @param reservaRepository Repositorio de reservas
+     * @param comicRepository Repositorio de cómics
+     * @param versiones Versiones de los repositorios
+     */
+    public VentaService(
+            IVentaRepository ventaRepository,
+            IReservaRepository reservaRepository,
+            IComicRepository comicRepository,
+            IVersionesRepositorios versiones
     ) {
         if (ventaRepository == null) {
             throw new IllegalArgumentException("El repositorio de ventas no puede ser nulo");
@@ -39,10 +65,14 @@ public class VentaService implements IVentaService {
         if (reservaRepository == null) {
             throw new IllegalArgumentException("El repositorio de reservas no puede ser nulo");
         }
+        if (versiones == null) {
+            throw new IllegalArgumentException("Las versiones de los repositorios no pueden ser nulas");
+        }
         
         this.ventaRepository = ventaRepository;
         this.reservaRepository = reservaRepository;
         this.comicRepository = comicRepository;
+        this.versiones = versiones;
     }
     
     @Override
@@ -57,6 +87,10 @@ public class VentaService implements IVentaService {
     
     @Override
     public Venta procesarVenta(Usuario usuario, Comic comic) {
+        return versiones.escribirVersion(() -> venderComic(usuario, comic));
+    }
+    
+    private Venta venderComic(Usuario usuario, Comic comic) {
         // Validaciones de entrada
         if (usuario == null) {
             throw new IllegalArgumentException("El usuario no puede ser nulo");
@@ -86,7 +120,7 @@ public class VentaService implements IVentaService {
             if (reservaExistente.isPresent()) {
                 Reserva reserva = reservaExistente.get();
                 reserva.setReservaInactiva();
-                reservaRepository.actualizar(reserva);
+                reservaRepository.registrarConversionEnVenta(reserva);
             }
 
             comicRepository.eliminar(comic.getId());
@@ -100,6 +134,95 @@ public class VentaService implements IVentaService {
         }
     }
     
+    @Override
+    public List<Venta> procesarCompra(Usuario usuario, List<Comic> comics) {
+        return versiones.escribirVersion(() -> venderCarrito(usuario, comics));
+    }
+    
+    private List<Venta> venderCarrito(Usuario usuario, List<Comic> comics) {
+        // Validaciones de entrada
+        if (usuario == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        if (comics == null || comics.isEmpty()) {
+            throw new IllegalArgumentException("El carrito no puede estar vacío");
+        }
+        Set<Identificador> enCarrito = new HashSet<>();
+        for (Comic comic : comics) {
+            if (comic == null) {
+                throw new IllegalArgumentException("El cómic no puede ser nulo");
+            }
+            if (!enCarrito.add(comic.getId())) {
+                throw new IllegalArgumentException(
+                    String.format("El cómic '%s' está más de una vez en el carrito", comic.getNombre())
+                );
+            }
+        }
+        
+        // Verificar disponibilidad de todo el carrito con una sola pasada por las
+        // reservas activas; las del usuario se convierten en venta
+        Map<Identificador, Reserva> reservasActivas = new HashMap<>();
+        for (Reserva reserva : reservaRepository.buscarPorEstado(EstadoReserva.ACTIVO)) {
+            if (enCarrito.contains(reserva.getComic().getId())) {
+                reservasActivas.put(reserva.getComic().getId(), reserva);
+            }
+        }
+        List<Reserva> reservasDelUsuario = new ArrayList<>();
+        for (Comic comic : comics) {
+            Reserva reserva = reservasActivas.get(comic.getId());
+            if (reserva == null) {
+                continue;
+            }
+            if (reserva.getUsuario().getId() != usuario.getId()) {
+                throw new ComicNoDisponibleParaVentaException(
+                    String.format("El cómic '%s' no está disponible para venta", comic.getNombre())
+                );
+            }
+            reservasDelUsuario.add(reserva);
+        }
+        
+        // Crear las ventas
+        List<Venta> nuevasVentas = new ArrayList<>(comics.size());
+        List<Identificador> vendidos = new ArrayList<>(comics.size());
+        for (Comic comic : comics) {
+            nuevasVentas.add(new Venta(usuario, comic));
+            vendidos.add(comic.getId());
+        }
+        
+        // Retirar primero los cómics: la baja en lote comprueba que estén todos
+        // antes de eliminar alguno y escribe el catálogo una sola vez
+        try {
+            comicRepository.eliminarTodos(vendidos);
+        } catch (Exception e) {
+            throw new VentaNoProcesableException(
+                String.format("Error al procesar la compra: %s", e.getMessage())
+            );
+        }
+        
+        try {
+            ventaRepository.guardarTodas(nuevasVentas);
+        } catch (Exception e) {
+            // Deshacer las ventas que alcanzaron a guardarse y reponer los cómics
+            // para que no quede nada vendido a medias
+            for (Venta venta : nuevasVentas) {
+                if (ventaRepository.buscarPorId(venta.getId()).isPresent()) {
+                    ventaRepository.eliminar(venta.getId());
+                }
+            }
+            comicRepository.guardarTodos(comics);
+            throw new VentaNoProcesableException(
+                String.format("Error al procesar la compra: %s", e.getMessage())
+            );
+        }
+        
+        for (Reserva reserva : reservasDelUsuario) {
+            reserva.setReservaInactiva();
+            reservaRepository.registrarConversionEnVenta(reserva);
+        }
+        
+        return nuevasVentas;
+    }
+    
     @Override
     public Optional<Reserva> verificarYProcesarReserva(Usuario usuario, Comic comic) {
         if (usuario == null || comic == null) {
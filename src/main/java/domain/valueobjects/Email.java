@@ -1,34 +1,149 @@
 package domain.valueobjects;
 
 import exceptions.EmailInvalidoException;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
 public class Email {
+    // Lenguaje aceptado. La validación manual de normalizarAscii acepta exactamente
+    // lo mismo; la expresión se mantiene para entradas que no son ASCII.
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
         "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"
     );
-    
+
     private final String value;
-    
+
     public Email(String email) {
-        if (email == null || email.trim().isEmpty()) {
+        if (email == null) {
+            throw new EmailInvalidoException("El email no puede ser nulo o vacío");
+        }
+
+        String normalizedEmail = usaMinusculasAscii() ? normalizarAscii(email) : null;
+        if (normalizedEmail == null) {
+            normalizedEmail = normalizarConExpresion(email);
+        }
+
+        this.value = normalizedEmail;
+    }
+
+    /**
+     * Valida y normaliza (trim + minúsculas) en una sola pasada sin expresiones regulares.
+     * Si la entrada ya está normalizada se retorna la misma instancia, sin reservar memoria.
+     *
+     * @param email email tal como lo ingresó el usuario
+     * @return email normalizado, o null si contiene caracteres no ASCII
+     *         (en ese caso decide normalizarConExpresion)
+     * @throws EmailInvalidoException si el email es vacío o no cumple el formato
+     */
+    private static String normalizarAscii(String email) {
+        // mismos límites que String.trim()
+        int inicio = 0;
+        int fin = email.length();
+        while (inicio < fin && email.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fin > inicio && email.charAt(fin - 1) <= ' ') {
+            fin--;
+        }
+
+        if (inicio == fin) {
+            throw new EmailInvalidoException("El email no puede ser nulo o vacío");
+        }
+
+        int arroba = -1;
+        int ultimoPunto = -1;
+        int ultimaNoLetra = -1;
+        boolean tieneMayusculas = false;
+        boolean valido = true;
+
+        for (int i = inicio; i < fin; i++) {
+            char c = email.charAt(i);
+
+            if (c >= 0x80) {
+                return null;
+            }
+
+            boolean letra = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            tieneMayusculas |= c >= 'A' && c <= 'Z';
+
+            if (c == '@') {
+                // la parte local no admite '@', por lo que solo puede haber una
+                valido &= arroba < 0 && i > inicio;
+                arroba = i;
+                continue;
+            }
+
+            if (arroba < 0) {
+                // parte local: [a-zA-Z0-9._%+-]
+                valido &= letra || (c >= '0' && c <= '9')
+                        || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+            } else {
+                // dominio: [a-zA-Z0-9.-]
+                valido &= letra || (c >= '0' && c <= '9') || c == '.' || c == '-';
+                if (c == '.') {
+                    ultimoPunto = i;
+                }
+                if (!letra) {
+                    ultimaNoLetra = i;
+                }
+            }
+        }
+
+        // el dominio termina en '.' + al menos dos letras, con algo antes del punto
+        valido &= arroba >= 0
+                && ultimoPunto > arroba + 1
+                && fin - ultimoPunto - 1 >= 2
+                && ultimaNoLetra == ultimoPunto;
+
+        if (!valido) {
+            throw new EmailInvalidoException("Formato de email inválido: " + email);
+        }
+
+        if (!tieneMayusculas) {
+            return (inicio == 0 && fin == email.length()) ? email : email.substring(inicio, fin);
+        }
+
+        char[] normalizado = new char[fin - inicio];
+        for (int i = inicio; i < fin; i++) {
+            char c = email.charAt(i);
+            normalizado[i - inicio] = (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(normalizado);
+    }
+
+    /**
+     * Camino original: trim, minúsculas según el locale por defecto y expresión regular.
+     * Se usa para entradas no ASCII, donde toLowerCase puede transformar caracteres
+     * (por ejemplo el signo Kelvin en 'k').
+     */
+    private static String normalizarConExpresion(String email) {
+        if (email.trim().isEmpty()) {
             throw new EmailInvalidoException("El email no puede ser nulo o vacío");
         }
-        
+
         String normalizedEmail = email.trim().toLowerCase();
-        
+
         if (!EMAIL_PATTERN.matcher(normalizedEmail).matches()) {
             throw new EmailInvalidoException("Formato de email inválido: " + email);
         }
-        
-        this.value = normalizedEmail;
+
+        return normalizedEmail;
+    }
+
+    /**
+     * En turco y azerí toLowerCase() convierte 'I' en 'ı', por lo que en esos
+     * locales se usa el camino original para conservar el mismo resultado.
+     */
+    private static boolean usaMinusculasAscii() {
+        String idioma = Locale.getDefault().getLanguage();
+        return !idioma.equals("tr") && !idioma.equals("az");
     }
-    
+
     public String getValue() {
         return value;
     }
-    
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -36,12 +151,12 @@ public class Email {
         Email email = (Email) obj;
         return Objects.equals(value, email.value);
     }
-    
+
     @Override
     public int hashCode() {
         return Objects.hash(value);
     }
-    
+
     @Override
     public String toString() {
         return value;
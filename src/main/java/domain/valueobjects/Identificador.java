@@ -0,0 +1,195 @@
+package domain.valueobjects;
+
+import interfaces.domain.IGeneradorIdentificadores;
+
+import java.util.UUID;
+
+/**
+ * Identificador de 128 bits para las entidades (cómics, reservas y ventas).
+ *
+ * Internamente se representa como dos long en vez de un String de 36 caracteres,
+ * así las comparaciones son de dos enteros y no se reserva un String + byte[]
+ * por cada entidad. La forma textual (formato UUID) solo se genera en el borde
+ * de presentación y persistencia mediante toString().
+ */
+public final class Identificador implements Comparable<Identificador> {
+    private static final char[] DIGITOS_HEX = "0123456789abcdef".toCharArray();
+    private static final int LARGO_TEXTO = 36;
+
+    // generador usado por las entidades, configurable desde el composition root
+    private static volatile IGeneradorIdentificadores generador = Identificador::aleatorio;
+
+    private final long masSignificativo;
+    private final long menosSignificativo;
+
+    private Identificador(long masSignificativo, long menosSignificativo) {
+        this.masSignificativo = masSignificativo;
+        this.menosSignificativo = menosSignificativo;
+    }
+
+    /**
+     * Crea un identificador a partir de sus dos mitades de 64 bits
+     * @param masSignificativo bits altos
+     * @param menosSignificativo bits bajos
+     * @return instancia de identificador
+     */
+    public static Identificador de(long masSignificativo, long menosSignificativo) {
+        return new Identificador(masSignificativo, menosSignificativo);
+    }
+
+    /**
+     * Genera un identificador nuevo con el generador configurado.
+     * Es el método que usan las entidades al crearse.
+     * @return identificador nuevo
+     */
+    public static Identificador nuevo() {
+        return generador.generar();
+    }
+
+    /**
+     * Reemplaza el generador usado por nuevo()
+     * @param nuevoGenerador generador a utilizar
+     */
+    public static void configurarGenerador(IGeneradorIdentificadores nuevoGenerador) {
+        if (nuevoGenerador == null) {
+            throw new IllegalArgumentException("El generador de identificadores no puede ser nulo");
+        }
+        generador = nuevoGenerador;
+    }
+
+    /**
+     * Genera un identificador aleatorio (UUID versión 4)
+     * @return identificador nuevo
+     */
+    public static Identificador aleatorio() {
+        UUID uuid = UUID.randomUUID();
+        return new Identificador(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Convierte la forma textual (formato UUID, 36 caracteres) a un identificador.
+     * Es el punto de entrada desde presentación y persistencia.
+     *
+     * @param texto identificador en formato xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx
+     * @return identificador equivalente
+     * @throws IllegalArgumentException si el texto no tiene el formato esperado
+     */
+    public static Identificador desdeTexto(String texto) {
+        if (texto == null || texto.length() != LARGO_TEXTO) {
+            throw new IllegalArgumentException("Identificador inválido: " + texto);
+        }
+
+        long alto = 0;
+        long bajo = 0;
+        int digitos = 0;
+
+        for (int i = 0; i < LARGO_TEXTO; i++) {
+            char c = texto.charAt(i);
+
+            // los guiones deben estar exactamente en las posiciones del formato UUID
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    throw new IllegalArgumentException("Identificador inválido: " + texto);
+                }
+                continue;
+            }
+
+            int valor = digitoHexadecimal(c);
+            if (valor < 0) {
+                throw new IllegalArgumentException("Identificador inválido: " + texto);
+            }
+
+            if (digitos < 16) {
+                alto = (alto << 4) | valor;
+            } else {
+                bajo = (bajo << 4) | valor;
+            }
+            digitos++;
+        }
+
+        return new Identificador(alto, bajo);
+    }
+
+    /**
+     * Valor del dígito hexadecimal ASCII, o -1; Character.digit también
+     * aceptaría dígitos de otros alfabetos que toString nunca produce
+     */
+    private static int digitoHexadecimal(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    public long getMasSignificativo() { return masSignificativo; }
+
+    public long getMenosSignificativo() { return menosSignificativo; }
+
+    /**
+     * Mezcla ambas mitades para obtener un hash bien distribuido aun cuando
+     * los bits altos sean secuenciales (identificadores ordenados por tiempo)
+     * @param masSignificativo bits altos
+     * @param menosSignificativo bits bajos
+     * @return hash de 32 bits
+     */
+    public static int hash(long masSignificativo, long menosSignificativo) {
+        long h = masSignificativo * 0x9E3779B97F4A7C15L ^ menosSignificativo;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Identificador otro)) return false;
+        return masSignificativo == otro.masSignificativo
+                && menosSignificativo == otro.menosSignificativo;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(masSignificativo, menosSignificativo);
+    }
+
+    /**
+     * Compara sin signo para mantener el mismo orden que tenía la forma textual
+     */
+    @Override
+    public int compareTo(Identificador otro) {
+        int comparacion = Long.compareUnsigned(masSignificativo, otro.masSignificativo);
+        if (comparacion != 0) {
+            return comparacion;
+        }
+        return Long.compareUnsigned(menosSignificativo, otro.menosSignificativo);
+    }
+
+    @Override
+    public String toString() {
+        char[] texto = new char[LARGO_TEXTO];
+        escribirHex(texto, 0, masSignificativo >>> 32, 8);
+        texto[8] = '-';
+        escribirHex(texto, 9, masSignificativo >>> 16, 4);
+        texto[13] = '-';
+        escribirHex(texto, 14, masSignificativo, 4);
+        texto[18] = '-';
+        escribirHex(texto, 19, menosSignificativo >>> 48, 4);
+        texto[23] = '-';
+        escribirHex(texto, 24, menosSignificativo, 12);
+        return new String(texto);
+    }
+
+    private static void escribirHex(char[] destino, int desde, long valor, int digitos) {
+        for (int i = desde + digitos - 1; i >= desde; i--) {
+            destino[i] = DIGITOS_HEX[(int) (valor & 0xF)];
+            valor >>>= 4;
+        }
+    }
+}
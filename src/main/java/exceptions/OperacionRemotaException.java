@@ -0,0 +1,7 @@
+package exceptions;
+
+public class OperacionRemotaException extends RuntimeException {
+    public OperacionRemotaException(String mensaje) {
+        super(mensaje);
+    }
+}
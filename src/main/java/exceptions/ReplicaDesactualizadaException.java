@@ -0,0 +1,7 @@
+package exceptions;
+
+public class ReplicaDesactualizadaException extends RuntimeException {
+    public ReplicaDesactualizadaException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -0,0 +1,7 @@
+package exceptions;
+
+public class ReplicaSoloLecturaException extends RuntimeException {
+    public ReplicaSoloLecturaException(String mensaje) {
+        super(mensaje);
+    }
+}
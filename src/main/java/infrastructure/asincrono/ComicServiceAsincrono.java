@@ -0,0 +1,79 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Divisa;
+import interfaces.domain.IComicService;
+import interfaces.domain.IComicServiceAsincrono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de cómics asincrónico: cada operación del servicio sincrónico se
+ * ejecuta a través del hilo de persistencia: las que escriben se encolan en su hilo,
+ * en orden, y las consultas van a su grupo de consultas, sin esperar a las
+ * escrituras encoladas.
+ */
+public class ComicServiceAsincrono implements IComicServiceAsincrono {
+    private final IComicService servicio;
+    private final HiloPersistencia hilo;
+
+    /**
+     * @param servicio servicio sincrónico que aplica las reglas de negocio
+     * @param hilo hilo de persistencia donde se ejecutan sus operaciones
+     */
+    public ComicServiceAsincrono(IComicService servicio, HiloPersistencia hilo) {
+        if (servicio == null || hilo == null) {
+            throw new IllegalArgumentException("El servicio y el hilo de persistencia no pueden ser nulos");
+        }
+        this.servicio = servicio;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public CompletableFuture<Comic> agregarComic(String nombre, String descripcion, Divisa precio) {
+        return hilo.enviar(() -> servicio.agregarComic(nombre, descripcion, precio));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> puedeEliminarComic(Comic comic) {
+        return hilo.consultar(() -> servicio.puedeEliminarComic(comic));
+    }
+
+    @Override
+    public CompletableFuture<Void> eliminarComic(Comic comic) {
+        return hilo.ejecutar(() -> servicio.eliminarComic(comic));
+    }
+
+    @Override
+    public CompletableFuture<Comic> actualizarComic(Comic comic) {
+        return hilo.enviar(() -> servicio.actualizarComic(comic));
+    }
+
+    @Override
+    public CompletableFuture<List<Comic>> buscarComics(String criterio) {
+        return hilo.consultar(() -> servicio.buscarComics(criterio));
+    }
+
+    @Override
+    public CompletableFuture<String> obtenerDescripcion(Comic comic) {
+        return hilo.consultar(() -> servicio.obtenerDescripcion(comic));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> nombreComicYaExiste(String nombre) {
+        return hilo.consultar(() -> servicio.nombreComicYaExiste(nombre));
+    }
+
+    @Override
+    public CompletableFuture<List<Comic>> obtenerComicsDisponibles() {
+        return hilo.consultar(() -> servicio.obtenerComicsDisponibles());
+    }
+
+    @Override
+    public CompletableFuture<Pagina<Comic>> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano) {
+        return hilo.consultar(() -> servicio.obtenerPaginaDisponibles(orden, cursor, tamano));
+    }
+}
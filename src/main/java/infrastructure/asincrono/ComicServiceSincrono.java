@@ -0,0 +1,70 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Divisa;
+import interfaces.domain.IComicService;
+import interfaces.domain.IComicServiceAsincrono;
+
+import java.util.List;
+
+/**
+ * IComicService sobre la versión asincrónica: cada operación espera su futuro.
+ * Lo usan los casos de uso, que siguen siendo sincrónicos.
+ */
+public class ComicServiceSincrono implements IComicService {
+    private final IComicServiceAsincrono servicio;
+
+    public ComicServiceSincrono(IComicServiceAsincrono servicio) {
+        if (servicio == null) {
+            throw new IllegalArgumentException("El servicio asincrónico no puede ser nulo");
+        }
+        this.servicio = servicio;
+    }
+
+    @Override
+    public Comic agregarComic(String nombre, String descripcion, Divisa precio) {
+        return HiloPersistencia.esperar(servicio.agregarComic(nombre, descripcion, precio));
+    }
+
+    @Override
+    public boolean puedeEliminarComic(Comic comic) {
+        return HiloPersistencia.esperar(servicio.puedeEliminarComic(comic));
+    }
+
+    @Override
+    public void eliminarComic(Comic comic) {
+        HiloPersistencia.esperar(servicio.eliminarComic(comic));
+    }
+
+    @Override
+    public Comic actualizarComic(Comic comic) {
+        return HiloPersistencia.esperar(servicio.actualizarComic(comic));
+    }
+
+    @Override
+    public List<Comic> buscarComics(String criterio) {
+        return HiloPersistencia.esperar(servicio.buscarComics(criterio));
+    }
+
+    @Override
+    public String obtenerDescripcion(Comic comic) {
+        return HiloPersistencia.esperar(servicio.obtenerDescripcion(comic));
+    }
+
+    @Override
+    public boolean nombreComicYaExiste(String nombre) {
+        return HiloPersistencia.esperar(servicio.nombreComicYaExiste(nombre));
+    }
+
+    @Override
+    public List<Comic> obtenerComicsDisponibles() {
+        return HiloPersistencia.esperar(servicio.obtenerComicsDisponibles());
+    }
+
+    @Override
+    public Pagina<Comic> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano) {
+        return HiloPersistencia.esperar(servicio.obtenerPaginaDisponibles(orden, cursor, tamano));
+    }
+}
@@ -0,0 +1,114 @@
+package infrastructure.asincrono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Hilo único donde se ejecutan las escrituras de los servicios asincrónicos,
+ * y un grupo de hilos para sus consultas.
+ *
+ * Las escrituras (reservas, compras, altas, bajas) se encolan en este hilo y
+ * se ejecutan en el orden en que se enviaron, así cualquier cantidad de
+ * clientes puede encadenarlas sin un hilo bloqueado por pedido ni un candado
+ * propio. Cada futuro se completa desde este hilo apenas termina su
+ * operación, incluida la escritura en los repositorios.
+ *
+ * Los repositorios publican versiones y sus lecturas no bloquean, así que las
+ * consultas y los reportes no necesitan pasar por la cola: se ejecutan en
+ * paralelo en el grupo de consultas y no demoran a las escrituras. Una
+ * consulta ve lo ya escrito cuando se envía; no espera a escrituras que
+ * sigan en la cola.
+ *
+ * Una operación enviada desde el mismo hilo (por ejemplo, un servicio que
+ * llama a otro) se ejecuta directamente, sin pasar por la cola.
+ */
+public class HiloPersistencia implements AutoCloseable {
+    private final ExecutorService hilo;
+    private final ExecutorService consultas;
+    private volatile Thread dueno;
+
+    /**
+     * @param nombre nombre del hilo; los de consultas lo llevan como prefijo
+     */
+    public HiloPersistencia(String nombre) {
+        this.hilo = Executors.newSingleThreadExecutor(Thread.ofPlatform().name(nombre).daemon().factory());
+        this.consultas = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name(nombre + "-consultas-", 0).daemon().factory());
+        hilo.execute(() -> dueno = Thread.currentThread());
+    }
+
+    /**
+     * Encola la operación
+     *
+     * @return futuro con su resultado, o con la excepción que lanzó
+     */
+    public <T> CompletableFuture<T> enviar(Supplier<T> operacion) {
+        if (Thread.currentThread() == dueno) {
+            return ejecutarAhora(operacion);
+        }
+        return CompletableFuture.supplyAsync(operacion, hilo);
+    }
+
+    /**
+     * Ejecuta una operación de solo lectura en el grupo de consultas, sin
+     * pasar por la cola de escrituras
+     *
+     * @return futuro con su resultado, o con la excepción que lanzó
+     */
+    public <T> CompletableFuture<T> consultar(Supplier<T> operacion) {
+        if (Thread.currentThread() == dueno) {
+            return ejecutarAhora(operacion);
+        }
+        return CompletableFuture.supplyAsync(operacion, consultas);
+    }
+
+    private static <T> CompletableFuture<T> ejecutarAhora(Supplier<T> operacion) {
+        try {
+            return CompletableFuture.completedFuture(operacion.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Encola una operación sin resultado
+     */
+    public CompletableFuture<Void> ejecutar(Runnable operacion) {
+        return enviar(() -> {
+            operacion.run();
+            return null;
+        });
+    }
+
+    /**
+     * Espera el resultado y relanza tal cual la excepción de la operación,
+     * para que la versión sincrónica de un servicio (o una operación
+     * repartida entre particiones) lance las mismas excepciones de dominio
+     * que el servicio original
+     */
+    public static <T> T esperar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Termina los hilos después de las operaciones ya enviadas
+     */
+    @Override
+    public void close() {
+        hilo.close();
+        consultas.close();
+    }
+}
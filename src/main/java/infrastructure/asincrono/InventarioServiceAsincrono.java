@@ -0,0 +1,66 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import interfaces.domain.IInventarioService;
+import interfaces.domain.IInventarioServiceAsincrono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de inventario asincrónico: todas sus operaciones son consultas y
+ * reportes, así que se ejecutan en el grupo de consultas del hilo de
+ * persistencia, en paralelo y sin esperar a las escrituras encoladas.
+ */
+public class InventarioServiceAsincrono implements IInventarioServiceAsincrono {
+    private final IInventarioService servicio;
+    private final HiloPersistencia hilo;
+
+    /**
+     * @param servicio servicio sincrónico que aplica las reglas de negocio
+     * @param hilo hilo de persistencia donde se ejecutan sus operaciones
+     */
+    public InventarioServiceAsincrono(IInventarioService servicio, HiloPersistencia hilo) {
+        if (servicio == null || hilo == null) {
+            throw new IllegalArgumentException("El servicio y el hilo de persistencia no pueden ser nulos");
+        }
+        this.servicio = servicio;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public CompletableFuture<List<Comic>> obtenerComicsDisponibles() {
+        return hilo.consultar(() -> servicio.obtenerComicsDisponibles());
+    }
+
+    @Override
+    public CompletableFuture<List<Comic>> obtenerComicsReservados() {
+        return hilo.consultar(() -> servicio.obtenerComicsReservados());
+    }
+
+    @Override
+    public CompletableFuture<Map<Comic, Long>> obtenerComicsMasVendidos(int limite) {
+        return hilo.consultar(() -> servicio.obtenerComicsMasVendidos(limite));
+    }
+
+    @Override
+    public CompletableFuture<Map<Comic, Long>> obtenerComicsMasReservados(int limite) {
+        return hilo.consultar(() -> servicio.obtenerComicsMasReservados(limite));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Long>> obtenerEstadisticasInventario() {
+        return hilo.consultar(() -> servicio.obtenerEstadisticasInventario());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> verificarDisponibilidad(Comic comic) {
+        return hilo.consultar(() -> servicio.verificarDisponibilidad(comic));
+    }
+
+    @Override
+    public CompletableFuture<List<Comic>> obtenerComicsSinActividad() {
+        return hilo.consultar(() -> servicio.obtenerComicsSinActividad());
+    }
+}
@@ -0,0 +1,58 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import interfaces.domain.IInventarioService;
+import interfaces.domain.IInventarioServiceAsincrono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IInventarioService sobre la versión asincrónica: cada operación espera su futuro.
+ * Lo usan los casos de uso, que siguen siendo sincrónicos.
+ */
+public class InventarioServiceSincrono implements IInventarioService {
+    private final IInventarioServiceAsincrono servicio;
+
+    public InventarioServiceSincrono(IInventarioServiceAsincrono servicio) {
+        if (servicio == null) {
+            throw new IllegalArgumentException("El servicio asincrónico no puede ser nulo");
+        }
+        this.servicio = servicio;
+    }
+
+    @Override
+    public List<Comic> obtenerComicsDisponibles() {
+        return HiloPersistencia.esperar(servicio.obtenerComicsDisponibles());
+    }
+
+    @Override
+    public List<Comic> obtenerComicsReservados() {
+        return HiloPersistencia.esperar(servicio.obtenerComicsReservados());
+    }
+
+    @Override
+    public Map<Comic, Long> obtenerComicsMasVendidos(int limite) {
+        return HiloPersistencia.esperar(servicio.obtenerComicsMasVendidos(limite));
+    }
+
+    @Override
+    public Map<Comic, Long> obtenerComicsMasReservados(int limite) {
+        return HiloPersistencia.esperar(servicio.obtenerComicsMasReservados(limite));
+    }
+
+    @Override
+    public Map<String, Long> obtenerEstadisticasInventario() {
+        return HiloPersistencia.esperar(servicio.obtenerEstadisticasInventario());
+    }
+
+    @Override
+    public boolean verificarDisponibilidad(Comic comic) {
+        return HiloPersistencia.esperar(servicio.verificarDisponibilidad(comic));
+    }
+
+    @Override
+    public List<Comic> obtenerComicsSinActividad() {
+        return HiloPersistencia.esperar(servicio.obtenerComicsSinActividad());
+    }
+}
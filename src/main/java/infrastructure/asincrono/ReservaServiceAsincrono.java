@@ -0,0 +1,76 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
+import interfaces.domain.IReservaService;
+import interfaces.domain.IReservaServiceAsincrono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de reservas asincrónico: cada operación del servicio sincrónico se
+ * ejecuta a través del hilo de persistencia: las que escriben se encolan en su hilo,
+ * en orden, y las consultas van a su grupo de consultas, sin esperar a las
+ * escrituras encoladas.
+ */
+public class ReservaServiceAsincrono implements IReservaServiceAsincrono {
+    private final IReservaService servicio;
+    private final HiloPersistencia hilo;
+
+    /**
+     * @param servicio servicio sincrónico que aplica las reglas de negocio
+     * @param hilo hilo de persistencia donde se ejecutan sus operaciones
+     */
+    public ReservaServiceAsincrono(IReservaService servicio, HiloPersistencia hilo) {
+        if (servicio == null || hilo == null) {
+            throw new IllegalArgumentException("El servicio y el hilo de persistencia no pueden ser nulos");
+        }
+        this.servicio = servicio;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> puedeReservar(Usuario usuario, Comic comic) {
+        return hilo.consultar(() -> servicio.puedeReservar(usuario, comic));
+    }
+
+    @Override
+    public CompletableFuture<Reserva> crearReserva(Usuario usuario, Comic comic) {
+        return hilo.enviar(() -> servicio.crearReserva(usuario, comic));
+    }
+
+    @Override
+    public CompletableFuture<List<ResultadoReserva>> crearReservas(List<SolicitudReserva> solicitudes) {
+        return hilo.enviar(() -> servicio.crearReservas(solicitudes));
+    }
+
+    @Override
+    public CompletableFuture<List<Reserva>> procesarReservasExpiradas() {
+        return hilo.enviar(() -> servicio.procesarReservasExpiradas());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> estaDisponibleParaReserva(Comic comic) {
+        return hilo.consultar(() -> servicio.estaDisponibleParaReserva(comic));
+    }
+
+    @Override
+    public CompletableFuture<List<Reserva>> obtenerReservasActivasDelUsuario(Usuario usuario) {
+        return hilo.consultar(() -> servicio.obtenerReservasActivasDelUsuario(usuario));
+    }
+
+    @Override
+    public CompletableFuture<Void> cancelarReserva(Reserva reserva) {
+        return hilo.ejecutar(() -> servicio.cancelarReserva(reserva));
+    }
+
+    @Override
+    public CompletableFuture<List<EventoReserva>> obtenerHistorialComic(Comic comic) {
+        return hilo.consultar(() -> servicio.obtenerHistorialComic(comic));
+    }
+}
@@ -0,0 +1,67 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
+import interfaces.domain.IReservaService;
+import interfaces.domain.IReservaServiceAsincrono;
+
+import java.util.List;
+
+/**
+ * IReservaService sobre la versión asincrónica: cada operación espera su futuro.
+ * Lo usan los casos de uso, que siguen siendo sincrónicos.
+ */
+public class ReservaServiceSincrono implements IReservaService {
+    private final IReservaServiceAsincrono servicio;
+
+    public ReservaServiceSincrono(IReservaServiceAsincrono servicio) {
+        if (servicio == null) {
+            throw new IllegalArgumentException("El servicio asincrónico no puede ser nulo");
+        }
+        this.servicio = servicio;
+    }
+
+    @Override
+    public boolean puedeReservar(Usuario usuario, Comic comic) {
+        return HiloPersistencia.esperar(servicio.puedeReservar(usuario, comic));
+    }
+
+    @Override
+    public Reserva crearReserva(Usuario usuario, Comic comic) {
+        return HiloPersistencia.esperar(servicio.crearReserva(usuario, comic));
+    }
+
+    @Override
+    public List<ResultadoReserva> crearReservas(List<SolicitudReserva> solicitudes) {
+        return HiloPersistencia.esperar(servicio.crearReservas(solicitudes));
+    }
+
+    @Override
+    public List<Reserva> procesarReservasExpiradas() {
+        return HiloPersistencia.esperar(servicio.procesarReservasExpiradas());
+    }
+
+    @Override
+    public boolean estaDisponibleParaReserva(Comic comic) {
+        return HiloPersistencia.esperar(servicio.estaDisponibleParaReserva(comic));
+    }
+
+    @Override
+    public List<Reserva> obtenerReservasActivasDelUsuario(Usuario usuario) {
+        return HiloPersistencia.esperar(servicio.obtenerReservasActivasDelUsuario(usuario));
+    }
+
+    @Override
+    public void cancelarReserva(Reserva reserva) {
+        HiloPersistencia.esperar(servicio.cancelarReserva(reserva));
+    }
+
+    @Override
+    public List<EventoReserva> obtenerHistorialComic(Comic comic) {
+        return HiloPersistencia.esperar(servicio.obtenerHistorialComic(comic));
+    }
+}
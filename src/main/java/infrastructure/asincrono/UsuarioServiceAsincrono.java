@@ -0,0 +1,68 @@
+package infrastructure.asincrono;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.domain.IUsuarioService;
+import interfaces.domain.IUsuarioServiceAsincrono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de usuarios asincrónico: cada operación del servicio sincrónico se
+ * ejecuta a través del hilo de persistencia: las que escriben se encolan en su hilo,
+ * en orden, y las consultas van a su grupo de consultas, sin esperar a las
+ * escrituras encoladas.
+ */
+public class UsuarioServiceAsincrono implements IUsuarioServiceAsincrono {
+    private final IUsuarioService servicio;
+    private final HiloPersistencia hilo;
+
+    /**
+     * @param servicio servicio sincrónico que aplica las reglas de negocio
+     * @param hilo hilo de persistencia donde se ejecutan sus operaciones
+     */
+    public UsuarioServiceAsincrono(IUsuarioService servicio, HiloPersistencia hilo) {
+        if (servicio == null || hilo == null) {
+            throw new IllegalArgumentException("El servicio y el hilo de persistencia no pueden ser nulos");
+        }
+        this.servicio = servicio;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public CompletableFuture<Usuario> registrarUsuario(String nombre, String apellido, String email) {
+        return hilo.enviar(() -> servicio.registrarUsuario(nombre, apellido, email));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> emailYaExiste(String email) {
+        return hilo.consultar(() -> servicio.emailYaExiste(email));
+    }
+
+    @Override
+    public CompletableFuture<Usuario> actualizarUsuario(Usuario usuario) {
+        return hilo.enviar(() -> servicio.actualizarUsuario(usuario));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> puedeEliminarUsuario(Usuario usuario) {
+        return hilo.consultar(() -> servicio.puedeEliminarUsuario(usuario));
+    }
+
+    @Override
+    public CompletableFuture<Void> eliminarUsuario(Usuario usuario) {
+        return hilo.ejecutar(() -> servicio.eliminarUsuario(usuario));
+    }
+
+    @Override
+    public CompletableFuture<List<Usuario>> buscarUsuarios(String criterio) {
+        return hilo.consultar(() -> servicio.buscarUsuarios(criterio));
+    }
+
+    @Override
+    public CompletableFuture<Pagina<Usuario>> obtenerPaginaUsuarios(OrdenUsuarios orden, String cursor, int tamano) {
+        return hilo.consultar(() -> servicio.obtenerPaginaUsuarios(orden, cursor, tamano));
+    }
+}
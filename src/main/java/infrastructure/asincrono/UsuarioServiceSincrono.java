@@ -0,0 +1,59 @@
+package infrastructure.asincrono;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.domain.IUsuarioService;
+import interfaces.domain.IUsuarioServiceAsincrono;
+
+import java.util.List;
+
+/**
+ * IUsuarioService sobre la versión asincrónica: cada operación espera su futuro.
+ * Lo usan los casos de uso, que siguen siendo sincrónicos.
+ */
+public class UsuarioServiceSincrono implements IUsuarioService {
+    private final IUsuarioServiceAsincrono servicio;
+
+    public UsuarioServiceSincrono(IUsuarioServiceAsincrono servicio) {
+        if (servicio == null) {
+            throw new IllegalArgumentException("El servicio asincrónico no puede ser nulo");
+        }
+        this.servicio = servicio;
+    }
+
+    @Override
+    public Usuario registrarUsuario(String nombre, String apellido, String email) {
+        return HiloPersistencia.esperar(servicio.registrarUsuario(nombre, apellido, email));
+    }
+
+    @Override
+    public boolean emailYaExiste(String email) {
+        return HiloPersistencia.esperar(servicio.emailYaExiste(email));
+    }
+
+    @Override
+    public Usuario actualizarUsuario(Usuario usuario) {
+        return HiloPersistencia.esperar(servicio.actualizarUsuario(usuario));
+    }
+
+    @Override
+    public boolean puedeEliminarUsuario(Usuario usuario) {
+        return HiloPersistencia.esperar(servicio.puedeEliminarUsuario(usuario));
+    }
+
+    @Override
+    public void eliminarUsuario(Usuario usuario) {
+        HiloPersistencia.esperar(servicio.eliminarUsuario(usuario));
+    }
+
+    @Override
+    public List<Usuario> buscarUsuarios(String criterio) {
+        return HiloPersistencia.esperar(servicio.buscarUsuarios(criterio));
+    }
+
+    @Override
+    public Pagina<Usuario> obtenerPaginaUsuarios(OrdenUsuarios orden, String cursor, int tamano) {
+        return HiloPersistencia.esperar(servicio.obtenerPaginaUsuarios(orden, cursor, tamano));
+    }
+}
@@ -0,0 +1,60 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import interfaces.domain.IVentaService;
+import interfaces.domain.IVentaServiceAsincrono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Servicio de ventas asincrónico: cada operación del servicio sincrónico se
+ * ejecuta a través del hilo de persistencia: las que escriben se encolan en su hilo,
+ * en orden, y las consultas van a su grupo de consultas, sin esperar a las
+ * escrituras encoladas.
+ */
+public class VentaServiceAsincrono implements IVentaServiceAsincrono {
+    private final IVentaService servicio;
+    private final HiloPersistencia hilo;
+
+    /**
+     * @param servicio servicio sincrónico que aplica las reglas de negocio
+     * @param hilo hilo de persistencia donde se ejecutan sus operaciones
+     */
+    public VentaServiceAsincrono(IVentaService servicio, HiloPersistencia hilo) {
+        if (servicio == null || hilo == null) {
+            throw new IllegalArgumentException("El servicio y el hilo de persistencia no pueden ser nulos");
+        }
+        this.servicio = servicio;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> puedeComprar(Usuario usuario, Comic comic) {
+        return hilo.consultar(() -> servicio.puedeComprar(usuario, comic));
+    }
+
+    @Override
+    public CompletableFuture<Venta> procesarVenta(Usuario usuario, Comic comic) {
+        return hilo.enviar(() -> servicio.procesarVenta(usuario, comic));
+    }
+
+    @Override
+    public CompletableFuture<List<Venta>> procesarCompra(Usuario usuario, List<Comic> comics) {
+        return hilo.enviar(() -> servicio.procesarCompra(usuario, comics));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Reserva>> verificarYProcesarReserva(Usuario usuario, Comic comic) {
+        return hilo.consultar(() -> servicio.verificarYProcesarReserva(usuario, comic));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> estaDisponibleParaVenta(Comic comic, Usuario usuario) {
+        return hilo.consultar(() -> servicio.estaDisponibleParaVenta(comic, usuario));
+    }
+}
@@ -0,0 +1,51 @@
+package infrastructure.asincrono;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import interfaces.domain.IVentaService;
+import interfaces.domain.IVentaServiceAsincrono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IVentaService sobre la versión asincrónica: cada operación espera su futuro.
+ * Lo usan los casos de uso, que siguen siendo sincrónicos.
+ */
+public class VentaServiceSincrono implements IVentaService {
+    private final IVentaServiceAsincrono servicio;
+
+    public VentaServiceSincrono(IVentaServiceAsincrono servicio) {
+        if (servicio == null) {
+            throw new IllegalArgumentException("El servicio asincrónico no puede ser nulo");
+        }
+        this.servicio = servicio;
+    }
+
+    @Override
+    public boolean puedeComprar(Usuario usuario, Comic comic) {
+        return HiloPersistencia.esperar(servicio.puedeComprar(usuario, comic));
+    }
+
+    @Override
+    public Venta procesarVenta(Usuario usuario, Comic comic) {
+        return HiloPersistencia.esperar(servicio.procesarVenta(usuario, comic));
+    }
+
+    @Override
+    public List<Venta> procesarCompra(Usuario usuario, List<Comic> comics) {
+        return HiloPersistencia.esperar(servicio.procesarCompra(usuario, comics));
+    }
+
+    @Override
+    public Optional<Reserva> verificarYProcesarReserva(Usuario usuario, Comic comic) {
+        return HiloPersistencia.esperar(servicio.verificarYProcesarReserva(usuario, comic));
+    }
+
+    @Override
+    public boolean estaDisponibleParaVenta(Comic comic, Usuario usuario) {
+        return HiloPersistencia.esperar(servicio.estaDisponibleParaVenta(comic, usuario));
+    }
+}
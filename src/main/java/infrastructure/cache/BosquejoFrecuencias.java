@@ -0,0 +1,91 @@
+package infrastructure.cache;
+
+/**
+ * Estimación aproximada de la frecuencia de acceso de cada clave (Count-Min Sketch).
+ *
+ * Cada clave incrementa un contador de 4 bits en cada una de cuatro filas y la
+ * frecuencia estimada es el mínimo de los cuatro, por lo que nunca se
+ * subestima. Los contadores se empaquetan de a dieciséis en un long. Después
+ * de una cantidad de incrementos proporcional al ancho, todos se dividen por
+ * dos: así la historia envejece y una clave que fue popular hace tiempo deja
+ * de tener ventaja sobre las nuevas.
+ *
+ * No es thread-safe; CacheWTinyLfu lo usa bajo su propio bloqueo.
+ */
+final class BosquejoFrecuencias {
+    private static final int FILAS = 4;
+    private static final long[] SEMILLAS = {
+            0x97cb3127_2c8a7b4dL, 0xc3a5c85c_97cb3127L, 0xb492b66f_be98f273L, 0x9ae16a3b_2f90404fL
+    };
+    private static final long MASCARA_MITAD = 0x7777_7777_7777_7777L;
+    private static final int MAXIMO = 15;
+
+    private final long[][] tabla;
+    private final int mascara;
+    private final int tamanoMuestra;
+    private int incrementos;
+
+    /**
+     * @param entradasEsperadas cantidad de claves distintas que se espera seguir
+     */
+    BosquejoFrecuencias(long entradasEsperadas) {
+        int ancho = Integer.highestOneBit(Math.clamp(entradasEsperadas, 16, 1 << 24) - 1) << 1;
+        this.tabla = new long[FILAS][ancho / 16];
+        this.mascara = ancho - 1;
+        this.tamanoMuestra = 10 * ancho;
+    }
+
+    /**
+     * Frecuencia estimada de la clave, entre 0 y 15
+     */
+    int frecuencia(Object clave) {
+        long hash = dispersar(clave.hashCode());
+        int minimo = MAXIMO;
+        for (int fila = 0; fila < FILAS; fila++) {
+            int contador = posicion(hash, fila);
+            int valor = (int) ((tabla[fila][contador >>> 4] >>> ((contador & 15) << 2)) & 0xF);
+            minimo = Math.min(minimo, valor);
+        }
+        return minimo;
+    }
+
+    /**
+     * Registra un acceso a la clave
+     */
+    void incrementar(Object clave) {
+        long hash = dispersar(clave.hashCode());
+        boolean incrementado = false;
+        for (int fila = 0; fila < FILAS; fila++) {
+            int contador = posicion(hash, fila);
+            int desplazamiento = (contador & 15) << 2;
+            long palabra = tabla[fila][contador >>> 4];
+            if (((palabra >>> desplazamiento) & 0xF) < MAXIMO) {
+                tabla[fila][contador >>> 4] = palabra + (1L << desplazamiento);
+                incrementado = true;
+            }
+        }
+
+        if (incrementado && ++incrementos >= tamanoMuestra) {
+            envejecer();
+        }
+    }
+
+    private void envejecer() {
+        for (long[] fila : tabla) {
+            for (int i = 0; i < fila.length; i++) {
+                fila[i] = (fila[i] >>> 1) & MASCARA_MITAD;
+            }
+        }
+        incrementos /= 2;
+    }
+
+    private int posicion(long hash, int fila) {
+        long h = (hash + SEMILLAS[fila]) * SEMILLAS[fila];
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+
+    private static long dispersar(int hashCode) {
+        long h = hashCode * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 29);
+    }
+}
@@ -0,0 +1,266 @@
+package infrastructure.cache;
+
+import interfaces.metricas.EstadisticasCache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Cache acotada por peso con admisión W-TinyLFU.
+ *
+ * Las entradas nuevas entran a una ventana LRU pequeña (1% de la capacidad).
+ * Al salir de la ventana compiten por un lugar en la región principal contra
+ * la víctima de esa región, y solo entran si su frecuencia estimada
+ * (BosquejoFrecuencias) es mayor. Así un recorrido de claves que se piden una
+ * sola vez no desplaza a las consultas frecuentes. La región principal es una
+ * LRU segmentada: una entrada pasa de "prueba" a "protegida" al ser accedida
+ * de nuevo, y la región protegida ocupa como máximo el 80% de la principal.
+ *
+ * Cada entrada pesa lo que indica el pesador (por ejemplo, la cantidad de
+ * elementos de una lista) y la suma de los pesos nunca supera la capacidad.
+ * No hay expiración por tiempo: las entradas se quitan por desalojo o con
+ * invalidar/invalidarSi cuando cambian los datos de los que dependen.
+ *
+ * Es thread-safe con un único bloqueo; la carga de un valor ausente se hace
+ * fuera del bloqueo.
+ *
+ * @param <K> tipo de las claves
+ * @param <V> tipo de los valores
+ */
+public class CacheWTinyLfu<K, V> {
+    private static final double PROPORCION_VENTANA = 0.01;
+    private static final double PROPORCION_PROTEGIDA = 0.8;
+
+    private record Entrada<V>(V valor, int peso) {
+    }
+
+    private final String nombre;
+    private final long capacidad;
+    private final long capacidadVentana;
+    private final long capacidadProtegida;
+    private final ToIntFunction<V> pesador;
+    private final BosquejoFrecuencias frecuencias;
+
+    // en orden de acceso: la primera entrada es la menos usada recientemente
+    private final LinkedHashMap<K, Entrada<V>> ventana = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entrada<V>> prueba = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entrada<V>> protegida = new LinkedHashMap<>(16, 0.75f, true);
+    private long pesoVentana;
+    private long pesoPrueba;
+    private long pesoProtegida;
+
+    // cambia con cada invalidación, para descartar cargas que empezaron antes
+    private long generacion;
+
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long rechazos;
+    private long invalidaciones;
+
+    /**
+     * @param nombre nombre de la cache en las estadísticas
+     * @param capacidad peso total máximo de las entradas
+     * @param pesador peso de cada valor, al menos 1
+     */
+    public CacheWTinyLfu(String nombre, long capacidad, ToIntFunction<V> pesador) {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El nombre de la cache no puede ser nulo o vacío");
+        }
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad de la cache debe ser mayor a 0");
+        }
+        if (pesador == null) {
+            throw new IllegalArgumentException("El pesador no puede ser nulo");
+        }
+
+        this.nombre = nombre;
+        this.capacidad = capacidad;
+        this.capacidadVentana = Math.max(1, (long) (capacidad * PROPORCION_VENTANA));
+        this.capacidadProtegida = (long) ((capacidad - capacidadVentana) * PROPORCION_PROTEGIDA);
+        this.pesador = pesador;
+        this.frecuencias = new BosquejoFrecuencias(capacidad);
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Valor asociado a la clave; si no está en la cache se carga y se ofrece a la cache.
+     *
+     * @param clave clave buscada (no nula)
+     * @param cargar obtiene el valor cuando no está en la cache (no debe retornar null)
+     */
+    public V obtener(K clave, Function<? super K, ? extends V> cargar) {
+        long generacionCarga;
+        synchronized (this) {
+            frecuencias.incrementar(clave);
+            V valor = buscar(clave);
+            if (valor != null) {
+                aciertos++;
+                return valor;
+            }
+            fallos++;
+            generacionCarga = generacion;
+        }
+
+        V cargado = cargar.apply(clave);
+        synchronized (this) {
+            // si algo se invalidó durante la carga el valor puede estar desactualizado
+            if (generacionCarga == generacion && !contiene(clave)) {
+                agregar(clave, cargado);
+            }
+        }
+        return cargado;
+    }
+
+    /**
+     * Quita la entrada de la clave, si existe
+     */
+    public synchronized void invalidar(K clave) {
+        generacion++;
+        if (quitar(clave)) {
+            invalidaciones++;
+        }
+    }
+
+    /**
+     * Quita todas las entradas que cumplen la condición
+     */
+    public synchronized void invalidarSi(BiPredicate<? super K, ? super V> condicion) {
+        generacion++;
+        pesoVentana -= quitarSi(ventana, condicion);
+        pesoPrueba -= quitarSi(prueba, condicion);
+        pesoProtegida -= quitarSi(protegida, condicion);
+    }
+
+    /**
+     * Estadísticas acumuladas desde que se creó la cache
+     */
+    public synchronized EstadisticasCache estadisticas() {
+        return new EstadisticasCache(nombre, aciertos, fallos, desalojos, rechazos, invalidaciones,
+                ventana.size() + prueba.size() + protegida.size(),
+                pesoVentana + pesoPrueba + pesoProtegida, capacidad);
+    }
+
+    private V buscar(K clave) {
+        Entrada<V> entrada = ventana.get(clave);
+        if (entrada != null) {
+            return entrada.valor();
+        }
+
+        entrada = protegida.get(clave);
+        if (entrada != null) {
+            return entrada.valor();
+        }
+
+        entrada = prueba.remove(clave);
+        if (entrada != null) {
+            // segundo acceso en la región principal: pasa a la protegida
+            pesoPrueba -= entrada.peso();
+            protegida.put(clave, entrada);
+            pesoProtegida += entrada.peso();
+            degradarProtegidas();
+            return entrada.valor();
+        }
+        return null;
+    }
+
+    private boolean contiene(K clave) {
+        return ventana.containsKey(clave) || prueba.containsKey(clave) || protegida.containsKey(clave);
+    }
+
+    private void agregar(K clave, V valor) {
+        int peso = Math.max(1, pesador.applyAsInt(valor));
+        if (peso > capacidad - capacidadVentana) {
+            // nunca podría quedar en la región principal
+            rechazos++;
+            return;
+        }
+
+        ventana.put(clave, new Entrada<>(valor, peso));
+        pesoVentana += peso;
+
+        while (pesoVentana > capacidadVentana) {
+            Map.Entry<K, Entrada<V>> candidata = primera(ventana);
+            ventana.remove(candidata.getKey());
+            pesoVentana -= candidata.getValue().peso();
+            admitir(candidata.getKey(), candidata.getValue());
+        }
+    }
+
+    /**
+     * Decide si la candidata que sale de la ventana entra a la región principal,
+     * desalojando víctimas menos frecuentes para hacerle lugar.
+     */
+    private void admitir(K clave, Entrada<V> candidata) {
+        long capacidadPrincipal = capacidad - capacidadVentana;
+        int frecuenciaCandidata = frecuencias.frecuencia(clave);
+
+        while (pesoPrueba + pesoProtegida + candidata.peso() > capacidadPrincipal) {
+            LinkedHashMap<K, Entrada<V>> region = prueba.isEmpty() ? protegida : prueba;
+            Map.Entry<K, Entrada<V>> victima = primera(region);
+            if (frecuencias.frecuencia(victima.getKey()) >= frecuenciaCandidata) {
+                rechazos++;
+                desalojos++;
+                return;
+            }
+
+            region.remove(victima.getKey());
+            if (region == prueba) {
+                pesoPrueba -= victima.getValue().peso();
+            } else {
+                pesoProtegida -= victima.getValue().peso();
+            }
+            desalojos++;
+        }
+
+        prueba.put(clave, candidata);
+        pesoPrueba += candidata.peso();
+    }
+
+    private void degradarProtegidas() {
+        while (pesoProtegida > capacidadProtegida && protegida.size() > 1) {
+            Map.Entry<K, Entrada<V>> menosReciente = primera(protegida);
+            protegida.remove(menosReciente.getKey());
+            pesoProtegida -= menosReciente.getValue().peso();
+            prueba.put(menosReciente.getKey(), menosReciente.getValue());
+            pesoPrueba += menosReciente.getValue().peso();
+        }
+    }
+
+    private boolean quitar(K clave) {
+        Entrada<V> entrada;
+        if ((entrada = ventana.remove(clave)) != null) {
+            pesoVentana -= entrada.peso();
+        } else if ((entrada = prueba.remove(clave)) != null) {
+            pesoPrueba -= entrada.peso();
+        } else if ((entrada = protegida.remove(clave)) != null) {
+            pesoProtegida -= entrada.peso();
+        }
+        return entrada != null;
+    }
+
+    private long quitarSi(LinkedHashMap<K, Entrada<V>> region, BiPredicate<? super K, ? super V> condicion) {
+        long pesoQuitado = 0;
+        Iterator<Map.Entry<K, Entrada<V>>> iterador = region.entrySet().iterator();
+        while (iterador.hasNext()) {
+            Map.Entry<K, Entrada<V>> entrada = iterador.next();
+            if (condicion.test(entrada.getKey(), entrada.getValue().valor())) {
+                iterador.remove();
+                pesoQuitado += entrada.getValue().peso();
+                invalidaciones++;
+            }
+        }
+        return pesoQuitado;
+    }
+
+    private static <K, V> Map.Entry<K, V> primera(LinkedHashMap<K, V> region) {
+        return region.entrySet().iterator().next();
+    }
+}
@@ -0,0 +1,113 @@
+package infrastructure.cache;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Divisa;
+import infrastructure.repository.ComicRepositoryObservable;
+import interfaces.domain.IComicService;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decorador de IComicService que guarda en cache los resultados de buscarComics.
+ *
+ * La clave es el criterio normalizado igual que lo hace la búsqueda (sin
+ * espacios extremos y en minúsculas). Cuando el repositorio avisa un cambio en
+ * un cómic se quitan solo los resultados afectados: los que lo contienen (pudo
+ * cambiar o desaparecer) y aquellos cuyo criterio coincide con sus datos
+ * nuevos (ahora debería aparecer).
+ */
+public class ComicServiceConCache implements IComicService {
+    private final IComicService comicService;
+    // para leer la descripción de los cómics cambiados, que puede estar fuera del heap
+    private final ComicRepositoryObservable comicRepository;
+    private final CacheWTinyLfu<String, List<Comic>> busquedas;
+
+    /**
+     * @param comicService servicio decorado
+     * @param comicRepository repositorio cuyos cambios invalidan la cache
+     * @param capacidad cantidad máxima de cómics entre todos los resultados guardados
+     */
+    public ComicServiceConCache(IComicService comicService,
+                                ComicRepositoryObservable comicRepository,
+                                long capacidad) {
+        if (comicService == null) {
+            throw new IllegalArgumentException("El servicio de cómic no puede ser nulo");
+        }
+        if (comicRepository == null) {
+            throw new IllegalArgumentException("El repositorio de comics no puede ser nulo");
+        }
+
+        this.comicService = comicService;
+        this.busquedas = RegistroCaches.registrar(
+                new CacheWTinyLfu<>("buscarComics", capacidad, comics -> comics.size() + 1));
+        this.comicRepository = comicRepository;
+        comicRepository.agregarOyente(this::invalidar);
+    }
+
+    @Override
+    public List<Comic> buscarComics(String criterio) {
+        List<Comic> resultado = busquedas.obtener(normalizar(criterio),
+                clave -> List.copyOf(comicService.buscarComics(criterio)));
+        // copia, porque quien llama puede modificar la lista
+        return new ArrayList<>(resultado);
+    }
+
+    private void invalidar(TipoCambio tipo, Comic comic) {
+        String nombre = comic.getNombre().toLowerCase();
+        String descripcion = comicRepository.leerDescripcion(comic).toLowerCase();
+
+        busquedas.invalidarSi((criterio, comics) ->
+                criterio.isEmpty()
+                        || nombre.contains(criterio)
+                        || descripcion.contains(criterio)
+                        || comics.stream().anyMatch(c -> c.getId().equals(comic.getId())));
+    }
+
+    @Override
+    public String obtenerDescripcion(Comic comic) {
+        return comicService.obtenerDescripcion(comic);
+    }
+
+    private static String normalizar(String criterio) {
+        return criterio == null ? "" : criterio.trim().toLowerCase();
+    }
+
+    @Override
+    public Comic agregarComic(String nombre, String descripcion, Divisa precio) {
+        return comicService.agregarComic(nombre, descripcion, precio);
+    }
+
+    @Override
+    public boolean puedeEliminarComic(Comic comic) {
+        return comicService.puedeEliminarComic(comic);
+    }
+
+    @Override
+    public void eliminarComic(Comic comic) {
+        comicService.eliminarComic(comic);
+    }
+
+    @Override
+    public Comic actualizarComic(Comic comic) {
+        return comicService.actualizarComic(comic);
+    }
+
+    @Override
+    public boolean nombreComicYaExiste(String nombre) {
+        return comicService.nombreComicYaExiste(nombre);
+    }
+
+    @Override
+    public List<Comic> obtenerComicsDisponibles() {
+        return comicService.obtenerComicsDisponibles();
+    }
+
+    @Override
+    public Pagina<Comic> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano) {
+        return comicService.obtenerPaginaDisponibles(orden, cursor, tamano);
+    }
+}
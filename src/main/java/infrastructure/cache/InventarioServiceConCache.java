@@ -0,0 +1,86 @@
+package infrastructure.cache;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.valueobjects.Identificador;
+import infrastructure.repository.ReservaRepositoryObservable;
+import interfaces.domain.IInventarioService;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorador de IInventarioService que guarda en cache el resultado de
+ * verificarDisponibilidad por cómic.
+ *
+ * La disponibilidad de un cómic depende solo de sus reservas, así que cada
+ * cambio de una reserva quita únicamente la entrada de su cómic.
+ */
+public class InventarioServiceConCache implements IInventarioService {
+    private final IInventarioService inventarioService;
+    private final CacheWTinyLfu<Identificador, Boolean> disponibilidad;
+
+    /**
+     * @param inventarioService servicio decorado
+     * @param reservaRepository repositorio cuyos cambios invalidan la cache
+     * @param capacidad cantidad máxima de cómics en la cache
+     */
+    public InventarioServiceConCache(IInventarioService inventarioService,
+                                     ReservaRepositoryObservable reservaRepository,
+                                     long capacidad) {
+        if (inventarioService == null) {
+            throw new IllegalArgumentException("El servicio de inventario no puede ser nulo");
+        }
+        if (reservaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de reservas no puede ser nulo");
+        }
+
+        this.inventarioService = inventarioService;
+        this.disponibilidad = RegistroCaches.registrar(
+                new CacheWTinyLfu<>("verificarDisponibilidad", capacidad, disponible -> 1));
+        reservaRepository.agregarOyente(this::invalidar);
+    }
+
+    @Override
+    public boolean verificarDisponibilidad(Comic comic) {
+        if (comic == null) {
+            return inventarioService.verificarDisponibilidad(null);
+        }
+        return disponibilidad.obtener(comic.getId(), id -> inventarioService.verificarDisponibilidad(comic));
+    }
+
+    private void invalidar(TipoCambio tipo, Reserva reserva) {
+        disponibilidad.invalidar(reserva.getComic().getId());
+    }
+
+    @Override
+    public List<Comic> obtenerComicsDisponibles() {
+        return inventarioService.obtenerComicsDisponibles();
+    }
+
+    @Override
+    public List<Comic> obtenerComicsReservados() {
+        return inventarioService.obtenerComicsReservados();
+    }
+
+    @Override
+    public Map<Comic, Long> obtenerComicsMasVendidos(int limite) {
+        return inventarioService.obtenerComicsMasVendidos(limite);
+    }
+
+    @Override
+    public Map<Comic, Long> obtenerComicsMasReservados(int limite) {
+        return inventarioService.obtenerComicsMasReservados(limite);
+    }
+
+    @Override
+    public Map<String, Long> obtenerEstadisticasInventario() {
+        return inventarioService.obtenerEstadisticasInventario();
+    }
+
+    @Override
+    public List<Comic> obtenerComicsSinActividad() {
+        return inventarioService.obtenerComicsSinActividad();
+    }
+}
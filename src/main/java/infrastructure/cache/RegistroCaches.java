@@ -0,0 +1,38 @@
+package infrastructure.cache;
+
+import interfaces.metricas.EstadisticasCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registro de las caches del proceso, para consultar sus estadísticas
+ * sin tener una referencia a cada una.
+ */
+public final class RegistroCaches {
+    private static final Map<String, CacheWTinyLfu<?, ?>> CACHES = new ConcurrentSkipListMap<>();
+
+    private RegistroCaches() {
+    }
+
+    /**
+     * Registra la cache con su nombre; reemplaza a otra registrada con el mismo nombre.
+     */
+    public static <K, V> CacheWTinyLfu<K, V> registrar(CacheWTinyLfu<K, V> cache) {
+        CACHES.put(cache.getNombre(), cache);
+        return cache;
+    }
+
+    /**
+     * Estadísticas actuales de cada cache, ordenadas por nombre
+     */
+    public static List<EstadisticasCache> estadisticas() {
+        List<EstadisticasCache> estadisticas = new ArrayList<>();
+        for (CacheWTinyLfu<?, ?> cache : CACHES.values()) {
+            estadisticas.add(cache.estadisticas());
+        }
+        return estadisticas;
+    }
+}
@@ -0,0 +1,109 @@
+package infrastructure.cluster;
+
+import domain.valueobjects.Identificador;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Reparto de los identificadores de cómics entre los nodos por hash consistente.
+ *
+ * Cada nodo ocupa varios puntos (nodos virtuales) en un anillo de 64 bits y es
+ * dueño de los identificadores cuyo hash cae entre el punto anterior y cada uno
+ * de los suyos. Cuando un nodo entra o sale solo cambian de dueño los rangos
+ * vecinos a sus puntos, alrededor de 1/N del total, en lugar de repartir todo
+ * de nuevo como con hash % N.
+ *
+ * Es inmutable: agregar o quitar un nodo crea un anillo nuevo, que el nodo
+ * publica de una vez.
+ */
+public final class AnilloConsistente {
+    static final int NODOS_VIRTUALES = 128;
+
+    private final TreeSet<Nodo> nodos;
+    private final NavigableMap<Long, Nodo> puntos = new TreeMap<>();
+
+    public AnilloConsistente(Collection<Nodo> nodos) {
+        if (nodos == null || nodos.isEmpty()) {
+            throw new IllegalArgumentException("El anillo necesita al menos un nodo");
+        }
+        this.nodos = new TreeSet<>(nodos);
+        for (Nodo nodo : this.nodos) {
+            for (int i = 0; i < NODOS_VIRTUALES; i++) {
+                puntos.put(hash(nodo + "#" + i), nodo);
+            }
+        }
+    }
+
+    public AnilloConsistente con(Nodo nodo) {
+        List<Nodo> nuevos = new ArrayList<>(nodos);
+        nuevos.add(nodo);
+        return new AnilloConsistente(nuevos);
+    }
+
+    public AnilloConsistente sin(Nodo nodo) {
+        List<Nodo> nuevos = new ArrayList<>(nodos);
+        nuevos.remove(nodo);
+        return new AnilloConsistente(nuevos);
+    }
+
+    public boolean contiene(Nodo nodo) {
+        return nodos.contains(nodo);
+    }
+
+    /**
+     * Nodos del anillo en orden de dirección
+     */
+    public List<Nodo> nodos() {
+        return new ArrayList<>(nodos);
+    }
+
+    /**
+     * Nodo que coordina las altas de usuarios: el de menor dirección, para
+     * que todos los nodos elijan el mismo sin ponerse de acuerdo
+     */
+    public Nodo coordinador() {
+        return nodos.first();
+    }
+
+    /**
+     * Nodo dueño del cómic con el identificador dado
+     */
+    public Nodo dueno(Identificador comicId) {
+        long hash = mezclar(comicId.getMasSignificativo() * 31 + comicId.getMenosSignificativo());
+        Map.Entry<Long, Nodo> punto = puntos.ceilingEntry(hash);
+        return (punto != null ? punto : puntos.firstEntry()).getValue();
+    }
+
+    /**
+     * FNV-1a de 64 bits, mezclado para repartir bien los puntos de direcciones parecidas
+     */
+    private static long hash(String texto) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : texto.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mezclar(hash);
+    }
+
+    private static long mezclar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xff51afd7ed558ccdL;
+        valor ^= valor >>> 33;
+        valor *= 0xc4ceb9fe1a85ec53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+
+    @Override
+    public String toString() {
+        return nodos.toString();
+    }
+}
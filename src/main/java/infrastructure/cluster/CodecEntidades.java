@@ -0,0 +1,160 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.enums.EstadoReserva;
+import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Conversión de las entidades a filas de texto para enviarlas a otro nodo, y de vuelta.
+ *
+ * Reservas y ventas viajan con los datos completos de su usuario y su cómic.
+ * Al leerlas, todas las que se refieren al mismo cómic comparten una única
+ * instancia, como en un repositorio local (los reportes agrupan por cómic).
+ * En el nodo dueño, además, el cómic se toma de su propio catálogo si todavía está.
+ */
+final class CodecEntidades {
+    private static final int CAMPOS_USUARIO = 4;
+    private static final int CAMPOS_COMIC = 4;
+
+    // cómic del catálogo local, o null si quien lee no es el dueño
+    private final Function<Identificador, Optional<Comic>> catalogo;
+    private final Map<Identificador, Comic> comicsLeidos = new HashMap<>();
+
+    private CodecEntidades(Function<Identificador, Optional<Comic>> catalogo) {
+        this.catalogo = catalogo;
+    }
+
+    /**
+     * Lector para un único mensaje recibido como respuesta
+     */
+    static CodecEntidades lector() {
+        return new CodecEntidades(null);
+    }
+
+    /**
+     * Lector para un único pedido atendido por el nodo dueño de los cómics
+     */
+    static CodecEntidades lectorConCatalogo(Function<Identificador, Optional<Comic>> catalogo) {
+        return new CodecEntidades(catalogo);
+    }
+
+    // ── escritura ──
+
+    static String[] fila(Usuario usuario) {
+        return new String[]{String.valueOf(usuario.getId()), usuario.getNombre(), usuario.getApellido(),
+                usuario.getEmail()};
+    }
+
+    static String[] fila(Comic comic) {
+        return fila(comic, Comic::getDescription);
+    }
+
+    /**
+     * Fila del cómic con la descripción leída a través de su repositorio,
+     * que puede tenerla fuera del heap
+     */
+    static String[] fila(Comic comic, Function<Comic, String> descripcion) {
+        return new String[]{comic.getId().toString(), comic.getNombre(), descripcion.apply(comic),
+                comic.getPrecio().getMonto().toPlainString()};
+    }
+
+    static String[] fila(Reserva reserva) {
+        String[] fila = new String[1 + CAMPOS_USUARIO + CAMPOS_COMIC + 3];
+        fila[0] = reserva.getId().toString();
+        System.arraycopy(fila(reserva.getUsuario()), 0, fila, 1, CAMPOS_USUARIO);
+        System.arraycopy(fila(reserva.getComic()), 0, fila, 1 + CAMPOS_USUARIO, CAMPOS_COMIC);
+        int siguiente = 1 + CAMPOS_USUARIO + CAMPOS_COMIC;
+        fila[siguiente] = reserva.getFechaReserva().toString();
+        fila[siguiente + 1] = reserva.getFechaExpiracionReserva() == null
+                ? null : reserva.getFechaExpiracionReserva().toString();
+        fila[siguiente + 2] = reserva.getEstadoReserva().name();
+        return fila;
+    }
+
+    static String[] fila(Venta venta) {
+        String[] fila = new String[1 + CAMPOS_USUARIO + CAMPOS_COMIC + 1];
+        fila[0] = venta.getId().toString();
+        System.arraycopy(fila(venta.getUsuario()), 0, fila, 1, CAMPOS_USUARIO);
+        System.arraycopy(fila(venta.getComic()), 0, fila, 1 + CAMPOS_USUARIO, CAMPOS_COMIC);
+        fila[1 + CAMPOS_USUARIO + CAMPOS_COMIC] = venta.getFechaVenta().toString();
+        return fila;
+    }
+
+    static <T> List<String[]> filas(List<T> entidades, Function<T, String[]> convertir) {
+        List<String[]> filas = new ArrayList<>(entidades.size());
+        for (T entidad : entidades) {
+            filas.add(convertir.apply(entidad));
+        }
+        return filas;
+    }
+
+    // ── lectura ──
+
+    static Usuario usuario(String[] fila) {
+        return usuario(fila, 0);
+    }
+
+    Comic comic(String[] fila) {
+        return comic(fila, 0);
+    }
+
+    Reserva reserva(String[] fila) {
+        int siguiente = 1 + CAMPOS_USUARIO + CAMPOS_COMIC;
+        return Reserva.reconstruir(
+                Identificador.desdeTexto(fila[0]),
+                usuario(fila, 1),
+                comic(fila, 1 + CAMPOS_USUARIO),
+                LocalDateTime.parse(fila[siguiente]),
+                fila[siguiente + 1] == null ? null : LocalDateTime.parse(fila[siguiente + 1]),
+                EstadoReserva.valueOf(fila[siguiente + 2]));
+    }
+
+    Venta venta(String[] fila) {
+        return Venta.reconstruir(
+                Identificador.desdeTexto(fila[0]),
+                usuario(fila, 1),
+                comic(fila, 1 + CAMPOS_USUARIO),
+                LocalDateTime.parse(fila[1 + CAMPOS_USUARIO + CAMPOS_COMIC]));
+    }
+
+    static <T> List<T> todas(List<String[]> filas, Function<String[], T> leer) {
+        List<T> entidades = new ArrayList<>(filas.size());
+        for (String[] fila : filas) {
+            entidades.add(leer.apply(fila));
+        }
+        return entidades;
+    }
+
+    private static Usuario usuario(String[] fila, int desde) {
+        Usuario usuario = new Usuario(fila[desde + 1], fila[desde + 2], fila[desde + 3]);
+        usuario.setId(Integer.parseInt(fila[desde]));
+        return usuario;
+    }
+
+    private Comic comic(String[] fila, int desde) {
+        Identificador id = Identificador.desdeTexto(fila[desde]);
+        return comicsLeidos.computeIfAbsent(id, clave -> {
+            if (catalogo != null) {
+                Optional<Comic> local = catalogo.apply(clave);
+                if (local.isPresent()) {
+                    return local.get();
+                }
+            }
+            return new Comic(clave, fila[desde + 1], fila[desde + 2],
+                    Divisa.pesos(new BigDecimal(fila[desde + 3])));
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
+import interfaces.repository.IComicRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Catálogo repartido entre los nodos del cluster: cada cómic vive en su nodo
+ * dueño y las búsquedas sobre todo el catálogo se piden a todos los nodos.
+ */
+public class ComicRepositoryCluster implements IComicRepository {
+    private final NodoCluster nodo;
+
+    public ComicRepositoryCluster(NodoCluster nodo) {
+        if (nodo == null) {
+            throw new IllegalArgumentException("El nodo del cluster no puede ser nulo");
+        }
+        this.nodo = nodo;
+    }
+
+    @Override
+    public void guardar(Comic comic) {
+        if (comic == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        nodo.pedirAlDueno(comic.getId(), Mensaje.de(OperacionCluster.COMIC_GUARDAR, CodecEntidades.fila(comic)));
+    }
+
+    @Override
+    public void guardarTodos(List<Comic> comics) {
+        Map<Nodo, List<String[]>> porNodo = new LinkedHashMap<>();
+        for (Comic comic : comics) {
+            if (comic == null) {
+                throw new IllegalArgumentException("El cómic no puede ser nulo");
+            }
+            porNodo.computeIfAbsent(nodo.getAnillo().dueno(comic.getId()), dueno -> new ArrayList<>())
+                    .add(CodecEntidades.fila(comic));
+        }
+        porNodo.forEach((dueno, filas) -> nodo.pedir(dueno, new Mensaje(OperacionCluster.COMIC_GUARDAR, filas)));
+    }
+
+    @Override
+    public Optional<Comic> buscarPorId(Identificador id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Mensaje respuesta = nodo.pedirAlDueno(id, Mensaje.de(OperacionCluster.COMIC_BUSCAR_ID, id.toString()));
+        return respuesta.filas().stream().findFirst().map(CodecEntidades.lector()::comic);
+    }
+
+    @Override
+    public List<Comic> buscarTodos() {
+        return juntar(nodo.pedirATodos(Mensaje.vacio(OperacionCluster.COMIC_TODOS)));
+    }
+
+    @Override
+    public List<Comic> buscarPorNombre(String nombre) {
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.COMIC_NOMBRE, nombre)));
+    }
+
+    /**
+     * Cada nodo devuelve su propia página desde el mismo cursor y acá se
+     * juntan: viajan a lo sumo nodos × tamaño cómics en vez del catálogo entero.
+     */
+    @Override
+    public Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a 0");
+        }
+        List<Mensaje> respuestas = nodo.pedirATodos(Mensaje.de(OperacionCluster.COMIC_PAGINA,
+                orden.name(), cursor, String.valueOf(tamano)));
+        CodecEntidades codec = CodecEntidades.lector();
+        List<Pagina<Comic>> paginas = new ArrayList<>(respuestas.size());
+        for (Mensaje respuesta : respuestas) {
+            List<String[]> filas = respuesta.filas();
+            paginas.add(new Pagina<>(CodecEntidades.todas(filas.subList(1, filas.size()), codec::comic),
+                    filas.getFirst()[0]));
+        }
+        return Pagina.juntar(paginas, orden::clave, tamano);
+    }
+
+    @Override
+    public void actualizar(Comic comic) {
+        if (comic == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        nodo.pedirAlDueno(comic.getId(), Mensaje.de(OperacionCluster.COMIC_ACTUALIZAR, CodecEntidades.fila(comic)));
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        nodo.pedirAlDueno(id, Mensaje.de(OperacionCluster.COMIC_ELIMINAR, id.toString()));
+    }
+
+    @Override
+    public void eliminarTodos(List<Identificador> ids) {
+        Map<Nodo, List<String[]>> porNodo = new LinkedHashMap<>();
+        for (Identificador id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("El ID no puede ser nulo");
+            }
+            porNodo.computeIfAbsent(nodo.getAnillo().dueno(id), dueno -> new ArrayList<>())
+                    .add(new String[]{id.toString()});
+        }
+        porNodo.forEach((dueno, filas) -> nodo.pedir(dueno, new Mensaje(OperacionCluster.COMIC_ELIMINAR, filas)));
+    }
+
+    private static List<Comic> juntar(List<Mensaje> respuestas) {
+        CodecEntidades codec = CodecEntidades.lector();
+        List<Comic> comics = new ArrayList<>();
+        for (Mensaje respuesta : respuestas) {
+            comics.addAll(CodecEntidades.todas(respuesta.filas(), codec::comic));
+        }
+        return comics;
+    }
+}
@@ -0,0 +1,57 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
+import interfaces.repository.IComicRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Catálogo de una réplica de solo lectura: las búsquedas usan la copia local
+ * que mantiene el SeguidorReplicacion y las escrituras se rechazan.
+ */
+public class ComicRepositoryReplica implements IComicRepository {
+    private final SeguidorReplicacion seguidor;
+
+    public ComicRepositoryReplica(SeguidorReplicacion seguidor) {
+        this.seguidor = seguidor;
+    }
+
+    @Override
+    public void guardar(Comic comic) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public Optional<Comic> buscarPorId(Identificador id) {
+        return seguidor.leer(replica -> replica.comics().buscarPorId(id));
+    }
+
+    @Override
+    public List<Comic> buscarTodos() {
+        return seguidor.leer(replica -> replica.comics().buscarTodos());
+    }
+
+    @Override
+    public List<Comic> buscarPorNombre(String nombre) {
+        return seguidor.leer(replica -> replica.comics().buscarPorNombre(nombre));
+    }
+
+    @Override
+    public Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        return seguidor.leer(replica -> replica.comics().buscarPagina(orden, cursor, tamano));
+    }
+
+    @Override
+    public void actualizar(Comic comic) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        throw seguidor.soloLectura();
+    }
+}
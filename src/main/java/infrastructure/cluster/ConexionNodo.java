@@ -0,0 +1,115 @@
+package infrastructure.cluster;
+
+import exceptions.OperacionRemotaException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Conexiones hacia otro nodo del cluster.
+ *
+ * Cada pedido usa un socket libre (o abre uno nuevo) y lo devuelve al terminar,
+ * así varios hilos pueden hablar con el mismo nodo a la vez y un pedido que
+ * provoca otros pedidos de vuelta nunca espera por un socket ocupado.
+ */
+final class ConexionNodo implements AutoCloseable {
+    private static final int ESPERA_CONEXION_MILIS = 2_000;
+    private static final int ESPERA_RESPUESTA_MILIS = 60_000;
+
+    private final Nodo nodo;
+    private final Queue<Canal> libres = new ConcurrentLinkedQueue<>();
+
+    ConexionNodo(Nodo nodo) {
+        this.nodo = nodo;
+    }
+
+    /**
+     * Envía el pedido y espera la respuesta. Si el otro nodo respondió con un
+     * error, relanza la misma excepción de dominio.
+     *
+     * @throws OperacionRemotaException si el nodo no responde
+     */
+    Mensaje enviar(Mensaje pedido) {
+        Canal canal = libres.poll();
+        Mensaje respuesta;
+        try {
+            if (canal == null) {
+                canal = new Canal(nodo);
+            }
+            pedido.escribir(canal.salida);
+            canal.salida.flush();
+            respuesta = Mensaje.leer(canal.entrada);
+        } catch (IOException e) {
+            if (canal != null) {
+                canal.cerrar();
+            }
+            throw new OperacionRemotaException("No se pudo contactar al nodo " + nodo + ": " + e.getMessage());
+        }
+        libres.offer(canal);
+
+        if (respuesta.operacion() == OperacionCluster.ERROR) {
+            throw excepcion(respuesta.filas().getFirst());
+        }
+        return respuesta;
+    }
+
+    @Override
+    public void close() {
+        Canal canal;
+        while ((canal = libres.poll()) != null) {
+            canal.cerrar();
+        }
+    }
+
+    /**
+     * Fila de error con el tipo y el mensaje de la excepción
+     */
+    static String[] filaError(RuntimeException e) {
+        return new String[]{e.getClass().getName(), e.getMessage()};
+    }
+
+    private RuntimeException excepcion(String[] error) {
+        // solo se recrean las excepciones del dominio y de java.lang, nunca una clase cualquiera
+        if (error[0].startsWith("exceptions.") || error[0].startsWith("java.lang.")) {
+            try {
+                Class<?> tipo = Class.forName(error[0]);
+                if (RuntimeException.class.isAssignableFrom(tipo)) {
+                    return (RuntimeException) tipo.getConstructor(String.class).newInstance(error[1]);
+                }
+            } catch (ReflectiveOperationException e) {
+                // tipo desconocido en este nodo o sin constructor con mensaje
+            }
+        }
+        return new OperacionRemotaException("Error en el nodo " + nodo + ": " + error[0] + ": " + error[1]);
+    }
+
+    private static final class Canal {
+        private final Socket socket;
+        private final DataInputStream entrada;
+        private final DataOutputStream salida;
+
+        Canal(Nodo nodo) throws IOException {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(nodo.host(), nodo.puerto()), ESPERA_CONEXION_MILIS);
+            socket.setSoTimeout(ESPERA_RESPUESTA_MILIS);
+            entrada = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            salida = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        void cerrar() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package infrastructure.cluster;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pedido o respuesta entre nodos: una operación y filas de texto, con el mismo
+ * formato que usan los archivos CSV para cada entidad.
+ *
+ * En el socket se escribe la operación, la cantidad de filas y cada fila como
+ * su cantidad de campos seguida de los campos. Cada campo va como su largo en
+ * bytes (int, -1 si es nulo) y sus bytes UTF-8, sin el límite de 64 KiB de
+ * writeUTF, para que una descripción larga no impida transferir un cómic.
+ */
+record Mensaje(OperacionCluster operacion, List<String[]> filas) {
+
+    static Mensaje de(OperacionCluster operacion, String... campos) {
+        List<String[]> filas = new ArrayList<>(1);
+        filas.add(campos);
+        return new Mensaje(operacion, filas);
+    }
+
+    static Mensaje vacio(OperacionCluster operacion) {
+        return new Mensaje(operacion, new ArrayList<>());
+    }
+
+    static Mensaje respuesta(List<String[]> filas) {
+        return new Mensaje(OperacionCluster.RESPUESTA, filas);
+    }
+
+    /**
+     * Primer campo de la primera fila
+     */
+    String campo() {
+        return filas.getFirst()[0];
+    }
+
+    void escribir(DataOutputStream salida) throws IOException {
+        salida.writeUTF(operacion.name());
+        salida.writeInt(filas.size());
+        for (String[] fila : filas) {
+            salida.writeShort(fila.length);
+            for (String campo : fila) {
+                escribirCampo(salida, campo);
+            }
+        }
+    }
+
+    static Mensaje leer(DataInputStream entrada) throws IOException {
+        OperacionCluster operacion = OperacionCluster.valueOf(entrada.readUTF());
+        int cantidad = entrada.readInt();
+        List<String[]> filas = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            String[] fila = new String[entrada.readShort()];
+            for (int j = 0; j < fila.length; j++) {
+                fila[j] = leerCampo(entrada);
+            }
+            filas.add(fila);
+        }
+        return new Mensaje(operacion, filas);
+    }
+
+    private static void escribirCampo(DataOutputStream salida, String campo) throws IOException {
+        if (campo == null) {
+            salida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = campo.getBytes(StandardCharsets.UTF_8);
+        salida.writeInt(bytes.length);
+        salida.write(bytes);
+    }
+
+    private static String leerCampo(DataInputStream entrada) throws IOException {
+        int largo = entrada.readInt();
+        if (largo < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[largo];
+        entrada.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
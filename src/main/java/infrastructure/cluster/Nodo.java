@@ -0,0 +1,67 @@
+package infrastructure.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dirección de un nodo del cluster; la misma dirección identifica al nodo en
+ * el anillo de todos los demás.
+ *
+ * @param host host donde escucha el nodo (normalmente 127.0.0.1)
+ * @param puerto puerto donde escucha el nodo
+ */
+public record Nodo(String host, int puerto) implements Comparable<Nodo> {
+
+    public Nodo {
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("El host del nodo no puede ser nulo o vacío");
+        }
+        if (puerto <= 0 || puerto > 65535) {
+            throw new IllegalArgumentException("Puerto de nodo inválido: " + puerto);
+        }
+    }
+
+    /**
+     * Lee una dirección con la forma host:puerto
+     */
+    public static Nodo desdeTexto(String texto) {
+        if (texto == null) {
+            throw new IllegalArgumentException("La dirección del nodo no puede ser nula");
+        }
+        int separador = texto.trim().lastIndexOf(':');
+        if (separador <= 0) {
+            throw new IllegalArgumentException("Dirección de nodo inválida: " + texto);
+        }
+        try {
+            return new Nodo(texto.trim().substring(0, separador), Integer.parseInt(texto.trim().substring(separador + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Dirección de nodo inválida: " + texto);
+        }
+    }
+
+    /**
+     * Lee una lista de direcciones separadas por comas; vacía si el texto está en blanco
+     */
+    public static List<Nodo> lista(String texto) {
+        List<Nodo> nodos = new ArrayList<>();
+        if (texto != null) {
+            for (String direccion : texto.split(",")) {
+                if (!direccion.isBlank()) {
+                    nodos.add(desdeTexto(direccion));
+                }
+            }
+        }
+        return nodos;
+    }
+
+    @Override
+    public int compareTo(Nodo otro) {
+        int comparacionHost = host.compareTo(otro.host);
+        return comparacionHost != 0 ? comparacionHost : Integer.compare(puerto, otro.puerto);
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + puerto;
+    }
+}
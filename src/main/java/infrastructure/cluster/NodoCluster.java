@@ -0,0 +1,652 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.enums.EstadoReserva;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
+import exceptions.ComicNoEncontradoException;
+import exceptions.OperacionRemotaException;
+import infrastructure.repository.UsuarioRepository;
+import interfaces.repository.IComicRepository;
+import interfaces.repository.IReservaRepository;
+import interfaces.repository.IVentaRepository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Un proceso del cluster: varios procesos en la misma máquina se reparten los
+ * cómics por hash consistente (AnilloConsistente).
+ *
+ * Cada nodo guarda en sus repositorios locales los cómics de los que es dueño
+ * y las reservas y ventas de esos cómics; los usuarios están replicados en
+ * todos los nodos y sus altas las numera un único nodo coordinador. Los
+ * repositorios de cluster (ComicRepositoryCluster y afines) envían cada
+ * operación al nodo dueño por un socket local, o la atienden aquí mismo si el
+ * dueño es este nodo; las búsquedas sin cómic se piden a todos los nodos.
+ *
+ * Al unirse un nodo, cada miembro le transfiere los cómics (con sus reservas y
+ * ventas) que pasan a ser suyos; al salir, el nodo transfiere todo lo suyo a
+ * los nuevos dueños. Mientras dura una transferencia esos cómics pueden no
+ * aparecer en las búsquedas. No se detectan caídas: un nodo que se detiene sin
+ * salir deja sus cómics inaccesibles hasta que vuelva.
+ *
+ * Para probarlo con varias JVM, cada una en su propio puerto:
+ *   java -Dcomics.cluster.puerto=7001 ... ComicCollectorSystemMain
+ *   java -Dcomics.cluster.puerto=7002 -Dcomics.cluster.semillas=127.0.0.1:7001 ... ComicCollectorSystemMain
+ */
+public class NodoCluster implements AutoCloseable {
+    private final Nodo propio;
+    private final List<Nodo> semillas;
+    private final UsuarioRepository usuarios;
+    private final IComicRepository comics;
+    private final IReservaRepository reservas;
+    private final IVentaRepository ventas;
+
+    // los repositorios locales no son thread-safe: se usan siempre bajo este candado
+    private final ReentrantLock candado = new ReentrantLock();
+    private final Map<Nodo, ConexionNodo> conexiones = new ConcurrentHashMap<>();
+    private final ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile AnilloConsistente anillo;
+    private ServerSocket servidor;
+
+    /**
+     * @param propio dirección donde escucha este nodo
+     * @param semillas nodos a los que se pide entrar al cluster, vacío para empezar uno nuevo
+     */
+    public NodoCluster(Nodo propio, List<Nodo> semillas, UsuarioRepository usuarios,
+                       IComicRepository comics, IReservaRepository reservas, IVentaRepository ventas) {
+        if (propio == null) {
+            throw new IllegalArgumentException("La dirección del nodo no puede ser nula");
+        }
+        if (usuarios == null || comics == null || reservas == null || ventas == null) {
+            throw new IllegalArgumentException("Los repositorios locales no pueden ser nulos");
+        }
+        this.propio = propio;
+        this.semillas = semillas == null ? List.of() : List.copyOf(semillas);
+        this.usuarios = usuarios;
+        this.comics = comics;
+        this.reservas = reservas;
+        this.ventas = ventas;
+        this.anillo = new AnilloConsistente(List.of(propio));
+    }
+
+    /**
+     * Prepara el directorio de datos del nodo (nodo-<puerto>) si todavía no existe.
+     * El primer nodo de un cluster nuevo parte del catálogo y los usuarios del
+     * directorio actual; los demás parten vacíos y reciben su parte al unirse.
+     *
+     * @return prefijo de los archivos del nodo
+     */
+    public static String prepararDirectorio(int puerto, boolean primero) throws IOException {
+        Path directorio = Path.of("nodo-" + puerto);
+        Files.createDirectories(directorio);
+        prepararArchivo(directorio, "comics.csv", "id,nombre,descripcion,precio", primero);
+        prepararArchivo(directorio, "usuarios.csv", "id,nombre,apellido,email", primero);
+        return directorio + File.separator;
+    }
+
+    private static void prepararArchivo(Path directorio, String nombre, String encabezado, boolean copiar)
+            throws IOException {
+        Path archivo = directorio.resolve(nombre);
+        if (Files.exists(archivo)) {
+            return;
+        }
+        if (copiar && Files.exists(Path.of(nombre))) {
+            Files.copy(Path.of(nombre), archivo);
+        } else {
+            Files.writeString(archivo, encabezado + System.lineSeparator());
+        }
+    }
+
+    public Nodo getPropio() {
+        return propio;
+    }
+
+    public AnilloConsistente getAnillo() {
+        return anillo;
+    }
+
+    /**
+     * Empieza a atender pedidos y entra al cluster a través de la primera
+     * semilla que responda. Si ninguna responde, el cluster empieza con este nodo.
+     */
+    public void iniciar() throws IOException {
+        servidor = new ServerSocket(propio.puerto(), 50, InetAddress.getByName(propio.host()));
+        Thread.ofPlatform().name("cluster-" + propio.puerto()).daemon().start(this::aceptar);
+
+        for (Nodo semilla : semillas) {
+            if (semilla.equals(propio)) {
+                continue;
+            }
+            try {
+                Mensaje miembros = pedir(semilla, Mensaje.de(OperacionCluster.UNIRSE, propio.toString()));
+                List<Nodo> nodos = new ArrayList<>();
+                for (String[] fila : miembros.filas()) {
+                    nodos.add(Nodo.desdeTexto(fila[0]));
+                }
+                anillo = new AnilloConsistente(nodos).con(propio);
+
+                List<Usuario> replicados = CodecEntidades.todas(
+                        pedir(semilla, Mensaje.vacio(OperacionCluster.USUARIOS_TODOS)).filas(), CodecEntidades::usuario);
+                localmente(() -> usuarios.replicar(replicados));
+
+                // lo que quedó de una ejecución anterior y ya no es de este nodo
+                repartir(anillo);
+                return;
+            } catch (OperacionRemotaException e) {
+                System.err.println("⚠️ El nodo " + semilla + " no responde: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sale del cluster transfiriendo todos sus cómics, reservas y ventas a
+     * los nuevos dueños, y deja de atender pedidos.
+     */
+    @Override
+    public void close() {
+        AnilloConsistente sinPropio = null;
+        synchronized (this) {
+            if (anillo.contiene(propio) && anillo.nodos().size() > 1) {
+                sinPropio = anillo.sin(propio);
+                anillo = sinPropio;
+            }
+        }
+
+        if (sinPropio != null) {
+            for (Nodo otro : sinPropio.nodos()) {
+                try {
+                    pedir(otro, Mensaje.de(OperacionCluster.SALIR, propio.toString()));
+                } catch (OperacionRemotaException e) {
+                    System.err.println("⚠️ " + e.getMessage());
+                }
+            }
+            repartir(sinPropio);
+        }
+
+        try {
+            if (servidor != null) {
+                servidor.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        hilos.shutdown();
+        conexiones.values().forEach(ConexionNodo::close);
+    }
+
+    // ── pedidos hacia los nodos ──
+
+    /**
+     * Envía el pedido al nodo indicado, o lo atiende aquí si es este nodo
+     */
+    Mensaje pedir(Nodo destino, Mensaje pedido) {
+        if (destino.equals(propio)) {
+            return atender(pedido);
+        }
+        return conexiones.computeIfAbsent(destino, ConexionNodo::new).enviar(pedido);
+    }
+
+    Mensaje pedirAlDueno(Identificador comicId, Mensaje pedido) {
+        return pedir(anillo.dueno(comicId), pedido);
+    }
+
+    Mensaje pedirAlCoordinador(Mensaje pedido) {
+        return pedir(anillo.coordinador(), pedido);
+    }
+
+    /**
+     * Envía el pedido a todos los nodos a la vez
+     *
+     * @return las respuestas, en el orden de los nodos
+     */
+    List<Mensaje> pedirATodos(Mensaje pedido) {
+        List<CompletableFuture<Mensaje>> pendientes = new ArrayList<>();
+        for (Nodo nodo : anillo.nodos()) {
+            pendientes.add(nodo.equals(propio)
+                    ? CompletableFuture.completedFuture(atender(pedido))
+                    : CompletableFuture.supplyAsync(() -> pedir(nodo, pedido), hilos));
+        }
+
+        List<Mensaje> respuestas = new ArrayList<>(pendientes.size());
+        for (CompletableFuture<Mensaje> pendiente : pendientes) {
+            try {
+                respuestas.add(pendiente.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw e;
+            }
+        }
+        return respuestas;
+    }
+
+    /**
+     * Ejecuta la acción sobre los repositorios locales, de a una por vez
+     */
+    <T> T localmente(Supplier<T> accion) {
+        candado.lock();
+        try {
+            return accion.get();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    void localmente(Runnable accion) {
+        localmente(() -> {
+            accion.run();
+            return null;
+        });
+    }
+
+    UsuarioRepository usuariosLocales() {
+        return usuarios;
+    }
+
+    // ── pedidos recibidos ──
+
+    private void aceptar() {
+        try {
+            while (!servidor.isClosed()) {
+                Socket socket = servidor.accept();
+                hilos.submit(() -> atenderConexion(socket));
+            }
+        } catch (IOException e) {
+            if (!servidor.isClosed()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void atenderConexion(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream entrada = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            while (true) {
+                Mensaje pedido;
+                try {
+                    pedido = Mensaje.leer(entrada);
+                } catch (EOFException e) {
+                    return;
+                }
+
+                Mensaje respuesta;
+                try {
+                    respuesta = atender(pedido);
+                } catch (RuntimeException e) {
+                    respuesta = Mensaje.de(OperacionCluster.ERROR, ConexionNodo.filaError(e));
+                }
+                respuesta.escribir(salida);
+                salida.flush();
+            }
+        } catch (IOException e) {
+            if (!servidor.isClosed()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Atiende un pedido sobre los repositorios locales
+     */
+    private Mensaje atender(Mensaje pedido) {
+        List<String[]> filas = pedido.filas();
+        return switch (pedido.operacion()) {
+            case UNIRSE -> unir(Nodo.desdeTexto(pedido.campo()), true);
+            case NODO_UNIDO -> unir(Nodo.desdeTexto(pedido.campo()), false);
+            case SALIR -> {
+                Nodo saliente = Nodo.desdeTexto(pedido.campo());
+                synchronized (this) {
+                    if (anillo.contiene(saliente) && anillo.nodos().size() > 1) {
+                        anillo = anillo.sin(saliente);
+                    }
+                }
+                yield Mensaje.respuesta(List.of());
+            }
+
+            case USUARIOS_TODOS -> Mensaje.respuesta(localmente(
+                    () -> CodecEntidades.filas(usuarios.buscarTodos(), CodecEntidades::fila)));
+            case USUARIO_GUARDAR -> {
+                Usuario usuario = CodecEntidades.usuario(filas.getFirst());
+                localmente(() -> usuarios.guardar(usuario));
+                replicarEnOtros(Mensaje.de(OperacionCluster.REPLICAR_USUARIOS, CodecEntidades.fila(usuario)));
+                yield Mensaje.respuesta(List.<String[]>of(CodecEntidades.fila(usuario)));
+            }
+            case USUARIO_ACTUALIZAR -> {
+                Usuario usuario = CodecEntidades.usuario(filas.getFirst());
+                localmente(() -> usuarios.actualizar(usuario));
+                replicarEnOtros(Mensaje.de(OperacionCluster.REPLICAR_USUARIOS, CodecEntidades.fila(usuario)));
+                yield Mensaje.respuesta(List.of());
+            }
+            case USUARIO_ELIMINAR -> {
+                int id = Integer.parseInt(pedido.campo());
+                localmente(() -> usuarios.eliminar(id));
+                replicarEnOtros(Mensaje.de(OperacionCluster.REPLICAR_BAJA_USUARIO, String.valueOf(id)));
+                yield Mensaje.respuesta(List.of());
+            }
+            case REPLICAR_USUARIOS -> {
+                List<Usuario> replicados = CodecEntidades.todas(filas, CodecEntidades::usuario);
+                localmente(() -> usuarios.replicar(replicados));
+                yield Mensaje.respuesta(List.of());
+            }
+            case REPLICAR_BAJA_USUARIO -> {
+                int id = Integer.parseInt(pedido.campo());
+                localmente(() -> {
+                    if (usuarios.buscarPorId(id).isPresent()) {
+                        usuarios.eliminar(id);
+                    }
+                });
+                yield Mensaje.respuesta(List.of());
+            }
+
+            case COMIC_GUARDAR -> {
+                CodecEntidades codec = CodecEntidades.lector();
+                List<Comic> nuevos = CodecEntidades.todas(filas, codec::comic);
+                localmente(() -> comics.guardarTodos(nuevos));
+                yield Mensaje.respuesta(List.of());
+            }
+            case COMIC_BUSCAR_ID -> Mensaje.respuesta(localmente(() -> CodecEntidades.filas(
+                    comics.buscarPorId(Identificador.desdeTexto(pedido.campo())).stream().toList(),
+                    CodecEntidades::fila)));
+            case COMIC_TODOS -> Mensaje.respuesta(localmente(
+                    () -> CodecEntidades.filas(comics.buscarTodos(), CodecEntidades::fila)));
+            case COMIC_NOMBRE -> Mensaje.respuesta(localmente(
+                    () -> CodecEntidades.filas(comics.buscarPorNombre(pedido.campo()), CodecEntidades::fila)));
+            case COMIC_PAGINA -> {
+                String[] consulta = filas.getFirst();
+                Pagina<Comic> pagina = localmente(() -> comics.buscarPagina(
+                        OrdenComics.valueOf(consulta[0]), consulta[1], Integer.parseInt(consulta[2])));
+                // la primera fila es el cursor siguiente de este nodo, el resto los cómics
+                List<String[]> respuesta = new ArrayList<>(pagina.elementos().size() + 1);
+                respuesta.add(new String[]{pagina.siguiente()});
+                respuesta.addAll(CodecEntidades.filas(pagina.elementos(), CodecEntidades::fila));
+                yield Mensaje.respuesta(respuesta);
+            }
+            case COMIC_ACTUALIZAR -> {
+                Comic recibido = CodecEntidades.lector().comic(filas.getFirst());
+                localmente(() -> {
+                    // se actualiza la misma instancia que referencian las reservas y ventas locales
+                    Comic existente = comics.buscarPorId(recibido.getId()).orElseThrow(() ->
+                            new ComicNoEncontradoException("Cómic no encontrado con ID: " + recibido.getId()));
+                    existente.setNombre(recibido.getNombre());
+                    existente.setDescription(recibido.getDescription());
+                    existente.setPrecio(recibido.getPrecio());
+                    comics.actualizar(existente);
+                });
+                yield Mensaje.respuesta(List.of());
+            }
+            case COMIC_ELIMINAR -> {
+                List<Identificador> ids = new ArrayList<>(filas.size());
+                for (String[] fila : filas) {
+                    ids.add(Identificador.desdeTexto(fila[0]));
+                }
+                localmente(() -> comics.eliminarTodos(ids));
+                yield Mensaje.respuesta(List.of());
+            }
+
+            case RESERVA_GUARDAR -> {
+                localmente(() -> {
+                    CodecEntidades codec = lectorLocal();
+                    reservas.guardarTodas(CodecEntidades.todas(filas, codec::reserva));
+                });
+                yield Mensaje.respuesta(List.of());
+            }
+            case RESERVA_BUSCAR_ID -> Mensaje.respuesta(localmente(() -> CodecEntidades.filas(
+                    reservas.buscarPorId(Identificador.desdeTexto(pedido.campo())).stream().toList(),
+                    CodecEntidades::fila)));
+            case RESERVA_TODAS -> respuestaReservas(reservas::buscarTodas);
+            case RESERVA_USUARIO -> {
+                Usuario usuario = CodecEntidades.usuario(filas.getFirst());
+                yield respuestaReservas(() -> reservas.buscarPorUsuario(usuario));
+            }
+            case RESERVA_COMIC -> respuestaReservas(() -> reservas.buscarPorComic(lectorLocal().comic(filas.getFirst())));
+            case RESERVA_ESTADO -> respuestaReservas(
+                    () -> reservas.buscarPorEstado(EstadoReserva.valueOf(pedido.campo())));
+            case RESERVA_EXPIRADAS -> respuestaReservas(reservas::buscarReservasExpiradas);
+            case RESERVA_FECHA -> respuestaReservas(() -> reservas.buscarPorFecha(
+                    LocalDateTime.parse(filas.getFirst()[0]), LocalDateTime.parse(filas.getFirst()[1])));
+            case RESERVA_ACTUALIZAR -> conReserva(filas, reservas::actualizar);
+            case RESERVA_CANCELACION -> conReserva(filas, reservas::registrarCancelacion);
+            case RESERVA_EXPIRACION -> conReserva(filas, reservas::registrarExpiracion);
+            case RESERVA_CONVERSION -> conReserva(filas, reservas::registrarConversionEnVenta);
+            case RESERVA_ELIMINAR -> {
+                Identificador id = Identificador.desdeTexto(pedido.campo());
+                boolean eliminada = localmente(() -> {
+                    if (reservas.buscarPorId(id).isEmpty()) {
+                        return false;
+                    }
+                    reservas.eliminar(id);
+                    return true;
+                });
+                yield Mensaje.de(OperacionCluster.RESPUESTA, String.valueOf(eliminada));
+            }
+
+            case VENTA_GUARDAR -> {
+                localmente(() -> {
+                    CodecEntidades codec = lectorLocal();
+                    ventas.guardarTodas(CodecEntidades.todas(filas, codec::venta));
+                });
+                yield Mensaje.respuesta(List.of());
+            }
+            case VENTA_BUSCAR_ID -> Mensaje.respuesta(localmente(() -> CodecEntidades.filas(
+                    ventas.buscarPorId(Identificador.desdeTexto(pedido.campo())).stream().toList(),
+                    CodecEntidades::fila)));
+            case VENTA_TODAS -> respuestaVentas(ventas::buscarTodas);
+            case VENTA_USUARIO -> {
+                Usuario usuario = CodecEntidades.usuario(filas.getFirst());
+                yield respuestaVentas(() -> ventas.buscarPorUsuario(usuario));
+            }
+            case VENTA_COMIC -> respuestaVentas(() -> ventas.buscarPorComic(lectorLocal().comic(filas.getFirst())));
+            case VENTA_FECHA -> respuestaVentas(() -> ventas.buscarPorFecha(
+                    LocalDateTime.parse(filas.getFirst()[0]), LocalDateTime.parse(filas.getFirst()[1])));
+            case VENTA_ACTUALIZAR -> {
+                localmente(() -> ventas.actualizar(lectorLocal().venta(filas.getFirst())));
+                yield Mensaje.respuesta(List.of());
+            }
+            case VENTA_ELIMINAR -> {
+                Identificador id = Identificador.desdeTexto(pedido.campo());
+                boolean eliminada = localmente(() -> {
+                    if (ventas.buscarPorId(id).isEmpty()) {
+                        return false;
+                    }
+                    ventas.eliminar(id);
+                    return true;
+                });
+                yield Mensaje.de(OperacionCluster.RESPUESTA, String.valueOf(eliminada));
+            }
+
+            case RESPUESTA, ERROR, SUSCRIBIR, INSTANTANEA, CAMBIOS, LATIDO, SECUENCIA ->
+                    throw new IllegalArgumentException("Operación de cluster inválida: " + pedido.operacion());
+        };
+    }
+
+    /**
+     * Lector que toma los cómics del catálogo local; solo se usa bajo el candado
+     */
+    private CodecEntidades lectorLocal() {
+        return CodecEntidades.lectorConCatalogo(comics::buscarPorId);
+    }
+
+    private Mensaje respuestaReservas(Supplier<List<Reserva>> busqueda) {
+        return Mensaje.respuesta(localmente(() -> CodecEntidades.filas(busqueda.get(), CodecEntidades::fila)));
+    }
+
+    private Mensaje respuestaVentas(Supplier<List<Venta>> busqueda) {
+        return Mensaje.respuesta(localmente(() -> CodecEntidades.filas(busqueda.get(), CodecEntidades::fila)));
+    }
+
+    private Mensaje conReserva(List<String[]> filas, Consumer<Reserva> operacion) {
+        localmente(() -> operacion.accept(lectorLocal().reserva(filas.getFirst())));
+        return Mensaje.respuesta(List.of());
+    }
+
+    // ── pertenencia y reparto ──
+
+    /**
+     * Agrega un nodo al anillo y le transfiere lo que pasa a ser suyo.
+     *
+     * @param avisar si este nodo es la semilla y debe avisar al resto de los miembros
+     */
+    private Mensaje unir(Nodo nuevo, boolean avisar) {
+        AnilloConsistente nuevoAnillo;
+        List<Nodo> otros = new ArrayList<>();
+        synchronized (this) {
+            for (Nodo nodo : anillo.nodos()) {
+                if (!nodo.equals(propio) && !nodo.equals(nuevo)) {
+                    otros.add(nodo);
+                }
+            }
+            nuevoAnillo = anillo.con(nuevo);
+            anillo = nuevoAnillo;
+        }
+
+        if (avisar) {
+            for (Nodo otro : otros) {
+                try {
+                    pedir(otro, Mensaje.de(OperacionCluster.NODO_UNIDO, nuevo.toString()));
+                } catch (OperacionRemotaException e) {
+                    System.err.println("⚠️ " + e.getMessage());
+                }
+            }
+        }
+        repartir(nuevoAnillo);
+
+        List<String[]> miembros = new ArrayList<>();
+        for (Nodo nodo : nuevoAnillo.nodos()) {
+            miembros.add(new String[]{nodo.toString()});
+        }
+        return Mensaje.respuesta(miembros);
+    }
+
+    /**
+     * Transfiere a su dueño en el anillo dado cada cómic local que ya no es de
+     * este nodo, junto con sus reservas y ventas, y después los quita de aquí.
+     * Si un destino no responde, sus datos quedan en este nodo.
+     */
+    private void repartir(AnilloConsistente destino) {
+        Map<Nodo, Transferencia> transferencias = localmente(() -> {
+            Map<Nodo, Transferencia> porNodo = new LinkedHashMap<>();
+            for (Comic comic : comics.buscarTodos()) {
+                Nodo dueno = destino.dueno(comic.getId());
+                if (!dueno.equals(propio)) {
+                    porNodo.computeIfAbsent(dueno, nodo -> new Transferencia()).agregar(comic);
+                }
+            }
+            for (Reserva reserva : reservas.buscarTodas()) {
+                Nodo dueno = destino.dueno(reserva.getComic().getId());
+                if (!dueno.equals(propio)) {
+                    porNodo.computeIfAbsent(dueno, nodo -> new Transferencia()).agregar(reserva);
+                }
+            }
+            for (Venta venta : ventas.buscarTodas()) {
+                Nodo dueno = destino.dueno(venta.getComic().getId());
+                if (!dueno.equals(propio)) {
+                    porNodo.computeIfAbsent(dueno, nodo -> new Transferencia()).agregar(venta);
+                }
+            }
+            return porNodo;
+        });
+
+        transferencias.forEach((nodo, transferencia) -> {
+            try {
+                // primero los cómics, para que las reservas y ventas los encuentren en su catálogo
+                if (!transferencia.comics.isEmpty()) {
+                    pedir(nodo, new Mensaje(OperacionCluster.COMIC_GUARDAR, transferencia.filasComics));
+                }
+                if (!transferencia.reservas.isEmpty()) {
+                    pedir(nodo, new Mensaje(OperacionCluster.RESERVA_GUARDAR, transferencia.filasReservas));
+                }
+                if (!transferencia.ventas.isEmpty()) {
+                    pedir(nodo, new Mensaje(OperacionCluster.VENTA_GUARDAR, transferencia.filasVentas));
+                }
+            } catch (OperacionRemotaException e) {
+                System.err.println("⚠️ No se pudo transferir al nodo " + nodo + ": " + e.getMessage());
+                return;
+            }
+
+            localmente(() -> {
+                comics.eliminarTodos(transferencia.comics);
+                transferencia.reservas.forEach(reservas::eliminar);
+                transferencia.ventas.forEach(ventas::eliminar);
+            });
+            System.out.printf("🔀 %s → %s: %d cómics, %d reservas, %d ventas%n", propio, nodo,
+                    transferencia.comics.size(), transferencia.reservas.size(), transferencia.ventas.size());
+        });
+    }
+
+    /**
+     * Lo que se transfiere a un nodo; las filas se arman bajo el candado
+     */
+    private static final class Transferencia {
+        private final List<Identificador> comics = new ArrayList<>();
+        private final List<Identificador> reservas = new ArrayList<>();
+        private final List<Identificador> ventas = new ArrayList<>();
+        private final List<String[]> filasComics = new ArrayList<>();
+        private final List<String[]> filasReservas = new ArrayList<>();
+        private final List<String[]> filasVentas = new ArrayList<>();
+
+        void agregar(Comic comic) {
+            comics.add(comic.getId());
+            filasComics.add(CodecEntidades.fila(comic));
+        }
+
+        void agregar(Reserva reserva) {
+            reservas.add(reserva.getId());
+            filasReservas.add(CodecEntidades.fila(reserva));
+        }
+
+        void agregar(Venta venta) {
+            ventas.add(venta.getId());
+            filasVentas.add(CodecEntidades.fila(venta));
+        }
+    }
+
+    /**
+     * Aplica una modificación de usuarios en las réplicas de los demás nodos;
+     * una réplica que no responde queda desactualizada hasta volver a unirse
+     */
+    private void replicarEnOtros(Mensaje replicacion) {
+        for (Nodo nodo : anillo.nodos()) {
+            if (nodo.equals(propio)) {
+                continue;
+            }
+            try {
+                pedir(nodo, replicacion);
+            } catch (OperacionRemotaException e) {
+                System.err.println("⚠️ Réplica de usuarios desactualizada en " + nodo + ": " + e.getMessage());
+            }
+        }
+    }
+}
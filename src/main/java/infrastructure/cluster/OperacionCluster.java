@@ -0,0 +1,31 @@
+package infrastructure.cluster;
+
+/**
+ * Operaciones que un nodo puede pedir a otro
+ */
+enum OperacionCluster {
+    // respuestas
+    RESPUESTA, ERROR,
+
+    // pertenencia al cluster
+    UNIRSE, NODO_UNIDO, SALIR,
+
+    // usuarios, replicados en todos los nodos
+    USUARIOS_TODOS, USUARIO_GUARDAR, USUARIO_ACTUALIZAR, USUARIO_ELIMINAR,
+    REPLICAR_USUARIOS, REPLICAR_BAJA_USUARIO,
+
+    // cómics, en el nodo dueño
+    COMIC_GUARDAR, COMIC_BUSCAR_ID, COMIC_TODOS, COMIC_NOMBRE, COMIC_PAGINA, COMIC_ACTUALIZAR, COMIC_ELIMINAR,
+
+    // reservas, en el nodo dueño del cómic reservado
+    RESERVA_GUARDAR, RESERVA_BUSCAR_ID, RESERVA_TODAS, RESERVA_USUARIO, RESERVA_COMIC, RESERVA_ESTADO,
+    RESERVA_EXPIRADAS, RESERVA_FECHA, RESERVA_ACTUALIZAR, RESERVA_CANCELACION, RESERVA_EXPIRACION,
+    RESERVA_CONVERSION, RESERVA_ELIMINAR,
+
+    // ventas, en el nodo dueño del cómic vendido
+    VENTA_GUARDAR, VENTA_BUSCAR_ID, VENTA_TODAS, VENTA_USUARIO, VENTA_COMIC, VENTA_FECHA,
+    VENTA_ACTUALIZAR, VENTA_ELIMINAR,
+
+    // replicación del primario hacia los seguidores de solo lectura
+    SUSCRIBIR, INSTANTANEA, CAMBIOS, LATIDO, SECUENCIA
+}
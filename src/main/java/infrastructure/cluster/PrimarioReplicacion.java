@@ -0,0 +1,343 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import infrastructure.eventos.CambioRepositorio;
+import infrastructure.eventos.ConsumidorCambios;
+import interfaces.metricas.EstadisticasReplicacion;
+import interfaces.repository.IComicRepository;
+import interfaces.repository.IReservaRepository;
+import interfaces.repository.IUsuarioRepository;
+import interfaces.repository.IVentaRepository;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Primario de la replicación: envía los cambios de los repositorios a procesos
+ * seguidores de solo lectura (SeguidorReplicacion) por un socket local.
+ *
+ * Es un consumidor del BusCambios, así que no agrega trabajo a las escrituras:
+ * cada cambio se convierte a una fila de texto en el hilo del consumidor y se
+ * encola para cada seguidor, que lo recibe de forma asincrónica. Además guarda
+ * la última fila de cada entidad, de modo que un seguidor que se conecta recibe
+ * primero una instantánea de todo el estado hasta una secuencia y después los
+ * cambios posteriores, sin huecos ni repetidos.
+ *
+ * Las entidades del bus son las mismas instancias del repositorio: si cambian
+ * otra vez antes de convertirse, la fila ya lleva el valor nuevo, y el cambio
+ * siguiente la repite. El seguidor siempre termina en el mismo estado.
+ *
+ * En el mismo puerto atiende pedidos de la última secuencia publicada en el bus,
+ * aunque todavía no se haya enviado, que usa el seguidor para las lecturas que
+ * deben ver todo lo escrito hasta ese momento.
+ */
+public class PrimarioReplicacion implements ConsumidorCambios, AutoCloseable {
+    private static final List<String> REPOSITORIOS = List.of("usuarios", "comics", "reservas", "ventas");
+    private static final int CAMBIOS_POR_MENSAJE = 10_000;
+    private static final long LATIDO_MILIS = 500;
+
+    private final Nodo direccion;
+    private final int pendientesMaximos;
+    // última secuencia publicada en el bus, aunque este consumidor todavía no la procese
+    private final LongSupplier secuenciaPublicada;
+
+    // última fila de cada entidad, por repositorio y por identificador; se usa bajo su propio candado
+    private final Map<String, Map<String, String[]>> estado = new LinkedHashMap<>();
+    private final List<Seguidor> seguidores = new CopyOnWriteArrayList<>();
+    private final ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor();
+
+    // descripción de un cómic según su repositorio, que puede guardarla fuera del heap
+    private volatile Function<Comic, String> descripciones = Comic::getDescription;
+    private volatile long ultimaSecuencia = -1;
+    private ServerSocket servidor;
+
+    /**
+     * @param direccion dirección donde escucha a los seguidores
+     * @param pendientesMaximos cambios sin enviar a partir de los cuales se desconecta
+     *                          a un seguidor demasiado lento; al reconectarse recibe
+     *                          una instantánea nueva
+     * @param secuenciaPublicada última secuencia publicada en el bus; es la que
+     *                           se informa a quien pide leer lo escrito hasta ahora
+     */
+    public PrimarioReplicacion(Nodo direccion, int pendientesMaximos, LongSupplier secuenciaPublicada) {
+        if (direccion == null) {
+            throw new IllegalArgumentException("La dirección del primario no puede ser nula");
+        }
+        if (pendientesMaximos <= 0) {
+            throw new IllegalArgumentException("Los cambios pendientes máximos deben ser mayores a 0");
+        }
+        this.direccion = direccion;
+        this.pendientesMaximos = pendientesMaximos;
+        this.secuenciaPublicada = secuenciaPublicada;
+        for (String repositorio : REPOSITORIOS) {
+            estado.put(repositorio, new HashMap<>());
+        }
+    }
+
+    /**
+     * Toma el estado inicial de los repositorios. Debe llamarse antes de la
+     * primera escritura, cuando todavía nadie más los usa.
+     */
+    public void cargarEstadoInicial(IUsuarioRepository usuarios, IComicRepository comics,
+                                    IReservaRepository reservas, IVentaRepository ventas) {
+        descripciones = comics::leerDescripcion;
+        synchronized (estado) {
+            usuarios.buscarTodos().forEach(usuario -> recordar("usuarios", CodecEntidades.fila(usuario)));
+            comics.buscarTodos().forEach(comic -> recordar("comics", CodecEntidades.fila(comic, descripciones)));
+            reservas.buscarTodas().forEach(reserva -> recordar("reservas", CodecEntidades.fila(reserva)));
+            ventas.buscarTodas().forEach(venta -> recordar("ventas", CodecEntidades.fila(venta)));
+        }
+    }
+
+    /**
+     * Empieza a atender seguidores
+     */
+    public void iniciar() throws IOException {
+        servidor = new ServerSocket(direccion.puerto(), 50, InetAddress.getByName(direccion.host()));
+        Thread.ofPlatform().name("replicacion-" + direccion.puerto()).daemon().start(this::aceptar);
+        RegistroReplicacion.registrar("primario " + direccion, this::estadisticas);
+    }
+
+    public Nodo getDireccion() {
+        return direccion;
+    }
+
+    @Override
+    public void procesar(CambioRepositorio cambio, boolean finDeLote) {
+        String[] entidad = filaEntidad(cambio.repositorio(), cambio.entidad());
+        if (entidad == null) {
+            return;
+        }
+
+        String[] fila = new String[4 + entidad.length];
+        fila[0] = String.valueOf(cambio.secuencia());
+        fila[1] = String.valueOf(cambio.instante().toEpochMilli());
+        fila[2] = cambio.repositorio();
+        fila[3] = cambio.tipo().name();
+        System.arraycopy(entidad, 0, fila, 4, entidad.length);
+
+        synchronized (estado) {
+            if (cambio.tipo() == TipoCambio.BAJA) {
+                estado.get(cambio.repositorio()).remove(entidad[0]);
+            } else {
+                recordar(cambio.repositorio(), entidad);
+            }
+            ultimaSecuencia = cambio.secuencia();
+            for (Seguidor seguidor : seguidores) {
+                seguidor.encolar(fila);
+            }
+        }
+    }
+
+    /**
+     * Un flujo por seguidor conectado
+     */
+    public List<EstadisticasReplicacion> estadisticas() {
+        List<EstadisticasReplicacion> estadisticas = new ArrayList<>();
+        for (Seguidor seguidor : seguidores) {
+            estadisticas.add(seguidor.estadisticas());
+        }
+        return estadisticas;
+    }
+
+    /**
+     * Deja de aceptar seguidores y cierra los flujos abiertos
+     */
+    @Override
+    public void close() {
+        RegistroReplicacion.quitar("primario " + direccion);
+        try {
+            if (servidor != null) {
+                servidor.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        seguidores.forEach(Seguidor::cerrar);
+        hilos.shutdown();
+    }
+
+    /**
+     * Fila de la entidad con el formato de CodecEntidades, o null si el
+     * repositorio no se replica
+     */
+    private String[] filaEntidad(String repositorio, Object entidad) {
+        return switch (entidad) {
+            case Usuario usuario when repositorio.equals("usuarios") -> CodecEntidades.fila(usuario);
+            case Comic comic when repositorio.equals("comics") -> CodecEntidades.fila(comic, descripciones);
+            case Reserva reserva when repositorio.equals("reservas") -> CodecEntidades.fila(reserva);
+            case Venta venta when repositorio.equals("ventas") -> CodecEntidades.fila(venta);
+            case null, default -> null;
+        };
+    }
+
+    private void recordar(String repositorio, String[] fila) {
+        estado.get(repositorio).put(fila[0], fila);
+    }
+
+    // ── seguidores ──
+
+    private void aceptar() {
+        try {
+            while (!servidor.isClosed()) {
+                Socket socket = servidor.accept();
+                hilos.submit(() -> atenderConexion(socket));
+            }
+        } catch (IOException e) {
+            if (!servidor.isClosed()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void atenderConexion(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream entrada = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            while (true) {
+                Mensaje pedido;
+                try {
+                    pedido = Mensaje.leer(entrada);
+                } catch (EOFException e) {
+                    return;
+                }
+                switch (pedido.operacion()) {
+                    case SECUENCIA -> Mensaje.respuesta(List.<String[]>of(new String[]{String.valueOf(secuenciaPublicada.getAsLong())}))
+                            .escribir(salida);
+                    case SUSCRIBIR -> {
+                        // a partir de aquí la conexión solo lleva cambios hacia el seguidor
+                        transmitir(new Seguidor(pedido.campo(), socket), salida);
+                        return;
+                    }
+                    default -> Mensaje.de(OperacionCluster.ERROR, ConexionNodo.filaError(new IllegalArgumentException(
+                            "Operación no soportada por el primario: " + pedido.operacion()))).escribir(salida);
+                }
+                salida.flush();
+            }
+        } catch (IOException e) {
+            if (!servidor.isClosed()) {
+                System.err.println("⚠️ Conexión de replicación cerrada: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Envía la instantánea y después los cambios, hasta que el seguidor se desconecte
+     */
+    private void transmitir(Seguidor seguidor, DataOutputStream salida) throws IOException {
+        List<String[]> instantanea = new ArrayList<>();
+        synchronized (estado) {
+            instantanea.add(new String[]{String.valueOf(ultimaSecuencia)});
+            estado.forEach((repositorio, filas) -> {
+                for (String[] fila : filas.values()) {
+                    String[] conRepositorio = new String[1 + fila.length];
+                    conRepositorio[0] = repositorio;
+                    System.arraycopy(fila, 0, conRepositorio, 1, fila.length);
+                    instantanea.add(conRepositorio);
+                }
+            });
+            seguidor.enviada = ultimaSecuencia;
+            seguidores.add(seguidor);
+        }
+        System.out.println("📡 Seguidor " + seguidor.nombre + " conectado: instantánea de "
+                + (instantanea.size() - 1) + " entidades hasta la secuencia " + seguidor.enviada);
+
+        try {
+            new Mensaje(OperacionCluster.INSTANTANEA, instantanea).escribir(salida);
+            salida.flush();
+            List<String[]> lote = new ArrayList<>();
+            while (!seguidor.cerrado) {
+                String[] primera = seguidor.pendientes.poll(LATIDO_MILIS, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    Mensaje.de(OperacionCluster.LATIDO, String.valueOf(ultimaSecuencia)).escribir(salida);
+                } else {
+                    lote.add(primera);
+                    seguidor.pendientes.drainTo(lote, CAMBIOS_POR_MENSAJE - 1);
+                    new Mensaje(OperacionCluster.CAMBIOS, lote).escribir(salida);
+                    seguidor.enviada = Long.parseLong(lote.getLast()[0]);
+                    seguidor.enviados += lote.size();
+                    lote = new ArrayList<>();
+                }
+                salida.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            seguidores.remove(seguidor);
+            System.out.println("📡 Seguidor " + seguidor.nombre + " desconectado");
+        }
+    }
+
+    private final class Seguidor {
+        private final String nombre;
+        private final Socket socket;
+        private final BlockingQueue<String[]> pendientes = new LinkedBlockingQueue<>();
+
+        // los escribe solo el hilo que transmite hacia este seguidor
+        private volatile long enviada;
+        private volatile long enviados;
+        private volatile boolean cerrado;
+
+        Seguidor(String nombre, Socket socket) {
+            this.nombre = nombre;
+            this.socket = socket;
+        }
+
+        /**
+         * Se llama con el estado bloqueado, en orden de secuencia
+         */
+        void encolar(String[] fila) {
+            if (cerrado) {
+                return;
+            }
+            if (pendientes.size() >= pendientesMaximos) {
+                System.err.println("⚠️ El seguidor " + nombre + " quedó " + pendientesMaximos
+                        + " cambios atrás; se lo desconecta");
+                cerrar();
+                return;
+            }
+            pendientes.add(fila);
+        }
+
+        void cerrar() {
+            cerrado = true;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        EstadisticasReplicacion estadisticas() {
+            String[] masVieja = pendientes.peek();
+            long retraso = masVieja == null ? 0 : System.currentTimeMillis() - Long.parseLong(masVieja[1]);
+            return new EstadisticasReplicacion(direccion + " → " + nombre, !cerrado,
+                    ultimaSecuencia, enviada, enviados, Math.max(0, retraso));
+        }
+    }
+}
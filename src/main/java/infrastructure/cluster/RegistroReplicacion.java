@@ -0,0 +1,42 @@
+package infrastructure.cluster;
+
+import interfaces.metricas.EstadisticasReplicacion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Registro de los flujos de replicación del proceso, para consultar su retraso
+ * sin tener una referencia al primario o al seguidor.
+ */
+public final class RegistroReplicacion {
+    private static final Map<String, Supplier<List<EstadisticasReplicacion>>> FUENTES = new ConcurrentSkipListMap<>();
+
+    private RegistroReplicacion() {
+    }
+
+    /**
+     * Registra una fuente de estadísticas con su nombre; reemplaza a otra registrada con el mismo nombre.
+     */
+    static void registrar(String nombre, Supplier<List<EstadisticasReplicacion>> fuente) {
+        FUENTES.put(nombre, fuente);
+    }
+
+    static void quitar(String nombre) {
+        FUENTES.remove(nombre);
+    }
+
+    /**
+     * Estadísticas actuales de cada flujo, ordenadas por el nombre de su fuente
+     */
+    public static List<EstadisticasReplicacion> estadisticas() {
+        List<EstadisticasReplicacion> estadisticas = new ArrayList<>();
+        for (Supplier<List<EstadisticasReplicacion>> fuente : FUENTES.values()) {
+            estadisticas.addAll(fuente.get());
+        }
+        return estadisticas;
+    }
+}
@@ -0,0 +1,152 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
+import exceptions.ReservaNoEncontradaException;
+import interfaces.repository.IReservaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reservas repartidas entre los nodos del cluster: cada reserva vive en el
+ * nodo dueño de su cómic. Las búsquedas que no dependen de un cómic se piden
+ * a todos los nodos y se juntan en el orden natural de las reservas.
+ */
+public class ReservaRepositoryCluster implements IReservaRepository {
+    private final NodoCluster nodo;
+
+    public ReservaRepositoryCluster(NodoCluster nodo) {
+        if (nodo == null) {
+            throw new IllegalArgumentException("El nodo del cluster no puede ser nulo");
+        }
+        this.nodo = nodo;
+    }
+
+    @Override
+    public void guardar(Reserva reserva) {
+        enviarAlDueno(OperacionCluster.RESERVA_GUARDAR, reserva);
+    }
+
+    @Override
+    public void guardarTodas(List<Reserva> reservas) {
+        Map<Nodo, List<String[]>> porNodo = new LinkedHashMap<>();
+        for (Reserva reserva : reservas) {
+            if (reserva == null) {
+                throw new IllegalArgumentException("La reserva no puede ser nula");
+            }
+            porNodo.computeIfAbsent(nodo.getAnillo().dueno(reserva.getComic().getId()), dueno -> new ArrayList<>())
+                    .add(CodecEntidades.fila(reserva));
+        }
+        porNodo.forEach((dueno, filas) -> nodo.pedir(dueno, new Mensaje(OperacionCluster.RESERVA_GUARDAR, filas)));
+    }
+
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.RESERVA_BUSCAR_ID, id.toString())))
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Reserva> buscarTodas() {
+        return juntar(nodo.pedirATodos(Mensaje.vacio(OperacionCluster.RESERVA_TODAS)));
+    }
+
+    @Override
+    public List<Reserva> buscarPorUsuario(Usuario usuario) {
+        if (usuario == null) {
+            return new ArrayList<>();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.RESERVA_USUARIO, CodecEntidades.fila(usuario))));
+    }
+
+    @Override
+    public List<Reserva> buscarPorComic(Comic comic) {
+        if (comic == null) {
+            return new ArrayList<>();
+        }
+        return juntar(List.of(nodo.pedirAlDueno(comic.getId(),
+                Mensaje.de(OperacionCluster.RESERVA_COMIC, CodecEntidades.fila(comic)))));
+    }
+
+    @Override
+    public List<Reserva> buscarPorEstado(EstadoReserva estado) {
+        if (estado == null) {
+            return new ArrayList<>();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.RESERVA_ESTADO, estado.name())));
+    }
+
+    @Override
+    public List<Reserva> buscarReservasExpiradas() {
+        return juntar(nodo.pedirATodos(Mensaje.vacio(OperacionCluster.RESERVA_EXPIRADAS)));
+    }
+
+    @Override
+    public List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        if (fechaInicio == null || fechaFin == null) {
+            return new ArrayList<>();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.RESERVA_FECHA,
+                fechaInicio.toString(), fechaFin.toString())));
+    }
+
+    @Override
+    public void actualizar(Reserva reserva) {
+        enviarAlDueno(OperacionCluster.RESERVA_ACTUALIZAR, reserva);
+    }
+
+    @Override
+    public void registrarCancelacion(Reserva reserva) {
+        enviarAlDueno(OperacionCluster.RESERVA_CANCELACION, reserva);
+    }
+
+    @Override
+    public void registrarExpiracion(Reserva reserva) {
+        enviarAlDueno(OperacionCluster.RESERVA_EXPIRACION, reserva);
+    }
+
+    @Override
+    public void registrarConversionEnVenta(Reserva reserva) {
+        enviarAlDueno(OperacionCluster.RESERVA_CONVERSION, reserva);
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        boolean eliminada = nodo.pedirATodos(Mensaje.de(OperacionCluster.RESERVA_ELIMINAR, id.toString())).stream()
+                .anyMatch(respuesta -> Boolean.parseBoolean(respuesta.campo()));
+        if (!eliminada) {
+            throw new ReservaNoEncontradaException("Reserva no encontrada con ID: " + id);
+        }
+    }
+
+    private void enviarAlDueno(OperacionCluster operacion, Reserva reserva) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+        nodo.pedirAlDueno(reserva.getComic().getId(), Mensaje.de(operacion, CodecEntidades.fila(reserva)));
+    }
+
+    private static List<Reserva> juntar(List<Mensaje> respuestas) {
+        CodecEntidades codec = CodecEntidades.lector();
+        List<Reserva> reservas = new ArrayList<>();
+        for (Mensaje respuesta : respuestas) {
+            reservas.addAll(CodecEntidades.todas(respuesta.filas(), codec::reserva));
+        }
+        reservas.sort(null);
+        return reservas;
+    }
+}
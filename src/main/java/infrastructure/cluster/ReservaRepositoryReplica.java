@@ -0,0 +1,79 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
+import interfaces.repository.IReservaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reservas de una réplica de solo lectura: las búsquedas usan la copia local
+ * que mantiene el SeguidorReplicacion y las escrituras se rechazan.
+ */
+public class ReservaRepositoryReplica implements IReservaRepository {
+    private final SeguidorReplicacion seguidor;
+
+    public ReservaRepositoryReplica(SeguidorReplicacion seguidor) {
+        this.seguidor = seguidor;
+    }
+
+    @Override
+    public void guardar(Reserva reserva) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void guardarTodas(List<Reserva> reservas) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        return seguidor.leer(replica -> replica.reservas().buscarPorId(id));
+    }
+
+    @Override
+    public List<Reserva> buscarTodas() {
+        return seguidor.leer(replica -> replica.reservas().buscarTodas());
+    }
+
+    @Override
+    public List<Reserva> buscarPorUsuario(Usuario usuario) {
+        return seguidor.leer(replica -> replica.reservas().buscarPorUsuario(usuario));
+    }
+
+    @Override
+    public List<Reserva> buscarPorComic(Comic comic) {
+        return seguidor.leer(replica -> replica.reservas().buscarPorComic(comic));
+    }
+
+    @Override
+    public List<Reserva> buscarPorEstado(EstadoReserva estado) {
+        return seguidor.leer(replica -> replica.reservas().buscarPorEstado(estado));
+    }
+
+    @Override
+    public List<Reserva> buscarReservasExpiradas() {
+        return seguidor.leer(replica -> replica.reservas().buscarReservasExpiradas());
+    }
+
+    @Override
+    public List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return seguidor.leer(replica -> replica.reservas().buscarPorFecha(fechaInicio, fechaFin));
+    }
+
+    @Override
+    public void actualizar(Reserva reserva) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        throw seguidor.soloLectura();
+    }
+}
@@ -0,0 +1,481 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.valueobjects.Identificador;
+import exceptions.OperacionRemotaException;
+import exceptions.ReplicaDesactualizadaException;
+import exceptions.ReplicaSoloLecturaException;
+import infrastructure.repository.ComicRepository;
+import infrastructure.repository.ReservaRepository;
+import infrastructure.repository.UsuarioRepository;
+import infrastructure.repository.VentaRepository;
+import interfaces.metricas.EstadisticasReplicacion;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Seguidor de la replicación: un proceso de solo lectura que recibe los cambios
+ * del PrimarioReplicacion y los aplica en sus propios repositorios, para
+ * atender búsquedas y reportes sin competir con las reservas y ventas del primario.
+ *
+ * Al conectarse recibe una instantánea completa y arma repositorios nuevos con
+ * ella; después aplica los cambios en lotes, con un candado de escritura por
+ * lote. Los repositorios de réplica (ComicRepositoryReplica y afines) leen con
+ * el candado de lectura. Si se corta la conexión, reintenta cada segundo y al
+ * volver reemplaza todo el estado por una instantánea nueva.
+ *
+ * Las lecturas son eventualmente consistentes. Para ver una escritura propia,
+ * el pedido se ejecuta con leerDespuesDe (con la secuencia que devolvió el bus
+ * del primario al publicarla) o con leerActualizado (que pregunta al primario
+ * su última secuencia): todas las lecturas del pedido esperan a que la réplica
+ * alcance esa secuencia. Con lecturas actualizadas, cada lectura fuera de esos
+ * pedidos se comporta como si se hiciera con leerActualizado.
+ */
+public class SeguidorReplicacion implements AutoCloseable {
+    private static final long REINTENTO_MILIS = 1_000;
+    private static final int ESPERA_CONEXION_MILIS = 2_000;
+    private static final int ESPERA_LATIDO_MILIS = 10_000;
+
+    /**
+     * Repositorios locales de la réplica; se reemplazan juntos con cada instantánea
+     */
+    record Repositorios(UsuarioRepository usuarios, ComicRepository comics,
+                        ReservaRepository reservas, VentaRepository ventas) {
+    }
+
+    private final Nodo primario;
+    private final String directorio;
+    private final long esperaMaximaMilis;
+    private final boolean lecturasActualizadas;
+    private final ConexionNodo pedidos;
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+    // secuencia que exige el pedido en curso de cada hilo, o -1
+    private final ThreadLocal<long[]> exigida = ThreadLocal.withInitial(() -> new long[]{-1});
+    private final Object avance = new Object();
+
+    private volatile Repositorios repositorios;
+    private volatile long aplicada = -1;
+    private volatile long ultimaSecuencia = -1;
+    private volatile long aplicados;
+    private volatile long instanteUltimoAplicado;
+    private volatile long retrasoUltimoAplicado;
+    private volatile boolean conectado;
+    private volatile boolean activo = true;
+    private volatile Socket socket;
+    private DataInputStream entrada;
+
+    /**
+     * @param primario dirección del primario
+     * @param directorio prefijo de los archivos propios de la réplica
+     * @param esperaMaximaMilis cuánto puede esperar una lectura a que la réplica se ponga al día
+     * @param lecturasActualizadas si cada lectura debe ver todo lo escrito en el primario
+     *                             hasta que empieza, a costa de un viaje al primario
+     */
+    public SeguidorReplicacion(Nodo primario, String directorio, long esperaMaximaMilis,
+                               boolean lecturasActualizadas) {
+        if (primario == null) {
+            throw new IllegalArgumentException("La dirección del primario no puede ser nula");
+        }
+        if (esperaMaximaMilis < 0) {
+            throw new IllegalArgumentException("La espera máxima no puede ser negativa");
+        }
+        this.primario = primario;
+        this.directorio = directorio;
+        this.esperaMaximaMilis = esperaMaximaMilis;
+        this.lecturasActualizadas = lecturasActualizadas;
+        this.pedidos = new ConexionNodo(primario);
+    }
+
+    /**
+     * Prepara un directorio de datos propio (replica-<pid>), con los archivos
+     * vacíos, para que la réplica nunca pise los archivos del primario.
+     *
+     * @return prefijo de los archivos de la réplica
+     */
+    public static String prepararDirectorio() throws IOException {
+        Path directorio = Path.of("replica-" + ProcessHandle.current().pid());
+        Files.createDirectories(directorio);
+        String prefijo = directorio + File.separator;
+        vaciarArchivos(prefijo);
+        return prefijo;
+    }
+
+    private static void vaciarArchivos(String directorio) throws IOException {
+        Files.writeString(Path.of(directorio + "usuarios.csv"), "id,nombre,apellido,email" + System.lineSeparator());
+        Files.writeString(Path.of(directorio + "comics.csv"), "id,nombre,descripcion,precio" + System.lineSeparator());
+    }
+
+    /**
+     * Se conecta al primario, espera la instantánea y sigue aplicando cambios
+     * en un hilo propio
+     *
+     * @throws OperacionRemotaException si el primario no responde
+     */
+    public void iniciar() {
+        try {
+            conectar();
+        } catch (IOException e) {
+            throw new OperacionRemotaException("No se pudo contactar al primario " + primario + ": " + e.getMessage());
+        }
+        Thread.ofPlatform().name("seguidor-" + primario.puerto()).daemon().start(this::seguir);
+        RegistroReplicacion.registrar("seguidor de " + primario, () -> List.of(estadisticas()));
+    }
+
+    public Nodo getPrimario() {
+        return primario;
+    }
+
+    /**
+     * Ejecuta el pedido de modo que todas sus lecturas vean al menos los cambios
+     * del primario hasta la secuencia indicada
+     *
+     * @throws ReplicaDesactualizadaException si la réplica no la alcanza a tiempo
+     */
+    public <T> T leerDespuesDe(long secuencia, Supplier<T> pedido) {
+        long[] actual = exigida.get();
+        long anterior = actual[0];
+        actual[0] = Math.max(anterior, secuencia);
+        try {
+            return pedido.get();
+        } finally {
+            actual[0] = anterior;
+        }
+    }
+
+    /**
+     * Ejecuta el pedido de modo que vea todo lo publicado en el primario hasta
+     * ahora; cuesta un viaje al primario
+     */
+    public <T> T leerActualizado(Supplier<T> pedido) {
+        return leerDespuesDe(secuenciaPrimario(), pedido);
+    }
+
+    public EstadisticasReplicacion estadisticas() {
+        long retraso = aplicada < ultimaSecuencia
+                ? System.currentTimeMillis() - instanteUltimoAplicado
+                : retrasoUltimoAplicado;
+        return new EstadisticasReplicacion(primario + " → seguidor", conectado,
+                ultimaSecuencia, aplicada, aplicados, Math.max(0, retraso));
+    }
+
+    @Override
+    public void close() {
+        activo = false;
+        RegistroReplicacion.quitar("seguidor de " + primario);
+        cerrarSocket();
+        pedidos.close();
+    }
+
+    /**
+     * Ejecuta una lectura sobre los repositorios de la réplica, después de
+     * esperar la secuencia exigida por el pedido en curso (o, con lecturas
+     * actualizadas y sin pedido en curso, la última publicada en el primario)
+     */
+    <T> T leer(Function<Repositorios, T> lectura) {
+        long secuencia = exigida.get()[0];
+        if (secuencia < 0 && lecturasActualizadas) {
+            secuencia = secuenciaPrimario();
+        }
+        esperar(secuencia);
+        candado.readLock().lock();
+        try {
+            return lectura.apply(repositorios);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Error para cualquier escritura pedida a la réplica
+     */
+    ReplicaSoloLecturaException soloLectura() {
+        return new ReplicaSoloLecturaException("La réplica es de solo lectura; las escrituras se hacen en el primario " + primario);
+    }
+
+    private long secuenciaPrimario() {
+        return Long.parseLong(pedidos.enviar(Mensaje.vacio(OperacionCluster.SECUENCIA)).campo());
+    }
+
+    private void esperar(long secuencia) {
+        if (aplicada >= secuencia) {
+            return;
+        }
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMaximaMilis);
+        synchronized (avance) {
+            while (aplicada < secuencia) {
+                long restante = TimeUnit.NANOSECONDS.toMillis(limite - System.nanoTime());
+                if (restante <= 0) {
+                    throw new ReplicaDesactualizadaException("La réplica no alcanzó la secuencia " + secuencia
+                            + " en " + esperaMaximaMilis + " ms (aplicada: " + aplicada + ")");
+                }
+                try {
+                    avance.wait(restante);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ReplicaDesactualizadaException("Lectura interrumpida esperando la secuencia " + secuencia);
+                }
+            }
+        }
+    }
+
+    // ── flujo desde el primario ──
+
+    private void conectar() throws IOException {
+        Socket nuevo = new Socket();
+        nuevo.setTcpNoDelay(true);
+        nuevo.connect(new InetSocketAddress(primario.host(), primario.puerto()), ESPERA_CONEXION_MILIS);
+        nuevo.setSoTimeout(ESPERA_LATIDO_MILIS);
+        socket = nuevo;
+        entrada = new DataInputStream(new BufferedInputStream(nuevo.getInputStream()));
+        DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(nuevo.getOutputStream()));
+        Mensaje.de(OperacionCluster.SUSCRIBIR, "pid " + ProcessHandle.current().pid()).escribir(salida);
+        salida.flush();
+
+        Mensaje instantanea = Mensaje.leer(entrada);
+        if (instantanea.operacion() != OperacionCluster.INSTANTANEA) {
+            throw new IOException("Se esperaba una instantánea y llegó " + instantanea.operacion());
+        }
+        cargar(instantanea.filas());
+        conectado = true;
+    }
+
+    private void seguir() {
+        while (activo) {
+            try {
+                if (!conectado) {
+                    conectar();
+                    System.out.println("📡 Réplica reconectada a " + primario + " en la secuencia " + aplicada);
+                }
+                Mensaje mensaje = Mensaje.leer(entrada);
+                switch (mensaje.operacion()) {
+                    case CAMBIOS -> aplicar(mensaje.filas());
+                    case LATIDO -> ultimaSecuencia = Math.max(ultimaSecuencia, Long.parseLong(mensaje.campo()));
+                    default -> throw new IOException("Mensaje inesperado del primario: " + mensaje.operacion());
+                }
+            } catch (IOException | RuntimeException e) {
+                // si un cambio no se pudo aplicar, la réplica se rehace con una instantánea nueva
+                if (!activo) {
+                    return;
+                }
+                if (conectado) {
+                    System.err.println("⚠️ Se perdió la conexión con el primario " + primario + ": " + e.getMessage());
+                }
+                conectado = false;
+                cerrarSocket();
+                try {
+                    Thread.sleep(REINTENTO_MILIS);
+                } catch (InterruptedException interrumpido) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Arma repositorios nuevos con la instantánea y reemplaza los anteriores
+     */
+    private void cargar(List<String[]> filas) throws IOException {
+        long secuencia = Long.parseLong(filas.getFirst()[0]);
+
+        // los archivos se vacían antes de crear cada repositorio, que los carga al construirse
+        vaciarArchivos(directorio);
+        Repositorios nuevos = new Repositorios(
+                new UsuarioRepository(directorio + "usuarios.csv", ForkJoinPool.commonPool()),
+                new ComicRepository(directorio + "comics.csv", ForkJoinPool.commonPool()),
+                new ReservaRepository(),
+                new VentaRepository());
+
+        Map<String, List<String[]>> porRepositorio = new LinkedHashMap<>();
+        for (String[] fila : filas.subList(1, filas.size())) {
+            String[] entidad = new String[fila.length - 1];
+            System.arraycopy(fila, 1, entidad, 0, entidad.length);
+            porRepositorio.computeIfAbsent(fila[0], clave -> new ArrayList<>()).add(entidad);
+        }
+        nuevos.usuarios().replicar(CodecEntidades.todas(
+                porRepositorio.getOrDefault("usuarios", List.of()), CodecEntidades::usuario));
+        CodecEntidades codec = CodecEntidades.lector();
+        nuevos.comics().guardarTodos(CodecEntidades.todas(porRepositorio.getOrDefault("comics", List.of()), codec::comic));
+        // reservas y ventas comparten las instancias de cómic del catálogo de la réplica
+        CodecEntidades conCatalogo = CodecEntidades.lectorConCatalogo(nuevos.comics()::buscarPorId);
+        porRepositorio.getOrDefault("reservas", List.of()).forEach(fila -> nuevos.reservas().guardar(conCatalogo.reserva(fila)));
+        porRepositorio.getOrDefault("ventas", List.of()).forEach(fila -> nuevos.ventas().guardar(conCatalogo.venta(fila)));
+
+        candado.writeLock().lock();
+        try {
+            repositorios = nuevos;
+        } finally {
+            candado.writeLock().unlock();
+        }
+        ultimaSecuencia = Math.max(ultimaSecuencia, secuencia);
+        avanzar(secuencia, System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * Aplica un lote de cambios con el candado de escritura. Las altas y bajas
+     * seguidas de cómics y de usuarios se escriben a disco de una sola vez.
+     */
+    private void aplicar(List<String[]> filas) {
+        candado.writeLock().lock();
+        try {
+            Lote lote = new Lote(repositorios);
+            for (String[] fila : filas) {
+                String[] entidad = new String[fila.length - 4];
+                System.arraycopy(fila, 4, entidad, 0, entidad.length);
+                lote.aplicar(fila[2], TipoCambio.valueOf(fila[3]), entidad);
+            }
+            lote.terminar();
+        } finally {
+            candado.writeLock().unlock();
+        }
+
+        String[] ultima = filas.getLast();
+        long secuencia = Long.parseLong(ultima[0]);
+        ultimaSecuencia = Math.max(ultimaSecuencia, secuencia);
+        aplicados += filas.size();
+        long publicado = Long.parseLong(ultima[1]);
+        avanzar(secuencia, publicado, System.currentTimeMillis() - publicado);
+    }
+
+    private void avanzar(long secuencia, long instante, long retraso) {
+        instanteUltimoAplicado = instante;
+        retrasoUltimoAplicado = retraso;
+        synchronized (avance) {
+            aplicada = secuencia;
+            avance.notifyAll();
+        }
+    }
+
+    private void cerrarSocket() {
+        Socket actual = socket;
+        if (actual != null) {
+            try {
+                actual.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Cambios de un mensaje, aplicados en orden sobre los repositorios de la réplica
+     */
+    private static final class Lote {
+        private final Repositorios destino;
+        private final CodecEntidades codec;
+        private final Map<Integer, Usuario> usuariosPendientes = new LinkedHashMap<>();
+        private final List<Comic> comicsNuevos = new ArrayList<>();
+        private final List<Identificador> comicsBorrados = new ArrayList<>();
+
+        Lote(Repositorios destino) {
+            this.destino = destino;
+            this.codec = CodecEntidades.lectorConCatalogo(destino.comics()::buscarPorId);
+        }
+
+        void aplicar(String repositorio, TipoCambio tipo, String[] fila) {
+            switch (repositorio) {
+                case "usuarios" -> usuario(tipo, fila);
+                case "comics" -> comic(tipo, fila);
+                case "reservas" -> {
+                    // la reserva puede referirse a un cómic recién agregado
+                    escribirComics();
+                    switch (tipo) {
+                        case ALTA -> destino.reservas().guardar(codec.reserva(fila));
+                        case MODIFICACION -> destino.reservas().actualizar(codec.reserva(fila));
+                        case BAJA -> destino.reservas().eliminar(Identificador.desdeTexto(fila[0]));
+                    }
+                }
+                case "ventas" -> {
+                    escribirComics();
+                    switch (tipo) {
+                        case ALTA -> destino.ventas().guardar(codec.venta(fila));
+                        case MODIFICACION -> destino.ventas().actualizar(codec.venta(fila));
+                        case BAJA -> destino.ventas().eliminar(Identificador.desdeTexto(fila[0]));
+                    }
+                }
+                default -> System.err.println("⚠️ Repositorio desconocido en la replicación: " + repositorio);
+            }
+        }
+
+        void terminar() {
+            escribirUsuarios();
+            escribirComics();
+        }
+
+        private void usuario(TipoCambio tipo, String[] fila) {
+            Usuario usuario = CodecEntidades.usuario(fila);
+            if (tipo == TipoCambio.BAJA) {
+                escribirUsuarios();
+                destino.usuarios().eliminar(usuario.getId());
+            } else {
+                usuariosPendientes.put(usuario.getId(), usuario);
+            }
+        }
+
+        private void comic(TipoCambio tipo, String[] fila) {
+            switch (tipo) {
+                case ALTA -> {
+                    if (!comicsBorrados.isEmpty()) {
+                        escribirComics();
+                    }
+                    comicsNuevos.add(CodecEntidades.lector().comic(fila));
+                }
+                case BAJA -> {
+                    if (!comicsNuevos.isEmpty()) {
+                        escribirComics();
+                    }
+                    comicsBorrados.add(Identificador.desdeTexto(fila[0]));
+                }
+                case MODIFICACION -> {
+                    escribirComics();
+                    // se actualiza la misma instancia que referencian las reservas y ventas de la réplica
+                    Comic recibido = CodecEntidades.lector().comic(fila);
+                    destino.comics().buscarPorId(recibido.getId()).ifPresent(existente -> {
+                        existente.setNombre(recibido.getNombre());
+                        existente.setDescription(recibido.getDescription());
+                        existente.setPrecio(recibido.getPrecio());
+                        destino.comics().actualizar(existente);
+                    });
+                }
+            }
+        }
+
+        private void escribirUsuarios() {
+            if (!usuariosPendientes.isEmpty()) {
+                destino.usuarios().replicar(usuariosPendientes.values());
+                usuariosPendientes.clear();
+            }
+        }
+
+        private void escribirComics() {
+            if (!comicsNuevos.isEmpty()) {
+                destino.comics().guardarTodos(comicsNuevos);
+                comicsNuevos.clear();
+            }
+            if (!comicsBorrados.isEmpty()) {
+                destino.comics().eliminarTodos(comicsBorrados);
+                comicsBorrados.clear();
+            }
+        }
+    }
+}
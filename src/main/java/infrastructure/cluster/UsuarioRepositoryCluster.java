@@ -0,0 +1,70 @@
+package infrastructure.cluster;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.repository.IUsuarioRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Usuarios replicados en todos los nodos del cluster.
+ *
+ * Las consultas se responden con la réplica local. Las altas, modificaciones y
+ * bajas las aplica el nodo coordinador, que numera los usuarios nuevos sin
+ * repetir identificadores y replica el cambio en los demás nodos antes de responder.
+ */
+public class UsuarioRepositoryCluster implements IUsuarioRepository {
+    private final NodoCluster nodo;
+
+    public UsuarioRepositoryCluster(NodoCluster nodo) {
+        if (nodo == null) {
+            throw new IllegalArgumentException("El nodo del cluster no puede ser nulo");
+        }
+        this.nodo = nodo;
+    }
+
+    @Override
+    public void guardar(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        Mensaje respuesta = nodo.pedirAlCoordinador(
+                Mensaje.de(OperacionCluster.USUARIO_GUARDAR, CodecEntidades.fila(usuario)));
+        usuario.setId(Integer.parseInt(respuesta.campo()));
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorId(int id) {
+        return nodo.localmente(() -> nodo.usuariosLocales().buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorEmail(String email) {
+        return nodo.localmente(() -> nodo.usuariosLocales().buscarPorEmail(email));
+    }
+
+    @Override
+    public List<Usuario> buscarTodos() {
+        return nodo.localmente(() -> nodo.usuariosLocales().buscarTodos());
+    }
+
+    @Override
+    public Pagina<Usuario> buscarPagina(OrdenUsuarios orden, String cursor, int tamano) {
+        return nodo.localmente(() -> nodo.usuariosLocales().buscarPagina(orden, cursor, tamano));
+    }
+
+    @Override
+    public void actualizar(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        nodo.pedirAlCoordinador(Mensaje.de(OperacionCluster.USUARIO_ACTUALIZAR, CodecEntidades.fila(usuario)));
+    }
+
+    @Override
+    public void eliminar(int id) {
+        nodo.pedirAlCoordinador(Mensaje.de(OperacionCluster.USUARIO_ELIMINAR, String.valueOf(id)));
+    }
+}
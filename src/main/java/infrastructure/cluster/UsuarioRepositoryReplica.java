@@ -0,0 +1,56 @@
+package infrastructure.cluster;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.repository.IUsuarioRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Usuarios de una réplica de solo lectura: las búsquedas usan la copia local
+ * que mantiene el SeguidorReplicacion y las escrituras se rechazan.
+ */
+public class UsuarioRepositoryReplica implements IUsuarioRepository {
+    private final SeguidorReplicacion seguidor;
+
+    public UsuarioRepositoryReplica(SeguidorReplicacion seguidor) {
+        this.seguidor = seguidor;
+    }
+
+    @Override
+    public void guardar(Usuario usuario) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorId(int id) {
+        return seguidor.leer(replica -> replica.usuarios().buscarPorId(id));
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorEmail(String email) {
+        return seguidor.leer(replica -> replica.usuarios().buscarPorEmail(email));
+    }
+
+    @Override
+    public List<Usuario> buscarTodos() {
+        return seguidor.leer(replica -> replica.usuarios().buscarTodos());
+    }
+
+    @Override
+    public Pagina<Usuario> buscarPagina(OrdenUsuarios orden, String cursor, int tamano) {
+        return seguidor.leer(replica -> replica.usuarios().buscarPagina(orden, cursor, tamano));
+    }
+
+    @Override
+    public void actualizar(Usuario usuario) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void eliminar(int id) {
+        throw seguidor.soloLectura();
+    }
+}
@@ -0,0 +1,122 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.valueobjects.Identificador;
+import exceptions.VentaNoEncontradaException;
+import interfaces.repository.IVentaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Ventas repartidas entre los nodos del cluster: cada venta vive en el nodo
+ * dueño de su cómic, igual que las reservas.
+ */
+public class VentaRepositoryCluster implements IVentaRepository {
+    private final NodoCluster nodo;
+
+    public VentaRepositoryCluster(NodoCluster nodo) {
+        if (nodo == null) {
+            throw new IllegalArgumentException("El nodo del cluster no puede ser nulo");
+        }
+        this.nodo = nodo;
+    }
+
+    @Override
+    public void guardar(Venta venta) {
+        enviarAlDueno(OperacionCluster.VENTA_GUARDAR, venta);
+    }
+
+    @Override
+    public void guardarTodas(List<Venta> ventas) {
+        Map<Nodo, List<String[]>> porNodo = new LinkedHashMap<>();
+        for (Venta venta : ventas) {
+            if (venta == null) {
+                throw new IllegalArgumentException("La venta no puede ser nula");
+            }
+            porNodo.computeIfAbsent(nodo.getAnillo().dueno(venta.getComic().getId()), dueno -> new ArrayList<>())
+                    .add(CodecEntidades.fila(venta));
+        }
+        porNodo.forEach((dueno, filas) -> nodo.pedir(dueno, new Mensaje(OperacionCluster.VENTA_GUARDAR, filas)));
+    }
+
+    @Override
+    public Optional<Venta> buscarPorId(Identificador id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.VENTA_BUSCAR_ID, id.toString())))
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Venta> buscarTodas() {
+        return juntar(nodo.pedirATodos(Mensaje.vacio(OperacionCluster.VENTA_TODAS)));
+    }
+
+    @Override
+    public List<Venta> buscarPorUsuario(Usuario usuario) {
+        if (usuario == null) {
+            return new ArrayList<>();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.VENTA_USUARIO, CodecEntidades.fila(usuario))));
+    }
+
+    @Override
+    public List<Venta> buscarPorComic(Comic comic) {
+        if (comic == null) {
+            return new ArrayList<>();
+        }
+        return juntar(List.of(nodo.pedirAlDueno(comic.getId(),
+                Mensaje.de(OperacionCluster.VENTA_COMIC, CodecEntidades.fila(comic)))));
+    }
+
+    @Override
+    public List<Venta> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        if (fechaInicio == null || fechaFin == null) {
+            return new ArrayList<>();
+        }
+        return juntar(nodo.pedirATodos(Mensaje.de(OperacionCluster.VENTA_FECHA,
+                fechaInicio.toString(), fechaFin.toString())));
+    }
+
+    @Override
+    public void actualizar(Venta venta) {
+        enviarAlDueno(OperacionCluster.VENTA_ACTUALIZAR, venta);
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        boolean eliminada = nodo.pedirATodos(Mensaje.de(OperacionCluster.VENTA_ELIMINAR, id.toString())).stream()
+                .anyMatch(respuesta -> Boolean.parseBoolean(respuesta.campo()));
+        if (!eliminada) {
+            throw new VentaNoEncontradaException("Venta no encontrada con ID: " + id);
+        }
+    }
+
+    private void enviarAlDueno(OperacionCluster operacion, Venta venta) {
+        if (venta == null) {
+            throw new IllegalArgumentException("La venta no puede ser nula");
+        }
+        nodo.pedirAlDueno(venta.getComic().getId(), Mensaje.de(operacion, CodecEntidades.fila(venta)));
+    }
+
+    private static List<Venta> juntar(List<Mensaje> respuestas) {
+        CodecEntidades codec = CodecEntidades.lector();
+        List<Venta> ventas = new ArrayList<>();
+        for (Mensaje respuesta : respuestas) {
+            ventas.addAll(CodecEntidades.todas(respuesta.filas(), codec::venta));
+        }
+        ventas.sort(null);
+        return ventas;
+    }
+}
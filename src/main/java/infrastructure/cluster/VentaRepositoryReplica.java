@@ -0,0 +1,68 @@
+package infrastructure.cluster;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.valueobjects.Identificador;
+import interfaces.repository.IVentaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ventas de una réplica de solo lectura: las búsquedas usan la copia local
+ * que mantiene el SeguidorReplicacion y las escrituras se rechazan.
+ */
+public class VentaRepositoryReplica implements IVentaRepository {
+    private final SeguidorReplicacion seguidor;
+
+    public VentaRepositoryReplica(SeguidorReplicacion seguidor) {
+        this.seguidor = seguidor;
+    }
+
+    @Override
+    public void guardar(Venta venta) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void guardarTodas(List<Venta> ventas) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public Optional<Venta> buscarPorId(Identificador id) {
+        return seguidor.leer(replica -> replica.ventas().buscarPorId(id));
+    }
+
+    @Override
+    public List<Venta> buscarTodas() {
+        return seguidor.leer(replica -> replica.ventas().buscarTodas());
+    }
+
+    @Override
+    public List<Venta> buscarPorUsuario(Usuario usuario) {
+        return seguidor.leer(replica -> replica.ventas().buscarPorUsuario(usuario));
+    }
+
+    @Override
+    public List<Venta> buscarPorComic(Comic comic) {
+        return seguidor.leer(replica -> replica.ventas().buscarPorComic(comic));
+    }
+
+    @Override
+    public List<Venta> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return seguidor.leer(replica -> replica.ventas().buscarPorFecha(fechaInicio, fechaFin));
+    }
+
+    @Override
+    public void actualizar(Venta venta) {
+        throw seguidor.soloLectura();
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        throw seguidor.soloLectura();
+    }
+}
@@ -0,0 +1,406 @@
+package infrastructure.colecciones;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Mapa ordenado inmutable con estructura compartida (árbol AVL persistente).
+ *
+ * Insertar o quitar copia solo los O(log n) nodos del camino modificado; las
+ * versiones anteriores siguen siendo válidas y comparten el resto. Cada nodo
+ * guarda el tamaño de su subárbol, así que la vista valores() es una List
+ * que se obtiene en O(1) y accede por posición en O(log n), sin copiar. Su
+ * Spliterator se divide por posición en mitades exactas, lo que la hace
+ * adecuada para recorrerla en paralelo.
+ *
+ * @param <C> tipo de las claves de orden (no admite claves nulas)
+ * @param <V> tipo de los valores
+ */
+public final class ArbolPersistente<C extends Comparable<? super C>, V> {
+    private static final ArbolPersistente<?, ?> VACIO = new ArbolPersistente<>(null);
+
+    private final Nodo<C, V> raiz;
+
+    private ArbolPersistente(Nodo<C, V> raiz) {
+        this.raiz = raiz;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <C extends Comparable<? super C>, V> ArbolPersistente<C, V> vacio() {
+        return (ArbolPersistente<C, V>) VACIO;
+    }
+
+    /**
+     * Arma el árbol balanceado en O(n) a partir de claves ya ordenadas y sin repetir.
+     */
+    public static <C extends Comparable<? super C>, V> ArbolPersistente<C, V> deOrdenados(List<C> claves,
+                                                                                           List<V> valores) {
+        if (claves.size() != valores.size()) {
+            throw new IllegalArgumentException("Debe haber un valor por clave");
+        }
+        return new ArbolPersistente<>(construir(claves, valores, 0, claves.size()));
+    }
+
+    private static <C, V> Nodo<C, V> construir(List<C> claves, List<V> valores, int desde, int hasta) {
+        if (desde >= hasta) {
+            return null;
+        }
+        int medio = (desde + hasta) >>> 1;
+        return Nodo.de(claves.get(medio), valores.get(medio),
+                construir(claves, valores, desde, medio), construir(claves, valores, medio + 1, hasta));
+    }
+
+    public int tamano() { return Nodo.tamano(raiz); }
+
+    /**
+     * @return una versión con la clave asociada al valor; esta versión no cambia
+     */
+    public ArbolPersistente<C, V> con(C clave, V valor) {
+        if (clave == null) {
+            throw new IllegalArgumentException("La clave no puede ser nula");
+        }
+        Nodo<C, V> nueva = con(raiz, clave, valor);
+        return nueva == raiz ? this : new ArbolPersistente<>(nueva);
+    }
+
+    /**
+     * @return una versión sin la clave, o esta misma si no estaba
+     */
+    public ArbolPersistente<C, V> sin(C clave) {
+        if (clave == null) {
+            return this;
+        }
+        Nodo<C, V> nueva = sin(raiz, clave);
+        return nueva == raiz ? this : new ArbolPersistente<>(nueva);
+    }
+
+    /**
+     * @return el valor en la posición indicada según el orden de las claves
+     */
+    public V enPosicion(int posicion) {
+        if (posicion < 0 || posicion >= tamano()) {
+            throw new IndexOutOfBoundsException(posicion);
+        }
+        Nodo<C, V> nodo = raiz;
+        while (true) {
+            int izquierda = Nodo.tamano(nodo.izquierdo);
+            if (posicion < izquierda) {
+                nodo = nodo.izquierdo;
+            } else if (posicion == izquierda) {
+                return nodo.valor;
+            } else {
+                posicion -= izquierda + 1;
+                nodo = nodo.derecho;
+            }
+        }
+    }
+
+    /**
+     * Vista inmutable de los valores en orden de clave. No copia nada: la
+     * vista queda fija en esta versión aunque después se publiquen otras.
+     */
+    public List<V> valores() {
+        return valores(valor -> valor);
+    }
+
+    /**
+     * Vista de los valores en orden de clave, transformados al leerlos.
+     * Tampoco copia nada.
+     */
+    public <T> List<T> valores(Function<? super V, ? extends T> transformacion) {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return transformacion.apply(enPosicion(index));
+            }
+
+            @Override
+            public int size() {
+                return tamano();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                Recorrido<C, V> recorrido = new Recorrido<>(raiz, null);
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return recorrido.hayMas();
+                    }
+
+                    @Override
+                    public T next() {
+                        return transformacion.apply(recorrido.siguiente().valor);
+                    }
+                };
+            }
+
+            @Override
+            public Spliterator<T> spliterator() {
+                return new Division<>(raiz, 0, tamano(), transformacion);
+            }
+        };
+    }
+
+    /**
+     * Recorre en orden las entradas con clave mayor al cursor, o todas si el
+     * cursor es null. Llegar a la primera cuesta O(log n).
+     */
+    public Iterator<Map.Entry<C, V>> desde(C cursor) {
+        Recorrido<C, V> recorrido = new Recorrido<>(raiz, cursor);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return recorrido.hayMas();
+            }
+
+            @Override
+            public Map.Entry<C, V> next() {
+                Nodo<C, V> nodo = recorrido.siguiente();
+                return new AbstractMap.SimpleImmutableEntry<>(nodo.clave, nodo.valor);
+            }
+        };
+    }
+
+    /**
+     * Recorrido en orden con una pila de los nodos pendientes
+     */
+    private static final class Recorrido<C extends Comparable<? super C>, V> {
+        private final Deque<Nodo<C, V>> pendientes = new ArrayDeque<>();
+
+        /**
+         * Recorrido desde la posición indicada según el orden de las claves
+         */
+        Recorrido(Nodo<C, V> raiz, int posicion) {
+            Nodo<C, V> nodo = raiz;
+            while (nodo != null) {
+                int izquierda = Nodo.tamano(nodo.izquierdo);
+                if (posicion <= izquierda) {
+                    pendientes.push(nodo);
+                    if (posicion == izquierda) {
+                        break;
+                    }
+                    nodo = nodo.izquierdo;
+                } else {
+                    posicion -= izquierda + 1;
+                    nodo = nodo.derecho;
+                }
+            }
+        }
+
+        Recorrido(Nodo<C, V> raiz, C cursor) {
+            Nodo<C, V> nodo = raiz;
+            while (nodo != null) {
+                if (cursor == null || nodo.clave.compareTo(cursor) > 0) {
+                    pendientes.push(nodo);
+                    nodo = nodo.izquierdo;
+                } else {
+                    nodo = nodo.derecho;
+                }
+            }
+        }
+
+        boolean hayMas() {
+            return !pendientes.isEmpty();
+        }
+
+        Nodo<C, V> siguiente() {
+            if (pendientes.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Nodo<C, V> actual = pendientes.pop();
+            for (Nodo<C, V> nodo = actual.derecho; nodo != null; nodo = nodo.izquierdo) {
+                pendientes.push(nodo);
+            }
+            return actual;
+        }
+    }
+
+    /**
+     * Spliterator de las posiciones [desde, hasta). Dividir corta el rango a
+     * la mitad en O(1); el recorrido empieza recién con el primer elemento,
+     * bajando en O(log n) hasta la posición inicial.
+     */
+    private static final class Division<C extends Comparable<? super C>, V, T> implements Spliterator<T> {
+        private final Nodo<C, V> raiz;
+        private final Function<? super V, ? extends T> transformacion;
+        private int desde;
+        private final int hasta;
+        private Recorrido<C, V> recorrido;
+
+        Division(Nodo<C, V> raiz, int desde, int hasta, Function<? super V, ? extends T> transformacion) {
+            this.raiz = raiz;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.transformacion = transformacion;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            if (desde >= hasta) {
+                return false;
+            }
+            if (recorrido == null) {
+                recorrido = new Recorrido<>(raiz, desde);
+            }
+            desde++;
+            accion.accept(transformacion.apply(recorrido.siguiente().valor));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> accion) {
+            if (desde >= hasta) {
+                return;
+            }
+            if (recorrido == null) {
+                recorrido = new Recorrido<>(raiz, desde);
+            }
+            for (; desde < hasta; desde++) {
+                accion.accept(transformacion.apply(recorrido.siguiente().valor));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // una vez empezado el recorrido ya no se divide
+            if (recorrido != null || hasta - desde < 2) {
+                return null;
+            }
+            int medio = (desde + hasta) >>> 1;
+            Division<C, V, T> primera = new Division<>(raiz, desde, medio, transformacion);
+            desde = medio;
+            return primera;
+        }
+
+        @Override
+        public long estimateSize() {
+            return hasta - desde;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+
+    private static <C extends Comparable<? super C>, V> Nodo<C, V> con(Nodo<C, V> nodo, C clave, V valor) {
+        if (nodo == null) {
+            return Nodo.de(clave, valor, null, null);
+        }
+        int comparacion = clave.compareTo(nodo.clave);
+        if (comparacion == 0) {
+            return nodo.valor == valor ? nodo : Nodo.de(clave, valor, nodo.izquierdo, nodo.derecho);
+        }
+        if (comparacion < 0) {
+            Nodo<C, V> izquierdo = con(nodo.izquierdo, clave, valor);
+            return izquierdo == nodo.izquierdo ? nodo : balancear(nodo.clave, nodo.valor, izquierdo, nodo.derecho);
+        }
+        Nodo<C, V> derecho = con(nodo.derecho, clave, valor);
+        return derecho == nodo.derecho ? nodo : balancear(nodo.clave, nodo.valor, nodo.izquierdo, derecho);
+    }
+
+    private static <C extends Comparable<? super C>, V> Nodo<C, V> sin(Nodo<C, V> nodo, C clave) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = clave.compareTo(nodo.clave);
+        if (comparacion < 0) {
+            Nodo<C, V> izquierdo = sin(nodo.izquierdo, clave);
+            return izquierdo == nodo.izquierdo ? nodo : balancear(nodo.clave, nodo.valor, izquierdo, nodo.derecho);
+        }
+        if (comparacion > 0) {
+            Nodo<C, V> derecho = sin(nodo.derecho, clave);
+            return derecho == nodo.derecho ? nodo : balancear(nodo.clave, nodo.valor, nodo.izquierdo, derecho);
+        }
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        if (nodo.derecho == null) {
+            return nodo.izquierdo;
+        }
+        // el sucesor ocupa el lugar del nodo quitado
+        Nodo<C, V> sucesor = nodo.derecho;
+        while (sucesor.izquierdo != null) {
+            sucesor = sucesor.izquierdo;
+        }
+        return balancear(sucesor.clave, sucesor.valor, nodo.izquierdo, sinMinimo(nodo.derecho));
+    }
+
+    private static <C, V> Nodo<C, V> sinMinimo(Nodo<C, V> nodo) {
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        return balancear(nodo.clave, nodo.valor, sinMinimo(nodo.izquierdo), nodo.derecho);
+    }
+
+    private static <C, V> Nodo<C, V> balancear(C clave, V valor, Nodo<C, V> izquierdo, Nodo<C, V> derecho) {
+        int diferencia = Nodo.altura(izquierdo) - Nodo.altura(derecho);
+        if (diferencia > 1) {
+            if (Nodo.altura(izquierdo.izquierdo) < Nodo.altura(izquierdo.derecho)) {
+                izquierdo = rotarIzquierda(izquierdo);
+            }
+            return Nodo.de(izquierdo.clave, izquierdo.valor, izquierdo.izquierdo,
+                    Nodo.de(clave, valor, izquierdo.derecho, derecho));
+        }
+        if (diferencia < -1) {
+            if (Nodo.altura(derecho.derecho) < Nodo.altura(derecho.izquierdo)) {
+                derecho = rotarDerecha(derecho);
+            }
+            return Nodo.de(derecho.clave, derecho.valor,
+                    Nodo.de(clave, valor, izquierdo, derecho.izquierdo), derecho.derecho);
+        }
+        return Nodo.de(clave, valor, izquierdo, derecho);
+    }
+
+    private static <C, V> Nodo<C, V> rotarIzquierda(Nodo<C, V> nodo) {
+        Nodo<C, V> derecho = nodo.derecho;
+        return Nodo.de(derecho.clave, derecho.valor,
+                Nodo.de(nodo.clave, nodo.valor, nodo.izquierdo, derecho.izquierdo), derecho.derecho);
+    }
+
+    private static <C, V> Nodo<C, V> rotarDerecha(Nodo<C, V> nodo) {
+        Nodo<C, V> izquierdo = nodo.izquierdo;
+        return Nodo.de(izquierdo.clave, izquierdo.valor, izquierdo.izquierdo,
+                Nodo.de(nodo.clave, nodo.valor, izquierdo.derecho, nodo.derecho));
+    }
+
+    private static final class Nodo<C, V> {
+        final C clave;
+        final V valor;
+        final Nodo<C, V> izquierdo;
+        final Nodo<C, V> derecho;
+        final int altura;
+        final int tamano;
+
+        private Nodo(C clave, V valor, Nodo<C, V> izquierdo, Nodo<C, V> derecho) {
+            this.clave = clave;
+            this.valor = valor;
+            this.izquierdo = izquierdo;
+            this.derecho = derecho;
+            this.altura = Math.max(altura(izquierdo), altura(derecho)) + 1;
+            this.tamano = tamano(izquierdo) + tamano(derecho) + 1;
+        }
+
+        static <C, V> Nodo<C, V> de(C clave, V valor, Nodo<C, V> izquierdo, Nodo<C, V> derecho) {
+            return new Nodo<>(clave, valor, izquierdo, derecho);
+        }
+
+        static int altura(Nodo<?, ?> nodo) {
+            return nodo == null ? 0 : nodo.altura;
+        }
+
+        static int tamano(Nodo<?, ?> nodo) {
+            return nodo == null ? 0 : nodo.tamano;
+        }
+    }
+}
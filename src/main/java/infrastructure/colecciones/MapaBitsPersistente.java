@@ -0,0 +1,380 @@
+package infrastructure.colecciones;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto inmutable de enteros no negativos, comprimido al estilo Roaring y
+ * con estructura compartida.
+ *
+ * Los enteros se reparten en bloques de 4096 posiciones y los bloques en
+ * páginas de 64. Cada bloque se guarda según lo que contiene: nada si está
+ * vacío, las posiciones ordenadas en un char[] si son pocas, o un long[] de
+ * 64 palabras si son más. Así un conjunto disperso ocupa unos bytes por
+ * elemento y uno denso un bit.
+ *
+ * con() y sin() copian solo la raíz, una página y un bloque; las versiones
+ * anteriores siguen siendo válidas. La diferencia entre dos conjuntos se
+ * calcula bloque a bloque con operaciones sobre palabras y comparte los
+ * bloques que no cambian.
+ */
+public final class MapaBitsPersistente {
+    private static final int BITS_BLOQUE = 12;
+    private static final int POSICIONES_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int PALABRAS_BLOQUE = POSICIONES_BLOQUE / Long.SIZE;
+    private static final int BITS_PAGINA = 6;
+    private static final int BLOQUES_PAGINA = 1 << BITS_PAGINA;
+    // con más posiciones que estas un bloque se guarda como palabras: ocupa
+    // lo mismo o menos y se consulta en O(1)
+    private static final int MAXIMO_DISPERSO = PALABRAS_BLOQUE * 2;
+
+    private static final MapaBitsPersistente VACIO = new MapaBitsPersistente(new Object[0][], 0);
+
+    // paginas[p][b]: null si el bloque está vacío, char[] o long[]; una página
+    // sin bloques puede ser null
+    private final Object[][] paginas;
+    private final int cardinalidad;
+
+    private MapaBitsPersistente(Object[][] paginas, int cardinalidad) {
+        this.paginas = paginas;
+        this.cardinalidad = cardinalidad;
+    }
+
+    public static MapaBitsPersistente vacio() {
+        return VACIO;
+    }
+
+    /**
+     * Arma el conjunto con los bits encendidos de un BitSet, en O(bits)
+     */
+    public static MapaBitsPersistente de(BitSet bits) {
+        long[] palabras = bits.toLongArray();
+        int bloques = (palabras.length + PALABRAS_BLOQUE - 1) / PALABRAS_BLOQUE;
+        Object[][] paginas = new Object[(bloques + BLOQUES_PAGINA - 1) / BLOQUES_PAGINA][];
+        int cardinalidad = 0;
+        for (int bloque = 0; bloque < bloques; bloque++) {
+            long[] delBloque = new long[PALABRAS_BLOQUE];
+            int desde = bloque * PALABRAS_BLOQUE;
+            System.arraycopy(palabras, desde, delBloque, 0, Math.min(PALABRAS_BLOQUE, palabras.length - desde));
+            int enBloque = contar(delBloque);
+            if (enBloque == 0) {
+                continue;
+            }
+            int pagina = bloque >>> BITS_PAGINA;
+            if (paginas[pagina] == null) {
+                paginas[pagina] = new Object[BLOQUES_PAGINA];
+            }
+            paginas[pagina][bloque & (BLOQUES_PAGINA - 1)] = comprimir(delBloque, enBloque);
+            cardinalidad += enBloque;
+        }
+        return new MapaBitsPersistente(paginas, cardinalidad);
+    }
+
+    public int cardinalidad() {
+        return cardinalidad;
+    }
+
+    public boolean estaVacio() {
+        return cardinalidad == 0;
+    }
+
+    public boolean contiene(int valor) {
+        return contieneEnBloque(bloque(valor), valor & (POSICIONES_BLOQUE - 1));
+    }
+
+    /**
+     * Conjunto con el valor agregado; este mismo si ya lo contenía
+     */
+    public MapaBitsPersistente con(int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("El valor no puede ser negativo");
+        }
+        Object bloque = bloque(valor);
+        int posicion = valor & (POSICIONES_BLOQUE - 1);
+        if (contieneEnBloque(bloque, posicion)) {
+            return this;
+        }
+        return conBloque(valor, conEnBloque(bloque, posicion), cardinalidad + 1);
+    }
+
+    /**
+     * Conjunto sin el valor; este mismo si no lo contenía
+     */
+    public MapaBitsPersistente sin(int valor) {
+        Object bloque = bloque(valor);
+        int posicion = valor & (POSICIONES_BLOQUE - 1);
+        if (!contieneEnBloque(bloque, posicion)) {
+            return this;
+        }
+        return conBloque(valor, sinEnBloque(bloque, posicion), cardinalidad - 1);
+    }
+
+    /**
+     * Valores de este conjunto que no están en el otro
+     */
+    public MapaBitsPersistente menos(MapaBitsPersistente otro) {
+        if (otro.estaVacio() || estaVacio()) {
+            return this;
+        }
+        if (otro == this) {
+            return VACIO;
+        }
+        Object[][] resultado = paginas.clone();
+        int total = 0;
+        for (int p = 0; p < paginas.length; p++) {
+            Object[] pagina = paginas[p];
+            Object[] delOtro = p < otro.paginas.length ? otro.paginas[p] : null;
+            if (pagina == null || delOtro == null) {
+                total += contar(pagina);
+                continue;
+            }
+            if (pagina == delOtro) {
+                resultado[p] = null;
+                continue;
+            }
+            Object[] nueva = null;
+            for (int b = 0; b < BLOQUES_PAGINA; b++) {
+                Object bloque = pagina[b];
+                Object diferencia = bloque == null || delOtro[b] == null ? bloque : menosEnBloque(bloque, delOtro[b]);
+                if (diferencia != bloque && nueva == null) {
+                    nueva = pagina.clone();
+                }
+                if (nueva != null) {
+                    nueva[b] = diferencia;
+                }
+                total += contarBloque(diferencia);
+            }
+            if (nueva != null) {
+                resultado[p] = nueva;
+            }
+        }
+        return new MapaBitsPersistente(resultado, total);
+    }
+
+    /**
+     * Menor valor del conjunto mayor o igual al indicado, o -1 si no hay
+     */
+    public int siguiente(int desde) {
+        int bloqueDesde = Math.max(desde, 0) >>> BITS_BLOQUE;
+        int total = paginas.length * BLOQUES_PAGINA;
+        for (int numero = bloqueDesde; numero < total; numero++) {
+            Object[] pagina = paginas[numero >>> BITS_PAGINA];
+            if (pagina == null) {
+                numero |= BLOQUES_PAGINA - 1;
+                continue;
+            }
+            Object bloque = pagina[numero & (BLOQUES_PAGINA - 1)];
+            int posicion = numero == bloqueDesde ? desde & (POSICIONES_BLOQUE - 1) : 0;
+            int encontrada = siguienteEnBloque(bloque, posicion);
+            if (encontrada >= 0) {
+                return (numero << BITS_BLOQUE) | encontrada;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Recorre los valores en orden ascendente
+     */
+    public void paraCada(IntConsumer accion) {
+        for (int p = 0; p < paginas.length; p++) {
+            Object[] pagina = paginas[p];
+            if (pagina == null) {
+                continue;
+            }
+            for (int b = 0; b < BLOQUES_PAGINA; b++) {
+                int base = ((p << BITS_PAGINA) | b) << BITS_BLOQUE;
+                Object bloque = pagina[b];
+                if (bloque instanceof char[] posiciones) {
+                    for (char posicion : posiciones) {
+                        accion.accept(base | posicion);
+                    }
+                } else if (bloque instanceof long[] palabras) {
+                    for (int w = 0; w < PALABRAS_BLOQUE; w++) {
+                        long palabra = palabras[w];
+                        while (palabra != 0) {
+                            accion.accept(base | (w << 6) | Long.numberOfTrailingZeros(palabra));
+                            palabra &= palabra - 1;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Object bloque(int valor) {
+        int pagina = valor >>> (BITS_BLOQUE + BITS_PAGINA);
+        if (valor < 0 || pagina >= paginas.length || paginas[pagina] == null) {
+            return null;
+        }
+        return paginas[pagina][(valor >>> BITS_BLOQUE) & (BLOQUES_PAGINA - 1)];
+    }
+
+    private MapaBitsPersistente conBloque(int valor, Object bloque, int cardinalidad) {
+        int p = valor >>> (BITS_BLOQUE + BITS_PAGINA);
+        Object[][] nuevas = p < paginas.length ? paginas.clone() : Arrays.copyOf(paginas, p + 1);
+        Object[] pagina = nuevas[p] == null ? new Object[BLOQUES_PAGINA] : nuevas[p].clone();
+        pagina[(valor >>> BITS_BLOQUE) & (BLOQUES_PAGINA - 1)] = bloque;
+        nuevas[p] = pagina;
+        return new MapaBitsPersistente(nuevas, cardinalidad);
+    }
+
+    private static boolean contieneEnBloque(Object bloque, int posicion) {
+        if (bloque instanceof long[] palabras) {
+            return (palabras[posicion >>> 6] & (1L << posicion)) != 0;
+        }
+        return bloque != null && Arrays.binarySearch((char[]) bloque, (char) posicion) >= 0;
+    }
+
+    private static Object conEnBloque(Object bloque, int posicion) {
+        if (bloque == null) {
+            return new char[] {(char) posicion};
+        }
+        if (bloque instanceof long[] palabras) {
+            long[] copia = palabras.clone();
+            copia[posicion >>> 6] |= 1L << posicion;
+            return copia;
+        }
+        char[] posiciones = (char[]) bloque;
+        if (posiciones.length == MAXIMO_DISPERSO) {
+            long[] palabras = palabras(posiciones);
+            palabras[posicion >>> 6] |= 1L << posicion;
+            return palabras;
+        }
+        int insercion = -Arrays.binarySearch(posiciones, (char) posicion) - 1;
+        char[] copia = new char[posiciones.length + 1];
+        System.arraycopy(posiciones, 0, copia, 0, insercion);
+        copia[insercion] = (char) posicion;
+        System.arraycopy(posiciones, insercion, copia, insercion + 1, posiciones.length - insercion);
+        return copia;
+    }
+
+    private static Object sinEnBloque(Object bloque, int posicion) {
+        if (bloque instanceof long[] palabras) {
+            long[] copia = palabras.clone();
+            copia[posicion >>> 6] &= ~(1L << posicion);
+            return comprimir(copia, contar(copia));
+        }
+        char[] posiciones = (char[]) bloque;
+        if (posiciones.length == 1) {
+            return null;
+        }
+        int indice = Arrays.binarySearch(posiciones, (char) posicion);
+        char[] copia = new char[posiciones.length - 1];
+        System.arraycopy(posiciones, 0, copia, 0, indice);
+        System.arraycopy(posiciones, indice + 1, copia, indice, copia.length - indice);
+        return copia;
+    }
+
+    private static Object menosEnBloque(Object bloque, Object otro) {
+        if (bloque == otro) {
+            return null;
+        }
+        if (bloque instanceof char[] posiciones) {
+            char[] quedan = new char[posiciones.length];
+            int cantidad = 0;
+            for (char posicion : posiciones) {
+                if (!contieneEnBloque(otro, posicion)) {
+                    quedan[cantidad++] = posicion;
+                }
+            }
+            if (cantidad == posiciones.length) {
+                return bloque;
+            }
+            return cantidad == 0 ? null : Arrays.copyOf(quedan, cantidad);
+        }
+        long[] palabras = ((long[]) bloque).clone();
+        if (otro instanceof long[] delOtro) {
+            for (int w = 0; w < PALABRAS_BLOQUE; w++) {
+                palabras[w] &= ~delOtro[w];
+            }
+        } else {
+            for (char posicion : (char[]) otro) {
+                palabras[posicion >>> 6] &= ~(1L << posicion);
+            }
+        }
+        return comprimir(palabras, contar(palabras));
+    }
+
+    private static int siguienteEnBloque(Object bloque, int desde) {
+        if (bloque instanceof long[] palabras) {
+            int w = desde >>> 6;
+            long palabra = palabras[w] & (-1L << desde);
+            while (true) {
+                if (palabra != 0) {
+                    return (w << 6) | Long.numberOfTrailingZeros(palabra);
+                }
+                if (++w == PALABRAS_BLOQUE) {
+                    return -1;
+                }
+                palabra = palabras[w];
+            }
+        }
+        if (bloque == null) {
+            return -1;
+        }
+        char[] posiciones = (char[]) bloque;
+        int indice = Arrays.binarySearch(posiciones, (char) desde);
+        if (indice < 0) {
+            indice = -indice - 1;
+        }
+        return indice < posiciones.length ? posiciones[indice] : -1;
+    }
+
+    /**
+     * La representación más chica del bloque: null, posiciones o palabras
+     */
+    private static Object comprimir(long[] palabras, int cantidad) {
+        if (cantidad == 0) {
+            return null;
+        }
+        if (cantidad > MAXIMO_DISPERSO) {
+            return palabras;
+        }
+        char[] posiciones = new char[cantidad];
+        int i = 0;
+        for (int w = 0; w < PALABRAS_BLOQUE; w++) {
+            long palabra = palabras[w];
+            while (palabra != 0) {
+                posiciones[i++] = (char) ((w << 6) | Long.numberOfTrailingZeros(palabra));
+                palabra &= palabra - 1;
+            }
+        }
+        return posiciones;
+    }
+
+    private static long[] palabras(char[] posiciones) {
+        long[] palabras = new long[PALABRAS_BLOQUE];
+        for (char posicion : posiciones) {
+            palabras[posicion >>> 6] |= 1L << posicion;
+        }
+        return palabras;
+    }
+
+    private static int contar(long[] palabras) {
+        int cantidad = 0;
+        for (long palabra : palabras) {
+            cantidad += Long.bitCount(palabra);
+        }
+        return cantidad;
+    }
+
+    private static int contar(Object[] pagina) {
+        if (pagina == null) {
+            return 0;
+        }
+        int cantidad = 0;
+        for (Object bloque : pagina) {
+            cantidad += contarBloque(bloque);
+        }
+        return cantidad;
+    }
+
+    private static int contarBloque(Object bloque) {
+        if (bloque instanceof long[] palabras) {
+            return contar(palabras);
+        }
+        return bloque == null ? 0 : ((char[]) bloque).length;
+    }
+}
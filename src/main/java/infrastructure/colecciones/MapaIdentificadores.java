@@ -0,0 +1,202 @@
+package infrastructure.colecciones;
+
+import domain.valueobjects.Identificador;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Mapa hash de direccionamiento abierto con claves Identificador.
+ *
+ * Las claves se guardan desarmadas en un long[] (dos long por posición) y los
+ * valores en un Object[] paralelo, por lo que una búsqueda compara enteros en
+ * memoria contigua sin seguir punteros a objetos clave. Usa sondeo lineal y
+ * borrado por desplazamiento hacia atrás (sin lápidas).
+ *
+ * No es thread-safe, igual que las colecciones a las que reemplaza en los repositorios.
+ *
+ * @param <V> tipo de los valores (no admite valores nulos)
+ */
+public class MapaIdentificadores<V> {
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final float FACTOR_CARGA = 0.6f;
+
+    private long[] claves;
+    private Object[] valores;
+    private int mascara;
+    private int tamano;
+    private int umbral;
+
+    public MapaIdentificadores() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * @param capacidadEsperada cantidad de elementos que se espera almacenar
+     */
+    public MapaIdentificadores(int capacidadEsperada) {
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * FACTOR_CARGA < capacidadEsperada) {
+            capacidad <<= 1;
+        }
+        inicializar(capacidad);
+    }
+
+    private void inicializar(int capacidad) {
+        this.claves = new long[capacidad * 2];
+        this.valores = new Object[capacidad];
+        this.mascara = capacidad - 1;
+        this.umbral = (int) (capacidad * FACTOR_CARGA);
+    }
+
+    public int size() { return tamano; }
+
+    public boolean isEmpty() { return tamano == 0; }
+
+    public V get(Identificador id) {
+        if (id == null) {
+            return null;
+        }
+        return get(id.getMasSignificativo(), id.getMenosSignificativo());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long alto, long bajo) {
+        int posicion = posicion(alto, bajo);
+        if (posicion < 0) {
+            return null;
+        }
+        return (V) valores[posicion];
+    }
+
+    public boolean containsKey(Identificador id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Asocia el valor al identificador
+     * @return el valor anterior o null si no existía
+     */
+    @SuppressWarnings("unchecked")
+    public V put(Identificador id, V valor) {
+        if (id == null || valor == null) {
+            throw new IllegalArgumentException("El identificador y el valor no pueden ser nulos");
+        }
+
+        long alto = id.getMasSignificativo();
+        long bajo = id.getMenosSignificativo();
+        int i = Identificador.hash(alto, bajo) & mascara;
+
+        while (valores[i] != null) {
+            if (claves[2 * i] == alto && claves[2 * i + 1] == bajo) {
+                V anterior = (V) valores[i];
+                valores[i] = valor;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        claves[2 * i] = alto;
+        claves[2 * i + 1] = bajo;
+        valores[i] = valor;
+
+        if (++tamano > umbral) {
+            redimensionar();
+        }
+        return null;
+    }
+
+    /**
+     * Elimina la asociación del identificador
+     * @return el valor eliminado o null si no existía
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Identificador id) {
+        if (id == null) {
+            return null;
+        }
+
+        int i = posicion(id.getMasSignificativo(), id.getMenosSignificativo());
+        if (i < 0) {
+            return null;
+        }
+
+        V eliminado = (V) valores[i];
+        valores[i] = null;
+        tamano--;
+
+        // desplaza hacia atrás los elementos de la misma secuencia de sondeo
+        // para que ninguna búsqueda posterior se corte en el hueco
+        int hueco = i;
+        int j = (i + 1) & mascara;
+        while (valores[j] != null) {
+            int ideal = Identificador.hash(claves[2 * j], claves[2 * j + 1]) & mascara;
+            if (((j - ideal) & mascara) >= ((j - hueco) & mascara)) {
+                claves[2 * hueco] = claves[2 * j];
+                claves[2 * hueco + 1] = claves[2 * j + 1];
+                valores[hueco] = valores[j];
+                valores[j] = null;
+                hueco = j;
+            }
+            j = (j + 1) & mascara;
+        }
+
+        return eliminado;
+    }
+
+    public void clear() {
+        Arrays.fill(valores, null);
+        tamano = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> accion) {
+        for (Object valor : valores) {
+            if (valor != null) {
+                accion.accept((V) valor);
+            }
+        }
+    }
+
+    public List<V> values() {
+        List<V> resultado = new ArrayList<>(tamano);
+        forEach(resultado::add);
+        return resultado;
+    }
+
+    private int posicion(long alto, long bajo) {
+        int i = Identificador.hash(alto, bajo) & mascara;
+        while (valores[i] != null) {
+            if (claves[2 * i] == alto && claves[2 * i + 1] == bajo) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    private void redimensionar() {
+        long[] clavesAnteriores = claves;
+        Object[] valoresAnteriores = valores;
+
+        inicializar(valoresAnteriores.length * 2);
+
+        for (int i = 0; i < valoresAnteriores.length; i++) {
+            Object valor = valoresAnteriores[i];
+            if (valor == null) {
+                continue;
+            }
+            long alto = clavesAnteriores[2 * i];
+            long bajo = clavesAnteriores[2 * i + 1];
+            int j = Identificador.hash(alto, bajo) & mascara;
+            while (valores[j] != null) {
+                j = (j + 1) & mascara;
+            }
+            claves[2 * j] = alto;
+            claves[2 * j + 1] = bajo;
+            valores[j] = valor;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package infrastructure.colecciones;
+
+import java.util.Arrays;
+
+/**
+ * Mapa inmutable con estructura compartida (hash array mapped trie).
+ *
+ * Cada nodo tiene hasta 32 hijos indexados por 5 bits del hash y guarda solo
+ * los presentes, según un mapa de bits. Agregar o quitar una clave copia
+ * únicamente el camino desde la raíz hasta su hoja (a lo sumo 7 nodos) y el
+ * resto del árbol se comparte con la versión anterior, que sigue siendo
+ * válida. Por eso una versión se puede leer desde cualquier hilo sin
+ * bloqueos mientras otro hilo arma la siguiente.
+ *
+ * @param <K> tipo de las claves (no admite claves nulas)
+ * @param <V> tipo de los valores (no admite valores nulos)
+ */
+public final class MapaPersistente<K, V> {
+    private static final int BITS = 5;
+    private static final int MASCARA = (1 << BITS) - 1;
+    private static final MapaPersistente<?, ?> VACIO = new MapaPersistente<>(NodoIndexado.VACIO, 0);
+
+    private final Nodo raiz;
+    private final int tamano;
+
+    private MapaPersistente(Nodo raiz, int tamano) {
+        this.raiz = raiz;
+        this.tamano = tamano;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> MapaPersistente<K, V> vacio() {
+        return (MapaPersistente<K, V>) VACIO;
+    }
+
+    public int tamano() { return tamano; }
+
+    public boolean esVacio() { return tamano == 0; }
+
+    @SuppressWarnings("unchecked")
+    public V get(K clave) {
+        if (clave == null) {
+            return null;
+        }
+        return (V) raiz.buscar(0, hash(clave), clave);
+    }
+
+    public boolean contiene(K clave) {
+        return get(clave) != null;
+    }
+
+    /**
+     * @return una versión con la clave asociada al valor; esta versión no cambia
+     */
+    public MapaPersistente<K, V> con(K clave, V valor) {
+        if (clave == null || valor == null) {
+            throw new IllegalArgumentException("La clave y el valor no pueden ser nulos");
+        }
+        boolean[] agregada = new boolean[1];
+        Nodo nueva = raiz.con(0, hash(clave), clave, valor, agregada);
+        if (nueva == raiz) {
+            return this;
+        }
+        return new MapaPersistente<>(nueva, agregada[0] ? tamano + 1 : tamano);
+    }
+
+    /**
+     * @return una versión sin la clave, o esta misma si no estaba
+     */
+    public MapaPersistente<K, V> sin(K clave) {
+        if (clave == null) {
+            return this;
+        }
+        Nodo nueva = raiz.sin(0, hash(clave), clave);
+        if (nueva == raiz) {
+            return this;
+        }
+        return new MapaPersistente<>(nueva == null ? NodoIndexado.VACIO : nueva, tamano - 1);
+    }
+
+    private static int hash(Object clave) {
+        int h = clave.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int indice(int hash, int desplazamiento) {
+        return (hash >>> desplazamiento) & MASCARA;
+    }
+
+    private interface Nodo {
+        Object buscar(int desplazamiento, int hash, Object clave);
+
+        /** Devuelve el mismo nodo si no hubo cambios */
+        Nodo con(int desplazamiento, int hash, Object clave, Object valor, boolean[] agregada);
+
+        /** Devuelve el mismo nodo si la clave no estaba, o null si quedó vacío */
+        Nodo sin(int desplazamiento, int hash, Object clave);
+    }
+
+    /**
+     * Nodo con hasta 32 posiciones. En entradas, cada posición presente ocupa
+     * dos celdas: clave y valor, o null y el nodo hijo que sigue el camino.
+     */
+    private static final class NodoIndexado implements Nodo {
+        static final NodoIndexado VACIO = new NodoIndexado(0, new Object[0]);
+
+        private final int mapa;
+        private final Object[] entradas;
+
+        NodoIndexado(int mapa, Object[] entradas) {
+            this.mapa = mapa;
+            this.entradas = entradas;
+        }
+
+        private int posicion(int bit) {
+            return Integer.bitCount(mapa & (bit - 1));
+        }
+
+        @Override
+        public Object buscar(int desplazamiento, int hash, Object clave) {
+            int bit = 1 << indice(hash, desplazamiento);
+            if ((mapa & bit) == 0) {
+                return null;
+            }
+            int i = 2 * posicion(bit);
+            Object existente = entradas[i];
+            if (existente == null) {
+                return ((Nodo) entradas[i + 1]).buscar(desplazamiento + BITS, hash, clave);
+            }
+            return existente.equals(clave) ? entradas[i + 1] : null;
+        }
+
+        @Override
+        public Nodo con(int desplazamiento, int hash, Object clave, Object valor, boolean[] agregada) {
+            int bit = 1 << indice(hash, desplazamiento);
+            int i = 2 * posicion(bit);
+
+            if ((mapa & bit) == 0) {
+                Object[] nuevas = new Object[entradas.length + 2];
+                System.arraycopy(entradas, 0, nuevas, 0, i);
+                nuevas[i] = clave;
+                nuevas[i + 1] = valor;
+                System.arraycopy(entradas, i, nuevas, i + 2, entradas.length - i);
+                agregada[0] = true;
+                return new NodoIndexado(mapa | bit, nuevas);
+            }
+
+            Object existente = entradas[i];
+            Object actual = entradas[i + 1];
+            if (existente == null) {
+                Nodo hijo = ((Nodo) actual).con(desplazamiento + BITS, hash, clave, valor, agregada);
+                return hijo == actual ? this : reemplazar(i, null, hijo);
+            }
+            if (existente.equals(clave)) {
+                return actual == valor ? this : reemplazar(i, existente, valor);
+            }
+            // dos claves en la misma posición: bajan juntas a un nodo hijo
+            agregada[0] = true;
+            Nodo hijo = crearHijo(desplazamiento + BITS, existente, actual, hash, clave, valor);
+            return reemplazar(i, null, hijo);
+        }
+
+        @Override
+        public Nodo sin(int desplazamiento, int hash, Object clave) {
+            int bit = 1 << indice(hash, desplazamiento);
+            if ((mapa & bit) == 0) {
+                return this;
+            }
+            int i = 2 * posicion(bit);
+            Object existente = entradas[i];
+            Object actual = entradas[i + 1];
+
+            if (existente == null) {
+                Nodo hijo = ((Nodo) actual).sin(desplazamiento + BITS, hash, clave);
+                if (hijo == actual) {
+                    return this;
+                }
+                if (hijo == null) {
+                    return quitar(bit, i);
+                }
+                // un hijo con un solo par vuelve a subir para no alargar el camino
+                if (hijo instanceof NodoIndexado indexado && indexado.entradas.length == 2
+                        && indexado.entradas[0] != null) {
+                    return reemplazar(i, indexado.entradas[0], indexado.entradas[1]);
+                }
+                return reemplazar(i, null, hijo);
+            }
+            if (!existente.equals(clave)) {
+                return this;
+            }
+            return quitar(bit, i);
+        }
+
+        private NodoIndexado reemplazar(int i, Object clave, Object valor) {
+            Object[] nuevas = entradas.clone();
+            nuevas[i] = clave;
+            nuevas[i + 1] = valor;
+            return new NodoIndexado(mapa, nuevas);
+        }
+
+        private NodoIndexado quitar(int bit, int i) {
+            if (mapa == bit) {
+                return null;
+            }
+            Object[] nuevas = new Object[entradas.length - 2];
+            System.arraycopy(entradas, 0, nuevas, 0, i);
+            System.arraycopy(entradas, i + 2, nuevas, i, entradas.length - i - 2);
+            return new NodoIndexado(mapa & ~bit, nuevas);
+        }
+
+        private static Nodo crearHijo(int desplazamiento, Object clave1, Object valor1,
+                                      int hash2, Object clave2, Object valor2) {
+            int hash1 = hash(clave1);
+            if (hash1 == hash2) {
+                return new NodoColision(hash1, new Object[]{clave1, valor1, clave2, valor2});
+            }
+            boolean[] ignorada = new boolean[1];
+            return VACIO.con(desplazamiento, hash1, clave1, valor1, ignorada)
+                    .con(desplazamiento, hash2, clave2, valor2, ignorada);
+        }
+    }
+
+    /**
+     * Claves distintas con el mismo hash completo: se guardan en una lista de pares.
+     */
+    private static final class NodoColision implements Nodo {
+        private final int hash;
+        private final Object[] pares;
+
+        NodoColision(int hash, Object[] pares) {
+            this.hash = hash;
+            this.pares = pares;
+        }
+
+        private int posicion(Object clave) {
+            for (int i = 0; i < pares.length; i += 2) {
+                if (pares[i].equals(clave)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object buscar(int desplazamiento, int hash, Object clave) {
+            int i = posicion(clave);
+            return i < 0 ? null : pares[i + 1];
+        }
+
+        @Override
+        public Nodo con(int desplazamiento, int hash, Object clave, Object valor, boolean[] agregada) {
+            if (hash != this.hash) {
+                // la clave nueva se separa en este nivel: el nodo pasa a colgar de uno indexado
+                NodoIndexado contenedor = new NodoIndexado(1 << indice(this.hash, desplazamiento),
+                        new Object[]{null, this});
+                return contenedor.con(desplazamiento, hash, clave, valor, agregada);
+            }
+            int i = posicion(clave);
+            if (i >= 0) {
+                if (pares[i + 1] == valor) {
+                    return this;
+                }
+                Object[] nuevos = pares.clone();
+                nuevos[i + 1] = valor;
+                return new NodoColision(hash, nuevos);
+            }
+            Object[] nuevos = Arrays.copyOf(pares, pares.length + 2);
+            nuevos[pares.length] = clave;
+            nuevos[pares.length + 1] = valor;
+            agregada[0] = true;
+            return new NodoColision(hash, nuevos);
+        }
+
+        @Override
+        public Nodo sin(int desplazamiento, int hash, Object clave) {
+            int i = posicion(clave);
+            if (i < 0) {
+                return this;
+            }
+            if (pares.length == 2) {
+                return null;
+            }
+            Object[] nuevos = new Object[pares.length - 2];
+            System.arraycopy(pares, 0, nuevos, 0, i);
+            System.arraycopy(pares, i + 2, nuevos, i, pares.length - i - 2);
+            if (nuevos.length == 2) {
+                // un solo par: el padre lo puede guardar directamente
+                return new NodoIndexado(1 << indice(this.hash, desplazamiento), nuevos);
+            }
+            return new NodoColision(hash, nuevos);
+        }
+    }
+}
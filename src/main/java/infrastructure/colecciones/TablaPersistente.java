@@ -0,0 +1,163 @@
+package infrastructure.colecciones;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Colección inmutable de entidades con búsqueda por identificador y un orden
+ * de recorrido, armada sobre MapaPersistente y ArbolPersistente.
+ *
+ * Cada versión es un valor: con() y sin() devuelven otra versión que comparte
+ * casi toda su estructura con esta. Un repositorio publica la versión vigente
+ * en un campo volatile y quien lee toma esa referencia en O(1) y la recorre
+ * sin bloquear ni copiar, aunque después se publiquen versiones nuevas.
+ *
+ * Recuerda la clave de orden con que guardó cada entidad, así una entidad
+ * modificada en su lugar (por ejemplo, una reserva con otra fecha de
+ * expiración) se puede quitar de su posición anterior antes de reubicarla.
+ *
+ * @param <K> tipo del identificador
+ * @param <C> tipo de la clave de orden, única por entidad
+ * @param <V> tipo de las entidades
+ */
+public final class TablaPersistente<K, C extends Comparable<? super C>, V> {
+    private final Function<V, K> identificador;
+    private final Function<V, C> orden;
+    private final MapaPersistente<K, Fila<C, V>> porIdentificador;
+    private final ArbolPersistente<C, V> enOrden;
+
+    private record Fila<C, V>(C orden, V valor) { }
+
+    private TablaPersistente(Function<V, K> identificador, Function<V, C> orden,
+                             MapaPersistente<K, Fila<C, V>> porIdentificador, ArbolPersistente<C, V> enOrden) {
+        this.identificador = identificador;
+        this.orden = orden;
+        this.porIdentificador = porIdentificador;
+        this.enOrden = enOrden;
+    }
+
+    /**
+     * @param identificador obtiene el identificador de una entidad
+     * @param orden obtiene la clave por la que se recorren las entidades
+     */
+    public static <K, C extends Comparable<? super C>, V> TablaPersistente<K, C, V> vacia(
+            Function<V, K> identificador, Function<V, C> orden) {
+        if (identificador == null || orden == null) {
+            throw new IllegalArgumentException("Las funciones de identificador y orden no pueden ser nulas");
+        }
+        return new TablaPersistente<>(identificador, orden, MapaPersistente.vacio(), ArbolPersistente.vacio());
+    }
+
+    public int tamano() { return porIdentificador.tamano(); }
+
+    public V get(K clave) {
+        Fila<C, V> fila = porIdentificador.get(clave);
+        return fila == null ? null : fila.valor();
+    }
+
+    public boolean contiene(K clave) {
+        return porIdentificador.contiene(clave);
+    }
+
+    /**
+     * @return una versión con la entidad agregada, o reemplazando a la que tenía su identificador
+     */
+    public TablaPersistente<K, C, V> con(V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("La entidad no puede ser nula");
+        }
+        K clave = identificador.apply(valor);
+        C nuevoOrden = orden.apply(valor);
+        Fila<C, V> anterior = porIdentificador.get(clave);
+
+        ArbolPersistente<C, V> arbol = enOrden;
+        if (anterior != null && anterior.orden().compareTo(nuevoOrden) != 0) {
+            arbol = arbol.sin(anterior.orden());
+        }
+        return new TablaPersistente<>(identificador, orden,
+                porIdentificador.con(clave, new Fila<>(nuevoOrden, valor)), arbol.con(nuevoOrden, valor));
+    }
+
+    /**
+     * Agrega varias entidades. Sobre una tabla vacía arma el orden de una vez
+     * en O(n log n) en vez de insertar una por una.
+     */
+    public TablaPersistente<K, C, V> conTodas(Collection<V> valores) {
+        if (tamano() > 0) {
+            TablaPersistente<K, C, V> tabla = this;
+            for (V valor : valores) {
+                tabla = tabla.con(valor);
+            }
+            return tabla;
+        }
+
+        MapaPersistente<K, Fila<C, V>> mapa = porIdentificador;
+        for (V valor : valores) {
+            if (valor == null) {
+                throw new IllegalArgumentException("La entidad no puede ser nula");
+            }
+            // si se repite un identificador queda la última entidad, igual que con con()
+            mapa = mapa.con(identificador.apply(valor), new Fila<>(orden.apply(valor), valor));
+        }
+        List<Fila<C, V>> filas = new ArrayList<>(mapa.tamano());
+        for (V valor : valores) {
+            Fila<C, V> fila = mapa.get(identificador.apply(valor));
+            if (fila.valor() == valor) {
+                filas.add(fila);
+            }
+        }
+        filas.sort(Comparator.comparing(Fila::orden));
+        List<C> claves = new ArrayList<>(filas.size());
+        List<V> ordenados = new ArrayList<>(filas.size());
+        for (Fila<C, V> fila : filas) {
+            if (!claves.isEmpty() && fila.orden().compareTo(claves.get(claves.size() - 1)) == 0) {
+                // la misma entidad repetida en la lista se guarda una vez
+                if (fila.valor() == ordenados.get(ordenados.size() - 1)) {
+                    continue;
+                }
+                throw new IllegalArgumentException("La clave de orden debe ser única por entidad");
+            }
+            claves.add(fila.orden());
+            ordenados.add(fila.valor());
+        }
+        return new TablaPersistente<>(identificador, orden, mapa, ArbolPersistente.deOrdenados(claves, ordenados));
+    }
+
+    /**
+     * @return una versión sin la entidad, o esta misma si no estaba
+     */
+    public TablaPersistente<K, C, V> sin(K clave) {
+        Fila<C, V> anterior = porIdentificador.get(clave);
+        if (anterior == null) {
+            return this;
+        }
+        return new TablaPersistente<>(identificador, orden,
+                porIdentificador.sin(clave), enOrden.sin(anterior.orden()));
+    }
+
+    /**
+     * Vista inmutable de las entidades en orden, obtenida en O(1) sin copiar
+     */
+    public List<V> valores() {
+        return enOrden.valores();
+    }
+
+    /**
+     * Vista de las entidades en orden, transformadas al leerlas
+     */
+    public <T> List<T> valores(Function<? super V, ? extends T> transformacion) {
+        return enOrden.valores(transformacion);
+    }
+
+    /**
+     * Recorre en orden las entidades con clave mayor al cursor, o todas si es null
+     */
+    public Iterator<Map.Entry<C, V>> desde(C cursor) {
+        return enOrden.desde(cursor);
+    }
+}
@@ -0,0 +1,266 @@
+package infrastructure.eventos;
+
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Flujo de cambios de los repositorios (change data capture) sobre un buffer
+ * circular sin bloqueos, al estilo del Disruptor.
+ *
+ * Cada cambio recibe un número de secuencia global. Un productor reclama la
+ * siguiente secuencia con un compare-and-set, escribe el cambio en la ranura
+ * secuencia % capacidad y la marca como publicada; nunca toma un bloqueo, así
+ * que publicar desde un repositorio cuesta unas decenas de nanosegundos y
+ * varios hilos pueden publicar a la vez. Solo espera si el buffer está lleno,
+ * es decir, si el consumidor más lento quedó una vuelta completa atrás.
+ *
+ * Cada consumidor tiene su propio hilo y su propia secuencia. Cuando despierta
+ * procesa de una vez todos los cambios publicados desde su última pasada (un
+ * lote), por lo que un consumidor lento se pone al día en lotes grandes en vez
+ * de frenar al productor.
+ */
+public class BusCambios implements AutoCloseable {
+    private static final int CAPACIDAD_POR_DEFECTO = 1 << 16;
+    private static final int GIROS_ACTIVOS = 100;
+    private static final int GIROS_CEDIENDO = 100;
+    private static final long ESPERA_INACTIVO_NANOS = 100_000;
+
+    private final int capacidad;
+    private final int mascara;
+    private final CambioRepositorio[] ranuras;
+    // secuencia publicada en cada ranura; una ranura está lista cuando coincide con la buscada
+    private final AtomicLongArray publicadas;
+    // última secuencia reclamada por algún productor
+    private final Secuencia reclamada = new Secuencia(-1);
+    // mínimo de las secuencias de los consumidores visto por última vez
+    private final Secuencia minimoConsumidores = new Secuencia(-1);
+    private final List<Suscripcion> suscripciones = new CopyOnWriteArrayList<>();
+
+    private volatile boolean activo = true;
+
+    public BusCambios() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * @param capacidad cantidad de ranuras; potencia de dos
+     */
+    public BusCambios(int capacidad) {
+        if (capacidad <= 0 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad del bus debe ser una potencia de dos");
+        }
+        this.capacidad = capacidad;
+        this.mascara = capacidad - 1;
+        this.ranuras = new CambioRepositorio[capacidad];
+        this.publicadas = new AtomicLongArray(capacidad);
+        for (int i = 0; i < capacidad; i++) {
+            publicadas.set(i, -1);
+        }
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Publica un cambio.
+     *
+     * @return la secuencia asignada al cambio
+     */
+    public long publicar(String repositorio, TipoCambio tipo, Object entidad) {
+        long secuencia = reclamar();
+        int ranura = (int) secuencia & mascara;
+        ranuras[ranura] = new CambioRepositorio(secuencia, repositorio, tipo, entidad, Instant.now());
+        publicadas.setRelease(ranura, secuencia);
+        return secuencia;
+    }
+
+    /**
+     * Cantidad de cambios publicados (o en curso de publicación) desde que se creó el bus
+     */
+    public long publicados() {
+        return reclamada.get() + 1;
+    }
+
+    /**
+     * Secuencia del último cambio publicado (o en curso de publicación). Todo
+     * cambio cuya escritura ya terminó tiene una secuencia menor o igual, así
+     * que sirve como marca para leer esas escrituras en una réplica.
+     */
+    public long ultimaSecuencia() {
+        return reclamada.get();
+    }
+
+    /**
+     * Registra un consumidor y arranca su hilo. Recibe los cambios que se
+     * publiquen a partir de este momento.
+     *
+     * @param nombre nombre del consumidor y de su hilo
+     */
+    public void suscribir(String nombre, ConsumidorCambios consumidor) {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El nombre del consumidor no puede ser nulo o vacío");
+        }
+        if (consumidor == null) {
+            throw new IllegalArgumentException("El consumidor no puede ser nulo");
+        }
+        if (!activo) {
+            throw new IllegalStateException("El bus de cambios está cerrado");
+        }
+
+        Suscripcion suscripcion = new Suscripcion(nombre, consumidor, reclamada.get());
+        suscripciones.add(suscripcion);
+        suscripcion.hilo.start();
+    }
+
+    /**
+     * Estado actual de cada consumidor
+     */
+    public List<EstadisticasConsumidor> estadisticas() {
+        long ultima = reclamada.get();
+        List<EstadisticasConsumidor> estadisticas = new ArrayList<>();
+        for (Suscripcion suscripcion : suscripciones) {
+            estadisticas.add(new EstadisticasConsumidor(suscripcion.nombre, suscripcion.procesados,
+                    suscripcion.lotes, ultima - suscripcion.secuencia.get(), suscripcion.errores));
+        }
+        return estadisticas;
+    }
+
+    /**
+     * Detiene los consumidores después de que procesen lo ya publicado.
+     */
+    @Override
+    public void close() {
+        activo = false;
+        for (Suscripcion suscripcion : suscripciones) {
+            LockSupport.unpark(suscripcion.hilo);
+            try {
+                suscripcion.hilo.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long reclamar() {
+        while (true) {
+            long actual = reclamada.get();
+            long siguiente = actual + 1;
+            long vuelta = siguiente - capacidad;
+
+            if (vuelta > minimoConsumidores.get()) {
+                // puede que la ranura siga sin consumir: se recalcula el mínimo real
+                long minimo = minimo(actual);
+                if (vuelta > minimo) {
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+                minimoConsumidores.set(minimo);
+            }
+
+            if (reclamada.compareAndSet(actual, siguiente)) {
+                return siguiente;
+            }
+        }
+    }
+
+    private long minimo(long valorSinConsumidores) {
+        long minimo = valorSinConsumidores;
+        for (Suscripcion suscripcion : suscripciones) {
+            if (suscripcion.hilo.isAlive()) {
+                minimo = Math.min(minimo, suscripcion.secuencia.get());
+            }
+        }
+        return minimo;
+    }
+
+    private boolean publicada(long secuencia) {
+        return publicadas.getAcquire((int) secuencia & mascara) == secuencia;
+    }
+
+    /**
+     * Última secuencia publicada sin huecos a partir de desde, o desde - 1 si
+     * todavía no hay nada para procesar
+     */
+    private long disponibleHasta(long desde) {
+        long ultima = reclamada.get();
+        long secuencia = desde;
+        while (secuencia <= ultima && publicada(secuencia)) {
+            secuencia++;
+        }
+        return secuencia - 1;
+    }
+
+    private final class Suscripcion implements Runnable {
+        private final String nombre;
+        private final ConsumidorCambios consumidor;
+        private final Secuencia secuencia;
+        private final Thread hilo;
+
+        // solo los escribe el hilo del consumidor
+        private volatile long procesados;
+        private volatile long lotes;
+        private volatile long errores;
+
+        Suscripcion(String nombre, ConsumidorCambios consumidor, long inicial) {
+            this.nombre = nombre;
+            this.consumidor = consumidor;
+            this.secuencia = new Secuencia(inicial);
+            this.hilo = Thread.ofPlatform().name("bus-cambios-" + nombre).daemon().unstarted(this);
+        }
+
+        @Override
+        public void run() {
+            long siguiente = secuencia.get() + 1;
+            int esperas = 0;
+
+            while (true) {
+                long disponible = disponibleHasta(siguiente);
+                if (disponible < siguiente) {
+                    if (!activo) {
+                        return;
+                    }
+                    esperar(esperas++);
+                    continue;
+                }
+
+                esperas = 0;
+                for (long s = siguiente; s <= disponible; s++) {
+                    try {
+                        consumidor.procesar(ranuras[(int) s & mascara], s == disponible);
+                    } catch (RuntimeException e) {
+                        errores++;
+                        e.printStackTrace();
+                    }
+                }
+                procesados += disponible - siguiente + 1;
+                lotes++;
+
+                // libera las ranuras del lote para que los productores las reutilicen
+                secuencia.set(disponible);
+                siguiente = disponible + 1;
+            }
+        }
+
+        /**
+         * Primero gira, después cede el procesador y al final se duerme,
+         * para no gastar CPU cuando no hay cambios
+         */
+        private void esperar(int esperas) {
+            if (esperas < GIROS_ACTIVOS) {
+                Thread.onSpinWait();
+            } else if (esperas < GIROS_ACTIVOS + GIROS_CEDIENDO) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(ESPERA_INACTIVO_NANOS);
+            }
+        }
+    }
+}
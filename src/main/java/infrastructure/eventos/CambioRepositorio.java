@@ -0,0 +1,28 @@
+package infrastructure.eventos;
+
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.time.Instant;
+
+/**
+ * Un cambio confirmado en un repositorio, tal como lo publica el BusCambios.
+ *
+ * @param secuencia número de orden del cambio en el bus, sin huecos desde 0
+ * @param repositorio repositorio que aplicó el cambio ("comics", "usuarios", "reservas", "ventas")
+ * @param tipo alta, modificación o baja
+ * @param entidad entidad afectada; es la misma instancia del repositorio, no una copia
+ * @param instante momento en que se publicó
+ */
+public record CambioRepositorio(long secuencia,
+                                String repositorio,
+                                TipoCambio tipo,
+                                Object entidad,
+                                Instant instante) {
+
+    /**
+     * La entidad si es del tipo pedido, o null en caso contrario
+     */
+    public <T> T entidadComo(Class<T> tipoEntidad) {
+        return tipoEntidad.isInstance(entidad) ? tipoEntidad.cast(entidad) : null;
+    }
+}
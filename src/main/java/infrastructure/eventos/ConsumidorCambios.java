@@ -0,0 +1,19 @@
+package infrastructure.eventos;
+
+/**
+ * Procesa los cambios publicados en un BusCambios, en orden de secuencia.
+ *
+ * Cada consumidor corre en su propio hilo y recibe los cambios en lotes: todos
+ * los que se publicaron mientras procesaba el lote anterior. El último cambio
+ * de cada lote llega con finDeLote en true, lo que permite aplicar en bloque
+ * lo acumulado (por ejemplo, escribir una sola vez a disco).
+ */
+@FunctionalInterface
+public interface ConsumidorCambios {
+
+    /**
+     * @param cambio cambio publicado
+     * @param finDeLote true si es el último cambio disponible por ahora
+     */
+    void procesar(CambioRepositorio cambio, boolean finDeLote);
+}
@@ -0,0 +1,21 @@
+package infrastructure.eventos;
+
+/**
+ * Estado de un consumidor del BusCambios en un momento dado.
+ *
+ * @param nombre nombre del consumidor
+ * @param procesados cambios procesados
+ * @param lotes lotes procesados
+ * @param retraso cambios publicados que todavía no procesó
+ * @param errores cambios cuyo procesamiento lanzó una excepción
+ */
+public record EstadisticasConsumidor(String nombre,
+                                     long procesados,
+                                     long lotes,
+                                     long retraso,
+                                     long errores) {
+
+    public double tamanoMedioLote() {
+        return lotes == 0 ? 0 : (double) procesados / lotes;
+    }
+}
@@ -0,0 +1,49 @@
+package infrastructure.eventos;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Contador de secuencia con relleno a ambos lados para que ocupe su propia
+ * línea de caché: el productor y cada consumidor escriben su secuencia sin
+ * invalidar la línea de los demás (false sharing). HotSpot ubica los campos
+ * del mismo tamaño en orden de declaración, así que el valor queda entre los
+ * dos rellenos.
+ */
+final class Secuencia {
+    private static final VarHandle VALOR;
+
+    static {
+        try {
+            VALOR = MethodHandles.lookup().findVarHandle(Secuencia.class, "valor", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long r1, r2, r3, r4, r5, r6, r7;
+    private long valor;
+    @SuppressWarnings("unused")
+    private long r9, r10, r11, r12, r13, r14, r15;
+
+    Secuencia(long inicial) {
+        VALOR.setVolatile(this, inicial);
+    }
+
+    long get() {
+        return (long) VALOR.getAcquire(this);
+    }
+
+    /**
+     * Escritura ordenada sin barrera completa: quien lea el nuevo valor
+     * ve también todas las escrituras anteriores de este hilo
+     */
+    void set(long nuevo) {
+        VALOR.setRelease(this, nuevo);
+    }
+
+    boolean compareAndSet(long esperado, long nuevo) {
+        return VALOR.compareAndSet(this, esperado, nuevo);
+    }
+}
@@ -0,0 +1,146 @@
+package infrastructure.particiones;
+
+import domain.valueobjects.Identificador;
+import infrastructure.asincrono.HiloPersistencia;
+import infrastructure.versiones.VersionesRepositorios;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Conjunto de N particiones, cada una con un estado propio (por ejemplo, un
+ * repositorio) y un único hilo dueño que es el único que lo toca.
+ *
+ * Las operaciones se envían al hilo dueño de la partición como mensajes (al
+ * estilo de los actores) y quien llama espera el resultado. Como cada estado
+ * lo usa un solo hilo, no necesita sincronización, y operaciones sobre
+ * particiones distintas corren en paralelo. La partición de una clave se
+ * obtiene del hash de su identificador.
+ *
+ * Si el hilo dueño de una partición pide una operación sobre su propia
+ * partición se ejecuta directamente, sin pasar por la cola.
+ *
+ * @param <R> tipo del estado de cada partición
+ */
+public class Particiones<R> implements AutoCloseable {
+    private final List<R> estados;
+    private final List<ExecutorService> hilos;
+    private final Thread[] duenos;
+
+    /**
+     * Crea las particiones; cada estado se construye en su propio hilo dueño,
+     * por lo que las cargas iniciales corren en paralelo.
+     *
+     * @param nombre prefijo del nombre de los hilos
+     * @param cantidad cantidad de particiones
+     * @param fabrica construye el estado de la partición indicada
+     */
+    public Particiones(String nombre, int cantidad, IntFunction<? extends R> fabrica) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad de particiones debe ser mayor a 0");
+        }
+        if (fabrica == null) {
+            throw new IllegalArgumentException("La fábrica de particiones no puede ser nula");
+        }
+
+        this.hilos = new ArrayList<>(cantidad);
+        this.duenos = new Thread[cantidad];
+        List<CompletableFuture<R>> creados = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            int particion = i;
+            ExecutorService hilo = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name(nombre + "-" + particion).daemon().factory());
+            hilos.add(hilo);
+            creados.add(CompletableFuture.supplyAsync(() -> {
+                duenos[particion] = Thread.currentThread();
+                return fabrica.apply(particion);
+            }, hilo));
+        }
+
+        this.estados = new ArrayList<>(cantidad);
+        for (CompletableFuture<R> creado : creados) {
+            estados.add(HiloPersistencia.esperar(creado));
+        }
+    }
+
+    public int cantidad() {
+        return estados.size();
+    }
+
+    /**
+     * Partición dueña de la clave
+     */
+    public int particion(Identificador clave) {
+        return particion(clave, estados.size());
+    }
+
+    /**
+     * Partición dueña de la clave entre la cantidad indicada; sirve para
+     * repartir datos antes de crear las particiones
+     */
+    public static int particion(Identificador clave, int cantidad) {
+        int hash = clave.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), cantidad);
+    }
+
+    /**
+     * Ejecuta la operación en la partición dueña de la clave y espera su resultado
+     */
+    public <T> T ejecutar(Identificador clave, Function<? super R, T> operacion) {
+        return ejecutar(particion(clave), operacion);
+    }
+
+    /**
+     * Ejecuta la operación en la partición indicada y espera su resultado
+     */
+    public <T> T ejecutar(int particion, Function<? super R, T> operacion) {
+        if (Thread.currentThread() == duenos[particion]) {
+            return operacion.apply(estados.get(particion));
+        }
+        return HiloPersistencia.esperar(enviar(particion, operacion));
+    }
+
+    /**
+     * Ejecuta la operación en todas las particiones a la vez y espera todos
+     * los resultados.
+     *
+     * @return un resultado por partición, en orden de partición
+     */
+    public <T> List<T> enTodas(Function<? super R, T> operacion) {
+        List<CompletableFuture<T>> pendientes = new ArrayList<>(estados.size());
+        for (int i = 0; i < estados.size(); i++) {
+            pendientes.add(Thread.currentThread() == duenos[i]
+                    ? CompletableFuture.completedFuture(operacion.apply(estados.get(i)))
+                    : enviar(i, operacion));
+        }
+
+        List<T> resultados = new ArrayList<>(estados.size());
+        for (CompletableFuture<T> pendiente : pendientes) {
+            resultados.add(HiloPersistencia.esperar(pendiente));
+        }
+        return resultados;
+    }
+
+    /**
+     * Termina los hilos dueños después de las operaciones ya enviadas
+     */
+    @Override
+    public void close() {
+        hilos.forEach(ExecutorService::close);
+    }
+
+    /**
+     * El hilo dueño lee la misma versión de los repositorios que fijó quien
+     * envía la operación, que la mantiene fijada mientras espera el resultado
+     */
+    private <T> CompletableFuture<T> enviar(int particion, Function<? super R, T> operacion) {
+        R estado = estados.get(particion);
+        Function<? super R, T> conVersion = VersionesRepositorios.global().conVersionDelHilo(operacion);
+        return CompletableFuture.supplyAsync(() -> conVersion.apply(estado), hilos.get(particion));
+    }
+}
@@ -0,0 +1,178 @@
+package infrastructure.reportes;
+
+import interfaces.domain.IMotorReportes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Motor de reportes que reparte cada recorrido en un ForkJoinPool propio.
+ *
+ * La colección se divide con su Spliterator (las vistas de los repositorios
+ * se dividen por posición en mitades exactas) hasta porciones de un tamaño
+ * que da unas cuantas por hilo. Cada hilo del pool acumula en su propio
+ * acumulador todas las porciones que le tocan, sin sincronizar, y al final se
+ * combinan los acumuladores de cada hilo. El pool es exclusivo de los
+ * reportes, así un reporte largo no ocupa el pool común ni los hilos que
+ * atienden las operaciones.
+ *
+ * Las colecciones chicas se recorren en el hilo que llama: repartirlas cuesta
+ * más de lo que ahorra.
+ */
+public class MotorReportesParalelo implements IMotorReportes, AutoCloseable {
+    // por debajo de esta cantidad de elementos no se reparte
+    private static final int UMBRAL_PARALELO = 1 << 15;
+    private static final int PORCION_MINIMA = 1 << 12;
+    // porciones por hilo, para repartir bien aunque algunas tarden más
+    private static final int PORCIONES_POR_HILO = 4;
+
+    private final ForkJoinPool pool;
+    private final IMotorReportes secuencial = IMotorReportes.secuencial();
+
+    /**
+     * @param hilos cantidad de hilos del pool de reportes
+     */
+    public MotorReportesParalelo(int hilos) {
+        if (hilos <= 0) {
+            throw new IllegalArgumentException("La cantidad de hilos debe ser mayor a 0");
+        }
+        this.pool = new ForkJoinPool(hilos, pool -> {
+            ForkJoinWorkerThread hilo = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            hilo.setName("reportes-" + hilo.getPoolIndex());
+            hilo.setDaemon(true);
+            return hilo;
+        }, null, false);
+    }
+
+    public int getHilos() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public <T, A> A agregar(List<? extends T> elementos, Supplier<A> nuevo,
+                            BiConsumer<A, ? super T> acumular, BiConsumer<A, A> combinar) {
+        if (elementos.size() < UMBRAL_PARALELO) {
+            return secuencial.agregar(elementos, nuevo, acumular, combinar);
+        }
+
+        // un acumulador por hilo del pool; join() hace visibles sus cambios al final
+        Map<Thread, A> porHilo = new ConcurrentHashMap<>();
+        pool.invoke(new Recorrido<>(elementos.spliterator(), porcion(elementos.size()), porcion -> {
+            A acumulador = porHilo.computeIfAbsent(Thread.currentThread(), hilo -> nuevo.get());
+            porcion.forEachRemaining(elemento -> acumular.accept(acumulador, elemento));
+        }));
+
+        Iterator<A> acumuladores = porHilo.values().iterator();
+        if (!acumuladores.hasNext()) {
+            return nuevo.get();
+        }
+        A resultado = acumuladores.next();
+        while (acumuladores.hasNext()) {
+            combinar.accept(resultado, acumuladores.next());
+        }
+        return resultado;
+    }
+
+    @Override
+    public <T> List<T> filtrar(List<? extends T> elementos, Predicate<? super T> condicion) {
+        if (elementos.size() < UMBRAL_PARALELO) {
+            return secuencial.filtrar(elementos, condicion);
+        }
+        return pool.invoke(new Filtrado<T>(elementos.spliterator(), porcion(elementos.size()), condicion));
+    }
+
+    private long porcion(int elementos) {
+        return Math.max(PORCION_MINIMA, elementos / ((long) pool.getParallelism() * PORCIONES_POR_HILO));
+    }
+
+    /**
+     * Termina los hilos del pool
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /**
+     * Divide el Spliterator hasta el tamaño de porción y entrega cada porción
+     * al hilo que la toma
+     */
+    private static final class Recorrido<E> extends RecursiveAction {
+        private final Spliterator<E> elementos;
+        private final long porcion;
+        private final Consumer<Spliterator<E>> hoja;
+
+        Recorrido(Spliterator<E> elementos, long porcion, Consumer<Spliterator<E>> hoja) {
+            this.elementos = elementos;
+            this.porcion = porcion;
+            this.hoja = hoja;
+        }
+
+        @Override
+        protected void compute() {
+            List<Recorrido<E>> bifurcados = new ArrayList<>();
+            Spliterator<E> resto = elementos;
+            while (resto.estimateSize() > porcion) {
+                Spliterator<E> prefijo = resto.trySplit();
+                if (prefijo == null) {
+                    break;
+                }
+                Recorrido<E> tarea = new Recorrido<>(prefijo, porcion, hoja);
+                tarea.fork();
+                bifurcados.add(tarea);
+            }
+            hoja.accept(resto);
+            for (Recorrido<E> tarea : bifurcados) {
+                tarea.join();
+            }
+        }
+    }
+
+    /**
+     * Filtra cada mitad por separado y las junta en orden
+     */
+    private static final class Filtrado<T> extends RecursiveTask<List<T>> {
+        private final Spliterator<? extends T> elementos;
+        private final long porcion;
+        private final Predicate<? super T> condicion;
+
+        Filtrado(Spliterator<? extends T> elementos, long porcion, Predicate<? super T> condicion) {
+            this.elementos = elementos;
+            this.porcion = porcion;
+            this.condicion = condicion;
+        }
+
+        @Override
+        protected List<T> compute() {
+            Spliterator<? extends T> prefijo = elementos.estimateSize() > porcion ? elementos.trySplit() : null;
+            if (prefijo == null) {
+                List<T> resultado = new ArrayList<>();
+                elementos.forEachRemaining(elemento -> {
+                    if (condicion.test(elemento)) {
+                        resultado.add(elemento);
+                    }
+                });
+                return resultado;
+            }
+
+            Filtrado<T> primera = new Filtrado<>(prefijo, porcion, condicion);
+            primera.fork();
+            List<T> segunda = new Filtrado<T>(elementos, porcion, condicion).compute();
+            List<T> resultado = primera.join();
+            resultado.addAll(segunda);
+            return resultado;
+        }
+    }
+}
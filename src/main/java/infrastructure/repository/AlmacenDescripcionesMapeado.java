@@ -0,0 +1,177 @@
+package infrastructure.repository;
+
+import interfaces.repository.IAlmacenDescripciones;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Almacén de descripciones en un archivo auxiliar mapeado en memoria.
+ *
+ * Cada descripción se agrega al final del archivo como [largo int][bytes UTF-8]
+ * y su referencia es el desplazamiento donde comienza. El archivo se divide en
+ * segmentos de 1 GiB mapeados por separado (ninguna entrada cruza un segmento);
+ * cada segmento crece duplicando su mapeo a medida que se escribe.
+ *
+ * El archivo se recrea al iniciar porque comics.csv sigue siendo la fuente de
+ * verdad; las descripciones reemplazadas no se recuperan hasta el siguiente inicio.
+ * Las lecturas recientes se mantienen en una pequeña caché LRU; los recorridos
+ * masivos leen sin caché ni candado sobre los segmentos mapeados hasta ese
+ * momento, porque lo ya escrito no cambia.
+ */
+public class AlmacenDescripcionesMapeado implements IAlmacenDescripciones, AutoCloseable {
+    private static final int TAMANO_SEGMENTO = 1 << 30;
+    private static final int MAPEO_INICIAL = 1 << 20;
+    private static final int CAPACIDAD_CACHE_POR_DEFECTO = 1024;
+
+    private final FileChannel canal;
+    private final List<MappedByteBuffer> segmentos = new ArrayList<>();
+    private final Map<Long, String> cache;
+    private long fin;
+
+    public AlmacenDescripcionesMapeado(String archivo) {
+        this(archivo, CAPACIDAD_CACHE_POR_DEFECTO);
+    }
+
+    /**
+     * @param archivo ruta del archivo auxiliar de descripciones
+     * @param capacidadCache cantidad de descripciones recientes a mantener en el heap
+     */
+    public AlmacenDescripcionesMapeado(String archivo, int capacidadCache) {
+        try {
+            this.canal = FileChannel.open(Path.of(archivo),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el archivo de descripciones " + archivo, e);
+        }
+
+        this.cache = new LinkedHashMap<>(capacidadCache, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > capacidadCache;
+            }
+        };
+    }
+
+    @Override
+    public synchronized long guardar(String descripcion) {
+        byte[] bytes = descripcion.getBytes(StandardCharsets.UTF_8);
+        int largoEntrada = Integer.BYTES + bytes.length;
+        if (largoEntrada > TAMANO_SEGMENTO) {
+            throw new IllegalArgumentException("La descripción es demasiado grande para el almacén");
+        }
+
+        // si la entrada no cabe en lo que queda del segmento se salta al siguiente
+        long desplazamientoEnSegmento = fin % TAMANO_SEGMENTO;
+        if (desplazamientoEnSegmento + largoEntrada > TAMANO_SEGMENTO) {
+            fin += TAMANO_SEGMENTO - desplazamientoEnSegmento;
+        }
+
+        long referencia = fin;
+        MappedByteBuffer segmento = segmentoParaEscribir(referencia, largoEntrada);
+        int posicion = (int) (referencia % TAMANO_SEGMENTO);
+        segmento.putInt(posicion, bytes.length);
+        segmento.put(posicion + Integer.BYTES, bytes);
+
+        fin += largoEntrada;
+        return referencia;
+    }
+
+    @Override
+    public synchronized String leer(long referencia) {
+        if (referencia < 0 || referencia >= fin) {
+            throw new IllegalArgumentException("Referencia de descripción inválida: " + referencia);
+        }
+
+        String enCache = cache.get(referencia);
+        if (enCache != null) {
+            return enCache;
+        }
+
+        String descripcion = leer(segmentos, referencia);
+        cache.put(referencia, descripcion);
+        return descripcion;
+    }
+
+    @Override
+    public LongFunction<String> lectorMasivo() {
+        List<MappedByteBuffer> mapeados;
+        long escrito;
+        synchronized (this) {
+            mapeados = List.copyOf(segmentos);
+            escrito = fin;
+        }
+        return referencia -> {
+            if (referencia < 0 || referencia >= escrito) {
+                // guardada después de crear el lector (o inválida, y leer lo informa)
+                return leer(referencia);
+            }
+            return leer(mapeados, referencia);
+        };
+    }
+
+    private static String leer(List<MappedByteBuffer> segmentos, long referencia) {
+        MappedByteBuffer segmento = segmentos.get((int) (referencia / TAMANO_SEGMENTO));
+        int posicion = (int) (referencia % TAMANO_SEGMENTO);
+        byte[] bytes = new byte[segmento.getInt(posicion)];
+        segmento.get(posicion + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bytes ocupados en el archivo auxiliar
+     */
+    public synchronized long getTamano() {
+        return fin;
+    }
+
+    private MappedByteBuffer segmentoParaEscribir(long referencia, int largoEntrada) {
+        int indice = (int) (referencia / TAMANO_SEGMENTO);
+        int necesario = (int) (referencia % TAMANO_SEGMENTO) + largoEntrada;
+
+        MappedByteBuffer segmento = indice < segmentos.size() ? segmentos.get(indice) : null;
+        if (segmento != null && segmento.capacity() >= necesario) {
+            return segmento;
+        }
+
+        int capacidad = segmento == null ? MAPEO_INICIAL : segmento.capacity();
+        while (capacidad < necesario) {
+            capacidad = (int) Math.min((long) capacidad * 2, TAMANO_SEGMENTO);
+        }
+
+        try {
+            // mapear en modo lectura/escritura extiende el archivo hasta la capacidad pedida
+            MappedByteBuffer nuevo = canal.map(FileChannel.MapMode.READ_WRITE, (long) indice * TAMANO_SEGMENTO, capacidad);
+            if (indice < segmentos.size()) {
+                segmentos.set(indice, nuevo);
+            } else {
+                segmentos.add(nuevo);
+            }
+            return nuevo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo mapear el archivo de descripciones", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            canal.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
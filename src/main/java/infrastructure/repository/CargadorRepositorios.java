@@ -0,0 +1,96 @@
+package infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Orquesta la carga inicial de los repositorios.
+ *
+ * Cada repositorio se construye en su propia tarea, de modo que la lectura de
+ * un archivo no bloquea la de los demás. Las tareas comparten el mismo
+ * ForkJoinPool que los repositorios usan para interpretar en paralelo los
+ * fragmentos de los archivos grandes.
+ */
+public class CargadorRepositorios {
+    private final ForkJoinPool pool;
+    private final List<CompletableFuture<EstadisticaCarga>> cargas = new ArrayList<>();
+
+    public CargadorRepositorios() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public CargadorRepositorios(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Inicia la carga de un repositorio en segundo plano.
+     *
+     * @param nombre nombre del repositorio para el reporte de carga
+     * @param fabrica construye el repositorio usando el pool compartido
+     * @param contarFilas cantidad de filas cargadas, para el reporte
+     * @return el repositorio una vez cargado
+     */
+    public <T> CompletableFuture<T> cargar(String nombre,
+                                           Function<ForkJoinPool, T> fabrica,
+                                           ToIntFunction<T> contarFilas) {
+        CompletableFuture<Cargado<T>> carga = CompletableFuture.supplyAsync(() -> {
+            long inicio = System.nanoTime();
+            T repositorio = fabrica.apply(pool);
+            long duracion = System.nanoTime() - inicio;
+            return new Cargado<>(repositorio, new EstadisticaCarga(nombre, contarFilas.applyAsInt(repositorio), duracion));
+        }, pool);
+
+        cargas.add(carga.thenApply(Cargado::estadistica));
+        return carga.thenApply(Cargado::repositorio);
+    }
+
+    /**
+     * Espera a que terminen todas las cargas iniciadas.
+     *
+     * @return estadísticas de carga en el orden en que se iniciaron
+     * @throws IllegalStateException si algún repositorio no se pudo cargar
+     */
+    public List<EstadisticaCarga> esperar() {
+        List<EstadisticaCarga> estadisticas = new ArrayList<>();
+        for (CompletableFuture<EstadisticaCarga> carga : cargas) {
+            try {
+                estadisticas.add(carga.join());
+            } catch (CompletionException e) {
+                throw new IllegalStateException("Error al cargar repositorio: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return estadisticas;
+    }
+
+    private record Cargado<T>(T repositorio, EstadisticaCarga estadistica) {
+    }
+
+    /**
+     * Resultado de la carga de un repositorio.
+     *
+     * @param repositorio nombre del repositorio
+     * @param filas filas cargadas
+     * @param duracionNanos tiempo de carga en nanosegundos
+     */
+    public record EstadisticaCarga(String repositorio, int filas, long duracionNanos) {
+
+        public double filasPorSegundo() {
+            return duracionNanos == 0 ? 0 : filas * 1_000_000_000.0 / duracionNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %,d filas en %.1f ms (%,.0f filas/s)",
+                    repositorio, filas, duracionNanos / 1_000_000.0, filasPorSegundo());
+        }
+    }
+}
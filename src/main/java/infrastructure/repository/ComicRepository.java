@@ -1,83 +1,226 @@
 package infrastructure.repository;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.exceptions.CsvValidationException;
 import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 import exceptions.ComicNoEncontradoException;
+import infrastructure.colecciones.TablaPersistente;
+import infrastructure.versiones.HistorialVersiones;
+import interfaces.repository.IAlmacenDescripciones;
 import interfaces.repository.IComicRepository;
 
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+/**
+ * Catálogo en memoria respaldado en un archivo CSV.
+ *
+ * El catálogo y sus índices por orden son colecciones persistentes publicadas
+ * juntas como una versión del historial. Las escrituras están serializadas y
+ * publican una versión nueva; las lecturas toman una vez la versión vigente,
+ * o la fijada por el hilo en VersionesRepositorios, sin bloquear ni copiar,
+ * y buscarTodos() devuelve esa versión como lista inmutable en O(1).
+ *
+ * Con un almacén de descripciones, cada cómic que entra al catálogo deja su
+ * descripción en el almacén y conserva solo la referencia; el repositorio la
+ * lee desde allí al pedirla, y las búsquedas por texto y la escritura del CSV
+ * recorren el almacén de una vez con su lector masivo. Cada descripción
+ * reemplazada deja su copia anterior en el almacén hasta el siguiente inicio,
+ * que lo recrea desde el CSV.
+ */
 public class ComicRepository implements IComicRepository {
-    private final List<Comic> comics = new ArrayList<>();
-    private final String csvFilePath = "comics.csv";
+    private static final String REPOSITORIO = "comics";
 
-    public ComicRepository() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvFilePath))) {
-            String[] nextLine;
-            boolean isHeader = true;
-            while ((nextLine = reader.readNext()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue;
-                }
-
-                Comic comic = new Comic(
-                        nextLine[1],
-                        nextLine[2],
-                        Divisa.pesos(Double.parseDouble(nextLine[3]))
-                );
-                comics.add(comic);
+    private final HistorialVersiones<Estado> historial;
+    private final String csvFilePath;
+    // si no es nulo, las descripciones se mantienen fuera del heap
+    private final IAlmacenDescripciones almacenDescripciones;
+    // una sola función de lectura compartida por todos los cómics externalizados
+    private final LongFunction<String> lectorDescripciones;
+
+    /**
+     * Una versión del catálogo: los cómics por identificador y los índices por
+     * orden para paginar; cada índice se arma recién con la primera página que lo usa.
+     */
+    private record Estado(TablaPersistente<Identificador, Identificador, Comic> comics,
+                          Map<OrdenComics, TablaPersistente<Identificador, String, Comic>> indicesOrden) {
+        static final Estado VACIO = new Estado(TablaPersistente.vacia(Comic::getId, Comic::getId), Map.of());
+
+        Estado con(Comic comic) {
+            return new Estado(comics.con(comic), actualizarIndices(indice -> indice.con(comic)));
+        }
+
+        Estado conTodos(List<Comic> nuevos) {
+            return new Estado(comics.conTodas(nuevos), actualizarIndices(indice -> indice.conTodas(nuevos)));
+        }
+
+        Estado sin(Identificador id) {
+            return new Estado(comics.sin(id), actualizarIndices(indice -> indice.sin(id)));
+        }
+
+        Estado conIndice(OrdenComics orden) {
+            Map<OrdenComics, TablaPersistente<Identificador, String, Comic>> indices = new EnumMap<>(OrdenComics.class);
+            indices.putAll(indicesOrden);
+            indices.put(orden, TablaPersistente.<Identificador, String, Comic>vacia(Comic::getId, orden::clave)
+                    .conTodas(comics.valores()));
+            return new Estado(comics, Collections.unmodifiableMap(indices));
+        }
+
+        private Map<OrdenComics, TablaPersistente<Identificador, String, Comic>> actualizarIndices(
+                UnaryOperator<TablaPersistente<Identificador, String, Comic>> cambio) {
+            if (indicesOrden.isEmpty()) {
+                return indicesOrden;
             }
-        } catch (IOException | CsvValidationException e) {
+            Map<OrdenComics, TablaPersistente<Identificador, String, Comic>> indices = new EnumMap<>(indicesOrden);
+            indices.replaceAll((orden, indice) -> cambio.apply(indice));
+            return Collections.unmodifiableMap(indices);
+        }
+    }
+
+    public ComicRepository() {
+        this("comics.csv", ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csvFilePath archivo CSV del catálogo
+     * @param pool pool donde se interpretan en paralelo los archivos grandes
+     */
+    public ComicRepository(String csvFilePath, ForkJoinPool pool) {
+        this(csvFilePath, pool, null);
+    }
+
+    /**
+     * @param csvFilePath archivo CSV del catálogo
+     * @param pool pool donde se interpretan en paralelo los archivos grandes
+     * @param almacenDescripciones almacén donde se externalizan las descripciones,
+     *                             o null para mantenerlas en el heap
+     */
+    public ComicRepository(String csvFilePath, ForkJoinPool pool, IAlmacenDescripciones almacenDescripciones) {
+        this.csvFilePath = csvFilePath;
+        this.almacenDescripciones = almacenDescripciones;
+        this.lectorDescripciones = almacenDescripciones == null ? null : almacenDescripciones::leer;
+
+        Estado inicial = Estado.VACIO;
+        try {
+            List<Comic> cargados = LectorCsvParalelo.leer(csvFilePath, nextLine -> new Comic(
+                    leerIdentificador(nextLine[0]),
+                    nextLine[1],
+                    nextLine[2],
+                    Divisa.pesos(Double.parseDouble(nextLine[3]))
+            ), pool);
+
+            cargados.forEach(this::externalizar);
+            inicial = inicial.conTodos(cargados);
+        } catch (IOException e) {
             e.printStackTrace();
         }
+        historial = new HistorialVersiones<>(inicial);
     }
 
-    private void guardarCSV() {
-        try (CSVWriter writer = new CSVWriter(new FileWriter(csvFilePath))) {
-            writer.writeNext(new String[]{"id", "nombre", "descripcion", "precio"});
-            for (Comic comic : comics) {
-                writer.writeNext(new String[]{
-                        comic.getId(),
-                        comic.getNombre(),
-                        comic.getDescription(),
-                        String.valueOf(comic.getPrecio())
-                });
-            }
+    /**
+     * Guarda en el almacén la descripción que el cómic tenga en memoria
+     */
+    private void externalizar(Comic comic) {
+        String descripcion = comic.getDescripcionEnMemoria();
+        if (almacenDescripciones != null && descripcion != null) {
+            comic.liberarDescripcion(descripcion, almacenDescripciones.guardar(descripcion), lectorDescripciones);
+        }
+    }
+
+    /**
+     * Los archivos antiguos no guardaban un identificador válido,
+     * en ese caso se genera uno nuevo para el cómic
+     */
+    private static Identificador leerIdentificador(String texto) {
+        try {
+            return Identificador.desdeTexto(texto.trim());
+        } catch (IllegalArgumentException e) {
+            return Identificador.nuevo();
+        }
+    }
+
+    private void guardarCSV(Estado actual) {
+        LongFunction<String> descripciones = almacenDescripciones == null ? null : almacenDescripciones.lectorMasivo();
+        try {
+            EscritorCsv.escribir(csvFilePath, REPOSITORIO, new String[]{"id", "nombre", "descripcion", "precio"},
+                    actual.comics().valores(), comic -> new String[]{
+                            comic.getId().toString(),
+                            comic.getNombre(),
+                            comic.leerDescripcion(descripciones),
+                            // monto sin formato para poder leerlo de vuelta al iniciar
+                            comic.getPrecio().getMonto().toPlainString()
+                    });
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Publica la versión nueva y la persiste
+     */
+    private void publicar(Estado nuevo) {
+        historial.publicar(nuevo);
+        guardarCSV(nuevo);
+    }
+
     @Override
-    public void guardar(Comic comic) {
+    public synchronized void guardar(Comic comic) {
         if (comic == null) {
             throw new IllegalArgumentException("El cómic no puede ser nulo");
         }
-        comics.add(comic);
-        guardarCSV();
+        externalizar(comic);
+        publicar(historial.ultimo().con(comic));
     }
 
     @Override
-    public Optional<Comic> buscarPorId(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            return Optional.empty();
-        }
-        return comics.stream()
-                .filter(comic -> comic.getId().equals(id))
-                .findFirst();
+    public Optional<Comic> buscarPorId(Identificador id) {
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        Comic comic = id == null ? null : historial.leer().comics().get(id);
+        consulta.registrar(REPOSITORIO, "buscarPorId", 1, comic == null ? 0 : 1);
+        return Optional.ofNullable(comic);
     }
 
     @Override
     public List<Comic> buscarTodos() {
-        return new ArrayList<>(comics);
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Comic> resultado = historial.leer().comics().valores();
+        consulta.registrar(REPOSITORIO, "buscarTodos", resultado.size(), resultado.size());
+        return resultado;
+    }
+
+    @Override
+    public Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        Estado leido = historial.leer();
+        TablaPersistente<Identificador, String, Comic> indice = leido.indicesOrden().get(orden);
+        if (indice == null) {
+            // una versión fijada más vieja arma su índice sin publicarlo
+            indice = leido == historial.ultimo()
+                    ? crearIndice(orden)
+                    : leido.conIndice(orden).indicesOrden().get(orden);
+        }
+        Pagina<Comic> pagina = Pagina.de(indice.desde(cursor), tamano);
+        consulta.registrar(REPOSITORIO, "buscarPagina", pagina.elementos().size(), pagina.elementos().size());
+        return pagina;
+    }
+
+    private synchronized TablaPersistente<Identificador, String, Comic> crearIndice(OrdenComics orden) {
+        Estado actual = historial.ultimo();
+        if (!actual.indicesOrden().containsKey(orden)) {
+            actual = actual.conIndice(orden);
+            historial.publicar(actual);
+        }
+        return actual.indicesOrden().get(orden);
     }
 
     @Override
@@ -86,40 +229,91 @@ public class ComicRepository implements IComicRepository {
             return new ArrayList<>();
         }
 
-        return comics.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Comic> comics = historial.leer().comics().valores();
+        List<Comic> resultado = comics.stream()
                 .filter(comic -> comic.getNombre().toLowerCase().contains(nombre.toLowerCase().trim()))
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorNombre", comics.size(), resultado.size());
+        return resultado;
+    }
+
+    @Override
+    public List<Comic> buscarPorTexto(String texto) {
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        String buscado = texto.trim().toLowerCase();
+        List<Comic> comics = historial.leer().comics().valores();
+        LongFunction<String> descripciones = almacenDescripciones == null ? null : almacenDescripciones.lectorMasivo();
+        List<Comic> resultado = comics.stream()
+                .filter(comic -> comic.getNombre().toLowerCase().contains(buscado)
+                        || comic.leerDescripcion(descripciones).toLowerCase().contains(buscado))
+                .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorTexto", comics.size(), resultado.size());
+        return resultado;
     }
 
     @Override
-    public void actualizar(Comic comic) {
+    public synchronized void actualizar(Comic comic) {
         if (comic == null) {
             throw new IllegalArgumentException("El cómic no puede ser nulo");
         }
 
-        for (int i = 0; i < comics.size(); i++) {
-            if (comics.get(i).getId().equals(comic.getId())) {
-                comics.set(i, comic);
-                guardarCSV();
-                return;
-            }
+        Comic existente = historial.ultimo().comics().get(comic.getId());
+        if (existente == null) {
+            throw new ComicNoEncontradoException("Cómic no encontrado con ID: " + comic.getId());
         }
 
-        throw new ComicNoEncontradoException("Cómic no encontrado con ID: " + comic.getId());
+        // también si es la misma instancia y le cambiaron la descripción
+        externalizar(comic);
+        // se publica aunque sea la misma instancia: pudo cambiar su nombre y su lugar en los índices
+        publicar(historial.ultimo().con(comic));
     }
 
     @Override
-    public void eliminar(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("El ID no puede ser nulo o vacío");
+    public synchronized void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
         }
 
-        boolean removed = comics.removeIf(comic -> comic.getId().equals(id));
-
-        if (!removed) {
+        Estado actual = historial.ultimo();
+        if (!actual.comics().contiene(id)) {
             throw new ComicNoEncontradoException("Cómic no encontrado con ID: " + id);
         }
 
-        guardarCSV();
+        publicar(actual.sin(id));
+    }
+
+    @Override
+    public synchronized void guardarTodos(List<Comic> nuevos) {
+        if (nuevos == null || nuevos.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        if (nuevos.isEmpty()) {
+            return;
+        }
+
+        nuevos.forEach(this::externalizar);
+        publicar(historial.ultimo().conTodos(nuevos));
+    }
+
+    @Override
+    public synchronized void eliminarTodos(List<Identificador> ids) {
+        if (ids == null || ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        Estado actual = historial.ultimo();
+        for (Identificador id : ids) {
+            if (!actual.comics().contiene(id)) {
+                throw new ComicNoEncontradoException("Cómic no encontrado con ID: " + id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        for (Identificador id : ids) {
+            actual = actual.sin(id);
+        }
+        publicar(actual);
     }
-}
\ No newline at end of file
+}
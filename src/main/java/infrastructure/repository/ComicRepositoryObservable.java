@@ -0,0 +1,136 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
+import infrastructure.versiones.VersionesRepositorios;
+import interfaces.repository.IComicRepository;
+import interfaces.repository.OyenteCambios;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorador de un repositorio de cómics que avisa cada alta, modificación y
+ * baja a los oyentes registrados, después de que el repositorio la aplicó.
+ */
+public class ComicRepositoryObservable implements IComicRepository {
+    private final IComicRepository repositorio;
+    private final List<OyenteCambios<Comic>> oyentes = new CopyOnWriteArrayList<>();
+
+    public ComicRepositoryObservable(IComicRepository repositorio) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de comics no puede ser nulo");
+        }
+        this.repositorio = repositorio;
+    }
+
+    public void agregarOyente(OyenteCambios<Comic> oyente) {
+        if (oyente == null) {
+            throw new IllegalArgumentException("El oyente no puede ser nulo");
+        }
+        oyentes.add(oyente);
+    }
+
+    @Override
+    public void guardar(Comic comic) {
+        enUnaVersion(() -> {
+            repositorio.guardar(comic);
+            notificar(TipoCambio.ALTA, comic);
+        });
+    }
+
+    @Override
+    public Optional<Comic> buscarPorId(Identificador id) {
+        return repositorio.buscarPorId(id);
+    }
+
+    @Override
+    public List<Comic> buscarTodos() {
+        return repositorio.buscarTodos();
+    }
+
+    @Override
+    public List<Comic> buscarPorNombre(String nombre) {
+        return repositorio.buscarPorNombre(nombre);
+    }
+
+    @Override
+    public String leerDescripcion(Comic comic) {
+        return repositorio.leerDescripcion(comic);
+    }
+
+    @Override
+    public List<Comic> buscarPorTexto(String texto) {
+        return repositorio.buscarPorTexto(texto);
+    }
+
+    @Override
+    public Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        return repositorio.buscarPagina(orden, cursor, tamano);
+    }
+
+    @Override
+    public void actualizar(Comic comic) {
+        enUnaVersion(() -> {
+            repositorio.actualizar(comic);
+            notificar(TipoCambio.MODIFICACION, comic);
+        });
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        enUnaVersion(() -> {
+            // se busca antes para poder avisar qué cómic se eliminó
+            Optional<Comic> comic = repositorio.buscarPorId(id);
+            repositorio.eliminar(id);
+            comic.ifPresent(eliminado -> notificar(TipoCambio.BAJA, eliminado));
+        });
+    }
+
+    @Override
+    public void guardarTodos(List<Comic> comics) {
+        enUnaVersion(() -> {
+            repositorio.guardarTodos(comics);
+            for (Comic comic : comics) {
+                notificar(TipoCambio.ALTA, comic);
+            }
+        });
+    }
+
+    @Override
+    public void eliminarTodos(List<Identificador> ids) {
+        enUnaVersion(() -> {
+            List<Comic> eliminados = new ArrayList<>(ids.size());
+            for (Identificador id : ids) {
+                repositorio.buscarPorId(id).ifPresent(eliminados::add);
+            }
+            repositorio.eliminarTodos(ids);
+            for (Comic eliminado : eliminados) {
+                notificar(TipoCambio.BAJA, eliminado);
+            }
+        });
+    }
+
+    /**
+     * El cambio y los avisos a los oyentes forman una misma versión de los
+     * repositorios, así lo que mantienen los oyentes (por ejemplo, el índice
+     * del inventario) no queda una versión atrás del repositorio
+     */
+    private void enUnaVersion(Runnable cambio) {
+        VersionesRepositorios.global().escribirVersion(() -> {
+            cambio.run();
+            return null;
+        });
+    }
+
+    private void notificar(TipoCambio tipo, Comic comic) {
+        for (OyenteCambios<Comic> oyente : oyentes) {
+            oyente.cambio(tipo, comic);
+        }
+    }
+}
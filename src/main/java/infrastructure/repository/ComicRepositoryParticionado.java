@@ -0,0 +1,339 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
+import exceptions.ComicNoEncontradoException;
+import infrastructure.particiones.Particiones;
+import interfaces.repository.IComicRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Catálogo dividido en particiones por el hash del identificador del cómic.
+ *
+ * Cada partición es un repositorio independiente con su propio hilo dueño
+ * (ver Particiones). Las operaciones sobre un cómic van solo a su partición;
+ * las búsquedas sobre todo el catálogo se hacen en todas a la vez y se juntan.
+ * Las reservas y ventas se particionan con la misma clave, de modo que todo lo
+ * que toca un cómic vive en la misma partición.
+ *
+ * Mientras existe un juego completo de archivos de partición, ese juego es la
+ * fuente de verdad del catálogo y el archivo completo queda desactualizado.
+ * Al iniciar con otra cantidad de particiones, o sin particionar, el juego se
+ * vuelve a juntar en el archivo completo y se borra (ver juntarArchivos).
+ */
+public class ComicRepositoryParticionado implements IComicRepository, AutoCloseable {
+    private final Particiones<IComicRepository> particiones;
+
+    /**
+     * @param cantidad cantidad de particiones
+     * @param fabrica construye el repositorio de la partición indicada
+     */
+    public ComicRepositoryParticionado(int cantidad, IntFunction<? extends IComicRepository> fabrica) {
+        this.particiones = new Particiones<>("comics", cantidad, fabrica);
+    }
+
+    /**
+     * Archivo CSV de una partición del catálogo, junto al archivo completo
+     */
+    public static String archivoParticion(String csvFilePath, int particion, int cantidad) {
+        String base = csvFilePath.endsWith(".csv")
+                ? csvFilePath.substring(0, csvFilePath.length() - ".csv".length())
+                : csvFilePath;
+        return base + ".particion-" + particion + "-de-" + cantidad + ".csv";
+    }
+
+    /**
+     * Reparte el catálogo completo en un archivo por partición, si todavía no
+     * existen. Antes junta en el archivo completo los de otra cantidad de
+     * particiones. Los cómics sin identificador válido reciben uno nuevo, que
+     * queda guardado en el archivo de su partición.
+     *
+     * @param csvFilePath archivo CSV del catálogo completo
+     * @param cantidad cantidad de particiones
+     * @param pool pool donde se interpreta el archivo completo
+     */
+    public static void prepararArchivos(String csvFilePath, int cantidad, ForkJoinPool pool) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad de particiones debe ser mayor a 0");
+        }
+
+        if (juegoCompleto(csvFilePath, cantidad)) {
+            return;
+        }
+        juntarArchivos(csvFilePath, pool);
+
+        // el repositorio completo ya resuelve los identificadores inválidos
+        List<Comic> comics = new ComicRepository(csvFilePath, pool).buscarTodos();
+        List<List<Comic>> porParticion = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            porParticion.add(new ArrayList<>());
+        }
+        for (Comic comic : comics) {
+            porParticion.get(Particiones.particion(comic.getId(), cantidad)).add(comic);
+        }
+
+        for (int i = 0; i < cantidad; i++) {
+            try {
+                escribirCatalogo(archivoParticion(csvFilePath, i, cantidad), porParticion.get(i));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Vuelve a juntar en el archivo completo los archivos de partición que dejó
+     * una ejecución particionada, y los borra. Si hay juegos completos para
+     * varias cantidades se toma el modificado más recientemente; los archivos
+     * de un juego incompleto son restos de una división o de una unión
+     * interrumpida (el archivo completo sigue siendo el bueno) y solo se borran.
+     * Debe llamarse antes de cargar el archivo completo.
+     *
+     * @param csvFilePath archivo CSV del catálogo completo
+     * @param pool pool donde se interpretan los archivos de partición
+     */
+    public static void juntarArchivos(String csvFilePath, ForkJoinPool pool) {
+        Map<Integer, List<File>> porCantidad = archivosParticion(csvFilePath);
+        if (porCantidad.isEmpty()) {
+            return;
+        }
+
+        int vigente = 0;
+        long modificacionVigente = Long.MIN_VALUE;
+        for (Map.Entry<Integer, List<File>> juego : porCantidad.entrySet()) {
+            if (!juegoCompleto(csvFilePath, juego.getKey())) {
+                continue;
+            }
+            long modificacion = juego.getValue().stream().mapToLong(File::lastModified).max().orElse(0);
+            if (modificacion > modificacionVigente) {
+                vigente = juego.getKey();
+                modificacionVigente = modificacion;
+            }
+        }
+
+        if (vigente > 0) {
+            List<Comic> comics = new ArrayList<>();
+            for (int i = 0; i < vigente; i++) {
+                comics.addAll(new ComicRepository(archivoParticion(csvFilePath, i, vigente), pool).buscarTodos());
+            }
+            try {
+                escribirCatalogo(csvFilePath, comics);
+            } catch (IOException e) {
+                // sin el archivo completo al día los de partición siguen siendo la fuente de verdad
+                throw new IllegalStateException("No se pudieron juntar las particiones en " + csvFilePath, e);
+            }
+        }
+
+        // en orden, para que una interrupción deje el juego incompleto
+        for (List<File> juego : porCantidad.values()) {
+            for (File archivo : juego) {
+                if (!archivo.delete()) {
+                    System.err.println("⚠️ No se pudo borrar " + archivo);
+                }
+            }
+        }
+    }
+
+    private static boolean juegoCompleto(String csvFilePath, int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            if (!new File(archivoParticion(csvFilePath, i, cantidad)).exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Archivos de partición que existen junto al archivo completo, por cantidad
+     * de particiones y ordenados por número de partición
+     */
+    private static Map<Integer, List<File>> archivosParticion(String csvFilePath) {
+        Path completo = Path.of(csvFilePath).toAbsolutePath();
+        String base = completo.getFileName().toString();
+        if (base.endsWith(".csv")) {
+            base = base.substring(0, base.length() - ".csv".length());
+        }
+        Pattern nombre = Pattern.compile(Pattern.quote(base) + "\\.particion-(\\d+)-de-(\\d+)\\.csv");
+
+        Map<Integer, Map<Integer, File>> encontrados = new TreeMap<>();
+        File[] archivos = completo.getParent().toFile().listFiles();
+        for (File archivo : archivos == null ? new File[0] : archivos) {
+            Matcher partes = nombre.matcher(archivo.getName());
+            if (partes.matches()) {
+                encontrados.computeIfAbsent(Integer.parseInt(partes.group(2)), c -> new TreeMap<>())
+                        .put(Integer.parseInt(partes.group(1)), archivo);
+            }
+        }
+
+        Map<Integer, List<File>> porCantidad = new TreeMap<>();
+        encontrados.forEach((cantidad, juego) -> porCantidad.put(cantidad, new ArrayList<>(juego.values())));
+        return porCantidad;
+    }
+
+    private static void escribirCatalogo(String csvFilePath, List<Comic> comics) throws IOException {
+        EscritorCsv.escribir(csvFilePath, "comics", new String[]{"id", "nombre", "descripcion", "precio"},
+                comics, comic -> new String[]{
+                        comic.getId().toString(),
+                        comic.getNombre(),
+                        comic.getDescription(),
+                        comic.getPrecio().getMonto().toPlainString()
+                });
+    }
+
+    public int cantidadParticiones() {
+        return particiones.cantidad();
+    }
+
+    /**
+     * Partición dueña del cómic
+     */
+    public int particion(Identificador comicId) {
+        return particiones.particion(comicId);
+    }
+
+    @Override
+    public void guardar(Comic comic) {
+        if (comic == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        particiones.ejecutar(comic.getId(), repositorio -> {
+            repositorio.guardar(comic);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Comic> buscarPorId(Identificador id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return particiones.ejecutar(id, repositorio -> repositorio.buscarPorId(id));
+    }
+
+    @Override
+    public List<Comic> buscarTodos() {
+        return juntar(particiones.enTodas(IComicRepository::buscarTodos));
+    }
+
+    @Override
+    public List<Comic> buscarPorNombre(String nombre) {
+        return juntar(particiones.enTodas(repositorio -> repositorio.buscarPorNombre(nombre)));
+    }
+
+    @Override
+    public String leerDescripcion(Comic comic) {
+        return particiones.ejecutar(comic.getId(), repositorio -> repositorio.leerDescripcion(comic));
+    }
+
+    @Override
+    public List<Comic> buscarPorTexto(String texto) {
+        return juntar(particiones.enTodas(repositorio -> repositorio.buscarPorTexto(texto)));
+    }
+
+    /**
+     * Cada partición pagina su propio índice desde el mismo cursor; la página
+     * final sale de juntar esas páginas, sin recorrer los catálogos completos.
+     */
+    @Override
+    public Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        return Pagina.juntar(particiones.enTodas(repositorio -> repositorio.buscarPagina(orden, cursor, tamano)),
+                orden::clave, tamano);
+    }
+
+    @Override
+    public void actualizar(Comic comic) {
+        if (comic == null) {
+            throw new IllegalArgumentException("El cómic no puede ser nulo");
+        }
+        particiones.ejecutar(comic.getId(), repositorio -> {
+            repositorio.actualizar(comic);
+            return null;
+        });
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        particiones.ejecutar(id, repositorio -> {
+            repositorio.eliminar(id);
+            return null;
+        });
+    }
+
+    /**
+     * Agrupa los cómics por partición; cada partición escribe su archivo una vez
+     */
+    @Override
+    public void guardarTodos(List<Comic> comics) {
+        Map<Integer, List<Comic>> porParticion = new TreeMap<>();
+        for (Comic comic : comics) {
+            if (comic == null) {
+                throw new IllegalArgumentException("El cómic no puede ser nulo");
+            }
+            porParticion.computeIfAbsent(particiones.particion(comic.getId()), p -> new ArrayList<>()).add(comic);
+        }
+        porParticion.forEach((particion, propios) -> particiones.ejecutar(particion, repositorio -> {
+            repositorio.guardarTodos(propios);
+            return null;
+        }));
+    }
+
+    /**
+     * Agrupa los identificadores por partición y comprueba que existan todos
+     * antes de eliminar el primero, así una baja en lote no queda a medias
+     * entre particiones. Cada partición escribe su archivo una vez.
+     */
+    @Override
+    public void eliminarTodos(List<Identificador> ids) {
+        Map<Integer, List<Identificador>> porParticion = new TreeMap<>();
+        for (Identificador id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("El ID no puede ser nulo");
+            }
+            porParticion.computeIfAbsent(particiones.particion(id), p -> new ArrayList<>()).add(id);
+        }
+        porParticion.forEach((particion, propios) -> particiones.ejecutar(particion, repositorio -> {
+            for (Identificador id : propios) {
+                if (repositorio.buscarPorId(id).isEmpty()) {
+                    throw new ComicNoEncontradoException("Cómic no encontrado con ID: " + id);
+                }
+            }
+            return null;
+        }));
+        porParticion.forEach((particion, propios) -> particiones.ejecutar(particion, repositorio -> {
+            repositorio.eliminarTodos(propios);
+            return null;
+        }));
+    }
+
+    @Override
+    public void close() {
+        particiones.close();
+    }
+
+    private static List<Comic> juntar(List<List<Comic>> porParticion) {
+        int total = 0;
+        for (List<Comic> comics : porParticion) {
+            total += comics.size();
+        }
+        List<Comic> resultado = new ArrayList<>(total);
+        porParticion.forEach(resultado::addAll);
+        return resultado;
+    }
+}
@@ -0,0 +1,107 @@
+package infrastructure.repository;
+
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Reescritura de los archivos CSV de los repositorios.
+ *
+ * El contenido nuevo se escribe en un archivo temporal del mismo directorio,
+ * se sincroniza con el disco (fsync) y recién entonces reemplaza al archivo
+ * original con un rename atómico, que también se sincroniza en el
+ * directorio. Una caída a mitad de camino deja el archivo anterior completo
+ * (y a lo más un temporal huérfano), nunca uno truncado; un cambio informado
+ * como guardado sobrevive a una caída del sistema.
+ * Cada escritura emite un EventoEscrituraCsv con las filas, los bytes y el
+ * tiempo de fsync.
+ */
+final class EscritorCsv {
+
+    private EscritorCsv() {
+    }
+
+    /**
+     * Reemplaza el contenido del archivo por el encabezado y una fila por elemento.
+     *
+     * @param csvFilePath archivo a reescribir
+     * @param repositorio nombre del repositorio, para el evento
+     * @param encabezado primera fila del archivo
+     * @param elementos elementos a escribir, en orden
+     * @param aFila conversión de un elemento a sus columnas
+     * @throws IOException si no se puede escribir, sincronizar o reemplazar el archivo
+     */
+    static <T> void escribir(String csvFilePath,
+                             String repositorio,
+                             String[] encabezado,
+                             Collection<T> elementos,
+                             Function<T, String[]> aFila) throws IOException {
+        EventoEscrituraCsv evento = new EventoEscrituraCsv();
+        evento.begin();
+
+        Path destino = Path.of(csvFilePath).toAbsolutePath();
+        Path directorio = destino.getParent();
+        Path temporal = Files.createTempFile(directorio, destino.getFileName() + ".", ".tmp");
+
+        long bytesEscritos;
+        long tiempoFsync;
+        try {
+            try (FileOutputStream salida = new FileOutputStream(temporal.toFile());
+                 CSVWriter writer = new CSVWriter(new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8)))) {
+                writer.writeNext(encabezado);
+                for (T elemento : elementos) {
+                    writer.writeNext(aFila.apply(elemento));
+                }
+                writer.flush();
+                bytesEscritos = salida.getChannel().position();
+
+                long inicioFsync = System.nanoTime();
+                salida.getFD().sync();
+                tiempoFsync = System.nanoTime() - inicioFsync;
+            }
+
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            long inicioFsync = System.nanoTime();
+            sincronizarDirectorio(directorio);
+            tiempoFsync += System.nanoTime() - inicioFsync;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporal);
+            throw e;
+        }
+
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.repositorio = repositorio;
+            evento.archivo = csvFilePath;
+            evento.filasEscritas = elementos.size();
+            evento.bytesEscritos = bytesEscritos;
+            evento.tiempoFsync = tiempoFsync;
+            evento.commit();
+        }
+    }
+
+    /**
+     * Sincroniza la entrada del directorio para que el rename quede en disco.
+     * Hay sistemas (Windows) que no permiten abrir un directorio; ahí se
+     * omite y queda la garantía que dé el propio rename.
+     */
+    private static void sincronizarDirectorio(Path directorio) {
+        try (FileChannel canal = FileChannel.open(directorio, StandardOpenOption.READ)) {
+            canal.force(true);
+        } catch (IOException e) {
+            // sin soporte para sincronizar directorios
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package infrastructure.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JDK Flight Recorder para una consulta sobre un repositorio.
+ *
+ * Registra cuántas filas se examinaron y cuántas se retornaron, lo que permite
+ * distinguir un recorrido completo de una búsqueda por índice. Si el evento
+ * está deshabilitado o la consulta no supera el umbral configurado, no se
+ * confirma y el JIT elimina el costo de crearlo.
+ */
+@Name("comics.ConsultaRepositorio")
+@Label("Consulta de repositorio")
+@Category({"Comic Collector", "Repositorios"})
+@Description("Consulta sobre un repositorio con las filas examinadas y retornadas")
+@Threshold("10 ms")
+final class EventoConsultaRepositorio extends jdk.jfr.Event {
+
+    @Label("Repositorio")
+    String repositorio;
+
+    @Label("Operación")
+    String operacion;
+
+    @Label("Filas examinadas")
+    long filasExaminadas;
+
+    @Label("Filas retornadas")
+    long filasRetornadas;
+
+    /**
+     * Crea el evento y comienza a medir la consulta
+     */
+    static EventoConsultaRepositorio iniciar() {
+        EventoConsultaRepositorio evento = new EventoConsultaRepositorio();
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * Termina la medición y confirma el evento si corresponde.
+     */
+    void registrar(String repositorio, String operacion, long filasExaminadas, long filasRetornadas) {
+        end();
+        if (shouldCommit()) {
+            this.repositorio = repositorio;
+            this.operacion = operacion;
+            this.filasExaminadas = filasExaminadas;
+            this.filasRetornadas = filasRetornadas;
+            commit();
+        }
+    }
+}
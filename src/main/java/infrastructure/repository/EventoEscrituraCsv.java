@@ -0,0 +1,40 @@
+package infrastructure.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de JDK Flight Recorder para la reescritura de un archivo CSV.
+ *
+ * La duración del evento cubre la escritura completa; el tiempo de fsync se
+ * informa aparte para distinguir el costo de serializar del costo del disco.
+ */
+@Name("comics.EscrituraCsv")
+@Label("Escritura de CSV")
+@Category({"Comic Collector", "Persistencia"})
+@Description("Reescritura completa de un archivo CSV de un repositorio")
+@Threshold("0 ms")
+final class EventoEscrituraCsv extends jdk.jfr.Event {
+
+    @Label("Repositorio")
+    String repositorio;
+
+    @Label("Archivo")
+    String archivo;
+
+    @Label("Filas escritas")
+    long filasEscritas;
+
+    @Label("Bytes escritos")
+    @DataAmount
+    long bytesEscritos;
+
+    @Label("Tiempo de fsync")
+    @Timespan(Timespan.NANOSECONDS)
+    long tiempoFsync;
+}
@@ -0,0 +1,300 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Venta;
+import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
+import infrastructure.colecciones.MapaBitsPersistente;
+import infrastructure.colecciones.MapaIdentificadores;
+import infrastructure.colecciones.MapaPersistente;
+import infrastructure.versiones.HistorialVersiones;
+import interfaces.repository.IComicRepository;
+import interfaces.repository.IIndiceInventario;
+import interfaces.repository.IReservaRepository;
+import interfaces.repository.IVentaRepository;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Índice del inventario con mapas de bits sobre números de orden de los cómics.
+ *
+ * Cada cómic recibe un número de orden denso la primera vez que aparece y lo
+ * conserva aunque se elimine. Los mapas de bits del catálogo, de los cómics
+ * con ventas, de los cómics con reservas y de los cómics con alguna reserva
+ * activa se actualizan con los avisos de los repositorios observables: una
+ * reserva nueva enciende su cómic en los reservados y expirarla, cancelarla
+ * o convertirla en venta lo apaga si no le quedan otras activas. Los cómics
+ * sin actividad son el catálogo menos los cómics con ventas y con reservas,
+ * y los disponibles el catálogo menos los reservados; las cantidades son la
+ * cardinalidad de esos mapas.
+ *
+ * Los mapas son persistentes y se publican en un HistorialVersiones, así las
+ * lecturas con una versión fijada ven el índice de esa versión. Los
+ * repositorios observables avisan dentro de la misma versión que la escritura.
+ *
+ * Los listados salen en el orden de los números de orden, es decir en el
+ * orden en que cada cómic apareció por primera vez, que no es el orden del
+ * catálogo: un cómic que se elimina y se vuelve a agregar (por ejemplo
+ * cuando VentaService.venderCarrito deshace una compra) recupera su número
+ * de orden original.
+ *
+ * Debe registrarse como oyente de los repositorios apenas se crea, antes de
+ * que lleguen escrituras.
+ */
+public class IndiceInventario implements IIndiceInventario {
+    // estado de escritura, protegido por this
+    private MapaPersistente<Identificador, Integer> ordinales = MapaPersistente.vacio();
+    private static final int BITS_BLOQUE = 12;
+    private static final int TAMANO_BLOQUE = 1 << BITS_BLOQUE;
+
+    // cómic de cada número de orden, en bloques de TAMANO_BLOQUE. Las
+    // posiciones nuevas se escriben en el lugar porque ninguna versión
+    // publicada las lee; reemplazar el cómic de una posición existente copia
+    // el arreglo de bloques y el bloque, así las versiones anteriores siguen
+    // viendo el que tenían
+    private Comic[][] comics = new Comic[1][];
+    private int[] ventasPorComic = new int[16];
+    private int[] reservasPorComic = new int[16];
+    private int[] activasPorComic = new int[16];
+    // reservas activas -> número de orden de su cómic
+    private final MapaIdentificadores<Integer> reservasActivas = new MapaIdentificadores<>();
+
+    private final HistorialVersiones<Estado> historial;
+
+    private record Estado(Comic[][] comics,
+                          MapaPersistente<Identificador, Integer> ordinales,
+                          MapaBitsPersistente catalogo,
+                          MapaBitsPersistente conVentas,
+                          MapaBitsPersistente conReservas,
+                          MapaBitsPersistente reservados,
+                          int reservasActivas) {
+
+        MapaBitsPersistente sinActividad() {
+            return catalogo.menos(conVentas).menos(conReservas);
+        }
+
+        MapaBitsPersistente disponibles() {
+            return catalogo.menos(reservados);
+        }
+    }
+
+    /**
+     * Arma el índice con el contenido actual de los repositorios
+     */
+    public IndiceInventario(IComicRepository comicRepository,
+                            IVentaRepository ventaRepository,
+                            IReservaRepository reservaRepository) {
+        if (comicRepository == null) {
+            throw new IllegalArgumentException("El repositorio de comics no puede ser nulo");
+        }
+        if (ventaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de ventas no puede ser nulo");
+        }
+        if (reservaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de reservas no puede ser nulo");
+        }
+
+        BitSet catalogo = new BitSet();
+        for (Comic comic : comicRepository.buscarTodos()) {
+            catalogo.set(ordinal(comic));
+        }
+        BitSet conVentas = new BitSet();
+        for (Venta venta : ventaRepository.buscarTodas()) {
+            int ordinal = ordinal(venta.getComic());
+            ventasPorComic[ordinal]++;
+            conVentas.set(ordinal);
+        }
+        BitSet conReservas = new BitSet();
+        BitSet reservados = new BitSet();
+        for (Reserva reserva : reservaRepository.buscarTodas()) {
+            int ordinal = ordinal(reserva.getComic());
+            reservasPorComic[ordinal]++;
+            conReservas.set(ordinal);
+            if (reserva.getEstadoReserva() == EstadoReserva.ACTIVO) {
+                reservasActivas.put(reserva.getId(), ordinal);
+                activasPorComic[ordinal]++;
+                reservados.set(ordinal);
+            }
+        }
+        this.historial = new HistorialVersiones<>(new Estado(comics, ordinales, MapaBitsPersistente.de(catalogo),
+                MapaBitsPersistente.de(conVentas), MapaBitsPersistente.de(conReservas),
+                MapaBitsPersistente.de(reservados), reservasActivas.size()));
+    }
+
+    @Override
+    public List<Comic> comicsSinActividad() {
+        Estado estado = historial.leer();
+        return comics(estado, estado.sinActividad());
+    }
+
+    @Override
+    public int contarSinActividad() {
+        return historial.leer().sinActividad().cardinalidad();
+    }
+
+    @Override
+    public List<Comic> comicsDisponibles() {
+        Estado estado = historial.leer();
+        return comics(estado, estado.disponibles());
+    }
+
+    @Override
+    public int contarDisponibles() {
+        return historial.leer().disponibles().cardinalidad();
+    }
+
+    @Override
+    public List<Comic> comicsReservados() {
+        Estado estado = historial.leer();
+        return comics(estado, estado.reservados());
+    }
+
+    @Override
+    public int contarReservados() {
+        return historial.leer().reservados().cardinalidad();
+    }
+
+    @Override
+    public int contarReservasActivas() {
+        return historial.leer().reservasActivas();
+    }
+
+    @Override
+    public boolean estaReservado(Comic comic) {
+        Estado estado = historial.leer();
+        Integer ordinal = estado.ordinales().get(comic.getId());
+        return ordinal != null && estado.reservados().contiene(ordinal);
+    }
+
+    /**
+     * Oyente de los cambios del repositorio de cómics
+     */
+    public synchronized void cambioComic(TipoCambio tipo, Comic comic) {
+        int ordinal = ordinal(comic);
+        Estado estado = historial.ultimo();
+        MapaBitsPersistente catalogo = switch (tipo) {
+            case ALTA -> estado.catalogo().con(ordinal);
+            case MODIFICACION -> estado.catalogo();
+            case BAJA -> estado.catalogo().sin(ordinal);
+        };
+        if (tipo != TipoCambio.BAJA) {
+            reemplazar(ordinal, comic);
+        }
+        historial.publicar(new Estado(comics, ordinales, catalogo, estado.conVentas(), estado.conReservas(),
+                estado.reservados(), estado.reservasActivas()));
+    }
+
+    /**
+     * Oyente de los cambios del repositorio de ventas
+     */
+    public synchronized void cambioVenta(TipoCambio tipo, Venta venta) {
+        if (tipo == TipoCambio.MODIFICACION) {
+            return;
+        }
+        int ordinal = ordinal(venta.getComic());
+        Estado estado = historial.ultimo();
+        MapaBitsPersistente conVentas = contar(ventasPorComic, ordinal, tipo == TipoCambio.ALTA, estado.conVentas());
+        historial.publicar(new Estado(comics, ordinales, estado.catalogo(), conVentas, estado.conReservas(),
+                estado.reservados(), estado.reservasActivas()));
+    }
+
+    /**
+     * Oyente de los cambios del repositorio de reservas. Las modificaciones
+     * solo importan si la reserva deja de estar activa (o vuelve a estarlo);
+     * la reserva llega ya modificada, así que se compara con las activas que
+     * registró el índice.
+     */
+    public synchronized void cambioReserva(TipoCambio tipo, Reserva reserva) {
+        int ordinal = ordinal(reserva.getComic());
+        Estado estado = historial.ultimo();
+        MapaBitsPersistente conReservas = tipo == TipoCambio.MODIFICACION
+                ? estado.conReservas()
+                : contar(reservasPorComic, ordinal, tipo == TipoCambio.ALTA, estado.conReservas());
+
+        boolean eraActiva = reservasActivas.containsKey(reserva.getId());
+        boolean esActiva = tipo != TipoCambio.BAJA && reserva.getEstadoReserva() == EstadoReserva.ACTIVO;
+        MapaBitsPersistente reservados = estado.reservados();
+        if (esActiva && !eraActiva) {
+            reservasActivas.put(reserva.getId(), ordinal);
+            reservados = contar(activasPorComic, ordinal, true, reservados);
+        } else if (eraActiva && !esActiva) {
+            reservados = contar(activasPorComic, reservasActivas.remove(reserva.getId()), false, reservados);
+        }
+        if (conReservas == estado.conReservas() && reservados == estado.reservados()
+                && reservasActivas.size() == estado.reservasActivas()) {
+            return;
+        }
+        historial.publicar(new Estado(comics, ordinales, estado.catalogo(), estado.conVentas(), conReservas,
+                reservados, reservasActivas.size()));
+    }
+
+    /**
+     * Suma o resta una aparición del cómic; el bit queda encendido mientras
+     * tenga alguna
+     */
+    private static MapaBitsPersistente contar(int[] cantidades, int ordinal, boolean suma,
+                                              MapaBitsPersistente conAlguna) {
+        if (suma) {
+            cantidades[ordinal]++;
+            return conAlguna.con(ordinal);
+        }
+        if (cantidades[ordinal] > 0 && --cantidades[ordinal] == 0) {
+            return conAlguna.sin(ordinal);
+        }
+        return conAlguna;
+    }
+
+    /**
+     * Número de orden del cómic, asignando el siguiente si es nuevo
+     */
+    private int ordinal(Comic comic) {
+        Integer ordinal = ordinales.get(comic.getId());
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int nuevo = ordinales.tamano();
+        int bloque = nuevo >>> BITS_BLOQUE;
+        if (bloque == comics.length) {
+            comics = Arrays.copyOf(comics, bloque * 2);
+        }
+        if (comics[bloque] == null) {
+            comics[bloque] = new Comic[TAMANO_BLOQUE];
+        }
+        if (nuevo == ventasPorComic.length) {
+            int capacidad = ventasPorComic.length * 2;
+            ventasPorComic = Arrays.copyOf(ventasPorComic, capacidad);
+            reservasPorComic = Arrays.copyOf(reservasPorComic, capacidad);
+            activasPorComic = Arrays.copyOf(activasPorComic, capacidad);
+        }
+        comics[bloque][nuevo & (TAMANO_BLOQUE - 1)] = comic;
+        ordinales = ordinales.con(comic.getId(), nuevo);
+        return nuevo;
+    }
+
+    /**
+     * Cambia el cómic de un número de orden ya asignado sin tocar los
+     * arreglos que ven las versiones publicadas
+     */
+    private void reemplazar(int ordinal, Comic comic) {
+        int bloque = ordinal >>> BITS_BLOQUE;
+        int posicion = ordinal & (TAMANO_BLOQUE - 1);
+        if (comics[bloque][posicion] == comic) {
+            return;
+        }
+        comics = comics.clone();
+        comics[bloque] = comics[bloque].clone();
+        comics[bloque][posicion] = comic;
+    }
+
+    private static List<Comic> comics(Estado estado, MapaBitsPersistente ordinales) {
+        List<Comic> resultado = new ArrayList<>(ordinales.cardinalidad());
+        Comic[][] comics = estado.comics();
+        ordinales.paraCada(ordinal -> resultado.add(comics[ordinal >>> BITS_BLOQUE][ordinal & (TAMANO_BLOQUE - 1)]));
+        return resultado;
+    }
+}
@@ -0,0 +1,45 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Estado de todas las reservas después de aplicar los eventos hasta una secuencia.
+ *
+ * Reconstruir las reservas desde una instantánea solo requiere aplicar los
+ * eventos posteriores a ella, en lugar del registro completo.
+ *
+ * @param secuencia secuencia del último evento incluido, -1 si no incluye ninguno
+ * @param filas datos de cada reserva
+ */
+record InstantaneaReservas(long secuencia, List<Fila> filas) {
+
+    static final InstantaneaReservas VACIA = new InstantaneaReservas(-1, List.of());
+
+    /**
+     * Copia inmutable de los datos de una reserva; la entidad Reserva cambia
+     * con el tiempo y no puede guardarse tal cual.
+     */
+    record Fila(Identificador id,
+                Usuario usuario,
+                Comic comic,
+                LocalDateTime fechaReserva,
+                LocalDateTime fechaExpiracion,
+                EstadoReserva estado) {
+
+        static Fila de(Reserva reserva) {
+            return new Fila(reserva.getId(), reserva.getUsuario(), reserva.getComic(),
+                    reserva.getFechaReserva(), reserva.getFechaExpiracionReserva(), reserva.getEstadoReserva());
+        }
+
+        Reserva reconstruir() {
+            return Reserva.reconstruir(id, usuario, comic, fechaReserva, fechaExpiracion, estado);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package infrastructure.repository;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Lector de archivos CSV que divide los archivos grandes en fragmentos
+ * y los interpreta en paralelo en un ForkJoinPool.
+ *
+ * Los fragmentos se cortan en saltos de línea que están fuera de comillas,
+ * así un registro con saltos de línea dentro de un campo nunca queda partido.
+ * Los resultados se entregan en el mismo orden del archivo y sin la fila de encabezado.
+ */
+public final class LectorCsvParalelo {
+    // bajo este tamaño (en caracteres) no vale la pena paralelizar
+    private static final int TAMANO_MINIMO_PARALELO = 1 << 20;
+    private static final int TAMANO_FRAGMENTO = 1 << 18;
+
+    private LectorCsvParalelo() {
+    }
+
+    /**
+     * Lee el archivo y convierte cada fila (excepto el encabezado) con la función dada.
+     *
+     * @param csvFilePath ruta del archivo CSV
+     * @param convertir conversión de una fila a la entidad; debe ser thread-safe
+     * @param pool pool donde se interpretan los fragmentos
+     * @return entidades en el orden del archivo
+     * @throws IOException si el archivo no se puede leer o no es un CSV válido
+     */
+    public static <T> List<T> leer(String csvFilePath,
+                                   Function<String[], T> convertir,
+                                   ForkJoinPool pool) throws IOException {
+        String contenido = Files.readString(Path.of(csvFilePath), StandardCharsets.UTF_8);
+
+        int[] cortes = calcularCortes(contenido);
+
+        try {
+            if (cortes.length <= 2) {
+                return interpretar(contenido, cortes[0], cortes[cortes.length - 1], convertir);
+            }
+            return pool.invoke(new TareaFragmentos<>(contenido, cortes, 0, cortes.length - 1, convertir));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Calcula los límites de los fragmentos. El primer corte es el fin del encabezado
+     * y el último el largo del contenido; entre ellos hay un corte cada TAMANO_FRAGMENTO
+     * caracteres aproximadamente, siempre al final de un registro.
+     */
+    private static int[] calcularCortes(String contenido) {
+        int largo = contenido.length();
+        List<Integer> cortes = new ArrayList<>();
+
+        boolean enComillas = false;
+        boolean encabezadoLeido = false;
+        int siguienteCorte = Integer.MAX_VALUE;
+
+        for (int i = 0; i < largo; i++) {
+            char c = contenido.charAt(i);
+            if (c == '"') {
+                // las comillas escapadas ("") se anulan entre sí
+                enComillas = !enComillas;
+            } else if (c == '\n' && !enComillas) {
+                if (!encabezadoLeido) {
+                    encabezadoLeido = true;
+                    cortes.add(i + 1);
+                    if (largo < TAMANO_MINIMO_PARALELO) {
+                        break;
+                    }
+                    siguienteCorte = i + TAMANO_FRAGMENTO;
+                } else if (i >= siguienteCorte) {
+                    cortes.add(i + 1);
+                    siguienteCorte = i + TAMANO_FRAGMENTO;
+                }
+            }
+        }
+
+        if (cortes.isEmpty()) {
+            // archivo vacío o solo con encabezado
+            cortes.add(largo);
+        }
+        if (cortes.get(cortes.size() - 1) != largo) {
+            cortes.add(largo);
+        }
+
+        return cortes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static <T> List<T> interpretar(String contenido, int desde, int hasta,
+                                           Function<String[], T> convertir) {
+        List<T> resultado = new ArrayList<>();
+        if (desde >= hasta) {
+            return resultado;
+        }
+
+        try (CSVReader reader = new CSVReader(new StringReader(contenido.substring(desde, hasta)))) {
+            String[] nextLine;
+            while ((nextLine = reader.readNext()) != null) {
+                resultado.add(convertir.apply(nextLine));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CsvValidationException e) {
+            throw new UncheckedIOException(new IOException("CSV inválido: " + e.getMessage(), e));
+        }
+
+        return resultado;
+    }
+
+    private static class TareaFragmentos<T> extends RecursiveTask<List<T>> {
+        private final String contenido;
+        private final int[] cortes;
+        private final int primero;
+        private final int ultimo;
+        private final Function<String[], T> convertir;
+
+        /**
+         * @param primero índice en cortes donde empieza el primer fragmento
+         * @param ultimo índice en cortes donde termina el último fragmento
+         */
+        private TareaFragmentos(String contenido, int[] cortes, int primero, int ultimo,
+                                Function<String[], T> convertir) {
+            this.contenido = contenido;
+            this.cortes = cortes;
+            this.primero = primero;
+            this.ultimo = ultimo;
+            this.convertir = convertir;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (ultimo - primero == 1) {
+                return interpretar(contenido, cortes[primero], cortes[ultimo], convertir);
+            }
+
+            int medio = (primero + ultimo) >>> 1;
+            TareaFragmentos<T> izquierda = new TareaFragmentos<>(contenido, cortes, primero, medio, convertir);
+            TareaFragmentos<T> derecha = new TareaFragmentos<>(contenido, cortes, medio, ultimo, convertir);
+
+            izquierda.fork();
+            List<T> resultadoDerecha = derecha.compute();
+            List<T> resultado = izquierda.join();
+            resultado.addAll(resultadoDerecha);
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package infrastructure.repository;
+
+/**
+ * Medición de una consulta sobre un repositorio.
+ *
+ * Cada consulta informa cuántas filas examinó y cuántas retornó; con eso se
+ * emite el EventoConsultaRepositorio y se decide si la llamada va al registro
+ * de operaciones lentas.
+ */
+final class MedicionConsulta {
+    private final EventoConsultaRepositorio evento;
+    private final long inicioNanos;
+
+    private MedicionConsulta() {
+        this.evento = EventoConsultaRepositorio.iniciar();
+        this.inicioNanos = System.nanoTime();
+    }
+
+    /**
+     * Comienza a medir una consulta
+     */
+    static MedicionConsulta iniciar() {
+        return new MedicionConsulta();
+    }
+
+    /**
+     * Termina la medición de la consulta.
+     *
+     * @param repositorio nombre del repositorio consultado
+     * @param operacion método de consulta
+     * @param filasExaminadas elementos recorridos para responder
+     * @param filasRetornadas elementos que forman el resultado
+     */
+    void registrar(String repositorio, String operacion, long filasExaminadas, long filasRetornadas) {
+        long duracionNanos = System.nanoTime() - inicioNanos;
+        evento.registrar(repositorio, operacion, filasExaminadas, filasRetornadas);
+        RegistroOperacionesLentas.evaluar(repositorio, operacion, duracionNanos, filasExaminadas, filasRetornadas);
+    }
+}
@@ -0,0 +1,133 @@
+package infrastructure.repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro de las consultas lentas de los repositorios.
+ *
+ * Una consulta es lenta si supera el umbral de latencia, o si recorre muchas
+ * filas para retornar pocas (proporción examinadas/retornadas). Cada una se
+ * escribe como una línea JSON con el repositorio, la operación, las filas, el
+ * primer método fuera de los repositorios que la pidió y, para una de cada N,
+ * la pila completa. Agrupando por origen se ve qué caminos necesitan un índice.
+ *
+ * Se configura con propiedades del sistema:
+ * <ul>
+ *   <li>comics.lentas: true para habilitar el registro (por defecto false)</li>
+ *   <li>comics.lentas.archivo: archivo de destino (por defecto operaciones-lentas.log)</li>
+ *   <li>comics.lentas.latenciaMs: latencia a partir de la cual se registra (por defecto 20)</li>
+ *   <li>comics.lentas.proporcion: filas examinadas por fila retornada (por defecto 100)</li>
+ *   <li>comics.lentas.filasMinimas: filas examinadas para aplicar la proporción (por defecto 10000)</li>
+ *   <li>comics.lentas.muestreoPila: se guarda la pila de una de cada N consultas lentas,
+ *       0 para nunca (por defecto 10)</li>
+ * </ul>
+ *
+ * El archivo se abre con la primera consulta lenta y se cierra al terminar
+ * la JVM.
+ */
+final class RegistroOperacionesLentas {
+    private static final boolean HABILITADO = Boolean.parseBoolean(System.getProperty("comics.lentas", "false"));
+    private static final Path ARCHIVO = Path.of(System.getProperty("comics.lentas.archivo", "operaciones-lentas.log"));
+    private static final long LATENCIA_NANOS = Long.getLong("comics.lentas.latenciaMs", 20) * 1_000_000L;
+    private static final double PROPORCION = Double.parseDouble(System.getProperty("comics.lentas.proporcion", "100"));
+    private static final long FILAS_MINIMAS = Long.getLong("comics.lentas.filasMinimas", 10_000);
+    private static final long MUESTREO_PILA = Long.getLong("comics.lentas.muestreoPila", 10);
+    private static final int PROFUNDIDAD_PILA = 32;
+    private static final String PAQUETE = RegistroOperacionesLentas.class.getPackageName() + ".";
+
+    private static final StackWalker PILA = StackWalker.getInstance();
+    private static final AtomicLong REGISTRADAS = new AtomicLong();
+    private static BufferedWriter salida;
+    private static boolean cerrado;
+
+    private RegistroOperacionesLentas() {
+    }
+
+    /**
+     * Registra la consulta si supera alguno de los umbrales.
+     * El costo para una consulta normal es una comparación.
+     */
+    static void evaluar(String repositorio, String operacion, long duracionNanos, long filasExaminadas, long filasRetornadas) {
+        if (!HABILITADO) {
+            return;
+        }
+
+        double proporcion = (double) filasExaminadas / Math.max(filasRetornadas, 1);
+        boolean porLatencia = duracionNanos >= LATENCIA_NANOS;
+        boolean porRecorrido = filasExaminadas >= FILAS_MINIMAS && proporcion >= PROPORCION;
+        if (!porLatencia && !porRecorrido) {
+            return;
+        }
+
+        long numero = REGISTRADAS.incrementAndGet();
+        boolean conPila = MUESTREO_PILA > 0 && (numero - 1) % MUESTREO_PILA == 0;
+        List<StackWalker.StackFrame> marcos = PILA.walk(s -> s
+                .dropWhile(marco -> marco.getClassName().startsWith(PAQUETE))
+                .limit(conPila ? PROFUNDIDAD_PILA : 1)
+                .toList());
+
+        StringBuilder linea = new StringBuilder(256);
+        linea.append("{\"instante\": \"").append(Instant.now()).append('"');
+        linea.append(", \"repositorio\": \"").append(repositorio).append('"');
+        linea.append(", \"operacion\": \"").append(operacion).append('"');
+        linea.append(", \"motivo\": \"").append(porLatencia ? (porRecorrido ? "latencia+recorrido" : "latencia") : "recorrido").append('"');
+        linea.append(", \"duracionMicros\": ").append(duracionNanos / 1_000);
+        linea.append(", \"filasExaminadas\": ").append(filasExaminadas);
+        linea.append(", \"filasRetornadas\": ").append(filasRetornadas);
+        linea.append(", \"proporcion\": ").append(String.format(Locale.ROOT, "%.1f", proporcion));
+        linea.append(", \"hilo\": \"").append(Thread.currentThread().getName()).append('"');
+        linea.append(", \"origen\": \"").append(marcos.isEmpty() ? "" : describir(marcos.get(0))).append('"');
+        if (conPila) {
+            linea.append(", \"pila\": [");
+            for (int i = 0; i < marcos.size(); i++) {
+                linea.append(i == 0 ? "\"" : ", \"").append(describir(marcos.get(i))).append('"');
+            }
+            linea.append(']');
+        }
+        linea.append('}');
+
+        escribir(linea.toString());
+    }
+
+    private static String describir(StackWalker.StackFrame marco) {
+        return marco.getClassName() + "." + marco.getMethodName() + ":" + marco.getLineNumber();
+    }
+
+    private static synchronized void escribir(String linea) {
+        if (cerrado) {
+            return;
+        }
+        try {
+            if (salida == null) {
+                salida = Files.newBufferedWriter(ARCHIVO, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                Runtime.getRuntime().addShutdownHook(new Thread(RegistroOperacionesLentas::cerrar, "cierre-operaciones-lentas"));
+            }
+            salida.write(linea);
+            salida.newLine();
+            salida.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static synchronized void cerrar() {
+        cerrado = true;
+        try {
+            if (salida != null) {
+                salida.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -4,37 +4,108 @@ import domain.entities.Reserva;
 import domain.entities.Usuario;
 import domain.entities.Comic;
 import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
 import exceptions.ReservaNoEncontradaException;
+import infrastructure.colecciones.TablaPersistente;
+import infrastructure.versiones.HistorialVersiones;
 import interfaces.repository.IReservaRepository;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Reservas en memoria, ordenadas por fecha de expiración.
+ *
+ * Cada versión es una colección persistente publicada en un historial de
+ * versiones: las escrituras están serializadas y publican una versión nueva,
+ * las lecturas recorren la vigente, o la fijada por el hilo, sin bloquear ni copiar.
+ *
+ * La entidad Reserva cambia de estado en su lugar, así que cada versión guarda
+ * también el estado que tenía la reserva al escribirla; buscarPorEstado()
+ * filtra por ese estado y una versión vieja sigue respondiendo lo mismo
+ * aunque la reserva se haya cancelado después.
+ */
 public class ReservaRepository implements IReservaRepository {
-    private final Set<Reserva> reservas = new TreeSet<>();
+    private static final String REPOSITORIO = "reservas";
+
+    private final HistorialVersiones<TablaPersistente<Identificador, OrdenReserva, ReservaGuardada>> reservas =
+            new HistorialVersiones<>(TablaPersistente.vacia(ReservaGuardada::id, ReservaGuardada::orden));
+
+    /**
+     * Una reserva con el estado que tenía cuando se guardó en esta versión
+     */
+    private record ReservaGuardada(Reserva reserva, EstadoReserva estado) {
+        static ReservaGuardada de(Reserva reserva) {
+            return new ReservaGuardada(reserva, reserva.getEstadoReserva());
+        }
+
+        Identificador id() {
+            return reserva.getId();
+        }
+
+        OrdenReserva orden() {
+            return OrdenReserva.de(reserva);
+        }
+    }
+
+    /**
+     * Posición de una reserva: el mismo orden que Reserva.compareTo, tomado al
+     * guardarla para poder reubicarla si después cambia su fecha de expiración.
+     */
+    private record OrdenReserva(LocalDateTime expiracion, Identificador id) implements Comparable<OrdenReserva> {
+        private static final Comparator<OrdenReserva> ORDEN = Comparator
+                .comparing(OrdenReserva::expiracion, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(OrdenReserva::id);
+
+        static OrdenReserva de(Reserva reserva) {
+            return new OrdenReserva(reserva.getFechaExpiracionReserva(), reserva.getId());
+        }
+
+        @Override
+        public int compareTo(OrdenReserva otra) {
+            return ORDEN.compare(this, otra);
+        }
+    }
 
     @Override
-    public void guardar(Reserva reserva) {
+    public synchronized void guardar(Reserva reserva) {
         if (reserva == null) {
             throw new IllegalArgumentException("La reserva no puede ser nula");
         }
-        reservas.add(reserva);
+        reservas.publicar(reservas.ultimo().con(ReservaGuardada.de(reserva)));
     }
 
     @Override
-    public Optional<Reserva> buscarPorId(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            return Optional.empty();
+    public synchronized void guardarTodas(List<Reserva> nuevas) {
+        if (nuevas == null || nuevas.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
         }
+        reservas.publicar(reservas.ultimo().conTodas(nuevas.stream().map(ReservaGuardada::de).toList()));
+    }
 
-        return reservas.stream()
-                .filter(reserva -> reserva.getId().equals(id))
-                .findFirst();
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        ReservaGuardada guardada = id == null ? null : reservas.leer().get(id);
+        Reserva reserva = guardada == null ? null : guardada.reserva();
+        consulta.registrar(REPOSITORIO, "buscarPorId", 1, reserva == null ? 0 : 1);
+        return Optional.ofNullable(reserva);
     }
 
     @Override
     public List<Reserva> buscarTodas() {
-        return new ArrayList<>(reservas);
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Reserva> resultado = reservas.leer().valores(ReservaGuardada::reserva);
+        consulta.registrar(REPOSITORIO, "buscarTodas", resultado.size(), resultado.size());
+        return resultado;
+    }
+
+    /**
+     * Recorre las reservas en orden de expiración sin copiarlas
+     */
+    void paraCada(Consumer<Reserva> accion) {
+        reservas.leer().valores().forEach(guardada -> accion.accept(guardada.reserva()));
     }
 
     @Override
@@ -43,9 +114,13 @@ public class ReservaRepository implements IReservaRepository {
             return new ArrayList<>();
         }
 
-        return reservas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Reserva> todas = reservas.leer().valores(ReservaGuardada::reserva);
+        List<Reserva> resultado = todas.stream()
                 .filter(reserva -> reserva.getUsuario().getId() == usuario.getId())
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorUsuario", todas.size(), resultado.size());
+        return resultado;
     }
 
     @Override
@@ -54,9 +129,13 @@ public class ReservaRepository implements IReservaRepository {
             return new ArrayList<>();
         }
 
-        return reservas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Reserva> todas = reservas.leer().valores(ReservaGuardada::reserva);
+        List<Reserva> resultado = todas.stream()
                 .filter(reserva -> reserva.getComic().getId().equals(comic.getId()))
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorComic", todas.size(), resultado.size());
+        return resultado;
     }
 
     @Override
@@ -65,23 +144,40 @@ public class ReservaRepository implements IReservaRepository {
             return new ArrayList<>();
         }
 
-        return reservas.stream()
-                .filter(reserva -> reserva.getEstadoReserva() == estado)
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<ReservaGuardada> todas = reservas.leer().valores();
+        List<Reserva> resultado = todas.stream()
+                .filter(guardada -> guardada.estado() == estado)
+                .map(ReservaGuardada::reserva)
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorEstado", todas.size(), resultado.size());
+        return resultado;
     }
 
     /**
-     * Búsqueda optimizada de reservas expiradas aprovechando el ordenamiento del TreeSet.
-     * Al estar ordenadas por fecha de expiración, podemos usar headSet() para obtener
-     * solo las reservas que expiran antes de la fecha actual, evitando iterar toda la colección.
+     * Búsqueda optimizada de reservas expiradas aprovechando el orden por fecha de expiración:
+     * recorre desde la primera en expirar y se detiene en la primera que todavía no expira,
+     * sin iterar toda la colección.
      */
     @Override
     public List<Reserva> buscarReservasExpiradas() {
         LocalDateTime ahora = LocalDateTime.now();
 
-        return reservas.stream()
-                .filter(reserva -> reserva.getFechaExpiracionReserva().isBefore(ahora))
-                .collect(Collectors.toList());
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Reserva> resultado = new ArrayList<>();
+        long examinadas = 0;
+        Iterator<Map.Entry<OrdenReserva, ReservaGuardada>> entradas = reservas.leer().desde(null);
+        while (entradas.hasNext()) {
+            Map.Entry<OrdenReserva, ReservaGuardada> entrada = entradas.next();
+            examinadas++;
+            LocalDateTime expiracion = entrada.getKey().expiracion();
+            if (expiracion == null || !expiracion.isBefore(ahora)) {
+                break;
+            }
+            resultado.add(entrada.getValue().reserva());
+        }
+        consulta.registrar(REPOSITORIO, "buscarReservasExpiradas", examinadas, resultado.size());
+        return resultado;
     }
 
     @Override
@@ -90,41 +186,45 @@ public class ReservaRepository implements IReservaRepository {
             return new ArrayList<>();
         }
 
-        return reservas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Reserva> todas = reservas.leer().valores(ReservaGuardada::reserva);
+        List<Reserva> resultado = todas.stream()
                 .filter(reserva -> {
                     LocalDateTime fechaReserva = reserva.getFechaReserva();
                     return !fechaReserva.isBefore(fechaInicio) && !fechaReserva.isAfter(fechaFin);
                 })
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorFecha", todas.size(), resultado.size());
+        return resultado;
     }
 
     @Override
-    public void actualizar(Reserva reserva) {
+    public synchronized void actualizar(Reserva reserva) {
         if (reserva == null) {
             throw new IllegalArgumentException("La reserva no puede ser nula");
         }
 
-        // En TreeSet, primero eliminamos la versión antigua y agregamos la nueva
-        Optional<Reserva> reservaExistente = buscarPorId(reserva.getId());
-        if (reservaExistente.isEmpty()) {
+        TablaPersistente<Identificador, OrdenReserva, ReservaGuardada> actual = reservas.ultimo();
+        if (!actual.contiene(reserva.getId())) {
             throw new ReservaNoEncontradaException("Reserva no encontrada con ID: " + reserva.getId());
         }
 
-        reservas.remove(reservaExistente.get());
-        reservas.add(reserva);
+        // la tabla recuerda la posición anterior, así que se reubica aunque
+        // sea la misma instancia con otra fecha de expiración
+        reservas.publicar(actual.con(ReservaGuardada.de(reserva)));
     }
 
     @Override
-    public void eliminar(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("El ID no puede ser nulo o vacío");
+    public synchronized void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
         }
 
-        Optional<Reserva> reservaAEliminar = buscarPorId(id);
-        if (reservaAEliminar.isEmpty()) {
+        TablaPersistente<Identificador, OrdenReserva, ReservaGuardada> actual = reservas.ultimo();
+        if (!actual.contiene(id)) {
             throw new ReservaNoEncontradaException("Reserva no encontrada con ID: " + id);
         }
 
-        reservas.remove(reservaAEliminar.get());
+        reservas.publicar(actual.sin(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,365 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.enums.TipoEventoReserva;
+import domain.eventos.EventoReserva;
+import domain.valueobjects.Identificador;
+import exceptions.ReservaInvalidaException;
+import exceptions.ReservaNoEncontradaException;
+import exceptions.ReservaYaExpiradaException;
+import infrastructure.colecciones.MapaIdentificadores;
+import interfaces.repository.IReservaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Repositorio de reservas basado en eventos (event sourcing).
+ *
+ * Cada cambio en una reserva se agrega a un registro de solo agregado como un
+ * EventoReserva (creada, cancelada, expirada, convertida en venta o
+ * eliminada) y nunca se modifica. El estado actual es una proyección en
+ * memoria de ese registro, sobre la que se responden las consultas, y cada
+ * cierta cantidad de eventos se guarda una instantánea de la proyección. Así
+ * una escritura es un agregado al final del registro y la proyección puede
+ * reconstruirse desde la última instantánea en paralelo, repartiendo los
+ * cómics en particiones.
+ *
+ * El registro solo conserva los eventos posteriores a la última instantánea:
+ * los anteriores ya están resumidos en ella. El historial de cada reserva se
+ * guarda aparte mientras la reserva está en el repositorio (historial e
+ * historialPorComic) y se descarta cuando se elimina, así la memoria crece
+ * con las reservas y no con todos los eventos ocurridos.
+ *
+ * Las escrituras, las instantáneas, la reconstrucción y el historial están
+ * serializados y son los únicos que tocan el registro; las consultas leen la
+ * proyección vigente, que es un ReservaRepository, sin bloquear.
+ */
+public class ReservaRepositoryEventos implements IReservaRepository {
+    private static final int INTERVALO_INSTANTANEAS_POR_DEFECTO = 1000;
+
+    // protegidos por this; eventos posteriores a la última instantánea, en orden
+    private final List<EventoReserva> eventos = new ArrayList<>();
+    // eventos de cada reserva del repositorio, en orden; el último indica su estado
+    private final MapaIdentificadores<List<EventoReserva>> eventosPorReserva = new MapaIdentificadores<>();
+    private InstantaneaReservas ultimaInstantanea = InstantaneaReservas.VACIA;
+    private long siguienteSecuencia;
+    private final int intervaloInstantaneas;
+
+    private volatile ReservaRepository proyeccion = new ReservaRepository();
+
+    public ReservaRepositoryEventos() {
+        this(INTERVALO_INSTANTANEAS_POR_DEFECTO);
+    }
+
+    /**
+     * @param intervaloInstantaneas cantidad mínima de eventos entre dos instantáneas
+     */
+    public ReservaRepositoryEventos(int intervaloInstantaneas) {
+        if (intervaloInstantaneas <= 0) {
+            throw new IllegalArgumentException("El intervalo de instantáneas debe ser mayor a 0");
+        }
+        this.intervaloInstantaneas = intervaloInstantaneas;
+    }
+
+    @Override
+    public synchronized void guardar(Reserva reserva) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+        if (registrada(reserva.getId())) {
+            throw new ReservaInvalidaException("La reserva ya fue registrada: " + reserva.getId());
+        }
+
+        agregar(TipoEventoReserva.CREADA, reserva);
+        proyeccion.guardar(reserva);
+        tomarInstantaneaSiCorresponde();
+    }
+
+    /**
+     * Valida todo el lote antes de agregar el primer evento, así un lote con
+     * una reserva inválida no deja la mitad registrada, y considera una sola
+     * instantánea al final.
+     */
+    @Override
+    public synchronized void guardarTodas(List<Reserva> reservas) {
+        Set<Identificador> nuevas = new HashSet<>();
+        for (Reserva reserva : reservas) {
+            if (reserva == null) {
+                throw new IllegalArgumentException("La reserva no puede ser nula");
+            }
+            if (registrada(reserva.getId()) || !nuevas.add(reserva.getId())) {
+                throw new ReservaInvalidaException("La reserva ya fue registrada: " + reserva.getId());
+            }
+        }
+
+        for (Reserva reserva : reservas) {
+            agregar(TipoEventoReserva.CREADA, reserva);
+            proyeccion.guardar(reserva);
+        }
+        tomarInstantaneaSiCorresponde();
+    }
+
+    @Override
+    public synchronized void registrarCancelacion(Reserva reserva) {
+        registrarFin(TipoEventoReserva.CANCELADA, reserva);
+    }
+
+    @Override
+    public synchronized void registrarExpiracion(Reserva reserva) {
+        registrarFin(TipoEventoReserva.EXPIRADA, reserva);
+    }
+
+    @Override
+    public synchronized void registrarConversionEnVenta(Reserva reserva) {
+        registrarFin(TipoEventoReserva.CONVERTIDA_EN_VENTA, reserva);
+    }
+
+    /**
+     * Sin un motivo explícito, el único cambio que se registra es el paso de
+     * activa a inactiva, como una expiración. Otros cambios no forman parte
+     * del ciclo de vida y no generan eventos.
+     */
+    @Override
+    public synchronized void actualizar(Reserva reserva) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+
+        if (reserva.getEstadoReserva() == EstadoReserva.EXPIRADA && estadoRegistrado(reserva) == EstadoReserva.ACTIVO) {
+            registrarFin(TipoEventoReserva.EXPIRADA, reserva);
+        }
+    }
+
+    /**
+     * El registro es de solo agregado: eliminar agrega un evento que saca la
+     * reserva de la proyección (por ejemplo, cuando su cómic pasa a otro
+     * nodo). Su historial se descarta con ella y la reserva puede volver a
+     * guardarse con el mismo identificador.
+     */
+    @Override
+    public synchronized void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        Reserva reserva = proyeccion.buscarPorId(id)
+                .orElseThrow(() -> new ReservaNoEncontradaException("Reserva no encontrada con ID: " + id));
+
+        agregar(TipoEventoReserva.ELIMINADA, reserva);
+        proyeccion.eliminar(id);
+        tomarInstantaneaSiCorresponde();
+    }
+
+    private void registrarFin(TipoEventoReserva tipo, Reserva reserva) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+        if (estadoRegistrado(reserva) != EstadoReserva.ACTIVO) {
+            throw new ReservaYaExpiradaException(String.format("Reserva %s ya finalizada", reserva.getId()));
+        }
+
+        agregar(tipo, reserva);
+        // la entidad de la proyección suele ser la misma instancia; se actualiza
+        // igual para que la versión nueva de la proyección guarde su estado
+        Reserva proyectada = proyeccion.buscarPorId(reserva.getId()).orElseThrow();
+        if (proyectada.getEstadoReserva() == EstadoReserva.ACTIVO) {
+            proyectada.setReservaInactiva();
+        }
+        proyeccion.actualizar(proyectada);
+        tomarInstantaneaSiCorresponde();
+    }
+
+    private boolean registrada(Identificador id) {
+        return eventosPorReserva.containsKey(id);
+    }
+
+    private EstadoReserva estadoRegistrado(Reserva reserva) {
+        if (!registrada(reserva.getId())) {
+            throw new ReservaNoEncontradaException("Reserva no encontrada con ID: " + reserva.getId());
+        }
+        List<EventoReserva> historial = eventosPorReserva.get(reserva.getId());
+        return historial.get(historial.size() - 1).estadoResultante();
+    }
+
+    private void agregar(TipoEventoReserva tipo, Reserva reserva) {
+        EventoReserva evento = new EventoReserva(siguienteSecuencia++, tipo, reserva.getId(),
+                reserva.getUsuario(), reserva.getComic(),
+                reserva.getFechaReserva(), reserva.getFechaExpiracionReserva(), LocalDateTime.now());
+        eventos.add(evento);
+
+        if (tipo == TipoEventoReserva.ELIMINADA) {
+            eventosPorReserva.remove(reserva.getId());
+            return;
+        }
+        List<EventoReserva> historial = eventosPorReserva.get(reserva.getId());
+        if (historial == null) {
+            historial = new ArrayList<>(2);
+            eventosPorReserva.put(reserva.getId(), historial);
+        }
+        historial.add(evento);
+    }
+
+    /**
+     * Se toma una instantánea cada intervaloInstantaneas eventos, pero nunca
+     * antes de que se hayan agregado tantos eventos como filas tenía la
+     * anterior: así copiar la proyección cuesta O(1) amortizado por evento.
+     */
+    private void tomarInstantaneaSiCorresponde() {
+        if (eventos.size() >= Math.max(intervaloInstantaneas, ultimaInstantanea.filas().size())) {
+            tomarInstantanea();
+        }
+    }
+
+    /**
+     * Guarda el estado actual de la proyección como instantánea y descarta del
+     * registro los eventos que quedaron resumidos en ella.
+     */
+    public synchronized void tomarInstantanea() {
+        List<InstantaneaReservas.Fila> filas = new ArrayList<>();
+        proyeccion.paraCada(reserva -> filas.add(InstantaneaReservas.Fila.de(reserva)));
+        ultimaInstantanea = new InstantaneaReservas(siguienteSecuencia - 1, Collections.unmodifiableList(filas));
+        eventos.clear();
+    }
+
+    /**
+     * Descarta la proyección actual y la reconstruye desde la última
+     * instantánea y los eventos posteriores.
+     *
+     * Los cómics se reparten en particiones por su identificador; como todos
+     * los eventos de una reserva son del mismo cómic, cada partición se
+     * reconstruye de forma independiente en el pool común. Las entidades
+     * Reserva se crean de nuevo, así que las instancias obtenidas antes de
+     * reconstruir dejan de pertenecer al repositorio.
+     *
+     * @param particiones cantidad de particiones a reconstruir en paralelo
+     */
+    public synchronized void reconstruirProyeccion(int particiones) {
+        if (particiones <= 0) {
+            throw new IllegalArgumentException("La cantidad de particiones debe ser mayor a 0");
+        }
+
+        InstantaneaReservas instantanea = ultimaInstantanea;
+        List<List<InstantaneaReservas.Fila>> filasPorParticion = repartir(instantanea.filas(), particiones,
+                fila -> fila.comic().getId());
+        List<List<EventoReserva>> eventosPorParticion = repartir(eventos, particiones,
+                evento -> evento.comic().getId());
+
+        List<Map<Identificador, Reserva>> parciales = IntStream.range(0, particiones).parallel()
+                .mapToObj(p -> proyectar(filasPorParticion.get(p), eventosPorParticion.get(p)))
+                .toList();
+
+        ReservaRepository nueva = new ReservaRepository();
+        for (Map<Identificador, Reserva> parcial : parciales) {
+            parcial.values().forEach(nueva::guardar);
+        }
+        proyeccion = nueva;
+    }
+
+    private static Map<Identificador, Reserva> proyectar(List<InstantaneaReservas.Fila> filas,
+                                                        List<EventoReserva> eventos) {
+        Map<Identificador, Reserva> reservas = new LinkedHashMap<>();
+        for (InstantaneaReservas.Fila fila : filas) {
+            reservas.put(fila.id(), fila.reconstruir());
+        }
+
+        for (EventoReserva evento : eventos) {
+            if (evento.tipo() == TipoEventoReserva.CREADA) {
+                reservas.put(evento.reservaId(), Reserva.reconstruir(evento.reservaId(), evento.usuario(),
+                        evento.comic(), evento.fechaReserva(), evento.fechaExpiracion(), EstadoReserva.ACTIVO));
+            } else if (evento.tipo() == TipoEventoReserva.ELIMINADA) {
+                reservas.remove(evento.reservaId());
+            } else {
+                Reserva reserva = reservas.get(evento.reservaId());
+                if (reserva.getEstadoReserva() == EstadoReserva.ACTIVO) {
+                    reserva.setReservaInactiva();
+                }
+            }
+        }
+        return reservas;
+    }
+
+    private static <T> List<List<T>> repartir(List<T> elementos, int particiones,
+                                              Function<T, Identificador> comic) {
+        List<List<T>> resultado = new ArrayList<>(particiones);
+        for (int i = 0; i < particiones; i++) {
+            resultado.add(new ArrayList<>());
+        }
+        for (T elemento : elementos) {
+            resultado.get(Math.floorMod(comic.apply(elemento).hashCode(), particiones)).add(elemento);
+        }
+        return resultado;
+    }
+
+    @Override
+    public synchronized List<EventoReserva> historial(Identificador reservaId) {
+        List<EventoReserva> historial = reservaId == null ? null : eventosPorReserva.get(reservaId);
+        return historial == null ? List.of() : List.copyOf(historial);
+    }
+
+    /**
+     * Recorre solo las reservas del cómic en la proyección, no todo el registro
+     */
+    @Override
+    public synchronized List<EventoReserva> historialPorComic(Comic comic) {
+        if (comic == null) {
+            return List.of();
+        }
+        List<EventoReserva> resultado = new ArrayList<>();
+        for (Reserva reserva : proyeccion.buscarPorComic(comic)) {
+            List<EventoReserva> historial = eventosPorReserva.get(reserva.getId());
+            if (historial != null) {
+                resultado.addAll(historial);
+            }
+        }
+        resultado.sort(Comparator.comparingLong(EventoReserva::secuencia));
+        return resultado;
+    }
+
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        return proyeccion.buscarPorId(id);
+    }
+
+    @Override
+    public List<Reserva> buscarTodas() {
+        return proyeccion.buscarTodas();
+    }
+
+    @Override
+    public List<Reserva> buscarPorUsuario(Usuario usuario) {
+        return proyeccion.buscarPorUsuario(usuario);
+    }
+
+    @Override
+    public List<Reserva> buscarPorComic(Comic comic) {
+        return proyeccion.buscarPorComic(comic);
+    }
+
+    @Override
+    public List<Reserva> buscarPorEstado(EstadoReserva estado) {
+        return proyeccion.buscarPorEstado(estado);
+    }
+
+    @Override
+    public List<Reserva> buscarReservasExpiradas() {
+        return proyeccion.buscarReservasExpiradas();
+    }
+
+    @Override
+    public List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return proyeccion.buscarPorFecha(fechaInicio, fechaFin);
+    }
+}
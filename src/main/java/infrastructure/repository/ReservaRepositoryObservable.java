@@ -0,0 +1,163 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.eventos.EventoReserva;
+import domain.valueobjects.Identificador;
+import infrastructure.versiones.VersionesRepositorios;
+import interfaces.repository.IReservaRepository;
+import interfaces.repository.OyenteCambios;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorador de un repositorio de reservas que avisa cada alta, modificación y
+ * baja a los oyentes registrados, después de que el repositorio la aplicó.
+ */
+public class ReservaRepositoryObservable implements IReservaRepository {
+    private final IReservaRepository repositorio;
+    private final List<OyenteCambios<Reserva>> oyentes = new CopyOnWriteArrayList<>();
+
+    public ReservaRepositoryObservable(IReservaRepository repositorio) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de reservas no puede ser nulo");
+        }
+        this.repositorio = repositorio;
+    }
+
+    public void agregarOyente(OyenteCambios<Reserva> oyente) {
+        if (oyente == null) {
+            throw new IllegalArgumentException("El oyente no puede ser nulo");
+        }
+        oyentes.add(oyente);
+    }
+
+    @Override
+    public void guardar(Reserva reserva) {
+        enUnaVersion(() -> {
+            repositorio.guardar(reserva);
+            notificar(TipoCambio.ALTA, reserva);
+        });
+    }
+
+    @Override
+    public void guardarTodas(List<Reserva> reservas) {
+        enUnaVersion(() -> {
+            repositorio.guardarTodas(reservas);
+            for (Reserva reserva : reservas) {
+                notificar(TipoCambio.ALTA, reserva);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        return repositorio.buscarPorId(id);
+    }
+
+    @Override
+    public List<Reserva> buscarTodas() {
+        return repositorio.buscarTodas();
+    }
+
+    @Override
+    public List<Reserva> buscarPorUsuario(Usuario usuario) {
+        return repositorio.buscarPorUsuario(usuario);
+    }
+
+    @Override
+    public List<Reserva> buscarPorComic(Comic comic) {
+        return repositorio.buscarPorComic(comic);
+    }
+
+    @Override
+    public List<EventoReserva> historial(Identificador reservaId) {
+        return repositorio.historial(reservaId);
+    }
+
+    @Override
+    public List<EventoReserva> historialPorComic(Comic comic) {
+        return repositorio.historialPorComic(comic);
+    }
+
+    @Override
+    public List<Reserva> buscarPorEstado(EstadoReserva estado) {
+        return repositorio.buscarPorEstado(estado);
+    }
+
+    @Override
+    public List<Reserva> buscarReservasExpiradas() {
+        return repositorio.buscarReservasExpiradas();
+    }
+
+    @Override
+    public List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return repositorio.buscarPorFecha(fechaInicio, fechaFin);
+    }
+
+    @Override
+    public void actualizar(Reserva reserva) {
+        enUnaVersion(() -> {
+            repositorio.actualizar(reserva);
+            notificar(TipoCambio.MODIFICACION, reserva);
+        });
+    }
+
+    @Override
+    public void registrarCancelacion(Reserva reserva) {
+        enUnaVersion(() -> {
+            repositorio.registrarCancelacion(reserva);
+            notificar(TipoCambio.MODIFICACION, reserva);
+        });
+    }
+
+    @Override
+    public void registrarExpiracion(Reserva reserva) {
+        enUnaVersion(() -> {
+            repositorio.registrarExpiracion(reserva);
+            notificar(TipoCambio.MODIFICACION, reserva);
+        });
+    }
+
+    @Override
+    public void registrarConversionEnVenta(Reserva reserva) {
+        enUnaVersion(() -> {
+            repositorio.registrarConversionEnVenta(reserva);
+            notificar(TipoCambio.MODIFICACION, reserva);
+        });
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        enUnaVersion(() -> {
+            // se busca antes para poder avisar qué reserva se eliminó
+            Optional<Reserva> reserva = repositorio.buscarPorId(id);
+            repositorio.eliminar(id);
+            reserva.ifPresent(eliminada -> notificar(TipoCambio.BAJA, eliminada));
+        });
+    }
+
+    /**
+     * El cambio y los avisos a los oyentes forman una misma versión de los
+     * repositorios, así lo que mantienen los oyentes (por ejemplo, el índice
+     * del inventario) no queda una versión atrás del repositorio
+     */
+    private void enUnaVersion(Runnable cambio) {
+        VersionesRepositorios.global().escribirVersion(() -> {
+            cambio.run();
+            return null;
+        });
+    }
+
+    private void notificar(TipoCambio tipo, Reserva reserva) {
+        for (OyenteCambios<Reserva> oyente : oyentes) {
+            oyente.cambio(tipo, reserva);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.enums.EstadoReserva;
+import domain.eventos.EventoReserva;
+import domain.valueobjects.Identificador;
+import exceptions.ReservaNoEncontradaException;
+import infrastructure.particiones.Particiones;
+import interfaces.repository.IReservaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Reservas divididas en particiones por el identificador del cómic reservado,
+ * la misma clave que el catálogo particionado.
+ *
+ * Las operaciones sobre una reserva y las búsquedas por cómic van solo a la
+ * partición del cómic. Las búsquedas por usuario, estado o fecha se hacen en
+ * todas las particiones a la vez y se juntan en el orden natural de las reservas.
+ * Un directorio concurrente recuerda la partición de cada reserva para poder
+ * buscarla o eliminarla solo por su identificador.
+ */
+public class ReservaRepositoryParticionado implements IReservaRepository, AutoCloseable {
+    private final Particiones<IReservaRepository> particiones;
+    private final Map<Identificador, Integer> particionPorReserva = new ConcurrentHashMap<>();
+
+    /**
+     * @param cantidad cantidad de particiones
+     * @param fabrica construye el repositorio de la partición indicada
+     */
+    public ReservaRepositoryParticionado(int cantidad, IntFunction<? extends IReservaRepository> fabrica) {
+        this.particiones = new Particiones<>("reservas", cantidad, fabrica);
+    }
+
+    public int cantidadParticiones() {
+        return particiones.cantidad();
+    }
+
+    @Override
+    public void guardar(Reserva reserva) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+        int particion = particiones.particion(reserva.getComic().getId());
+        particiones.ejecutar(particion, repositorio -> {
+            repositorio.guardar(reserva);
+            return null;
+        });
+        particionPorReserva.put(reserva.getId(), particion);
+    }
+
+    /**
+     * Agrupa las reservas por partición y envía un solo mensaje a cada una
+     */
+    @Override
+    public void guardarTodas(List<Reserva> reservas) {
+        Map<Integer, List<Reserva>> porParticion = new TreeMap<>();
+        for (Reserva reserva : reservas) {
+            if (reserva == null) {
+                throw new IllegalArgumentException("La reserva no puede ser nula");
+            }
+            porParticion.computeIfAbsent(particiones.particion(reserva.getComic().getId()), p -> new ArrayList<>())
+                    .add(reserva);
+        }
+        porParticion.forEach((particion, propias) -> {
+            particiones.ejecutar(particion, repositorio -> {
+                repositorio.guardarTodas(propias);
+                return null;
+            });
+            for (Reserva reserva : propias) {
+                particionPorReserva.put(reserva.getId(), particion);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Reserva> buscarPorId(Identificador id) {
+        Integer particion = id == null ? null : particionPorReserva.get(id);
+        if (particion == null) {
+            return Optional.empty();
+        }
+        return particiones.ejecutar(particion, repositorio -> repositorio.buscarPorId(id));
+    }
+
+    @Override
+    public List<Reserva> buscarTodas() {
+        return juntar(IReservaRepository::buscarTodas);
+    }
+
+    @Override
+    public List<Reserva> buscarPorUsuario(Usuario usuario) {
+        if (usuario == null) {
+            return new ArrayList<>();
+        }
+        return juntar(repositorio -> repositorio.buscarPorUsuario(usuario));
+    }
+
+    @Override
+    public List<Reserva> buscarPorComic(Comic comic) {
+        if (comic == null) {
+            return new ArrayList<>();
+        }
+        return particiones.ejecutar(comic.getId(), repositorio -> repositorio.buscarPorComic(comic));
+    }
+
+    @Override
+    public List<EventoReserva> historial(Identificador reservaId) {
+        Integer particion = reservaId == null ? null : particionPorReserva.get(reservaId);
+        if (particion == null) {
+            return List.of();
+        }
+        return particiones.ejecutar(particion, repositorio -> repositorio.historial(reservaId));
+    }
+
+    @Override
+    public List<EventoReserva> historialPorComic(Comic comic) {
+        if (comic == null) {
+            return List.of();
+        }
+        return particiones.ejecutar(comic.getId(), repositorio -> repositorio.historialPorComic(comic));
+    }
+
+    @Override
+    public List<Reserva> buscarPorEstado(EstadoReserva estado) {
+        if (estado == null) {
+            return new ArrayList<>();
+        }
+        return juntar(repositorio -> repositorio.buscarPorEstado(estado));
+    }
+
+    @Override
+    public List<Reserva> buscarReservasExpiradas() {
+        return juntar(IReservaRepository::buscarReservasExpiradas);
+    }
+
+    @Override
+    public List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        if (fechaInicio == null || fechaFin == null) {
+            return new ArrayList<>();
+        }
+        return juntar(repositorio -> repositorio.buscarPorFecha(fechaInicio, fechaFin));
+    }
+
+    @Override
+    public void actualizar(Reserva reserva) {
+        enPropia(reserva, IReservaRepository::actualizar);
+    }
+
+    @Override
+    public void registrarCancelacion(Reserva reserva) {
+        enPropia(reserva, IReservaRepository::registrarCancelacion);
+    }
+
+    @Override
+    public void registrarExpiracion(Reserva reserva) {
+        enPropia(reserva, IReservaRepository::registrarExpiracion);
+    }
+
+    @Override
+    public void registrarConversionEnVenta(Reserva reserva) {
+        enPropia(reserva, IReservaRepository::registrarConversionEnVenta);
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        Integer particion = particionPorReserva.get(id);
+        if (particion == null) {
+            throw new ReservaNoEncontradaException("Reserva no encontrada con ID: " + id);
+        }
+        particiones.ejecutar(particion, repositorio -> {
+            repositorio.eliminar(id);
+            return null;
+        });
+        particionPorReserva.remove(id);
+    }
+
+    @Override
+    public void close() {
+        particiones.close();
+    }
+
+    private void enPropia(Reserva reserva, BiConsumer<IReservaRepository, Reserva> operacion) {
+        if (reserva == null) {
+            throw new IllegalArgumentException("La reserva no puede ser nula");
+        }
+        particiones.ejecutar(reserva.getComic().getId(), repositorio -> {
+            operacion.accept(repositorio, reserva);
+            return null;
+        });
+    }
+
+    /**
+     * Busca en todas las particiones y junta los resultados en el orden de las reservas
+     */
+    private List<Reserva> juntar(Function<IReservaRepository, List<Reserva>> busqueda) {
+        List<Reserva> resultado = new ArrayList<>();
+        particiones.enTodas(busqueda).forEach(resultado::addAll);
+        resultado.sort(null);
+        return resultado;
+    }
+}
@@ -1,79 +1,163 @@
 package infrastructure.repository;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVWriter;
-import com.opencsv.exceptions.CsvValidationException;
 import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
 import exceptions.UsuarioNoEncontradoException;
+import infrastructure.colecciones.TablaPersistente;
+import infrastructure.versiones.HistorialVersiones;
 import interfaces.repository.IUsuarioRepository;
 
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
-
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+/**
+ * Usuarios en memoria respaldados en un archivo CSV.
+ *
+ * Igual que ComicRepository, publica cada versión de los usuarios y sus
+ * índices en un historial de versiones: las escrituras están serializadas y
+ * las lecturas trabajan sobre la versión vigente, o la fijada por el hilo,
+ * sin bloquear ni copiar.
+ */
 public class UsuarioRepository implements IUsuarioRepository {
-    private final Map<Integer, Usuario> usuarios = new HashMap<>();
-    private final String csvFilePath = "usuarios.csv";
+    private static final String REPOSITORIO = "usuarios";
+
+    private final HistorialVersiones<Estado> historial;
+    private final String csvFilePath;
     private int idGenerator = 1;
 
+    /**
+     * Una versión de los usuarios, ordenados por identificador, y de los
+     * índices por orden para paginar; cada índice se arma recién con la
+     * primera página que lo usa.
+     */
+    private record Estado(TablaPersistente<Integer, Integer, Usuario> usuarios,
+                          Map<OrdenUsuarios, TablaPersistente<Integer, String, Usuario>> indicesOrden) {
+        static final Estado VACIO = new Estado(TablaPersistente.vacia(Usuario::getId, Usuario::getId), Map.of());
+
+        Estado con(Usuario usuario) {
+            return new Estado(usuarios.con(usuario), actualizarIndices(indice -> indice.con(usuario)));
+        }
+
+        Estado conTodos(Collection<Usuario> nuevos) {
+            return new Estado(usuarios.conTodas(nuevos), actualizarIndices(indice -> indice.conTodas(nuevos)));
+        }
+
+        Estado sin(int id) {
+            return new Estado(usuarios.sin(id), actualizarIndices(indice -> indice.sin(id)));
+        }
+
+        Estado conIndice(OrdenUsuarios orden) {
+            Map<OrdenUsuarios, TablaPersistente<Integer, String, Usuario>> indices = new EnumMap<>(OrdenUsuarios.class);
+            indices.putAll(indicesOrden);
+            indices.put(orden, TablaPersistente.<Integer, String, Usuario>vacia(Usuario::getId, orden::clave)
+                    .conTodas(usuarios.valores()));
+            return new Estado(usuarios, Collections.unmodifiableMap(indices));
+        }
+
+        private Map<OrdenUsuarios, TablaPersistente<Integer, String, Usuario>> actualizarIndices(
+                UnaryOperator<TablaPersistente<Integer, String, Usuario>> cambio) {
+            if (indicesOrden.isEmpty()) {
+                return indicesOrden;
+            }
+            Map<OrdenUsuarios, TablaPersistente<Integer, String, Usuario>> indices = new EnumMap<>(indicesOrden);
+            indices.replaceAll((orden, indice) -> cambio.apply(indice));
+            return Collections.unmodifiableMap(indices);
+        }
+    }
+
     public UsuarioRepository() {
-        try (CSVReader reader = new CSVReader(new FileReader(csvFilePath))) {
-            String[] nextLine;
-            boolean isHeader = true;
-            while ((nextLine = reader.readNext()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue;
-                }
+        this("usuarios.csv", ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param csvFilePath archivo CSV de usuarios
+     * @param pool pool donde se interpretan en paralelo los archivos grandes
+     */
+    public UsuarioRepository(String csvFilePath, ForkJoinPool pool) {
+        this.csvFilePath = csvFilePath;
 
-                int id = Integer.parseInt(nextLine[0]);
+        Estado inicial = Estado.VACIO;
+        try {
+            List<Usuario> cargados = LectorCsvParalelo.leer(csvFilePath, nextLine -> {
                 Usuario usuario = new Usuario(
                         nextLine[1], // nombre
                         nextLine[2], // apellido
                         nextLine[3]  // email
                 );
-                usuarios.put(id, usuario);
-                if (id >= idGenerator) {
-                    idGenerator = id + 1;
+                usuario.setId(Integer.parseInt(nextLine[0]));
+                return usuario;
+            }, pool);
+
+            for (Usuario usuario : cargados) {
+                if (usuario.getId() >= idGenerator) {
+                    idGenerator = usuario.getId() + 1;
                 }
             }
-        } catch (IOException | CsvValidationException e) {
+            inicial = inicial.conTodos(cargados);
+        } catch (IOException e) {
             e.printStackTrace();
         }
+        historial = new HistorialVersiones<>(inicial);
     }
 
-    private void guardarCSV() {
-        try (CSVWriter writer = new CSVWriter(new FileWriter(csvFilePath))) {
-            writer.writeNext(new String[]{"id", "nombre", "apellido", "email"});
-            for (Usuario u : usuarios.values()) {
-                writer.writeNext(new String[]{
-                        String.valueOf(u.getId()),
-                        u.getNombre(),
-                        u.getApellido(),
-                        u.getEmail()
-                });
-            }
+    private void guardarCSV(Estado actual) {
+        try {
+            EscritorCsv.escribir(csvFilePath, REPOSITORIO, new String[]{"id", "nombre", "apellido", "email"},
+                    actual.usuarios().valores(), u -> new String[]{
+                            String.valueOf(u.getId()),
+                            u.getNombre(),
+                            u.getApellido(),
+                            u.getEmail()
+                    });
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Publica la versión nueva y la persiste
+     */
+    private void publicar(Estado nuevo) {
+        historial.publicar(nuevo);
+        guardarCSV(nuevo);
+    }
+
     @Override
-    public void guardar(Usuario usuario) {
+    public synchronized void guardar(Usuario usuario) {
         if (usuario == null) {
             throw new IllegalArgumentException("El usuario no puede ser nulo");
         }
 
-        int id = idGenerator++;
-        usuario.setId(id);
-        usuarios.put(id, usuario);
-        guardarCSV();
+        usuario.setId(idGenerator++);
+        publicar(historial.ultimo().con(usuario));
+    }
+
+    /**
+     * Guarda usuarios que ya tienen su identificador asignado en otro nodo,
+     * conservándolo; los próximos usuarios nuevos reciben identificadores mayores.
+     */
+    public synchronized void replicar(Collection<Usuario> replicados) {
+        if (replicados == null || replicados.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+
+        for (Usuario usuario : replicados) {
+            if (usuario.getId() >= idGenerator) {
+                idGenerator = usuario.getId() + 1;
+            }
+        }
+        publicar(historial.ultimo().conTodos(replicados));
     }
 
     @Override
     public Optional<Usuario> buscarPorId(int id) {
-        return Optional.ofNullable(usuarios.get(id));
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        Usuario usuario = historial.leer().usuarios().get(id);
+        consulta.registrar(REPOSITORIO, "buscarPorId", 1, usuario == null ? 0 : 1);
+        return Optional.ofNullable(usuario);
     }
 
     @Override
@@ -82,38 +166,79 @@ public class UsuarioRepository implements IUsuarioRepository {
             return Optional.empty();
         }
 
-        return usuarios.values().stream()
-                .filter(usuario -> email.equalsIgnoreCase(usuario.getEmail()))
-                .findFirst();
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        long examinadas = 0;
+        Usuario encontrado = null;
+        for (Usuario usuario : historial.leer().usuarios().valores()) {
+            examinadas++;
+            if (email.equalsIgnoreCase(usuario.getEmail())) {
+                encontrado = usuario;
+                break;
+            }
+        }
+        consulta.registrar(REPOSITORIO, "buscarPorEmail", examinadas, encontrado == null ? 0 : 1);
+        return Optional.ofNullable(encontrado);
     }
 
     @Override
     public List<Usuario> buscarTodos() {
-        return new ArrayList<>(usuarios.values());
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Usuario> resultado = historial.leer().usuarios().valores();
+        consulta.registrar(REPOSITORIO, "buscarTodos", resultado.size(), resultado.size());
+        return resultado;
+    }
+
+    @Override
+    public Pagina<Usuario> buscarPagina(OrdenUsuarios orden, String cursor, int tamano) {
+        if (orden == null) {
+            throw new IllegalArgumentException("El orden no puede ser nulo");
+        }
+
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        Estado leido = historial.leer();
+        TablaPersistente<Integer, String, Usuario> indice = leido.indicesOrden().get(orden);
+        if (indice == null) {
+            // una versión fijada más vieja arma su índice sin publicarlo
+            indice = leido == historial.ultimo()
+                    ? crearIndice(orden)
+                    : leido.conIndice(orden).indicesOrden().get(orden);
+        }
+        Pagina<Usuario> pagina = Pagina.de(indice.desde(cursor), tamano);
+        consulta.registrar(REPOSITORIO, "buscarPagina", pagina.elementos().size(), pagina.elementos().size());
+        return pagina;
+    }
+
+    private synchronized TablaPersistente<Integer, String, Usuario> crearIndice(OrdenUsuarios orden) {
+        Estado actual = historial.ultimo();
+        if (!actual.indicesOrden().containsKey(orden)) {
+            actual = actual.conIndice(orden);
+            historial.publicar(actual);
+        }
+        return actual.indicesOrden().get(orden);
     }
 
     @Override
-    public void actualizar(Usuario usuario) {
+    public synchronized void actualizar(Usuario usuario) {
         if (usuario == null) {
             throw new IllegalArgumentException("El usuario no puede ser nulo");
         }
 
         int id = usuario.getId();
-        if (!usuarios.containsKey(id)) {
+        Estado actual = historial.ultimo();
+        if (!actual.usuarios().contiene(id)) {
             throw new UsuarioNoEncontradoException("Usuario no encontrado con ID: " + id);
         }
 
-        usuarios.put(id, usuario);
-        guardarCSV();
+        publicar(actual.con(usuario));
     }
 
     @Override
-    public void eliminar(int id) {
-        if (!usuarios.containsKey(id)) {
+    public synchronized void eliminar(int id) {
+        Estado actual = historial.ultimo();
+        if (!actual.usuarios().contiene(id)) {
             throw new UsuarioNoEncontradoException("Usuario no encontrado con ID: " + id);
         }
 
-        usuarios.remove(id);
-        guardarCSV();
+        publicar(actual.sin(id));
     }
-}
\ No newline at end of file
+}
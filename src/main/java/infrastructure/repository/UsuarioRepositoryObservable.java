@@ -0,0 +1,81 @@
+package infrastructure.repository;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+import interfaces.repository.IUsuarioRepository;
+import interfaces.repository.OyenteCambios;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorador de un repositorio de usuarios que avisa cada alta, modificación y
+ * baja a los oyentes registrados, después de que el repositorio la aplicó.
+ */
+public class UsuarioRepositoryObservable implements IUsuarioRepository {
+    private final IUsuarioRepository repositorio;
+    private final List<OyenteCambios<Usuario>> oyentes = new CopyOnWriteArrayList<>();
+
+    public UsuarioRepositoryObservable(IUsuarioRepository repositorio) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de usuarios no puede ser nulo");
+        }
+        this.repositorio = repositorio;
+    }
+
+    public void agregarOyente(OyenteCambios<Usuario> oyente) {
+        if (oyente == null) {
+            throw new IllegalArgumentException("El oyente no puede ser nulo");
+        }
+        oyentes.add(oyente);
+    }
+
+    @Override
+    public void guardar(Usuario usuario) {
+        repositorio.guardar(usuario);
+        notificar(TipoCambio.ALTA, usuario);
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorId(int id) {
+        return repositorio.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Usuario> buscarPorEmail(String email) {
+        return repositorio.buscarPorEmail(email);
+    }
+
+    @Override
+    public List<Usuario> buscarTodos() {
+        return repositorio.buscarTodos();
+    }
+
+    @Override
+    public Pagina<Usuario> buscarPagina(OrdenUsuarios orden, String cursor, int tamano) {
+        return repositorio.buscarPagina(orden, cursor, tamano);
+    }
+
+    @Override
+    public void actualizar(Usuario usuario) {
+        repositorio.actualizar(usuario);
+        notificar(TipoCambio.MODIFICACION, usuario);
+    }
+
+    @Override
+    public void eliminar(int id) {
+        // se busca antes para poder avisar qué usuario se eliminó
+        Optional<Usuario> usuario = repositorio.buscarPorId(id);
+        repositorio.eliminar(id);
+        usuario.ifPresent(eliminado -> notificar(TipoCambio.BAJA, eliminado));
+    }
+
+    private void notificar(TipoCambio tipo, Usuario usuario) {
+        for (OyenteCambios<Usuario> oyente : oyentes) {
+            oyente.cambio(tipo, usuario);
+        }
+    }
+}
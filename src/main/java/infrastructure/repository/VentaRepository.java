@@ -3,37 +3,76 @@ package infrastructure.repository;
 import domain.entities.Venta;
 import domain.entities.Usuario;
 import domain.entities.Comic;
+import domain.valueobjects.Identificador;
 import exceptions.VentaNoEncontradaException;
+import infrastructure.colecciones.TablaPersistente;
+import infrastructure.versiones.HistorialVersiones;
 import interfaces.repository.IVentaRepository;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Ventas en memoria, en orden cronológico.
+ *
+ * Cada versión es una colección persistente publicada en un historial de
+ * versiones: las escrituras están serializadas y publican una versión nueva,
+ * las lecturas recorren la vigente, o la fijada por el hilo, sin bloquear ni copiar.
+ */
 public class VentaRepository implements IVentaRepository {
-    private final Set<Venta> ventas = new TreeSet<>();
+    private static final String REPOSITORIO = "ventas";
+
+    private final HistorialVersiones<TablaPersistente<Identificador, OrdenVenta, Venta>> ventas =
+            new HistorialVersiones<>(TablaPersistente.vacia(Venta::getId, OrdenVenta::de));
+
+    /**
+     * Posición de una venta: el mismo orden que Venta.compareTo
+     */
+    private record OrdenVenta(LocalDateTime fecha, Identificador id) implements Comparable<OrdenVenta> {
+        private static final Comparator<OrdenVenta> ORDEN = Comparator
+                .comparing(OrdenVenta::fecha, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(OrdenVenta::id);
+
+        static OrdenVenta de(Venta venta) {
+            return new OrdenVenta(venta.getFechaVenta(), venta.getId());
+        }
+
+        @Override
+        public int compareTo(OrdenVenta otra) {
+            return ORDEN.compare(this, otra);
+        }
+    }
 
     @Override
-    public void guardar(Venta venta) {
+    public synchronized void guardar(Venta venta) {
         if (venta == null) {
             throw new IllegalArgumentException("La venta no puede ser nula");
         }
-        ventas.add(venta);
+        ventas.publicar(ventas.ultimo().con(venta));
     }
 
     @Override
-    public Optional<Venta> buscarPorId(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            return Optional.empty();
+    public synchronized void guardarTodas(List<Venta> nuevas) {
+        if (nuevas == null || nuevas.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("La venta no puede ser nula");
         }
-        
-        return ventas.stream()
-                .filter(venta -> venta.getId().equals(id))
-                .findFirst();
+        ventas.publicar(ventas.ultimo().conTodas(nuevas));
+    }
+
+    @Override
+    public Optional<Venta> buscarPorId(Identificador id) {
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        Venta venta = id == null ? null : ventas.leer().get(id);
+        consulta.registrar(REPOSITORIO, "buscarPorId", 1, venta == null ? 0 : 1);
+        return Optional.ofNullable(venta);
     }
 
     @Override
     public List<Venta> buscarTodas() {
-        return new ArrayList<>(ventas);
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Venta> resultado = ventas.leer().valores();
+        consulta.registrar(REPOSITORIO, "buscarTodas", resultado.size(), resultado.size());
+        return resultado;
     }
 
     @Override
@@ -42,9 +81,13 @@ public class VentaRepository implements IVentaRepository {
             return new ArrayList<>();
         }
         
-        return ventas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Venta> todas = ventas.leer().valores();
+        List<Venta> resultado = todas.stream()
                 .filter(venta -> venta.getUsuario().getId() == usuario.getId())
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorUsuario", todas.size(), resultado.size());
+        return resultado;
     }
 
     @Override
@@ -53,13 +96,17 @@ public class VentaRepository implements IVentaRepository {
             return new ArrayList<>();
         }
         
-        return ventas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Venta> todas = ventas.leer().valores();
+        List<Venta> resultado = todas.stream()
                 .filter(venta -> venta.getComic().getId().equals(comic.getId()))
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorComic", todas.size(), resultado.size());
+        return resultado;
     }
 
     /**
-     * Búsqueda optimizada por rango de fechas aprovechando el ordenamiento cronológico del TreeSet.
+     * Búsqueda optimizada por rango de fechas aprovechando el ordenamiento cronológico.
      * Al estar las ventas ordenadas por fecha, esta operación es más eficiente que en estructuras
      * no ordenadas, especialmente para rangos de fechas grandes.
      */
@@ -69,41 +116,43 @@ public class VentaRepository implements IVentaRepository {
             return new ArrayList<>();
         }
         
-        return ventas.stream()
+        MedicionConsulta consulta = MedicionConsulta.iniciar();
+        List<Venta> todas = ventas.leer().valores();
+        List<Venta> resultado = todas.stream()
                 .filter(venta -> {
                     LocalDateTime fechaVenta = venta.getFechaVenta();
                     return !fechaVenta.isBefore(fechaInicio) && !fechaVenta.isAfter(fechaFin);
                 })
                 .collect(Collectors.toList());
+        consulta.registrar(REPOSITORIO, "buscarPorFecha", todas.size(), resultado.size());
+        return resultado;
     }
 
     @Override
-    public void actualizar(Venta venta) {
+    public synchronized void actualizar(Venta venta) {
         if (venta == null) {
             throw new IllegalArgumentException("La venta no puede ser nula");
         }
         
-        // En TreeSet, primero eliminamos la versión antigua y agregamos la nueva
-        Optional<Venta> ventaExistente = buscarPorId(venta.getId());
-        if (ventaExistente.isEmpty()) {
+        TablaPersistente<Identificador, OrdenVenta, Venta> actual = ventas.ultimo();
+        if (!actual.contiene(venta.getId())) {
             throw new VentaNoEncontradaException("Venta no encontrada con ID: " + venta.getId());
         }
         
-        ventas.remove(ventaExistente.get());
-        ventas.add(venta);
+        ventas.publicar(actual.con(venta));
     }
 
     @Override
-    public void eliminar(String id) {
-        if (id == null || id.trim().isEmpty()) {
-            throw new IllegalArgumentException("El ID no puede ser nulo o vacío");
+    public synchronized void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
         }
         
-        Optional<Venta> ventaAEliminar = buscarPorId(id);
-        if (ventaAEliminar.isEmpty()) {
+        TablaPersistente<Identificador, OrdenVenta, Venta> actual = ventas.ultimo();
+        if (!actual.contiene(id)) {
             throw new VentaNoEncontradaException("Venta no encontrada con ID: " + id);
         }
         
-        ventas.remove(ventaAEliminar.get());
+        ventas.publicar(actual.sin(id));
     }
 }
\ No newline at end of file
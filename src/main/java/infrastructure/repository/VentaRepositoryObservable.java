@@ -0,0 +1,117 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Venta;
+import domain.entities.Usuario;
+import domain.valueobjects.Identificador;
+import infrastructure.versiones.VersionesRepositorios;
+import interfaces.repository.IVentaRepository;
+import interfaces.repository.OyenteCambios;
+import interfaces.repository.OyenteCambios.TipoCambio;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Decorador de un repositorio de ventas que avisa cada alta, modificación y
+ * baja a los oyentes registrados, después de que el repositorio la aplicó.
+ */
+public class VentaRepositoryObservable implements IVentaRepository {
+    private final IVentaRepository repositorio;
+    private final List<OyenteCambios<Venta>> oyentes = new CopyOnWriteArrayList<>();
+
+    public VentaRepositoryObservable(IVentaRepository repositorio) {
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio de ventas no puede ser nulo");
+        }
+        this.repositorio = repositorio;
+    }
+
+    public void agregarOyente(OyenteCambios<Venta> oyente) {
+        if (oyente == null) {
+            throw new IllegalArgumentException("El oyente no puede ser nulo");
+        }
+        oyentes.add(oyente);
+    }
+
+    @Override
+    public void guardar(Venta venta) {
+        enUnaVersion(() -> {
+            repositorio.guardar(venta);
+            notificar(TipoCambio.ALTA, venta);
+        });
+    }
+
+    @Override
+    public void guardarTodas(List<Venta> ventas) {
+        enUnaVersion(() -> {
+            repositorio.guardarTodas(ventas);
+            for (Venta venta : ventas) {
+                notificar(TipoCambio.ALTA, venta);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Venta> buscarPorId(Identificador id) {
+        return repositorio.buscarPorId(id);
+    }
+
+    @Override
+    public List<Venta> buscarTodas() {
+        return repositorio.buscarTodas();
+    }
+
+    @Override
+    public List<Venta> buscarPorUsuario(Usuario usuario) {
+        return repositorio.buscarPorUsuario(usuario);
+    }
+
+    @Override
+    public List<Venta> buscarPorComic(Comic comic) {
+        return repositorio.buscarPorComic(comic);
+    }
+
+    @Override
+    public List<Venta> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        return repositorio.buscarPorFecha(fechaInicio, fechaFin);
+    }
+
+    @Override
+    public void actualizar(Venta venta) {
+        enUnaVersion(() -> {
+            repositorio.actualizar(venta);
+            notificar(TipoCambio.MODIFICACION, venta);
+        });
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        enUnaVersion(() -> {
+            // se busca antes para poder avisar qué venta se eliminó
+            Optional<Venta> venta = repositorio.buscarPorId(id);
+            repositorio.eliminar(id);
+            venta.ifPresent(eliminada -> notificar(TipoCambio.BAJA, eliminada));
+        });
+    }
+
+    /**
+     * El cambio y los avisos a los oyentes forman una misma versión de los
+     * repositorios, así lo que mantienen los oyentes (por ejemplo, el índice
+     * del inventario) no queda una versión atrás del repositorio
+     */
+    private void enUnaVersion(Runnable cambio) {
+        VersionesRepositorios.global().escribirVersion(() -> {
+            cambio.run();
+            return null;
+        });
+    }
+
+    private void notificar(TipoCambio tipo, Venta venta) {
+        for (OyenteCambios<Venta> oyente : oyentes) {
+            oyente.cambio(tipo, venta);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package infrastructure.repository;
+
+import domain.entities.Comic;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+import domain.valueobjects.Identificador;
+import exceptions.VentaNoEncontradaException;
+import infrastructure.particiones.Particiones;
+import interfaces.repository.IVentaRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Ventas divididas en particiones por el identificador del cómic vendido,
+ * la misma clave que el catálogo y las reservas particionadas.
+ *
+ * Igual que ReservaRepositoryParticionado: las búsquedas por cómic van a una
+ * sola partición, el resto se hace en todas y se junta en el orden natural de
+ * las ventas, y un directorio concurrente ubica cada venta por su identificador.
+ */
+public class VentaRepositoryParticionado implements IVentaRepository, AutoCloseable {
+    private final Particiones<IVentaRepository> particiones;
+    private final Map<Identificador, Integer> particionPorVenta = new ConcurrentHashMap<>();
+
+    /**
+     * @param cantidad cantidad de particiones
+     * @param fabrica construye el repositorio de la partición indicada
+     */
+    public VentaRepositoryParticionado(int cantidad, IntFunction<? extends IVentaRepository> fabrica) {
+        this.particiones = new Particiones<>("ventas", cantidad, fabrica);
+    }
+
+    public int cantidadParticiones() {
+        return particiones.cantidad();
+    }
+
+    @Override
+    public void guardar(Venta venta) {
+        if (venta == null) {
+            throw new IllegalArgumentException("La venta no puede ser nula");
+        }
+        int particion = particiones.particion(venta.getComic().getId());
+        particiones.ejecutar(particion, repositorio -> {
+            repositorio.guardar(venta);
+            return null;
+        });
+        particionPorVenta.put(venta.getId(), particion);
+    }
+
+    /**
+     * Agrupa las ventas por partición y envía un solo mensaje a cada una
+     */
+    @Override
+    public void guardarTodas(List<Venta> ventas) {
+        Map<Integer, List<Venta>> porParticion = new TreeMap<>();
+        for (Venta venta : ventas) {
+            if (venta == null) {
+                throw new IllegalArgumentException("La venta no puede ser nula");
+            }
+            porParticion.computeIfAbsent(particiones.particion(venta.getComic().getId()), p -> new ArrayList<>())
+                    .add(venta);
+        }
+        porParticion.forEach((particion, propias) -> {
+            particiones.ejecutar(particion, repositorio -> {
+                repositorio.guardarTodas(propias);
+                return null;
+            });
+            for (Venta venta : propias) {
+                particionPorVenta.put(venta.getId(), particion);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Venta> buscarPorId(Identificador id) {
+        Integer particion = id == null ? null : particionPorVenta.get(id);
+        if (particion == null) {
+            return Optional.empty();
+        }
+        return particiones.ejecutar(particion, repositorio -> repositorio.buscarPorId(id));
+    }
+
+    @Override
+    public List<Venta> buscarTodas() {
+        return juntar(IVentaRepository::buscarTodas);
+    }
+
+    @Override
+    public List<Venta> buscarPorUsuario(Usuario usuario) {
+        if (usuario == null) {
+            return new ArrayList<>();
+        }
+        return juntar(repositorio -> repositorio.buscarPorUsuario(usuario));
+    }
+
+    @Override
+    public List<Venta> buscarPorComic(Comic comic) {
+        if (comic == null) {
+            return new ArrayList<>();
+        }
+        return particiones.ejecutar(comic.getId(), repositorio -> repositorio.buscarPorComic(comic));
+    }
+
+    @Override
+    public List<Venta> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        if (fechaInicio == null || fechaFin == null) {
+            return new ArrayList<>();
+        }
+        return juntar(repositorio -> repositorio.buscarPorFecha(fechaInicio, fechaFin));
+    }
+
+    @Override
+    public void actualizar(Venta venta) {
+        if (venta == null) {
+            throw new IllegalArgumentException("La venta no puede ser nula");
+        }
+        particiones.ejecutar(venta.getComic().getId(), repositorio -> {
+            repositorio.actualizar(venta);
+            return null;
+        });
+    }
+
+    @Override
+    public void eliminar(Identificador id) {
+        if (id == null) {
+            throw new IllegalArgumentException("El ID no puede ser nulo");
+        }
+        Integer particion = particionPorVenta.get(id);
+        if (particion == null) {
+            throw new VentaNoEncontradaException("Venta no encontrada con ID: " + id);
+        }
+        particiones.ejecutar(particion, repositorio -> {
+            repositorio.eliminar(id);
+            return null;
+        });
+        particionPorVenta.remove(id);
+    }
+
+    @Override
+    public void close() {
+        particiones.close();
+    }
+
+    /**
+     * Busca en todas las particiones y junta los resultados en el orden de las ventas
+     */
+    private List<Venta> juntar(Function<IVentaRepository, List<Venta>> busqueda) {
+        List<Venta> resultado = new ArrayList<>();
+        particiones.enTodas(busqueda).forEach(resultado::addAll);
+        resultado.sort(null);
+        return resultado;
+    }
+}
@@ -0,0 +1,106 @@
+package infrastructure.versiones;
+
+/**
+ * Versiones del estado de un repositorio, de la más nueva a la más vieja.
+ *
+ * El estado debe ser un valor inmutable (por ejemplo, una colección
+ * persistente): publicar una versión nueva no modifica las anteriores, que
+ * siguen disponibles para las lecturas que fijaron una versión global más
+ * vieja. Se conservan solo la última publicada y, para la última versión
+ * confirmada y cada versión fijada, la más nueva que no la supera; las
+ * demás se descartan al publicar.
+ *
+ * Las escrituras de un mismo repositorio deben estar serializadas; las
+ * lecturas no bloquean.
+ *
+ * @param <E> tipo del estado del repositorio
+ */
+public final class HistorialVersiones<E> {
+    private final VersionesRepositorios versiones;
+    private volatile Version<E> ultima;
+
+    private record Version<E>(long numero, E estado, Version<E> anterior) { }
+
+    /**
+     * @param inicial estado visible para cualquier versión anterior a la primera escritura
+     */
+    public HistorialVersiones(E inicial) {
+        this(VersionesRepositorios.global(), inicial);
+    }
+
+    HistorialVersiones(VersionesRepositorios versiones, E inicial) {
+        this.versiones = versiones;
+        this.ultima = new Version<>(0, inicial, null);
+    }
+
+    /**
+     * Estado que corresponde a la versión fijada por el hilo actual, o el
+     * último publicado si no fijó ninguna
+     */
+    public E leer() {
+        Version<E> version = ultima;
+        long fijada = versiones.fijadaEnHilo();
+        if (fijada < 0) {
+            return version.estado();
+        }
+        while (version.numero() > fijada && version.anterior() != null) {
+            version = version.anterior();
+        }
+        return version.estado();
+    }
+
+    /**
+     * Último estado publicado, sobre el que arman el siguiente las escrituras
+     */
+    public E ultimo() {
+        return ultima.estado();
+    }
+
+    /**
+     * Publica un estado nuevo como parte de la versión en curso. Si la
+     * versión en curso ya tenía un estado de este repositorio, lo reemplaza.
+     */
+    public void publicar(E estado) {
+        long numero = versiones.abrirEscritura();
+        try {
+            Version<E> base = ultima;
+            if (base.numero() == numero) {
+                base = base.anterior();
+            }
+            ultima = new Version<>(numero, estado, conservar(base, numero, versiones.horizonte()));
+        } finally {
+            versiones.cerrarEscritura();
+        }
+    }
+
+    /**
+     * Descarta las versiones que ninguna lectura puede pedir. Una versión hace
+     * falta si alguna lectura puede fijar un número desde el suyo hasta antes
+     * del de la siguiente conservada; nada anterior al horizonte hace falta.
+     *
+     * @param siguiente número de la versión conservada que sigue a esta
+     */
+    private Version<E> conservar(Version<E> version, long siguiente, long horizonte) {
+        if (version == null) {
+            return null;
+        }
+        if (!versiones.esNecesaria(version.numero(), siguiente)) {
+            return conservar(version.anterior(), siguiente, horizonte);
+        }
+        Version<E> anterior = version.numero() <= horizonte
+                ? null
+                : conservar(version.anterior(), version.numero(), horizonte);
+        return anterior == version.anterior() ? version : new Version<>(version.numero(), version.estado(), anterior);
+    }
+
+    /**
+     * Cantidad de versiones conservadas
+     */
+    public int cantidadVersiones() {
+        int cantidad = 0;
+        for (Version<E> version = ultima; version != null; version = version.anterior()) {
+            cantidad++;
+        }
+        return cantidad;
+    }
+}
@@ -0,0 +1,211 @@
+package infrastructure.versiones;
+
+import interfaces.repository.IVersionesRepositorios;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Versión global de los repositorios en memoria del proceso (control de
+ * concurrencia multiversión).
+ *
+ * Cada escritura de un repositorio publica su estado nuevo etiquetado con la
+ * versión en curso, que es la confirmada más uno. La versión en curso se
+ * confirma cuando no queda ninguna escritura abierta, así las escrituras de
+ * una misma operación (por ejemplo, la venta, la reserva convertida y la baja
+ * del cómic de una compra) se confirman juntas si se agrupan con
+ * escribirVersion().
+ *
+ * Una lectura que fija una versión ve en todos los repositorios el estado de
+ * esa versión confirmada, sin bloquear a los escritores ni ser bloqueada por
+ * ellos. Cada repositorio guarda las versiones que todavía puede pedir alguna
+ * lectura fijada; las demás se descartan con su siguiente escritura.
+ *
+ * Si las escrituras se superponen sin pausa la versión en curso tarda en
+ * confirmarse y las lecturas fijadas ven un estado más viejo, pero siempre
+ * completo.
+ */
+public final class VersionesRepositorios implements IVersionesRepositorios {
+    private static final VersionesRepositorios GLOBAL = new VersionesRepositorios();
+
+    // protegidos por this
+    private long confirmada;
+    private int escriturasAbiertas;
+    // versión fijada -> cantidad de lecturas que la usan
+    private final TreeMap<Long, Integer> fijadas = new TreeMap<>();
+
+    private final ThreadLocal<VersionFijada> fijadaEnHilo = new ThreadLocal<>();
+
+    private VersionesRepositorios() {
+    }
+
+    /**
+     * Versión compartida por todos los repositorios del proceso
+     */
+    public static VersionesRepositorios global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Versión fijada por una lectura; mientras no se libere, los repositorios
+     * conservan su estado en esa versión.
+     */
+    public final class VersionFijada implements AutoCloseable {
+        private final long numero;
+        private final VersionFijada anterior;
+        private boolean liberada;
+
+        private VersionFijada(long numero, VersionFijada anterior) {
+            this.numero = numero;
+            this.anterior = anterior;
+        }
+
+        public long numero() { return numero; }
+
+        @Override
+        public void close() {
+            if (liberada) {
+                return;
+            }
+            liberada = true;
+            liberar(this);
+        }
+    }
+
+    /**
+     * Fija la última versión confirmada para las lecturas del hilo actual,
+     * hasta cerrar la VersionFijada. Si el hilo ya tenía una fijada, las
+     * lecturas siguen viendo esa.
+     */
+    public VersionFijada fijar() {
+        VersionFijada actual = fijadaEnHilo.get();
+        long numero;
+        synchronized (this) {
+            numero = actual == null ? confirmada : actual.numero;
+            fijadas.merge(numero, 1, Integer::sum);
+        }
+        VersionFijada nueva = new VersionFijada(numero, actual);
+        fijadaEnHilo.set(nueva);
+        return nueva;
+    }
+
+    private void liberar(VersionFijada version) {
+        synchronized (this) {
+            fijadas.computeIfPresent(version.numero, (numero, cantidad) -> cantidad == 1 ? null : cantidad - 1);
+        }
+        if (fijadaEnHilo.get() == version) {
+            if (version.anterior == null) {
+                fijadaEnHilo.remove();
+            } else {
+                fijadaEnHilo.set(version.anterior);
+            }
+        }
+    }
+
+    @Override
+    public <T> T leerVersionFija(Supplier<T> lectura) {
+        VersionFijada fijada = fijar();
+        try {
+            return lectura.get();
+        } finally {
+            fijada.close();
+        }
+    }
+
+    @Override
+    public <T> T escribirVersion(Supplier<T> escritura) {
+        abrirEscritura();
+        try {
+            return escritura.get();
+        } finally {
+            cerrarEscritura();
+        }
+    }
+
+    /**
+     * Envuelve una operación que se ejecutará en otro hilo (por ejemplo, el
+     * dueño de una partición) para que lea la misma versión que fijó el hilo
+     * que la envía. Quien envía debe mantener su versión fijada hasta que la
+     * operación termine.
+     */
+    public <T, R> Function<T, R> conVersionDelHilo(Function<T, R> operacion) {
+        VersionFijada fijada = fijadaEnHilo.get();
+        if (fijada == null) {
+            return operacion;
+        }
+        return argumento -> {
+            VersionFijada previa = fijadaEnHilo.get();
+            fijadaEnHilo.set(new VersionFijada(fijada.numero, null));
+            try {
+                return operacion.apply(argumento);
+            } finally {
+                if (previa == null) {
+                    fijadaEnHilo.remove();
+                } else {
+                    fijadaEnHilo.set(previa);
+                }
+            }
+        };
+    }
+
+    /**
+     * Abre una escritura y devuelve la versión con que debe etiquetarla
+     */
+    synchronized long abrirEscritura() {
+        escriturasAbiertas++;
+        return confirmada + 1;
+    }
+
+    synchronized void cerrarEscritura() {
+        if (--escriturasAbiertas == 0) {
+            confirmada++;
+        }
+    }
+
+    /**
+     * Versión que leen las lecturas del hilo actual, o -1 si no fijó ninguna
+     */
+    long fijadaEnHilo() {
+        VersionFijada fijada = fijadaEnHilo.get();
+        return fijada == null ? -1 : fijada.numero;
+    }
+
+    /**
+     * Versión más vieja que todavía puede leerse: la menor fijada, o la
+     * confirmada si no hay lecturas fijadas
+     */
+    synchronized long horizonte() {
+        Map.Entry<Long, Integer> menor = fijadas.firstEntry();
+        return menor == null ? confirmada : menor.getKey();
+    }
+
+    /**
+     * Si alguna lectura puede fijar una versión desde la indicada hasta antes
+     * de la otra: la última confirmada o alguna ya fijada. Mientras dura una
+     * escritura la confirmada no avanza, así que la respuesta no cambia.
+     */
+    synchronized boolean esNecesaria(long desde, long hasta) {
+        if (confirmada >= desde && confirmada < hasta) {
+            return true;
+        }
+        Long fijada = fijadas.ceilingKey(desde);
+        return fijada != null && fijada < hasta;
+    }
+
+    public synchronized long confirmada() {
+        return confirmada;
+    }
+
+    /**
+     * Cantidad de lecturas con una versión fijada en este momento
+     */
+    public synchronized int lecturasFijadas() {
+        int total = 0;
+        for (int cantidad : fijadas.values()) {
+            total += cantidad;
+        }
+        return total;
+    }
+}
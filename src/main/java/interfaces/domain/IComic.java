@@ -1,9 +1,10 @@
 package interfaces.domain;
 
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 
 public interface IComic {
-    String getId();
+    Identificador getId();
     String getNombre();
     String getDescription();
     Divisa getPrecio();
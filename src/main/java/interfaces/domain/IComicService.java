@@ -1,6 +1,8 @@
 package interfaces.domain;
 
 import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
 import domain.valueobjects.Divisa;
 import java.util.List;
 
@@ -57,6 +59,15 @@ public interface IComicService {
      */
     List<Comic> buscarComics(String criterio);
     
+    /**
+     * Obtiene la descripción de un cómic, que el repositorio puede guardar
+     * fuera del heap.
+     * 
+     * @param comic El cómic
+     * @return La descripción del cómic
+     */
+    String obtenerDescripcion(Comic comic);
+    
     /**
      * Verifica si ya existe un cómic con el mismo nombre.
      * 
@@ -71,4 +82,15 @@ public interface IComicService {
      * @return Lista de comics disponibles
      */
     List<Comic> obtenerComicsDisponibles();
+
+    /**
+     * Obtiene una página de los comics disponibles (sin reservas activas),
+     * sin cargar el catálogo completo.
+     *
+     * @param orden Orden del listado
+     * @param cursor Cursor devuelto por la página anterior, null para la primera
+     * @param tamano Cantidad máxima de comics de la página
+     * @return La página de comics disponibles
+     */
+    Pagina<Comic> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package interfaces.domain;
+
+import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Divisa;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Versión asincrónica de IComicService: mismas operaciones y reglas, pero cada
+ * una devuelve un futuro que se completa cuando terminó, incluida su escritura
+ * en los repositorios. Los errores de negocio completan el futuro con la misma
+ * excepción que lanzaría la versión sincrónica.
+ */
+public interface IComicServiceAsincrono {
+    CompletableFuture<Comic> agregarComic(String nombre, String descripcion, Divisa precio);
+    CompletableFuture<Boolean> puedeEliminarComic(Comic comic);
+    CompletableFuture<Void> eliminarComic(Comic comic);
+    CompletableFuture<Comic> actualizarComic(Comic comic);
+    CompletableFuture<List<Comic>> buscarComics(String criterio);
+    CompletableFuture<String> obtenerDescripcion(Comic comic);
+    CompletableFuture<Boolean> nombreComicYaExiste(String nombre);
+    CompletableFuture<List<Comic>> obtenerComicsDisponibles();
+    CompletableFuture<Pagina<Comic>> obtenerPaginaDisponibles(OrdenComics orden, String cursor, int tamano);
+}
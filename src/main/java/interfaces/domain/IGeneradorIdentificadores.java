@@ -0,0 +1,19 @@
+package interfaces.domain;
+
+import domain.valueobjects.Identificador;
+
+/**
+ * Estrategia para generar los identificadores de cómics, reservas y ventas.
+ *
+ * Las implementaciones deben ser thread-safe, ya que las entidades
+ * se pueden crear desde varios hilos a la vez.
+ */
+public interface IGeneradorIdentificadores {
+
+    /**
+     * Genera un identificador nuevo y único.
+     *
+     * @return identificador generado
+     */
+    Identificador generar();
+}
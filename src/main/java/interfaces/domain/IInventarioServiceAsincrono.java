@@ -0,0 +1,23 @@
+package interfaces.domain;
+
+import domain.entities.Comic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Versión asincrónica de IInventarioService: mismas operaciones y reglas, pero cada
+ * una devuelve un futuro que se completa cuando terminó, incluida su escritura
+ * en los repositorios. Los errores de negocio completan el futuro con la misma
+ * excepción que lanzaría la versión sincrónica.
+ */
+public interface IInventarioServiceAsincrono {
+    CompletableFuture<List<Comic>> obtenerComicsDisponibles();
+    CompletableFuture<List<Comic>> obtenerComicsReservados();
+    CompletableFuture<Map<Comic, Long>> obtenerComicsMasVendidos(int limite);
+    CompletableFuture<Map<Comic, Long>> obtenerComicsMasReservados(int limite);
+    CompletableFuture<Map<String, Long>> obtenerEstadisticasInventario();
+    CompletableFuture<Boolean> verificarDisponibilidad(Comic comic);
+    CompletableFuture<List<Comic>> obtenerComicsSinActividad();
+}
@@ -0,0 +1,62 @@
+package interfaces.domain;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Ejecuta los recorridos de los reportes sobre colecciones grandes (todas las
+ * ventas, todas las reservas).
+ *
+ * Las implementaciones pueden repartir la colección entre varios hilos; por
+ * eso los acumuladores se combinan al final y las funciones que reciben no
+ * deben depender del orden en que se visitan los elementos.
+ */
+public interface IMotorReportes {
+
+    /**
+     * Acumula todos los elementos. Cada acumulador lo usa un solo hilo a la
+     * vez; al terminar se combinan en uno.
+     *
+     * @param elementos elementos a recorrer
+     * @param nuevo crea un acumulador vacío
+     * @param acumular agrega un elemento a un acumulador
+     * @param combinar agrega el segundo acumulador al primero
+     * @return el acumulador con todos los elementos
+     */
+    <T, A> A agregar(List<? extends T> elementos, Supplier<A> nuevo,
+                     BiConsumer<A, ? super T> acumular, BiConsumer<A, A> combinar);
+
+    /**
+     * Elementos que cumplen la condición, en el mismo orden que en la lista
+     *
+     * @param elementos elementos a recorrer
+     * @param condicion condición que deben cumplir
+     * @return los elementos que la cumplen
+     */
+    <T> List<T> filtrar(List<? extends T> elementos, Predicate<? super T> condicion);
+
+    /**
+     * Motor que recorre todo en el hilo que llama
+     */
+    static IMotorReportes secuencial() {
+        return new IMotorReportes() {
+            @Override
+            public <T, A> A agregar(List<? extends T> elementos, Supplier<A> nuevo,
+                                    BiConsumer<A, ? super T> acumular, BiConsumer<A, A> combinar) {
+                A acumulador = nuevo.get();
+                for (T elemento : elementos) {
+                    acumular.accept(acumulador, elemento);
+                }
+                return acumulador;
+            }
+
+            @Override
+            public <T> List<T> filtrar(List<? extends T> elementos, Predicate<? super T> condicion) {
+                return elementos.stream().filter(condicion).collect(Collectors.toList());
+            }
+        };
+    }
+}
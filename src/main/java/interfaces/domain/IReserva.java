@@ -3,13 +3,14 @@ package interfaces.domain;
 import domain.entities.Comic;
 import domain.entities.Usuario;
 import domain.enums.EstadoReserva;
+import domain.valueobjects.Identificador;
 
 import java.time.LocalDateTime;
 
 public interface IReserva {
     LocalDateTime getFechaReserva();
     LocalDateTime getFechaExpiracionReserva();
-    String getId();
+    Identificador getId();
     Comic getComic();
     Usuario getUsuario();
     EstadoReserva getEstadoReserva();
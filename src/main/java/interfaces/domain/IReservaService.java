@@ -3,6 +3,9 @@ package interfaces.domain;
 import domain.entities.Reserva;
 import domain.entities.Usuario;
 import domain.entities.Comic;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
 import java.util.List;
 
 /**
@@ -32,6 +35,18 @@ public interface IReservaService {
      */
     Reserva crearReserva(Usuario usuario, Comic comic);
     
+    /**
+     * Crea varias reservas de una vez con las mismas reglas que crearReserva.
+     * 
+     * Las solicitudes se evalúan en orden y cada una ve las reservas creadas por
+     * las anteriores del mismo lote. Una solicitud rechazada no impide las demás,
+     * y todas las reservas creadas se guardan juntas al final.
+     * 
+     * @param solicitudes Pares usuario-cómic a reservar
+     * @return Un resultado por solicitud, en el mismo orden
+     */
+    List<ResultadoReserva> crearReservas(List<SolicitudReserva> solicitudes);
+    
     /**
      * Procesa la expiración automática de reservas vencidas.
      * 
@@ -62,4 +77,13 @@ public interface IReservaService {
      * @throws IllegalStateException si la reserva no se puede cancelar
      */
     void cancelarReserva(Reserva reserva);
+    
+    /**
+     * Obtiene el historial de las reservas de un cómic: cada creación,
+     * cancelación, expiración y conversión en venta, en el orden en que ocurrió.
+     * 
+     * @param comic El cómic
+     * @return Eventos de las reservas del cómic; vacío si el repositorio no registra eventos
+     */
+    List<EventoReserva> obtenerHistorialComic(Comic comic);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package interfaces.domain;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Versión asincrónica de IReservaService: mismas operaciones y reglas, pero cada
+ * una devuelve un futuro que se completa cuando terminó, incluida su escritura
+ * en los repositorios. Los errores de negocio completan el futuro con la misma
+ * excepción que lanzaría la versión sincrónica.
+ */
+public interface IReservaServiceAsincrono {
+    CompletableFuture<Boolean> puedeReservar(Usuario usuario, Comic comic);
+    CompletableFuture<Reserva> crearReserva(Usuario usuario, Comic comic);
+    CompletableFuture<List<ResultadoReserva>> crearReservas(List<SolicitudReserva> solicitudes);
+    CompletableFuture<List<Reserva>> procesarReservasExpiradas();
+    CompletableFuture<Boolean> estaDisponibleParaReserva(Comic comic);
+    CompletableFuture<List<Reserva>> obtenerReservasActivasDelUsuario(Usuario usuario);
+    CompletableFuture<Void> cancelarReserva(Reserva reserva);
+    CompletableFuture<List<EventoReserva>> obtenerHistorialComic(Comic comic);
+}
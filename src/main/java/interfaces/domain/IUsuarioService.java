@@ -1,6 +1,8 @@
 package interfaces.domain;
 
 import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
 import java.util.List;
 
 /**
@@ -63,4 +65,14 @@ public interface IUsuarioService {
      * @return Lista de usuarios que coinciden con el criterio
      */
     List<Usuario> buscarUsuarios(String criterio);
+
+    /**
+     * Obtiene una página de los usuarios registrados, sin cargar la lista completa.
+     *
+     * @param orden Orden del listado
+     * @param cursor Cursor devuelto por la página anterior, null para la primera
+     * @param tamano Cantidad máxima de usuarios de la página
+     * @return La página de usuarios
+     */
+    Pagina<Usuario> obtenerPaginaUsuarios(OrdenUsuarios orden, String cursor, int tamano);
 }
\ No newline at end of file
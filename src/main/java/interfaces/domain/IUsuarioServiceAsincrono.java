@@ -0,0 +1,24 @@
+package interfaces.domain;
+
+import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Versión asincrónica de IUsuarioService: mismas operaciones y reglas, pero cada
+ * una devuelve un futuro que se completa cuando terminó, incluida su escritura
+ * en los repositorios. Los errores de negocio completan el futuro con la misma
+ * excepción que lanzaría la versión sincrónica.
+ */
+public interface IUsuarioServiceAsincrono {
+    CompletableFuture<Usuario> registrarUsuario(String nombre, String apellido, String email);
+    CompletableFuture<Boolean> emailYaExiste(String email);
+    CompletableFuture<Usuario> actualizarUsuario(Usuario usuario);
+    CompletableFuture<Boolean> puedeEliminarUsuario(Usuario usuario);
+    CompletableFuture<Void> eliminarUsuario(Usuario usuario);
+    CompletableFuture<List<Usuario>> buscarUsuarios(String criterio);
+    CompletableFuture<Pagina<Usuario>> obtenerPaginaUsuarios(OrdenUsuarios orden, String cursor, int tamano);
+}
@@ -3,11 +3,12 @@ package interfaces.domain;
 import domain.entities.Comic;
 import domain.entities.Usuario;
 import domain.valueobjects.Divisa;
+import domain.valueobjects.Identificador;
 
 import java.time.LocalDateTime;
 
 public interface IVenta {
-    String getId();
+    Identificador getId();
     Usuario getUsuario();
     Comic getComic();
     LocalDateTime getFechaVenta();
@@ -4,6 +4,9 @@ import domain.entities.Venta;
 import domain.entities.Usuario;
 import domain.entities.Comic;
 import domain.entities.Reserva;
+import exceptions.ComicNoDisponibleParaVentaException;
+import exceptions.VentaNoProcesableException;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,6 +37,20 @@ public interface IVentaService {
      */
     Venta procesarVenta(Usuario usuario, Comic comic);
     
+    /**
+     * Procesa la compra de un carrito de cómics como una sola transacción.
+     * Aplica a cada cómic las mismas reglas que procesarVenta: si alguno no está
+     * disponible para el usuario no se vende ninguno. Las reservas del usuario
+     * sobre los cómics del carrito se convierten en venta.
+     * 
+     * @param usuario El usuario que realiza la compra
+     * @param comics Los cómics del carrito, sin repetir
+     * @return Las ventas procesadas, en el orden del carrito
+     * @throws ComicNoDisponibleParaVentaException si algún cómic no está disponible
+     * @throws VentaNoProcesableException si no se pudo registrar la compra; no queda nada vendido
+     */
+    List<Venta> procesarCompra(Usuario usuario, List<Comic> comics);
+    
     /**
      * Verifica si existe una reserva activa del usuario para el cómic
      * y la procesa para convertirla en venta.
@@ -0,0 +1,24 @@
+package interfaces.domain;
+
+import domain.entities.Comic;
+import domain.entities.Reserva;
+import domain.entities.Usuario;
+import domain.entities.Venta;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Versión asincrónica de IVentaService: mismas operaciones y reglas, pero cada
+ * una devuelve un futuro que se completa cuando terminó, incluida su escritura
+ * en los repositorios. Los errores de negocio completan el futuro con la misma
+ * excepción que lanzaría la versión sincrónica.
+ */
+public interface IVentaServiceAsincrono {
+    CompletableFuture<Boolean> puedeComprar(Usuario usuario, Comic comic);
+    CompletableFuture<Venta> procesarVenta(Usuario usuario, Comic comic);
+    CompletableFuture<List<Venta>> procesarCompra(Usuario usuario, List<Comic> comics);
+    CompletableFuture<Optional<Reserva>> verificarYProcesarReserva(Usuario usuario, Comic comic);
+    CompletableFuture<Boolean> estaDisponibleParaVenta(Comic comic, Usuario usuario);
+}
@@ -0,0 +1,36 @@
+package interfaces.metricas;
+
+/**
+ * Estadísticas de una cache en un momento dado.
+ *
+ * @param nombre nombre de la cache
+ * @param aciertos consultas respondidas desde la cache
+ * @param fallos consultas que tuvieron que cargar el valor
+ * @param desalojos entradas que salieron por falta de espacio, incluidas las rechazadas
+ * @param rechazos entradas nuevas que la admisión no dejó entrar a la región principal
+ * @param invalidaciones entradas quitadas porque cambiaron sus datos
+ * @param entradas cantidad de entradas actuales
+ * @param peso peso total de las entradas actuales
+ * @param capacidad peso máximo
+ */
+public record EstadisticasCache(String nombre,
+                                long aciertos,
+                                long fallos,
+                                long desalojos,
+                                long rechazos,
+                                long invalidaciones,
+                                int entradas,
+                                long peso,
+                                long capacidad) {
+
+    public long consultas() {
+        return aciertos + fallos;
+    }
+
+    /**
+     * Proporción de consultas respondidas desde la cache, entre 0 y 1
+     */
+    public double proporcionAciertos() {
+        return consultas() == 0 ? 0 : (double) aciertos / consultas();
+    }
+}
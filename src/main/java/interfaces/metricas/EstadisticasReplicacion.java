@@ -0,0 +1,29 @@
+package interfaces.metricas;
+
+/**
+ * Estado de un flujo de replicación, visto desde el primario (uno por seguidor)
+ * o desde un seguidor.
+ *
+ * @param nombre quién replica hacia quién
+ * @param conectado si el flujo sigue activo
+ * @param ultimaSecuencia último cambio publicado en el primario que se conoce
+ * @param secuenciaReplicada último cambio enviado (en el primario) o aplicado (en el seguidor)
+ * @param cambios cantidad de cambios enviados o aplicados desde que empezó el flujo
+ * @param retrasoMilis antigüedad de lo que todavía no llegó: en el primario, la del
+ *                     cambio pendiente más viejo; en el seguidor, lo que tardó en
+ *                     aplicarse el último cambio, o desde cuándo está desactualizado
+ */
+public record EstadisticasReplicacion(String nombre,
+                                      boolean conectado,
+                                      long ultimaSecuencia,
+                                      long secuenciaReplicada,
+                                      long cambios,
+                                      long retrasoMilis) {
+
+    /**
+     * Cambios publicados en el primario que todavía no se replicaron
+     */
+    public long retrasoCambios() {
+        return Math.max(0, ultimaSecuencia - secuenciaReplicada);
+    }
+}
@@ -0,0 +1,39 @@
+package interfaces.repository;
+
+import java.util.function.LongFunction;
+
+/**
+ * Almacenamiento externo (fuera del heap) de las descripciones de los cómics.
+ *
+ * Cada descripción guardada se identifica por una referencia opaca que el
+ * cómic conserva en lugar del texto. Solo el repositorio de cómics usa el
+ * almacén; el cómic recibe únicamente la función con la que leer su texto.
+ */
+public interface IAlmacenDescripciones {
+
+    /**
+     * Guarda una descripción.
+     *
+     * @param descripcion texto a guardar
+     * @return referencia para leerla después
+     */
+    long guardar(String descripcion);
+
+    /**
+     * Lee una descripción guardada previamente.
+     *
+     * @param referencia referencia entregada por guardar
+     * @return el texto de la descripción
+     */
+    String leer(long referencia);
+
+    /**
+     * Lector de las descripciones guardadas hasta ahora para recorrer muchas
+     * de una vez, como una búsqueda o la escritura del catálogo: no pasa por
+     * la caché de lecturas recientes ni se sincroniza en cada lectura. Las
+     * descripciones guardadas después se leen como con leer.
+     *
+     * @return función que lee la descripción de una referencia
+     */
+    LongFunction<String> lectorMasivo();
+}
@@ -1,14 +1,49 @@
 package interfaces.repository;
 
 import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
+import domain.valueobjects.Identificador;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface IComicRepository {
     void guardar(Comic comic);
-    Optional<Comic> buscarPorId(String id);
+    Optional<Comic> buscarPorId(Identificador id);
     List<Comic> buscarTodos();
     List<Comic> buscarPorNombre(String nombre);
     void actualizar(Comic comic);
-    void eliminar(String id);
+    void eliminar(Identificador id);
+
+    // Descripción del cómic, esté en memoria o en el almacén del repositorio
+    default String leerDescripcion(Comic comic) { return comic.getDescription(); }
+
+    // Cómics cuyo nombre o descripción contienen el texto, sin distinguir
+    // mayúsculas; un repositorio con las descripciones fuera del heap las
+    // recorre de una vez en lugar de leerlas de a una
+    default List<Comic> buscarPorTexto(String texto) {
+        String buscado = texto.trim().toLowerCase();
+        return buscarTodos().stream()
+                .filter(comic -> comic.getNombre().toLowerCase().contains(buscado)
+                        || leerDescripcion(comic).toLowerCase().contains(buscado))
+                .collect(Collectors.toList());
+    }
+
+    // Altas y bajas de varios cómics de una vez; un repositorio que persiste
+    // en archivo puede escribirlo una sola vez en lugar de una por cómic
+    default void guardarTodos(List<Comic> comics) { comics.forEach(this::guardar); }
+    default void eliminarTodos(List<Identificador> ids) { ids.forEach(this::eliminar); }
+
+    // Página del catálogo en el orden indicado que sigue al cursor (null para la
+    // primera); un repositorio sin índice por orden filtra y ordena todo el catálogo
+    default Pagina<Comic> buscarPagina(OrdenComics orden, String cursor, int tamano) {
+        return Pagina.deLista(buscarTodos(), orden::clave, cursor, tamano);
+    }
+
+    // Todo el catálogo en orden, pedido de a una página a la vez
+    default Stream<Comic> recorrer(OrdenComics orden, int tamanoPagina) {
+        return Pagina.recorrer(cursor -> buscarPagina(orden, cursor, tamanoPagina));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package interfaces.repository;
+
+import domain.entities.Comic;
+
+import java.util.List;
+
+/**
+ * Índice del inventario que se mantiene con cada escritura de los
+ * repositorios de cómics, ventas y reservas, para responder los reportes sin
+ * recorrerlos.
+ *
+ * Las respuestas corresponden a la versión de los repositorios que fijó el
+ * hilo que consulta, si fijó alguna. Los listados salen en el orden en que
+ * cada cómic entró al índice por primera vez, que puede no coincidir con el
+ * del catálogo: un cómic eliminado y vuelto a agregar conserva su lugar
+ * original.
+ */
+public interface IIndiceInventario {
+
+    /**
+     * Cómics del catálogo que nunca se vendieron ni reservaron, en el orden
+     * en que entraron al índice
+     */
+    List<Comic> comicsSinActividad();
+
+    /**
+     * Cantidad de cómics del catálogo que nunca se vendieron ni reservaron
+     */
+    int contarSinActividad();
+
+    /**
+     * Cómics del catálogo sin reservas activas, en el orden en que entraron
+     * al índice
+     */
+    List<Comic> comicsDisponibles();
+
+    /**
+     * Cantidad de cómics del catálogo sin reservas activas
+     */
+    int contarDisponibles();
+
+    /**
+     * Cómics con alguna reserva activa, en el orden en que entraron al índice
+     */
+    List<Comic> comicsReservados();
+
+    /**
+     * Cantidad de cómics con alguna reserva activa
+     */
+    int contarReservados();
+
+    /**
+     * Cantidad de reservas activas
+     */
+    int contarReservasActivas();
+
+    /**
+     * Si el cómic tiene alguna reserva activa
+     */
+    boolean estaReservado(Comic comic);
+}
@@ -4,13 +4,19 @@ import domain.entities.Reserva;
 import domain.entities.Usuario;
 import domain.entities.Comic;
 import domain.enums.EstadoReserva;
+import domain.eventos.EventoReserva;
+import domain.valueobjects.Identificador;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDateTime;
 
 public interface IReservaRepository {
     void guardar(Reserva reserva);
-    Optional<Reserva> buscarPorId(String id);
+
+    // Guarda varias reservas nuevas de una vez; las implementaciones que pueden
+    // agruparlas (por partición, en un solo agregado al registro) lo sobrescriben
+    default void guardarTodas(List<Reserva> reservas) { reservas.forEach(this::guardar); }
+    Optional<Reserva> buscarPorId(Identificador id);
     List<Reserva> buscarTodas();
     List<Reserva> buscarPorUsuario(Usuario usuario);
     List<Reserva> buscarPorComic(Comic comic);
@@ -18,5 +24,17 @@ public interface IReservaRepository {
     List<Reserva> buscarReservasExpiradas();
     List<Reserva> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin);
     void actualizar(Reserva reserva);
-    void eliminar(String id);
+    void eliminar(Identificador id);
+
+    // Transiciones del ciclo de vida de una reserva ya modificada;
+    // un repositorio que no distingue el motivo simplemente la actualiza
+    default void registrarCancelacion(Reserva reserva) { actualizar(reserva); }
+    default void registrarExpiracion(Reserva reserva) { actualizar(reserva); }
+    default void registrarConversionEnVenta(Reserva reserva) { actualizar(reserva); }
+
+    // Eventos del ciclo de vida de una reserva, o de todas las de un cómic, en
+    // el orden en que ocurrieron; un repositorio que no registra eventos no
+    // tiene historial y devuelve una lista vacía
+    default List<EventoReserva> historial(Identificador reservaId) { return List.of(); }
+    default List<EventoReserva> historialPorComic(Comic comic) { return List.of(); }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package interfaces.repository;
 
 import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IUsuarioRepository {
     void guardar(Usuario usuario);
@@ -11,4 +14,15 @@ public interface IUsuarioRepository {
     List<Usuario> buscarTodos();
     void actualizar(Usuario usuario);
     void eliminar(int id);
+
+    // Página de usuarios en el orden indicado que sigue al cursor (null para la
+    // primera); un repositorio sin índice por orden filtra y ordena todos los usuarios
+    default Pagina<Usuario> buscarPagina(OrdenUsuarios orden, String cursor, int tamano) {
+        return Pagina.deLista(buscarTodos(), orden::clave, cursor, tamano);
+    }
+
+    // Todos los usuarios en orden, pedidos de a una página a la vez
+    default Stream<Usuario> recorrer(OrdenUsuarios orden, int tamanoPagina) {
+        return Pagina.recorrer(cursor -> buscarPagina(orden, cursor, tamanoPagina));
+    }
 }
\ No newline at end of file
@@ -3,17 +3,22 @@ package interfaces.repository;
 import domain.entities.Venta;
 import domain.entities.Usuario;
 import domain.entities.Comic;
+import domain.valueobjects.Identificador;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDateTime;
 
 public interface IVentaRepository {
     void guardar(Venta venta);
-    Optional<Venta> buscarPorId(String id);
+
+    // Guarda varias ventas nuevas de una vez; las implementaciones que pueden
+    // agruparlas (por partición, por nodo) lo sobrescriben
+    default void guardarTodas(List<Venta> ventas) { ventas.forEach(this::guardar); }
+    Optional<Venta> buscarPorId(Identificador id);
     List<Venta> buscarTodas();
     List<Venta> buscarPorUsuario(Usuario usuario);
     List<Venta> buscarPorComic(Comic comic);
     List<Venta> buscarPorFecha(LocalDateTime fechaInicio, LocalDateTime fechaFin);
     void actualizar(Venta venta);
-    void eliminar(String id);
+    void eliminar(Identificador id);
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package interfaces.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Versiones consistentes de todos los repositorios a la vez.
+ *
+ * Las lecturas de una operación larga (un reporte que consulta cómics,
+ * reservas y ventas por separado) pueden ver una misma versión de todos los
+ * repositorios, y las escrituras de una operación que toca varios pueden
+ * quedar visibles juntas.
+ */
+public interface IVersionesRepositorios {
+
+    /**
+     * Ejecuta las lecturas sobre la última versión confirmada de todos los
+     * repositorios, sin bloquear las escrituras que lleguen mientras tanto.
+     *
+     * @param lectura consultas a los repositorios
+     * @return el resultado de las consultas
+     */
+    <T> T leerVersionFija(Supplier<T> lectura);
+
+    /**
+     * Ejecuta las escrituras como parte de una misma versión: las lecturas
+     * con una versión fijada ven todas o ninguna.
+     *
+     * @param escritura cambios en los repositorios
+     * @return el resultado de los cambios
+     */
+    <T> T escribirVersion(Supplier<T> escritura);
+
+    /**
+     * Repositorios sin versiones: lecturas y escrituras se ejecutan tal cual
+     */
+    static IVersionesRepositorios sinVersiones() {
+        return new IVersionesRepositorios() {
+            @Override
+            public <T> T leerVersionFija(Supplier<T> lectura) {
+                return lectura.get();
+            }
+
+            @Override
+            public <T> T escribirVersion(Supplier<T> escritura) {
+                return escritura.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package interfaces.repository;
+
+/**
+ * Recibe los cambios de un repositorio una vez confirmados.
+ *
+ * @param <T> tipo de la entidad del repositorio
+ */
+@FunctionalInterface
+public interface OyenteCambios<T> {
+
+    enum TipoCambio {
+        ALTA,
+        MODIFICACION,
+        BAJA
+    }
+
+    /**
+     * @param tipo tipo de cambio
+     * @param entidad entidad agregada, modificada o eliminada
+     */
+    void cambio(TipoCambio tipo, T entidad);
+}
@@ -1,8 +1,12 @@
 package presentation.controller;
 
 import application.usecases.*;
+import interfaces.metricas.EstadisticasCache;
+import interfaces.metricas.EstadisticasReplicacion;
 
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 /**
  * Controller principal que coordina todos los controllers especializados.
@@ -31,6 +35,7 @@ public class ComicCollectorMainController {
             BuscarUsuariosCasoUso buscarUsuariosCasoUso,
             ActualizarUsuarioCasoUso actualizarUsuarioCasoUso,
             EliminarUsuarioCasoUso eliminarUsuarioCasoUso,
+            ListarUsuariosCasoUso listarUsuariosCasoUso,
             // Casos de uso de Cómics
             AgregarLibroCasoUso agregarLibroCasoUso,
             BuscarComicsCasoUso buscarComicsCasoUso,
@@ -38,12 +43,16 @@ public class ComicCollectorMainController {
             EliminarLibroCasoUso eliminarLibroCasoUso,
             ConsultarCatalogoCasoUso consultarCatalogoCasoUso,
             ConsultarDisponibilidadComicCasoUso consultarDisponibilidadComicCasoUso,
+            ConsultarDescripcionComicCasoUso consultarDescripcionComicCasoUso,
             // Casos de uso de Reservas
             ReservarLibroCasoUso reservarLibroCasoUso,
+            ReservarLibrosEnLoteCasoUso reservarLibrosEnLoteCasoUso,
             CancelarReservaCasoUso cancelarReservaCasoUso,
             ConsultarReservasUsuarioCasoUso consultarReservasUsuarioCasoUso,
+            ConsultarHistorialReservasCasoUso consultarHistorialReservasCasoUso,
             // Casos de uso de Ventas
             ComprarLibroCasoUso comprarLibroCasoUso,
+            ComprarCarritoCasoUso comprarCarritoCasoUso,
             // Casos de uso de Inventario y Reportes
             GenerarReporteInventarioCasoUso generarReporteInventarioCasoUso,
             GenerarReporteComicsPopularesCasoUso generarReporteComicsPopularesCasoUso,
@@ -51,29 +60,32 @@ public class ComicCollectorMainController {
             ConsultarComicsReservadosCasoUso consultarComicsReservadosCasoUso,
             ConsultarComicsSinActividadCasoUso consultarComicsSinActividadCasoUso,
             // Casos de uso del Sistema
-            ProcesarReservasExpiradasCasoUso procesarReservasExpiradasCasoUso) {
+            ProcesarReservasExpiradasCasoUso procesarReservasExpiradasCasoUso,
+            Supplier<List<EstadisticasCache>> estadisticasCaches,
+            Supplier<List<EstadisticasReplicacion>> estadisticasReplicacion) {
         
         this.scanner = new Scanner(System.in);
         
         // Inicializar controllers especializados
         this.usuarioController = new UsuarioController(
             scanner, registrarUsuarioCasoUso, buscarUsuariosCasoUso, 
-            actualizarUsuarioCasoUso, eliminarUsuarioCasoUso
+            actualizarUsuarioCasoUso, eliminarUsuarioCasoUso, listarUsuariosCasoUso
         );
         
         this.comicController = new ComicController(
             scanner, agregarLibroCasoUso, buscarComicsCasoUso, 
             actualizarComicCasoUso, eliminarLibroCasoUso, 
-            consultarCatalogoCasoUso, consultarDisponibilidadComicCasoUso
+            consultarCatalogoCasoUso, consultarDisponibilidadComicCasoUso,
+            consultarDescripcionComicCasoUso
         );
         
         this.reservaController = new ReservaController(
-            scanner, reservarLibroCasoUso, cancelarReservaCasoUso, 
-            consultarReservasUsuarioCasoUso, usuarioController, comicController
+            scanner, reservarLibroCasoUso, reservarLibrosEnLoteCasoUso, cancelarReservaCasoUso, 
+            consultarReservasUsuarioCasoUso, consultarHistorialReservasCasoUso, usuarioController, comicController
         );
         
         this.ventaController = new VentaController(
-            scanner, comprarLibroCasoUso, usuarioController, comicController
+            scanner, comprarLibroCasoUso, comprarCarritoCasoUso, usuarioController, comicController
         );
         
         this.inventarioController = new InventarioController(
@@ -83,7 +95,8 @@ public class ComicCollectorMainController {
         );
         
         this.sistemaController = new SistemaController(
-            scanner, procesarReservasExpiradasCasoUso, reservaController
+            scanner, procesarReservasExpiradasCasoUso, reservaController,
+            estadisticasCaches, estadisticasReplicacion
         );
     }
     
@@ -2,6 +2,8 @@ package presentation.controller;
 
 import application.usecases.*;
 import domain.entities.Comic;
+import domain.paginacion.OrdenComics;
+import domain.paginacion.Pagina;
 import domain.valueobjects.Divisa;
 
 import java.math.BigDecimal;
@@ -18,6 +20,8 @@ import java.util.Scanner;
  */
 public class ComicController {
     
+    private static final int COMICS_POR_PAGINA = 20;
+    
     private final Scanner scanner;
     private final AgregarLibroCasoUso agregarLibroCasoUso;
     private final BuscarComicsCasoUso buscarComicsCasoUso;
@@ -25,6 +29,7 @@ public class ComicController {
     private final EliminarLibroCasoUso eliminarLibroCasoUso;
     private final ConsultarCatalogoCasoUso consultarCatalogoCasoUso;
     private final ConsultarDisponibilidadComicCasoUso consultarDisponibilidadComicCasoUso;
+    private final ConsultarDescripcionComicCasoUso consultarDescripcionComicCasoUso;
     
     public ComicController(Scanner scanner,
                           AgregarLibroCasoUso agregarLibroCasoUso,
@@ -32,7 +37,8 @@ public class ComicController {
                           ActualizarComicCasoUso actualizarComicCasoUso,
                           EliminarLibroCasoUso eliminarLibroCasoUso,
                           ConsultarCatalogoCasoUso consultarCatalogoCasoUso,
-                          ConsultarDisponibilidadComicCasoUso consultarDisponibilidadComicCasoUso) {
+                          ConsultarDisponibilidadComicCasoUso consultarDisponibilidadComicCasoUso,
+                          ConsultarDescripcionComicCasoUso consultarDescripcionComicCasoUso) {
         this.scanner = scanner;
         this.agregarLibroCasoUso = agregarLibroCasoUso;
         this.buscarComicsCasoUso = buscarComicsCasoUso;
@@ -40,6 +46,7 @@ public class ComicController {
         this.eliminarLibroCasoUso = eliminarLibroCasoUso;
         this.consultarCatalogoCasoUso = consultarCatalogoCasoUso;
         this.consultarDisponibilidadComicCasoUso = consultarDisponibilidadComicCasoUso;
+        this.consultarDescripcionComicCasoUso = consultarDescripcionComicCasoUso;
     }
     
     public void mostrarMenu() {
@@ -133,19 +140,31 @@ public class ComicController {
         System.out.println("\n═══ CATÁLOGO COMPLETO ═══");
         
         try {
-            List<Comic> comics = consultarCatalogoCasoUso.ejecutar();
+            // Se pide una página a la vez, el catálogo nunca se carga completo
+            Pagina<Comic> pagina = consultarCatalogoCasoUso.ejecutarPagina(OrdenComics.NOMBRE, null, COMICS_POR_PAGINA);
             
-            if (comics.isEmpty()) {
+            if (pagina.elementos().isEmpty()) {
                 System.out.println("❌ No hay cómics en el catálogo.");
             } else {
                 System.out.println("📚 Cómics disponibles:");
                 System.out.println("─".repeat(80));
-                for (int i = 0; i < comics.size(); i++) {
-                    System.out.printf("%d. ", i + 1);
-                    mostrarComic(comics.get(i));
-                    System.out.println();
+                int mostrados = 0;
+                while (true) {
+                    for (Comic comic : pagina.elementos()) {
+                        System.out.printf("%d. ", ++mostrados);
+                        mostrarComic(comic);
+                        System.out.println();
+                    }
+                    if (!pagina.haySiguiente()) {
+                        break;
+                    }
+                    System.out.print("\n[Enter] página siguiente, [q] terminar: ");
+                    if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                        break;
+                    }
+                    pagina = consultarCatalogoCasoUso.ejecutarPagina(OrdenComics.NOMBRE, pagina.siguiente(), COMICS_POR_PAGINA);
                 }
-                System.out.printf("\n📊 Total de cómics: %d\n", comics.size());
+                System.out.printf("\n📊 Cómics mostrados: %d\n", mostrados);
             }
         } catch (Exception e) {
             System.out.println("❌ Error al consultar catálogo: " + e.getMessage());
@@ -165,9 +184,10 @@ public class ComicController {
         
         System.out.println("\nIngresa los nuevos datos (deja vacío para mantener el actual):");
         
-        System.out.print("Nueva descripción [" + comic.getDescription() + "]: ");
+        String descripcionActual = consultarDescripcionComicCasoUso.ejecutar(comic);
+        System.out.print("Nueva descripción [" + descripcionActual + "]: ");
         String nuevaDescripcion = scanner.nextLine().trim();
-        if (nuevaDescripcion.isEmpty()) nuevaDescripcion = comic.getDescription();
+        if (nuevaDescripcion.isEmpty()) nuevaDescripcion = descripcionActual;
         
         System.out.print("Nuevo precio [" + comic.getPrecio().getMonto() + "]: ");
         String nuevoPrecioStr = scanner.nextLine().trim();
@@ -310,7 +330,7 @@ public class ComicController {
     public void mostrarComicDetallado(Comic comic) {
         System.out.printf("ID: %s\n", comic.getId());
         System.out.printf("Nombre: %s\n", comic.getNombre());
-        System.out.printf("Descripción: %s\n", comic.getDescription());
+        System.out.printf("Descripción: %s\n", consultarDescripcionComicCasoUso.ejecutar(comic));
         System.out.printf("Precio: %s\n", comic.getPrecio().toString());
     }
     
@@ -4,7 +4,11 @@ import application.usecases.*;
 import domain.entities.Comic;
 import domain.entities.Reserva;
 import domain.entities.Usuario;
+import domain.eventos.EventoReserva;
+import domain.lotes.ResultadoReserva;
+import domain.lotes.SolicitudReserva;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
@@ -20,8 +24,10 @@ public class ReservaController {
     
     private final Scanner scanner;
     private final ReservarLibroCasoUso reservarLibroCasoUso;
+    private final ReservarLibrosEnLoteCasoUso reservarLibrosEnLoteCasoUso;
     private final CancelarReservaCasoUso cancelarReservaCasoUso;
     private final ConsultarReservasUsuarioCasoUso consultarReservasUsuarioCasoUso;
+    private final ConsultarHistorialReservasCasoUso consultarHistorialReservasCasoUso;
     
     // Referencias a otros controllers para selección de entidades
     private final UsuarioController usuarioController;
@@ -29,14 +35,18 @@ public class ReservaController {
     
     public ReservaController(Scanner scanner,
                            ReservarLibroCasoUso reservarLibroCasoUso,
+                           ReservarLibrosEnLoteCasoUso reservarLibrosEnLoteCasoUso,
                            CancelarReservaCasoUso cancelarReservaCasoUso,
                            ConsultarReservasUsuarioCasoUso consultarReservasUsuarioCasoUso,
+                           ConsultarHistorialReservasCasoUso consultarHistorialReservasCasoUso,
                            UsuarioController usuarioController,
                            ComicController comicController) {
         this.scanner = scanner;
         this.reservarLibroCasoUso = reservarLibroCasoUso;
+        this.reservarLibrosEnLoteCasoUso = reservarLibrosEnLoteCasoUso;
         this.cancelarReservaCasoUso = cancelarReservaCasoUso;
         this.consultarReservasUsuarioCasoUso = consultarReservasUsuarioCasoUso;
+        this.consultarHistorialReservasCasoUso = consultarHistorialReservasCasoUso;
         this.usuarioController = usuarioController;
         this.comicController = comicController;
     }
@@ -47,6 +57,8 @@ public class ReservaController {
             System.out.println("│ 1. 📋 Reservar Cómic                      │");
             System.out.println("│ 2. ❌ Cancelar Reserva                     │");
             System.out.println("│ 3. 👤 Ver Reservas de Usuario              │");
+            System.out.println("│ 4. 📦 Reservar Varios Cómics               │");
+            System.out.println("│ 5. 📜 Historial de Reservas de un Cómic    │");
             System.out.println("│ 0. ⬅️  Volver al Menú Principal           │");
             System.out.println("└───────────────────────────────────────────┘");
             System.out.print("Selecciona una opción: ");
@@ -58,6 +70,8 @@ public class ReservaController {
                     case 1 -> reservarComic();
                     case 2 -> cancelarReserva();
                     case 3 -> verReservasUsuario();
+                    case 4 -> reservarVariosComics();
+                    case 5 -> verHistorialComic();
                     case 0 -> { return; }
                     default -> System.out.println("❌ Opción no válida");
                 }
@@ -115,6 +129,51 @@ public class ReservaController {
         pausar();
     }
     
+    private void reservarVariosComics() {
+        System.out.println("\n═══ RESERVAR VARIOS CÓMICS ═══");
+        
+        List<SolicitudReserva> solicitudes = new ArrayList<>();
+        do {
+            Usuario usuario = usuarioController.seleccionarUsuario();
+            if (usuario == null) break;
+            
+            Comic comic = comicController.seleccionarComic();
+            if (comic == null) break;
+            
+            solicitudes.add(new SolicitudReserva(usuario, comic));
+            System.out.print("¿Agregar otra reserva? (s/N): ");
+        } while (scanner.nextLine().trim().toLowerCase().startsWith("s"));
+        
+        if (solicitudes.isEmpty()) {
+            System.out.println("❌ No se agregó ninguna reserva.");
+            pausar();
+            return;
+        }
+        
+        try {
+            List<ResultadoReserva> resultados = reservarLibrosEnLoteCasoUso.ejecutar(solicitudes);
+            int exitosas = 0;
+            for (ResultadoReserva resultado : resultados) {
+                if (resultado.esExitosa()) {
+                    exitosas++;
+                    System.out.print("✅ ");
+                    mostrarReserva(resultado.reserva());
+                    System.out.println();
+                } else {
+                    System.out.printf("❌ %s - %s: %s%n",
+                        resultado.solicitud().usuario().getNombreCompleto(),
+                        resultado.solicitud().comic().getNombre(),
+                        resultado.error().getMessage());
+                }
+            }
+            System.out.printf("\n📊 Reservas creadas: %d de %d\n", exitosas, resultados.size());
+        } catch (Exception e) {
+            System.out.println("❌ Error al crear las reservas: " + e.getMessage());
+        }
+        
+        pausar();
+    }
+    
     private void cancelarReserva() {
         System.out.println("\n═══ CANCELAR RESERVA ═══");
         
@@ -198,6 +257,34 @@ public class ReservaController {
         pausar();
     }
     
+    private void verHistorialComic() {
+        System.out.println("\n═══ HISTORIAL DE RESERVAS DE UN CÓMIC ═══");
+        
+        Comic comic = comicController.seleccionarComic();
+        if (comic == null) return;
+        
+        try {
+            List<EventoReserva> eventos = consultarHistorialReservasCasoUso.ejecutar(comic);
+            
+            if (eventos.isEmpty()) {
+                System.out.println("❌ No hay historial de reservas para este cómic.");
+            } else {
+                System.out.println("📜 Historial de reservas de " + comic.getNombre() + ":");
+                System.out.println("─".repeat(60));
+                for (EventoReserva evento : eventos) {
+                    System.out.printf("%s | %-19s | Reserva: %s | Usuario: %s\n",
+                        evento.instante(), evento.tipo(), evento.reservaId(),
+                        evento.usuario().getNombreCompleto());
+                }
+                System.out.printf("\n📊 Total de eventos: %d\n", eventos.size());
+            }
+        } catch (Exception e) {
+            System.out.println("❌ Error al consultar el historial: " + e.getMessage());
+        }
+        
+        pausar();
+    }
+    
     public void mostrarReserva(Reserva reserva) {
         System.out.printf("ID: %s | Comic: %s | Usuario: %s | Estado: %s", 
             reserva.getId(),
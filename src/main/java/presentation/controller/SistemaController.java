@@ -1,10 +1,17 @@
 package presentation.controller;
 
+import application.metricas.InstantaneaCasoUso;
+import application.metricas.MetricasCasosUso;
 import application.usecases.ProcesarReservasExpiradasCasoUso;
 import domain.entities.Reserva;
+import interfaces.metricas.EstadisticasCache;
+import interfaces.metricas.EstadisticasReplicacion;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 /**
  * Controller especializado para operaciones del sistema.
@@ -16,24 +23,36 @@ import java.util.Scanner;
  */
 public class SistemaController {
     
+    // Archivo donde se exportan las métricas (-Dcomics.metricas=ruta)
+    private static final String ARCHIVO_METRICAS = System.getProperty("comics.metricas", "metricas.json");
+    
     private final Scanner scanner;
     private final ProcesarReservasExpiradasCasoUso procesarReservasExpiradasCasoUso;
     
     // Referencia para mostrar reservas
     private final ReservaController reservaController;
     
+    // Estadísticas de las caches y de la replicación, provistas por la raíz de composición
+    private final Supplier<List<EstadisticasCache>> estadisticasCaches;
+    private final Supplier<List<EstadisticasReplicacion>> estadisticasReplicacion;
+    
     public SistemaController(Scanner scanner,
                            ProcesarReservasExpiradasCasoUso procesarReservasExpiradasCasoUso,
-                           ReservaController reservaController) {
+                           ReservaController reservaController,
+                           Supplier<List<EstadisticasCache>> estadisticasCaches,
+                           Supplier<List<EstadisticasReplicacion>> estadisticasReplicacion) {
         this.scanner = scanner;
         this.procesarReservasExpiradasCasoUso = procesarReservasExpiradasCasoUso;
         this.reservaController = reservaController;
+        this.estadisticasCaches = estadisticasCaches;
+        this.estadisticasReplicacion = estadisticasReplicacion;
     }
     
     public void mostrarMenu() {
         while (true) {
             System.out.println("\n┌───── OPERACIONES DEL SISTEMA ─────┐");
             System.out.println("│ 1. ⏰ Procesar Reservas Expiradas   │");
+            System.out.println("│ 2. 📈 Métricas de Casos de Uso      │");
             System.out.println("│ 0. ⬅️  Volver al Menú Principal     │");
             System.out.println("└───────────────────────────────────────┘");
             System.out.print("Selecciona una opción: ");
@@ -43,6 +62,7 @@ public class SistemaController {
             try {
                 switch (opcion) {
                     case 1 -> procesarReservasExpiradas();
+                    case 2 -> mostrarMetricas();
                     case 0 -> { return; }
                     default -> System.out.println("❌ Opción no válida");
                 }
@@ -86,6 +106,65 @@ public class SistemaController {
         pausar();
     }
     
+    private void mostrarMetricas() {
+        System.out.println("\n═══ MÉTRICAS DE CASOS DE USO ═══");
+        
+        List<InstantaneaCasoUso> metricas = MetricasCasosUso.instantaneas();
+        double segundos = MetricasCasosUso.segundosActivo();
+        
+        System.out.printf("%-42s %9s %8s %10s %10s %10s\n",
+            "Caso de uso", "llamadas", "errores", "p50 µs", "p99 µs", "máx µs");
+        System.out.println("─".repeat(94));
+        for (InstantaneaCasoUso metrica : metricas) {
+            System.out.printf("%-42s %,9d %,8d %,10.1f %,10.1f %,10.1f\n",
+                metrica.casoUso(), metrica.llamadas(), metrica.totalErrores(),
+                metrica.latencias().percentil(50) / 1e3,
+                metrica.latencias().percentil(99) / 1e3,
+                metrica.latencias().getMaximo() / 1e3);
+            metrica.errores().forEach((tipo, cantidad) ->
+                System.out.printf("    ↳ %-38s %,9d\n", tipo, cantidad));
+        }
+        
+        long totalLlamadas = metricas.stream().mapToLong(InstantaneaCasoUso::llamadas).sum();
+        System.out.printf("\n📊 %,d llamadas en %.0f s (%.2f llamadas/s)\n",
+            totalLlamadas, segundos, segundos > 0 ? totalLlamadas / segundos : 0);
+        
+        List<EstadisticasCache> caches = estadisticasCaches.get();
+        if (!caches.isEmpty()) {
+            System.out.printf("\n%-26s %10s %8s %10s %10s %10s %14s\n",
+                "Cache", "consultas", "aciertos", "desalojos", "rechazos", "invalidac.", "peso");
+            System.out.println("─".repeat(94));
+            for (EstadisticasCache cache : caches) {
+                System.out.printf("%-26s %,10d %7.1f%% %,10d %,10d %,10d %,7d/%,d\n",
+                    cache.nombre(), cache.consultas(), cache.proporcionAciertos() * 100,
+                    cache.desalojos(), cache.rechazos(), cache.invalidaciones(),
+                    cache.peso(), cache.capacidad());
+            }
+        }
+        
+        List<EstadisticasReplicacion> replicas = estadisticasReplicacion.get();
+        if (!replicas.isEmpty()) {
+            System.out.printf("\n%-40s %9s %12s %12s %10s %10s\n",
+                "Replicación", "estado", "secuencia", "cambios", "atraso", "atraso ms");
+            System.out.println("─".repeat(94));
+            for (EstadisticasReplicacion replica : replicas) {
+                System.out.printf("%-40s %9s %,12d %,12d %,10d %,10d\n",
+                    replica.nombre(), replica.conectado() ? "conectado" : "cortado",
+                    replica.secuenciaReplicada(), replica.cambios(),
+                    replica.retrasoCambios(), replica.retrasoMilis());
+            }
+        }
+        
+        try {
+            MetricasCasosUso.exportarJson(Path.of(ARCHIVO_METRICAS));
+            System.out.println("💾 Métricas exportadas a " + ARCHIVO_METRICAS);
+        } catch (IOException e) {
+            System.out.println("❌ No se pudieron exportar las métricas: " + e.getMessage());
+        }
+        
+        pausar();
+    }
+    
     private int leerOpcion() {
         try {
             return Integer.parseInt(scanner.nextLine().trim());
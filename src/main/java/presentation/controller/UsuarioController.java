@@ -2,6 +2,8 @@ package presentation.controller;
 
 import application.usecases.*;
 import domain.entities.Usuario;
+import domain.paginacion.OrdenUsuarios;
+import domain.paginacion.Pagina;
 
 import java.util.List;
 import java.util.Scanner;
@@ -16,22 +18,27 @@ import java.util.Scanner;
  */
 public class UsuarioController {
     
+    private static final int USUARIOS_POR_PAGINA = 20;
+    
     private final Scanner scanner;
     private final RegistrarUsuarioCasoUso registrarUsuarioCasoUso;
     private final BuscarUsuariosCasoUso buscarUsuariosCasoUso;
     private final ActualizarUsuarioCasoUso actualizarUsuarioCasoUso;
     private final EliminarUsuarioCasoUso eliminarUsuarioCasoUso;
+    private final ListarUsuariosCasoUso listarUsuariosCasoUso;
     
     public UsuarioController(Scanner scanner,
                            RegistrarUsuarioCasoUso registrarUsuarioCasoUso,
                            BuscarUsuariosCasoUso buscarUsuariosCasoUso,
                            ActualizarUsuarioCasoUso actualizarUsuarioCasoUso,
-                           EliminarUsuarioCasoUso eliminarUsuarioCasoUso) {
+                           EliminarUsuarioCasoUso eliminarUsuarioCasoUso,
+                           ListarUsuariosCasoUso listarUsuariosCasoUso) {
         this.scanner = scanner;
         this.registrarUsuarioCasoUso = registrarUsuarioCasoUso;
         this.buscarUsuariosCasoUso = buscarUsuariosCasoUso;
         this.actualizarUsuarioCasoUso = actualizarUsuarioCasoUso;
         this.eliminarUsuarioCasoUso = eliminarUsuarioCasoUso;
+        this.listarUsuariosCasoUso = listarUsuariosCasoUso;
     }
     
     public void mostrarMenu() {
@@ -41,6 +48,7 @@ public class UsuarioController {
             System.out.println("│ 2. 🔍 Buscar Usuarios                     │");
             System.out.println("│ 3. ✏️  Actualizar Usuario                  │");
             System.out.println("│ 4. 🗑️  Eliminar Usuario                    │");
+            System.out.println("│ 5. 📋 Listar Usuarios                     │");
             System.out.println("│ 0. ⬅️  Volver al Menú Principal           │");
             System.out.println("└───────────────────────────────────────────┘");
             System.out.print("Selecciona una opción: ");
@@ -53,6 +61,7 @@ public class UsuarioController {
                     case 2 -> buscarUsuarios();
                     case 3 -> actualizarUsuario();
                     case 4 -> eliminarUsuario();
+                    case 5 -> listarUsuarios();
                     case 0 -> { return; }
                     default -> System.out.println("❌ Opción no válida");
                 }
@@ -112,6 +121,41 @@ public class UsuarioController {
         pausar();
     }
     
+    private void listarUsuarios() {
+        System.out.println("\n═══ LISTAR USUARIOS ═══");
+        
+        try {
+            Pagina<Usuario> pagina = listarUsuariosCasoUso.ejecutar(OrdenUsuarios.NOMBRE, null, USUARIOS_POR_PAGINA);
+            
+            if (pagina.elementos().isEmpty()) {
+                System.out.println("❌ No hay usuarios registrados.");
+            } else {
+                System.out.println("📋 Usuarios registrados:");
+                System.out.println("─".repeat(60));
+                int mostrados = 0;
+                while (true) {
+                    for (Usuario usuario : pagina.elementos()) {
+                        System.out.printf("%d. ", ++mostrados);
+                        mostrarUsuario(usuario);
+                        System.out.println();
+                    }
+                    if (!pagina.haySiguiente()) {
+                        break;
+                    }
+                    System.out.print("\n[Enter] página siguiente, [q] terminar: ");
+                    if (scanner.nextLine().trim().equalsIgnoreCase("q")) {
+                        break;
+                    }
+                    pagina = listarUsuariosCasoUso.ejecutar(OrdenUsuarios.NOMBRE, pagina.siguiente(), USUARIOS_POR_PAGINA);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("❌ Error al listar usuarios: " + e.getMessage());
+        }
+        
+        pausar();
+    }
+    
     private void actualizarUsuario() {
         System.out.println("\n═══ ACTUALIZAR USUARIO ═══");
         
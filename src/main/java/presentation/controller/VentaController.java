@@ -1,10 +1,14 @@
 package presentation.controller;
 
+import application.usecases.ComprarCarritoCasoUso;
 import application.usecases.ComprarLibroCasoUso;
 import domain.entities.Comic;
 import domain.entities.Usuario;
 import domain.entities.Venta;
+import domain.valueobjects.Divisa;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 /**
@@ -19,6 +23,7 @@ public class VentaController {
     
     private final Scanner scanner;
     private final ComprarLibroCasoUso comprarLibroCasoUso;
+    private final ComprarCarritoCasoUso comprarCarritoCasoUso;
     
     // Referencias a otros controllers para selección de entidades
     private final UsuarioController usuarioController;
@@ -26,10 +31,12 @@ public class VentaController {
     
     public VentaController(Scanner scanner,
                           ComprarLibroCasoUso comprarLibroCasoUso,
+                          ComprarCarritoCasoUso comprarCarritoCasoUso,
                           UsuarioController usuarioController,
                           ComicController comicController) {
         this.scanner = scanner;
         this.comprarLibroCasoUso = comprarLibroCasoUso;
+        this.comprarCarritoCasoUso = comprarCarritoCasoUso;
         this.usuarioController = usuarioController;
         this.comicController = comicController;
     }
@@ -38,6 +45,7 @@ public class VentaController {
         while (true) {
             System.out.println("\n┌─────────── GESTIÓN DE VENTAS ──────────┐");
             System.out.println("│ 1. 💰 Comprar Cómic                     │");
+            System.out.println("│ 2. 🛒 Comprar Carrito                   │");
             System.out.println("│ 0. ⬅️  Volver al Menú Principal         │");
             System.out.println("└─────────────────────────────────────────┘");
             System.out.print("Selecciona una opción: ");
@@ -47,6 +55,7 @@ public class VentaController {
             try {
                 switch (opcion) {
                     case 1 -> comprarComic();
+                    case 2 -> comprarCarrito();
                     case 0 -> { return; }
                     default -> System.out.println("❌ Opción no válida");
                 }
@@ -104,6 +113,51 @@ public class VentaController {
         pausar();
     }
     
+    private void comprarCarrito() {
+        System.out.println("\n═══ COMPRAR CARRITO ═══");
+        
+        Usuario usuario = usuarioController.seleccionarUsuario();
+        if (usuario == null) return;
+        
+        List<Comic> carrito = new ArrayList<>();
+        do {
+            Comic comic = comicController.seleccionarComic();
+            if (comic == null) break;
+            
+            carrito.add(comic);
+            System.out.printf("🛒 %d cómic(s) en el carrito. ¿Agregar otro? (s/N): ", carrito.size());
+        } while (scanner.nextLine().trim().toLowerCase().startsWith("s"));
+        
+        if (carrito.isEmpty()) {
+            System.out.println("❌ El carrito está vacío.");
+            pausar();
+            return;
+        }
+        
+        System.out.print("\n¿Confirmar compra del carrito? (s/N): ");
+        String confirmacion = scanner.nextLine().trim().toLowerCase();
+        
+        if (confirmacion.equals("s") || confirmacion.equals("si")) {
+            try {
+                List<Venta> ventas = comprarCarritoCasoUso.ejecutar(usuario, carrito);
+                System.out.println("✅ Compra realizada exitosamente:");
+                Divisa total = null;
+                for (Venta venta : ventas) {
+                    mostrarVenta(venta);
+                    System.out.println();
+                    total = total == null ? venta.getPrecioFinal() : total.sumar(venta.getPrecioFinal());
+                }
+                System.out.printf("\n💰 Total: %s\n", total);
+            } catch (Exception e) {
+                System.out.println("❌ Error al procesar compra, no se vendió ningún cómic: " + e.getMessage());
+            }
+        } else {
+            System.out.println("❌ Compra cancelada.");
+        }
+        
+        pausar();
+    }
+    
     public void mostrarVenta(Venta venta) {
         System.out.printf("ID: %s | Comic: %s | Usuario: %s | Precio: %s | Fecha: %s", 
             venta.getId(),